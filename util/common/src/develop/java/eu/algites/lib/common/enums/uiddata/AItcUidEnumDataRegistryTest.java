@@ -2,9 +2,15 @@ package eu.algites.lib.common.enums.uiddata;
 
 import static eu.algites.lib.common.enums.uiddata.AIsUidEnumDataUtils.LAST_UID_HEADER_PART_POSITION;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 
 import org.testng.Assert;
@@ -17,7 +23,10 @@ import org.testng.annotations.Test;
  */
 public class AItcUidEnumDataRegistryTest {
 
-	private static final class AIcTestUidEnumDataType implements AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> {
+	static final class AIcTestUidEnumDataType implements AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> {
+
+		/** File type rejected by the record factory, although it is syntactically valid */
+		private static final String UNKNOWN_FILE_TYPE = "unknown";
 
 		@SuppressWarnings("unchecked")
 		private static final List<AIiUidPartMetadata<AInUidEnumDataOrigin>> SPECIFIC_UID_PARTS_METADATA = List.of(
@@ -25,22 +34,39 @@ public class AItcUidEnumDataRegistryTest {
 				new AIrUidPartMetadata(() -> "fileType", Map.of(AInUidEnumDataOrigin.BUILTIN, true, AInUidEnumDataOrigin.CUSTOM, true))
 		);
 
+		final AtomicInteger parsedUidCount = new AtomicInteger();
+
 		@Override
 		public BiFunction<String, List<String>, ? extends AIrTestUidEnumDataRecord> getUidRecordFactory() {
-			return (BiFunction<String, List<String>, AIrTestUidEnumDataRecord>) (aUid, aParts)
-					-> new AIrTestUidEnumDataRecord(
-							aUid,
-							AInUidEnumDataOrigin.getByCodeOrThrow(aParts.get(AIsUidEnumDataUtils.ORIGIN_UID_POSITION)),
-							aParts.get(AIsUidEnumDataUtils.NAMESPACE_UID_POSITION),
-							aParts.get(LAST_UID_HEADER_PART_POSITION + 1),
-							aParts.get(LAST_UID_HEADER_PART_POSITION + 2)
-					);
+			return (BiFunction<String, List<String>, AIrTestUidEnumDataRecord>) (aUid, aParts) -> {
+				if (UNKNOWN_FILE_TYPE.equals(aParts.get(LAST_UID_HEADER_PART_POSITION + 2))) {
+					throw new IllegalArgumentException("Unknown file type in uid '" + aUid + "'");
+				}
+				return new AIrTestUidEnumDataRecord(
+						aUid,
+						AInUidEnumDataOrigin.getByCodeOrThrow(aParts.get(AIsUidEnumDataUtils.ORIGIN_UID_POSITION)),
+						aParts.get(AIsUidEnumDataUtils.NAMESPACE_UID_POSITION),
+						aParts.get(LAST_UID_HEADER_PART_POSITION + 1),
+						aParts.get(LAST_UID_HEADER_PART_POSITION + 2)
+				);
+			};
 		}
 
 		@Override
 		public List<AIiUidPartMetadata<AInUidEnumDataOrigin>> getSpecificUidPartsMetadata() {
 			return SPECIFIC_UID_PARTS_METADATA;
 		}
+
+		private AIcUidParser<AInUidEnumDataOrigin> uidParser;
+
+		@Override
+		public synchronized AIcUidParser<AInUidEnumDataOrigin> getUidParser() {
+			parsedUidCount.incrementAndGet();
+			if (uidParser == null) {
+				uidParser = AIcUidParser.of(this);
+			}
+			return uidParser;
+		}
 	}
 
 	public record AIrTestUidEnumDataRecord(
@@ -51,12 +77,12 @@ public class AItcUidEnumDataRegistryTest {
 			String fileType
 	) implements AIiUidEnumDataRecord { }
 
-	private static final class AIcTestData implements AIiUidEnumData<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin, AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin>> {
+	static final class AIcTestData implements AIiUidEnumData<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin, AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin>> {
 
 		private final AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> dataType;
 		private final String uid;
 
-		private AIcTestData(
+		AIcTestData(
 				final AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> aDataType,
 				final String aUid
 		) {
@@ -156,4 +182,583 @@ public class AItcUidEnumDataRegistryTest {
 
 		Assert.expectThrows(AIxEnumDataRegistryItemNotFoundException.class, () -> locRegistry.getOrThrow(locType, "builtin:::jar"));
 	}
+
+	@Test
+	public void testFailedRegistrationKeepsProcessedItems() {
+		final AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> locType = new AIcTestUidEnumDataType();
+		final AIcTestData locA = new AIcTestData(locType, "builtin:::jar");
+		final AIcTestData locB1 = new AIcTestData(locType, "custom:eu.algites::jar");
+		final AIcTestData locB2 = new AIcTestData(locType, "custom:eu.algites::jar");
+
+		final AIcUidEnumDataRegistry locRegistry = AIcUidEnumDataRegistry.getInstance();
+		locRegistry.registerData(true, false, false, locB1);
+
+		Assert.expectThrows(AIxEnumDataRegistryIllegalOperationException.class, () -> locRegistry.registerData(false, false, true, locA, locB2));
+		Assert.assertSame(locRegistry.getOrThrow(locType, locA.uid()), locA, "Item registered before the failure must stay registered");
+		Assert.assertSame(locRegistry.getOrThrow(locType, locB1.uid()), locB1, "Read-only item must not be overwritten");
+	}
+
+	@Test
+	public void testReadsDuringConcurrentWrites() throws InterruptedException {
+		final AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> locType = new AIcTestUidEnumDataType();
+		final AIcTestData locStable = new AIcTestData(locType, "builtin:::jar");
+		final AIcTestData locChanging = new AIcTestData(locType, "custom:eu.algites::jar");
+
+		final AIcUidEnumDataRegistry locRegistry = AIcUidEnumDataRegistry.getInstance();
+		locRegistry.registerData(true, true, false, locStable);
+
+		final AtomicBoolean locRunning = new AtomicBoolean(true);
+		final AtomicReference<Throwable> locFailure = new AtomicReference<>();
+		final List<Thread> locReaders = new ArrayList<>();
+		for (int locIndex = 0; locIndex < 4; locIndex++) {
+			final Thread locReader = new Thread(() -> {
+				try {
+					while (locRunning.get()) {
+						Assert.assertSame(locRegistry.getOrThrow(locType, locStable.uid()), locStable);
+						final int locSize = locRegistry.items(locType).size();
+						Assert.assertTrue(locSize == 1 || locSize == 2, "Unexpected size " + locSize);
+					}
+				} catch (final Throwable locThrowable) {
+					locFailure.compareAndSet(null, locThrowable);
+				}
+			});
+			locReader.start();
+			locReaders.add(locReader);
+		}
+
+		try {
+			for (int locIndex = 0; locIndex < 20000; locIndex++) {
+				locRegistry.registerData(false, false, false, locChanging);
+				locRegistry.releaseData(locType, locChanging.uid());
+			}
+		} finally {
+			locRunning.set(false);
+			for (final Thread locReader : locReaders) {
+				locReader.join();
+			}
+		}
+		Assert.assertNull(locFailure.get(), "Readers must always see a consistent snapshot");
+		Assert.assertTrue(locRegistry.findByUid(locType, locChanging.uid()).isEmpty());
+	}
+
+	@Test
+	public void testFindValidatesOnlyMissingUids() {
+		final AIcTestUidEnumDataType locType = new AIcTestUidEnumDataType();
+		final AIcTestData locA = new AIcTestData(locType, "builtin:::jar");
+
+		final AIcUidEnumDataRegistry locRegistry = AIcUidEnumDataRegistry.getInstance();
+		locRegistry.registerData(false, false, false, locA);
+
+		final int locParsedAfterRegistration = locType.parsedUidCount.get();
+		Assert.assertSame(locRegistry.getOrThrow(locType, locA.uid()), locA);
+		Assert.assertEquals(locType.parsedUidCount.get(), locParsedAfterRegistration, "Registered UID must not be parsed again");
+
+		Assert.assertSame(locRegistry.findByUid(locType, locA.uid(), true).orElseThrow(), locA);
+		Assert.assertTrue(locType.parsedUidCount.get() > locParsedAfterRegistration, "Strict lookup must parse the UID");
+
+		Assert.assertTrue(locRegistry.findByUid(locType, "custom:eu.algites::jar").isEmpty());
+		Assert.expectThrows(IllegalArgumentException.class, () -> locRegistry.findByUid(locType, "builtin:::j a r"));
+		Assert.expectThrows(IllegalArgumentException.class, () -> locRegistry.findByUid(locType, "builtin:::j a r", true));
+	}
+
+	@Test
+	public void testDenseIdsStayStable() {
+		final AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> locType = new AIcTestUidEnumDataType();
+		final AIcTestData locA = new AIcTestData(locType, "builtin:::jar");
+		final AIcTestData locB = new AIcTestData(locType, "custom:eu.algites::jar");
+		final AIcTestData locC = new AIcTestData(locType, "custom:eu.algites:sources:jar");
+
+		final AIcUidEnumDataRegistry locRegistry = AIcUidEnumDataRegistry.getInstance();
+		locRegistry.registerData(false, false, false, locA, locB, locC);
+		Assert.assertEquals(locRegistry.idOf(locType, locA.uid()), 0);
+		Assert.assertEquals(locRegistry.idOf(locType, locB.uid()), 1);
+		Assert.assertEquals(locRegistry.idOf(locType, locC.uid()), 2);
+		Assert.assertSame(locRegistry.getByIdOrThrow(locType, 1), locB);
+		final List<AIcTestData> locItemsById = locRegistry.itemsById(locType);
+		Assert.assertEquals(locItemsById, List.of(locA, locB, locC));
+
+		locRegistry.releaseData(locType, locB.uid());
+		Assert.assertEquals(locItemsById, List.of(locA, locB, locC), "Published items must not be changed by the release");
+		Assert.expectThrows(UnsupportedOperationException.class, () -> locItemsById.set(0, locC));
+		Assert.assertEquals(locRegistry.idOf(locType, locB.uid()), AIcUidEnumDataRegistry.NO_ID, "Released UID must have no id");
+		Assert.assertNull(locRegistry.findByIdOrNull(locType, 1), "Released id must not be found");
+		Assert.assertEquals(locRegistry.itemsById(locType), Arrays.asList(locA, null, locC));
+		Assert.assertEquals(locRegistry.items(locType), List.of(locA, locC));
+		Assert.expectThrows(AIxEnumDataRegistryItemNotFoundException.class, () -> locRegistry.getByIdOrThrow(locType, 1));
+
+		final AIcTestData locB2 = new AIcTestData(locType, locB.uid());
+		locRegistry.registerData(false, false, false, locB2);
+		Assert.assertEquals(locRegistry.idOf(locType, locB.uid()), 1, "Id of the UID must be reused");
+		Assert.assertSame(locRegistry.findByIdOrNull(locType, 1), locB2);
+
+		Assert.assertNull(locRegistry.findByIdOrNull(locType, 3));
+		Assert.assertNull(locRegistry.findByIdOrNull(locType, -1));
+		Assert.assertEquals(locRegistry.idOf(locType, "custom:eu.algites:javadoc:jar"), AIcUidEnumDataRegistry.NO_ID);
+		Assert.expectThrows(IllegalArgumentException.class, () -> locRegistry.idOf(locType, "custom:::jar"));
+	}
+
+	@Test
+	public void testDenseIdsForManyItems() {
+		final AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> locType = new AIcTestUidEnumDataType();
+		final AIcUidEnumDataRegistry locRegistry = AIcUidEnumDataRegistry.getInstance();
+		for (int locIndex = 0; locIndex < 100; locIndex++) {
+			locRegistry.registerData(false, false, false, new AIcTestData(locType, "custom:ns" + locIndex + "::jar"));
+		}
+		for (int locIndex = 0; locIndex < 100; locIndex++) {
+			final String locUid = "custom:ns" + locIndex + "::jar";
+			Assert.assertEquals(locRegistry.idOf(locType, locUid), locIndex);
+			Assert.assertEquals(((AIcTestData) locRegistry.findByIdOrNull(locType, locIndex)).uid(), locUid);
+		}
+		Assert.assertEquals(locRegistry.itemsById(locType).size(), 100);
+	}
+
+	@Test
+	public void testSecondaryIndexQueries() {
+		final AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> locType = new AIcTestUidEnumDataType();
+		final AIcTestData locBuiltinJar = new AIcTestData(locType, "builtin:::jar");
+		final AIcTestData locBuiltinSources = new AIcTestData(locType, "builtin::sources:jar");
+		final AIcTestData locTenantAJar = new AIcTestData(locType, "custom:tenant.a::jar");
+		final AIcTestData locTenantAPom = new AIcTestData(locType, "custom:tenant.a::pom");
+		final AIcTestData locTenantABJar = new AIcTestData(locType, "custom:tenant.ab:sources:jar");
+		final AIcTestData locTenantBJar = new AIcTestData(locType, "custom:tenant.b::jar");
+
+		final AIcUidEnumDataRegistry locRegistry = AIcUidEnumDataRegistry.getInstance();
+		locRegistry.registerData(false, false, false,
+				locTenantBJar, locBuiltinJar, locTenantAJar, locBuiltinSources, locTenantABJar, locTenantAPom);
+
+		Assert.assertEquals(locRegistry.itemsByOrigin(locType, AInUidEnumDataOrigin.BUILTIN), List.of(locBuiltinJar, locBuiltinSources));
+		Assert.assertEquals(locRegistry.itemsByNamespace(locType, "tenant.a"), List.of(locTenantAJar, locTenantAPom));
+		Assert.assertEquals(locRegistry.itemsByNamespace(locType, "tenant"), List.of());
+		Assert.assertEquals(locRegistry.itemsByPartPrefix(locType, AIsUidEnumDataUtils.NAMESPACE_UID_POSITION, "tenant.a"),
+				List.of(locTenantAJar, locTenantAPom, locTenantABJar), "Prefix query must be ordered by the part value");
+		Assert.assertEquals(locRegistry.itemsByPartPrefix(locType, AIsUidEnumDataUtils.NAMESPACE_UID_POSITION, "").size(), 6);
+		Assert.assertEquals(locRegistry.itemsByPart(locType, AIsUidEnumDataUtils.FIRST_UID_SPECIFIC_PART_POSITION, "sources"),
+				List.of(locBuiltinSources, locTenantABJar));
+		Assert.assertEquals(locRegistry.itemsByPart(locType, AIsUidEnumDataUtils.FIRST_UID_SPECIFIC_PART_POSITION + 1, "jar").size(), 5);
+
+		final List<AIcTestData> locTenantA = locRegistry.itemsByNamespace(locType, "tenant.a");
+		Assert.expectThrows(UnsupportedOperationException.class, () -> locTenantA.remove(0));
+		Assert.assertEquals(locTenantA.subList(1, 2), List.of(locTenantAPom));
+
+		locRegistry.releaseData(locType, locTenantAJar.uid());
+		Assert.assertEquals(locRegistry.itemsByNamespace(locType, "tenant.a"), List.of(locTenantAPom), "Index must follow the release");
+		Assert.assertEquals(locTenantA, List.of(locTenantAJar, locTenantAPom), "Returned view must keep its snapshot");
+
+		Assert.expectThrows(IllegalArgumentException.class, () -> locRegistry.itemsByPart(locType, 4, "jar"));
+		Assert.assertEquals(locRegistry.itemsByNamespace(new AIcTestUidEnumDataType(), "tenant.a"), List.of());
+	}
+
+	@Test
+	public void testSecondaryIndexFollowsWrites() {
+		final AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> locType = new AIcTestUidEnumDataType();
+		final AIcTestData locTenantAJar = new AIcTestData(locType, "custom:tenant.a::jar");
+		final AIcTestData locTenantAPom = new AIcTestData(locType, "custom:tenant.a::pom");
+		final AIcTestData locTenantBJar = new AIcTestData(locType, "custom:tenant.b::jar");
+		final AIcTestData locTenantASources = new AIcTestData(locType, "custom:tenant.a:sources:jar");
+
+		final AIcUidEnumDataRegistry locRegistry = AIcUidEnumDataRegistry.getInstance().createChild();
+		locRegistry.registerData(false, false, false, locTenantAPom, locTenantBJar);
+		Assert.assertEquals(locRegistry.itemsByNamespace(locType, "tenant.a"), List.of(locTenantAPom));
+
+		locRegistry.registerData(false, false, false, locTenantAJar, locTenantASources);
+		Assert.assertEquals(locRegistry.itemsByNamespace(locType, "tenant.a"), List.of(locTenantAPom, locTenantAJar, locTenantASources),
+				"Index must follow the registration");
+		locRegistry.releaseData(locType, locTenantAPom.uid(), locTenantBJar.uid());
+		Assert.assertEquals(locRegistry.itemsByNamespace(locType, "tenant.a"), List.of(locTenantAJar, locTenantASources),
+				"Index must follow the release");
+		Assert.assertEquals(locRegistry.itemsByNamespace(locType, "tenant.b"), List.of());
+
+		final AIcTestData locTenantBPom = new AIcTestData(locType, "custom:tenant.b::pom");
+		locRegistry.transaction()
+				.release(locTenantAJar)
+				.register(false, false, false, locTenantBPom, locTenantAPom)
+				.commit();
+		Assert.assertEquals(locRegistry.itemsByNamespace(locType, "tenant.a"), List.of(locTenantAPom, locTenantASources),
+				"Re-registered item must keep its id");
+		Assert.assertEquals(locRegistry.itemsByPart(locType, AIsUidEnumDataUtils.FIRST_UID_SPECIFIC_PART_POSITION + 1, "pom"),
+				List.of(locTenantAPom, locTenantBPom));
+		Assert.assertEquals(locRegistry.itemsByPartPrefix(locType, AIsUidEnumDataUtils.NAMESPACE_UID_POSITION, "tenant."),
+				List.of(locTenantAPom, locTenantASources, locTenantBPom));
+	}
+
+	@Test
+	public void testTransactionAcrossDataTypes() throws InterruptedException {
+		final AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> locTypeA = new AIcTestUidEnumDataType();
+		final AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> locTypeB = new AIcTestUidEnumDataType();
+		final AIcUidEnumDataRegistry locRegistry = AIcUidEnumDataRegistry.getInstance();
+		final AIcTestData locReleased = new AIcTestData(locTypeB, "builtin:::jar");
+		locRegistry.registerData(false, false, false, locReleased);
+
+		final AIcUidEnumDataTransaction locTransaction = locRegistry.transaction();
+		final int locCount = 1000;
+		for (int locIndex = 0; locIndex < locCount; locIndex++) {
+			locTransaction.register(false, false, false, new AIcTestData(locTypeA, "custom:tenant" + locIndex + "::jar"));
+		}
+		locTransaction.register(true, true, false, new AIcTestData(locTypeB, "custom:tenant::pom"));
+		locTransaction.release(locTypeB, locReleased.uid());
+		Assert.assertEquals(locTransaction.size(), locCount + 2);
+
+		final AtomicBoolean locRunning = new AtomicBoolean(true);
+		final AtomicReference<Throwable> locFailure = new AtomicReference<>();
+		final Thread locReader = new Thread(() -> {
+			try {
+				while (locRunning.get()) {
+					final int locSize = locRegistry.items(locTypeA).size();
+					Assert.assertTrue(locSize == 0 || locSize == locCount, "Partial transaction visible: " + locSize);
+				}
+			} catch (final Throwable locThrowable) {
+				locFailure.compareAndSet(null, locThrowable);
+			}
+		});
+		locReader.start();
+		final AIrUidEnumDataTransactionResult locResult;
+		try {
+			locResult = locTransaction.commit();
+		} finally {
+			locRunning.set(false);
+			locReader.join();
+		}
+		Assert.assertNull(locFailure.get(), "Transaction must be published at once");
+
+		Assert.assertTrue(locResult.committed(), "Transaction must be committed: " + locResult.conflicts());
+		Assert.assertEquals(locResult.registered().size(), locCount + 1);
+		Assert.assertEquals(locResult.released(), List.of(locReleased));
+		Assert.assertEquals(locRegistry.items(locTypeA).size(), locCount);
+		Assert.assertEquals(locRegistry.itemsByNamespace(locTypeA, "tenant7").size(), 1);
+		Assert.assertTrue(locRegistry.findByUid(locTypeB, locReleased.uid()).isEmpty());
+		Assert.assertTrue(locRegistry.findByUid(locTypeB, "custom:tenant::pom").isPresent());
+		Assert.expectThrows(IllegalStateException.class, locTransaction::commit);
+	}
+
+	@Test
+	public void testTransactionWithConflictsIsNotApplied() {
+		final AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> locType = new AIcTestUidEnumDataType();
+		final AIcTestData locReadOnly = new AIcTestData(locType, "builtin:::jar");
+		final AIcTestData locPermanent = new AIcTestData(locType, "builtin:::pom");
+		final AIcUidEnumDataRegistry locRegistry = AIcUidEnumDataRegistry.getInstance();
+		locRegistry.registerData(true, false, false, locReadOnly);
+		locRegistry.registerData(false, true, false, locPermanent);
+
+		final AIcTestData locNew = new AIcTestData(locType, "custom:tenant::jar");
+		final AIcTestData locInvalid = new AIcTestData(locType, "custom:::jar");
+		final AIrUidEnumDataTransactionResult locResult = locRegistry.transaction()
+				.register(false, false, false, locNew)
+				.register(false, false, true, new AIcTestData(locType, locReadOnly.uid()))
+				.register(false, false, false, locInvalid)
+				.release(locPermanent)
+				.commit();
+
+		Assert.assertFalse(locResult.committed());
+		Assert.assertEquals(locResult.registered(), List.of());
+		Assert.assertEquals(locResult.conflicts().size(), 3);
+		Assert.assertEquals(locResult.conflicts().get(0).uid(), locReadOnly.uid());
+		Assert.assertSame(locResult.conflicts().get(1).data(), locInvalid);
+		Assert.assertEquals(locResult.conflicts().get(2).uid(), locPermanent.uid());
+		Assert.assertTrue(locRegistry.findByUid(locType, locNew.uid()).isEmpty(), "No operation must be applied");
+		Assert.assertSame(locRegistry.getOrThrow(locType, locPermanent.uid()), locPermanent);
+	}
+
+	@Test
+	public void testChildRegistryOverlaysParent() {
+		final AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> locType = new AIcTestUidEnumDataType();
+		final AIcTestData locShared = new AIcTestData(locType, "builtin:::jar");
+		final AIcTestData locSharedReadOnly = new AIcTestData(locType, "builtin:::pom");
+		final AIcTestData locOverridden = new AIcTestData(locType, "custom:shared::jar");
+		final AIcUidEnumDataRegistry locParent = AIcUidEnumDataRegistry.getInstance().createChild();
+		locParent.registerData(false, false, false, locShared, locOverridden);
+		locParent.registerData(true, false, false, locSharedReadOnly);
+
+		final AIcUidEnumDataRegistry locTenant = locParent.createChild();
+		Assert.assertSame(locTenant.getParent(), locParent);
+		Assert.assertSame(locTenant.getOrThrow(locType, locShared.uid()), locShared, "Lookup must fall through to the parent");
+		Assert.assertEquals(locTenant.items(locType), locParent.items(locType));
+
+		final AIcTestData locOwn = new AIcTestData(locType, "custom:tenant::jar");
+		final AIcTestData locOverriding = new AIcTestData(locType, locOverridden.uid());
+		Assert.assertEquals(locTenant.registerData(false, false, false, locOwn, locOverriding).size(), 1,
+				"Existing parent item must not be overwritten without the flag");
+		Assert.assertEquals(locTenant.registerData(false, false, true, locOverriding).size(), 1);
+		Assert.expectThrows(AIxEnumDataRegistryIllegalOperationException.class,
+				() -> locTenant.registerData(false, false, true, new AIcTestData(locType, locSharedReadOnly.uid())));
+
+		Assert.assertSame(locTenant.getOrThrow(locType, locOverridden.uid()), locOverriding, "Own item must shadow the parent one");
+		Assert.assertSame(locParent.getOrThrow(locType, locOverridden.uid()), locOverridden, "Parent must not see the child items");
+		Assert.assertTrue(locParent.findByUid(locType, locOwn.uid()).isEmpty());
+		Assert.assertEquals(locTenant.items(locType), List.of(locShared, locSharedReadOnly, locOwn, locOverriding));
+		Assert.assertEquals(locTenant.itemsByOrigin(locType, AInUidEnumDataOrigin.CUSTOM), List.of(locOwn, locOverriding));
+
+		final AIcTestData locLater = new AIcTestData(locType, "builtin::sources:jar");
+		locParent.registerData(false, false, false, locLater);
+		Assert.assertSame(locTenant.getOrThrow(locType, locLater.uid()), locLater, "Parent changes must be visible");
+
+		Assert.assertEquals(locTenant.releaseData(locType, locShared.uid()).size(), 0, "Parent items must not be released by the child");
+		Assert.assertEquals(locTenant.releaseData(locType, locOverriding.uid()).size(), 1);
+		Assert.assertSame(locTenant.getOrThrow(locType, locOverridden.uid()), locOverridden, "Parent item must be visible again");
+	}
+
+	@Test
+	public void testChildRegistryIds() {
+		final AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> locType = new AIcTestUidEnumDataType();
+		final AIcTestData locShared = new AIcTestData(locType, "builtin:::jar");
+		final AIcTestData locShadowed = new AIcTestData(locType, "builtin:::pom");
+		final AIcUidEnumDataRegistry locParent = AIcUidEnumDataRegistry.getInstance().createChild();
+		locParent.registerData(false, false, false, locShared, locShadowed);
+		final AIcUidEnumDataRegistry locTenant = locParent.createChild();
+		final AIcTestData locOwn = new AIcTestData(locType, "custom:tenant::jar");
+		final AIcTestData locShadowing = new AIcTestData(locType, locShadowed.uid());
+		locTenant.registerData(false, false, true, locOwn, locShadowing);
+
+		final int locSharedId = locTenant.idOf(locType, locShared.uid());
+		final int locOwnId = locTenant.idOf(locType, locOwn.uid());
+		final int locShadowedId = locParent.idOf(locType, locShadowed.uid());
+		Assert.assertEquals(locSharedId, locParent.idOf(locType, locShared.uid()), "Parent item must keep its id");
+		Assert.assertEquals(locOwnId >>> AIcUidEnumDataRegistry.LOCAL_ID_BITS, 2, "Own id must contain the layer");
+		Assert.assertSame(locTenant.findByIdOrNull(locType, locSharedId), locShared);
+		Assert.assertSame(locTenant.findByIdOrNull(locType, locOwnId), locOwn);
+		Assert.assertNull(locParent.findByIdOrNull(locType, locOwnId), "Parent must not resolve the child ids");
+		Assert.assertNull(locTenant.findByIdOrNull(locType, locShadowedId), "Shadowed parent id must not be visible");
+		Assert.assertEquals(locTenant.itemsById(locType), List.of(locOwn, locShadowing));
+	}
+
+	@Test
+	public void testEpochs() {
+		final AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> locType = new AIcTestUidEnumDataType();
+		final AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> locOtherType = new AIcTestUidEnumDataType();
+		final AIcUidEnumDataRegistry locParent = AIcUidEnumDataRegistry.getInstance().createChild();
+		final AIcUidEnumDataRegistry locTenant = locParent.createChild();
+		Assert.assertEquals(locParent.epoch(locType), 0L);
+
+		locParent.registerData(false, false, false, new AIcTestData(locType, "builtin:::jar"), new AIcTestData(locType, "builtin:::pom"));
+		final long locEpoch = locParent.epoch(locType);
+		final long locTenantEpoch = locTenant.epoch(locType);
+		Assert.assertEquals(locEpoch, 1L, "Single write must increase the epoch once");
+		Assert.assertEquals(locParent.epoch(locOtherType), 0L, "Epoch of other data type must not change");
+
+		locParent.registerData(false, false, false, new AIcTestData(locType, "builtin:::jar"));
+		Assert.assertEquals(locParent.epoch(locType), locEpoch, "Epoch must not change without a change of the items");
+
+		locParent.releaseData(locType, "builtin:::pom");
+		Assert.assertTrue(locParent.epoch(locType) > locEpoch);
+		Assert.assertTrue(locTenant.epoch(locType) > locTenantEpoch, "Child epoch must reflect the parent changes");
+
+		final long locParentEpoch = locParent.epoch(locType);
+		locTenant.registerData(false, false, false, new AIcTestData(locType, "custom:tenant::jar"));
+		Assert.assertEquals(locParent.epoch(locType), locParentEpoch, "Parent epoch must not reflect the child changes");
+	}
+
+	@Test
+	public void testListenersReceiveBatchedChanges() {
+		final AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> locType = new AIcTestUidEnumDataType();
+		final AIcUidEnumDataRegistry locRegistry = AIcUidEnumDataRegistry.getInstance().createChild();
+		final List<Runnable> locTasks = new ArrayList<>();
+		locRegistry.setNotificationExecutor(locTasks::add);
+		final List<AIrUidEnumDataChangeEvent> locEvents = new ArrayList<>();
+		final AIiUidEnumDataRegistryListener locListener = locEvents::add;
+		locRegistry.addListener(aEvent -> {
+			throw new IllegalStateException("failing listener");
+		});
+		locRegistry.addListener(locListener);
+
+		final AIcTestData locJar = new AIcTestData(locType, "builtin:::jar");
+		final AIcTestData locPom = new AIcTestData(locType, "builtin:::pom");
+		locRegistry.registerData(false, false, false, locJar);
+		locRegistry.registerData(false, false, false, locPom);
+		locRegistry.releaseData(locType, locJar.uid());
+		Assert.assertTrue(locEvents.isEmpty(), "Listeners must not be notified on the write path");
+		Assert.assertEquals(locTasks.size(), 1, "Pending changes must be delivered by a single task");
+
+		Assert.expectThrows(IllegalStateException.class, () -> locTasks.get(0).run());
+		Assert.assertEquals(locEvents.size(), 1, "Failing listener must not prevent the notification of the others");
+		final AIrUidEnumDataChangeEvent locEvent = locEvents.get(0);
+		Assert.assertSame(locEvent.registry(), locRegistry);
+		Assert.assertTrue(locEvent.isChanged(locType));
+		Assert.assertEquals(locEvent.registered(), List.of(locJar, locPom));
+		Assert.assertEquals(locEvent.released(), List.of(locJar));
+
+		Assert.assertTrue(locRegistry.removeListener(locListener));
+		locRegistry.registerData(false, false, false, new AIcTestData(locType, "builtin::sources:jar"));
+		Assert.assertEquals(locTasks.size(), 2, "Changes after the delivery must schedule a new task");
+		Assert.expectThrows(IllegalStateException.class, () -> locTasks.get(1).run());
+		Assert.assertEquals(locEvents.size(), 1, "Removed listener must not be notified");
+	}
+
+	@Test
+	public void testChildListenersReceiveOnlyOwnChanges() {
+		final AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> locType = new AIcTestUidEnumDataType();
+		final AIcUidEnumDataRegistry locParent = AIcUidEnumDataRegistry.getInstance().createChild();
+		final AIcUidEnumDataRegistry locChild = locParent.createChild();
+		locChild.setNotificationExecutor(Runnable::run);
+		final List<AIrUidEnumDataChangeEvent> locEvents = new ArrayList<>();
+		locChild.addListener(locEvents::add);
+
+		final long locEpoch = locChild.epoch(locType);
+		locParent.registerData(false, false, false, new AIcTestData(locType, "builtin:::jar"));
+		Assert.assertTrue(locChild.epoch(locType) > locEpoch, "Child epoch must reflect the parent change");
+		Assert.assertTrue(locEvents.isEmpty(), "Parent change must not be delivered to the child listeners");
+
+		final AIcTestData locPom = new AIcTestData(locType, "builtin:::pom");
+		locChild.registerData(false, false, false, locPom);
+		Assert.assertEquals(locEvents.size(), 1);
+		Assert.assertEquals(locEvents.get(0).registered(), List.of(locPom));
+	}
+
+	@Test
+	public void testListenersAreCalledSeriallyInOrder() {
+		final AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> locType = new AIcTestUidEnumDataType();
+		final AIcUidEnumDataRegistry locRegistry = AIcUidEnumDataRegistry.getInstance().createChild();
+		locRegistry.setNotificationExecutor(Runnable::run);
+		final AIcTestData locJar = new AIcTestData(locType, "builtin:::jar");
+		final AIcTestData locPom = new AIcTestData(locType, "builtin:::pom");
+		final AtomicBoolean locInListener = new AtomicBoolean();
+		final List<AIrUidEnumDataChangeEvent> locEvents = new ArrayList<>();
+		locRegistry.addListener(aEvent -> {
+			Assert.assertTrue(locInListener.compareAndSet(false, true), "Listener must not be called concurrently");
+			try {
+				locEvents.add(aEvent);
+				if (locEvents.size() == 1) {
+					locRegistry.registerData(false, false, false, locPom);
+					locRegistry.releaseData(locJar);
+				}
+			} finally {
+				locInListener.set(false);
+			}
+		});
+
+		locRegistry.registerData(false, false, false, locJar);
+		Assert.assertEquals(locEvents.size(), 2, "Changes of the listener must be delivered after the call returns");
+		Assert.assertEquals(locEvents.get(0).registered(), List.of(locJar));
+		Assert.assertEquals(locEvents.get(1).registered(), List.of(locPom));
+		Assert.assertEquals(locEvents.get(1).released(), List.of(locJar));
+	}
+
+	@Test
+	public void testRegistrationRejectsUnknownItems() {
+		final AIiUidEnumDataType<AIrTestUidEnumDataRecord, AInUidEnumDataOrigin> locType = new AIcTestUidEnumDataType();
+		final AIcUidEnumDataRegistry locRegistry = AIcUidEnumDataRegistry.getInstance().createChild();
+		final AIcTestData locUnknown = new AIcTestData(locType, "builtin:::unknown");
+		Assert.assertTrue(locType.getUidParser().isValid(locUnknown.uid()), "UID must be syntactically valid");
+		Assert.assertFalse(AIsUidEnumDataUtils.isValidOutputTypeUid(locType, locUnknown.uid()), "Validity must agree with validateUid");
+		Assert.expectThrows(IllegalArgumentException.class, () -> AIsUidEnumDataUtils.validateUid(locType, locUnknown.uid()));
+
+		Assert.expectThrows(IllegalArgumentException.class, () -> locRegistry.registerData(false, false, false, locUnknown));
+		Assert.expectThrows(IllegalArgumentException.class, () -> locRegistry.releaseData(locType, locUnknown.uid()));
+		final AIrUidEnumDataTransactionResult locResult = locRegistry.transaction()
+				.register(false, false, false, locUnknown)
+				.commit();
+		Assert.assertFalse(locResult.committed(), "Transaction must report the unknown item as a conflict");
+		Assert.assertTrue(locRegistry.items(locType).isEmpty());
+	}
+
+	/**
+	 * Registry implementing only the methods without a default implementation, delegating them to the given registry.
+	 */
+	private static AIiUidEnumDataRegistry minimalRegistry(final AIiUidEnumDataRegistry aDelegate) {
+		return new AIiUidEnumDataRegistry() {
+
+			@Override
+			@SafeVarargs
+			@SuppressWarnings("varargs")
+			public final <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> List<T> registerData(
+					final boolean aReadOnly, final boolean aPermanent, final boolean aOverwriteExisting, final T... aDataToRegister) {
+				return aDelegate.registerData(aReadOnly, aPermanent, aOverwriteExisting, aDataToRegister);
+			}
+
+			@Override
+			@SafeVarargs
+			@SuppressWarnings("varargs")
+			public final <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> List<T> releaseData(
+					final T... aDataToRelease) {
+				return aDelegate.releaseData(aDataToRelease);
+			}
+
+			@Override
+			public <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> List<T> releaseData(
+					final DT aDataType, final String... aUidToRelease) {
+				return aDelegate.releaseData(aDataType, aUidToRelease);
+			}
+
+			@Override
+			public <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> Optional<T> findByUid(
+					final DT aDataType, final String aUid) {
+				return aDelegate.findByUid(aDataType, aUid);
+			}
+
+			@Override
+			public <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> T getOrThrow(
+					final DT aDataType, final String aUid) {
+				return aDelegate.getOrThrow(aDataType, aUid);
+			}
+
+			@Override
+			public <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> List<T> items(final DT aDataType) {
+				return aDelegate.items(aDataType);
+			}
+		};
+	}
+
+	@Test
+	public void testStrictFindByUidOfMinimalRegistry() {
+		final AIcTestUidEnumDataType locType = new AIcTestUidEnumDataType();
+		final AIiUidEnumDataRegistry locRegistry = minimalRegistry(AIcUidEnumDataRegistry.getInstance().createChild());
+		final AIcTestData locJar = new AIcTestData(locType, "builtin:::jar");
+		locRegistry.registerData(false, false, false, locJar);
+
+		final int locParsedUidCount = locType.parsedUidCount.get();
+		Assert.assertSame(locRegistry.findByUid(locType, locJar.uid(), true).orElseThrow(), locJar);
+		Assert.assertTrue(locType.parsedUidCount.get() > locParsedUidCount, "Strict lookup must validate the registered UID");
+		Assert.expectThrows(IllegalArgumentException.class, () -> locRegistry.findByUid(locType, "builtin:::j a r", true));
+	}
+
+	@Test
+	public void testPartQueriesOfMinimalRegistry() {
+		final AIcTestUidEnumDataType locType = new AIcTestUidEnumDataType();
+		final AIiUidEnumDataRegistry locRegistry = minimalRegistry(AIcUidEnumDataRegistry.getInstance().createChild());
+		final AIcTestData locPom = new AIcTestData(locType, "custom:eu.algites::pom");
+		final AIcTestData locJar = new AIcTestData(locType, "builtin:::jar");
+		final AIcTestData locSources = new AIcTestData(locType, "builtin::sources:jar");
+		locRegistry.registerData(false, false, false, locPom, locJar, locSources);
+
+		Assert.assertEquals(locRegistry.itemsByOrigin(locType, AInUidEnumDataOrigin.BUILTIN), List.of(locJar, locSources));
+		Assert.assertEquals(locRegistry.itemsByNamespace(locType, "eu.algites"), List.of(locPom));
+		Assert.assertEquals(locRegistry.itemsByPart(locType, AIsUidEnumDataUtils.FIRST_UID_SPECIFIC_PART_POSITION + 1, "jar"),
+				List.of(locJar, locSources));
+		Assert.assertEquals(locRegistry.itemsByPartPrefix(locType, AIsUidEnumDataUtils.FIRST_UID_SPECIFIC_PART_POSITION + 1, "j"),
+				List.of(locJar, locSources));
+		Assert.assertEquals(locRegistry.itemsByPartPrefix(locType, AIsUidEnumDataUtils.FIRST_UID_SPECIFIC_PART_POSITION + 1, ""),
+				List.of(locJar, locSources, locPom), "Items must be ordered by the part value");
+		Assert.expectThrows(IllegalArgumentException.class, () -> locRegistry.itemsByPart(locType, 9, "jar"));
+	}
+
+	@Test
+	public void testTryFindByUidOfMinimalRegistry() {
+		final AIcTestUidEnumDataType locType = new AIcTestUidEnumDataType();
+		final AIiUidEnumDataRegistry locRegistry = minimalRegistry(AIcUidEnumDataRegistry.getInstance().createChild());
+		final AIcTestData locJar = new AIcTestData(locType, "builtin:::jar");
+		locRegistry.registerData(false, false, false, locJar);
+
+		Assert.assertSame(locRegistry.tryFindByUid(locType, locJar.uid()).orElseThrow(), locJar);
+		Assert.assertTrue(locRegistry.tryFindByUid(locType, "builtin:::pom").isEmpty());
+		Assert.assertTrue(locRegistry.tryFindByUid(locType, "builtin:::j a r").isEmpty());
+		Assert.assertTrue(locRegistry.tryFindByUid(locType, "builtin:::unknown").isEmpty(), "Unknown item must not throw");
+		Assert.assertTrue(locRegistry.tryFindByUid(locType, null).isEmpty());
+	}
+
+	@Test
+	public void testTryFindByUidDoesNotValidate() {
+		final AIcTestUidEnumDataType locType = new AIcTestUidEnumDataType();
+		final AIcTestData locJar = new AIcTestData(locType, "builtin:::jar");
+		final AIcUidEnumDataRegistry locParent = AIcUidEnumDataRegistry.getInstance().createChild();
+		locParent.registerData(false, false, false, locJar);
+		final AIcUidEnumDataRegistry locTenant = locParent.createChild();
+		locTenant.registerData(false, false, false, new AIcTestData(locType, "custom:tenant::jar"));
+
+		final int locParserCount = locType.parsedUidCount.get();
+		Assert.assertSame(locTenant.tryFindByUid(locType, locJar.uid()).orElseThrow(), locJar, "Lookup must fall through to the parent");
+		Assert.assertTrue(locTenant.tryFindByUid(locType, "custom:tenant::pom").isEmpty());
+		Assert.assertTrue(locTenant.tryFindByUid(locType, "builtin:::j a r").isEmpty(), "Invalid UID must be reported as missing");
+		Assert.assertTrue(locTenant.tryFindByUid(locType, "x".repeat(100_000)).isEmpty());
+		Assert.assertTrue(locTenant.tryFindByUid(locType, null).isEmpty());
+		Assert.assertTrue(locTenant.tryFindByUid(new AIcTestUidEnumDataType(), locJar.uid()).isEmpty());
+		Assert.assertEquals(locType.parsedUidCount.get(), locParserCount, "UIDs must not be validated");
+	}
 }
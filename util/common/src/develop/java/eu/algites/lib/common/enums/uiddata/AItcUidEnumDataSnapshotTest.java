@@ -0,0 +1,131 @@
+package eu.algites.lib.common.enums.uiddata;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import eu.algites.lib.common.enums.uiddata.AItcUidEnumDataRegistryTest.AIcTestData;
+import eu.algites.lib.common.enums.uiddata.AItcUidEnumDataRegistryTest.AIcTestUidEnumDataType;
+
+/**
+ * Tests for {@link AIcUidEnumDataSnapshot}.
+ *
+ * @author linhart1
+ */
+public class AItcUidEnumDataSnapshotTest {
+
+	@Test
+	public void testWriteAndLoad() throws IOException {
+		final AIcTestUidEnumDataType locType = new AIcTestUidEnumDataType();
+		final AIcTestData locJar = new AIcTestData(locType, "builtin:::jar");
+		final AIcTestData locPom = new AIcTestData(locType, "custom:eu.algites::pom");
+		final AIcUidEnumDataRegistry locSource = AIcUidEnumDataRegistry.getInstance().createChild();
+		locSource.registerData(true, false, false, locJar);
+		locSource.registerData(false, true, false, locPom);
+		locSource.registerData(false, false, false, new AIcTestData(locType, "builtin::sources:jar"));
+		locSource.releaseData(locType, "builtin::sources:jar");
+
+		final Path locFile = Files.createTempDirectory("snapshot").resolve("registry.bin");
+		AIcUidEnumDataSnapshot.write(locSource, Map.of("test", locType), locFile);
+
+		final AIcUidEnumDataSnapshot locSnapshot = AIcUidEnumDataSnapshot.open(locFile);
+		Assert.assertEquals(locSnapshot.keys(), Set.of("test"));
+		final AIcUidEnumDataRegistry locTarget = AIcUidEnumDataRegistry.getInstance().createChild();
+		final AtomicInteger locCreatedCount = new AtomicInteger();
+		final int locParserCount = locType.parsedUidCount.get();
+		Assert.assertEquals(locSnapshot.load(locTarget, "test", locType, aUid -> {
+			locCreatedCount.incrementAndGet();
+			return new AIcTestData(locType, aUid);
+		}), 2);
+		Assert.assertEquals(locCreatedCount.get(), 0, "Items must not be created by the load");
+		Assert.assertEquals(locType.parsedUidCount.get(), locParserCount, "Loaded UIDs must not be validated");
+
+		final AIcTestData locLoadedJar = locTarget.getOrThrow(locType, locJar.uid());
+		Assert.assertEquals(locLoadedJar.uid(), locJar.uid());
+		Assert.assertEquals(locCreatedCount.get(), 1, "Only the requested item must be created");
+		Assert.assertSame(locTarget.getOrThrow(locType, locJar.uid()), locLoadedJar, "Item must be created once");
+		Assert.assertTrue(locTarget.findByUid(locType, "builtin::sources:jar").isEmpty(), "Released item must not be stored");
+
+		Assert.expectThrows(AIxEnumDataRegistryIllegalOperationException.class,
+				() -> locTarget.registerData(false, false, true, new AIcTestData(locType, locJar.uid())));
+		Assert.expectThrows(AIxEnumDataRegistryIllegalOperationException.class,
+				() -> locTarget.releaseData(locType, locPom.uid()));
+		Assert.assertEquals(locTarget.items(locType).size(), 2);
+	}
+
+	@Test
+	public void testPartQueriesDoNotCreateLoadedItems() throws IOException {
+		final AIcTestUidEnumDataType locType = new AIcTestUidEnumDataType();
+		final AIcUidEnumDataRegistry locSource = AIcUidEnumDataRegistry.getInstance().createChild();
+		locSource.registerData(false, false, false, new AIcTestData(locType, "builtin:::jar"), new AIcTestData(locType, "custom:eu.algites::jar"));
+		final Path locFile = Files.createTempDirectory("snapshot").resolve("registry.bin");
+		AIcUidEnumDataSnapshot.write(locSource, Map.of("test", locType), locFile);
+
+		final AIcUidEnumDataRegistry locTarget = AIcUidEnumDataRegistry.getInstance().createChild();
+		final AtomicInteger locCreatedCount = new AtomicInteger();
+		AIcUidEnumDataSnapshot.open(locFile).load(locTarget, "test", locType, aUid -> {
+			locCreatedCount.incrementAndGet();
+			return new AIcTestData(locType, aUid);
+		});
+		Assert.assertEquals(locTarget.itemsByOrigin(locType, AInUidEnumDataOrigin.CUSTOM).size(), 1);
+		locTarget.registerData(false, false, false, new AIcTestData(locType, "custom:eu.algites::pom"));
+		final List<AIcTestData> locCustom = locTarget.itemsByOrigin(locType, AInUidEnumDataOrigin.CUSTOM);
+		Assert.assertEquals(locCustom.size(), 2);
+		Assert.assertEquals(locCreatedCount.get(), 0, "Items must not be created by the index");
+
+		Assert.assertEquals(locCustom.get(0).uid(), "custom:eu.algites::jar");
+		Assert.assertEquals(locCreatedCount.get(), 1, "Only the accessed item must be created");
+	}
+
+	@Test
+	public void testLoadSkipsExistingItems() throws IOException {
+		final AIcTestUidEnumDataType locType = new AIcTestUidEnumDataType();
+		final AIcUidEnumDataRegistry locSource = AIcUidEnumDataRegistry.getInstance().createChild();
+		locSource.registerData(false, false, false, new AIcTestData(locType, "builtin:::jar"), new AIcTestData(locType, "builtin:::pom"));
+		final Path locFile = Files.createTempDirectory("snapshot").resolve("registry.bin");
+		AIcUidEnumDataSnapshot.write(locSource, Map.of("test", locType), locFile);
+
+		final AIcUidEnumDataRegistry locTarget = AIcUidEnumDataRegistry.getInstance().createChild();
+		final AIcTestData locExisting = new AIcTestData(locType, "builtin:::jar");
+		locTarget.registerData(false, false, false, locExisting);
+		Assert.assertEquals(AIcUidEnumDataSnapshot.open(locFile).load(locTarget, "test", locType, aUid -> new AIcTestData(locType, aUid)), 1);
+		Assert.assertSame(locTarget.getOrThrow(locType, locExisting.uid()), locExisting);
+
+		final AIcUidEnumDataRegistry locWrong = AIcUidEnumDataRegistry.getInstance().createChild();
+		locWrong.registerData(false, false, false, new AIcTestData(locType, "custom:eu.algites::jar"));
+		Assert.assertEquals(AIcUidEnumDataSnapshot.open(locFile).load(locWrong, "test", locType, aUid -> new AIcTestData(locType, "builtin:::war")), 2);
+		Assert.expectThrows(IllegalStateException.class, () -> locWrong.getOrThrow(locType, "builtin:::jar"));
+	}
+
+	@Test
+	public void testCorruptedSnapshotIsRejected() throws IOException {
+		final AIcTestUidEnumDataType locType = new AIcTestUidEnumDataType();
+		final AIcUidEnumDataRegistry locSource = AIcUidEnumDataRegistry.getInstance().createChild();
+		locSource.registerData(false, false, false, new AIcTestData(locType, "builtin:::jar"));
+		final Path locFile = Files.createTempDirectory("snapshot").resolve("registry.bin");
+		AIcUidEnumDataSnapshot.write(locSource, Map.of("test", locType), locFile);
+
+		final byte[] locBytes = Files.readAllBytes(locFile);
+		locBytes[locBytes.length - 1] ^= 1;
+		Files.write(locFile, locBytes);
+		Assert.expectThrows(IOException.class, () -> AIcUidEnumDataSnapshot.open(locFile));
+
+		Files.write(locFile, new byte[] {1, 2, 3});
+		Assert.expectThrows(IOException.class, () -> AIcUidEnumDataSnapshot.open(locFile));
+		Assert.expectThrows(IllegalArgumentException.class, () -> AIcUidEnumDataSnapshot.open(
+				writeEmpty(locType)).load(locSource, "unknown", locType, aUid -> new AIcTestData(locType, aUid)));
+	}
+
+	private static Path writeEmpty(final AIcTestUidEnumDataType aType) throws IOException {
+		final Path locFile = Files.createTempDirectory("snapshot").resolve("registry.bin");
+		AIcUidEnumDataSnapshot.write(AIcUidEnumDataRegistry.getInstance().createChild(), Map.of("test", aType), locFile);
+		return locFile;
+	}
+}
@@ -0,0 +1,120 @@
+package eu.algites.lib.common.enums.uiddata;
+
+import static eu.algites.lib.common.enums.uiddata.AIsUidEnumDataUtils.FIRST_UID_SPECIFIC_PART_POSITION;
+import static eu.algites.lib.common.enums.uiddata.AIsUidEnumDataUtils.NAMESPACE_UID_POSITION;
+import static eu.algites.lib.common.enums.uiddata.AIsUidEnumDataUtils.ORIGIN_UID_POSITION;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.BiFunction;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link AIcUidParser}.
+ *
+ * <p>
+ * The tests use the UID layout {@code <origin>:<namespace>:<classifier>:<fileType>}
+ * and compare the parser with the part-by-part validation.
+ * </p>
+ * @author linhart1
+ */
+public class AItcUidParserTest {
+
+	private static final AIiUidEnumDataType<AIiUidEnumDataRecord, AInUidEnumDataOrigin> TEST_ENUM_DATA_TYPE
+			= new AIiUidEnumDataType<>() {
+
+		@SuppressWarnings("unchecked")
+		private final List<AIiUidPartMetadata<AInUidEnumDataOrigin>> specificUidPartsMetadata = List.of(
+				new AIrUidPartMetadata(() -> "classifier", Collections.emptyMap()),
+				new AIrUidPartMetadata(() -> "fileType", Map.of(AInUidEnumDataOrigin.BUILTIN, true, AInUidEnumDataOrigin.CUSTOM, true))
+		);
+
+		@Override
+		public BiFunction<String, List<String>, ? extends AIiUidEnumDataRecord> getUidRecordFactory() {
+			throw new UnsupportedOperationException("Records are not created by the parser");
+		}
+
+		@Override
+		public List<AIiUidPartMetadata<AInUidEnumDataOrigin>> getSpecificUidPartsMetadata() {
+			return specificUidPartsMetadata;
+		}
+	};
+
+	private static final AIcUidParser<AInUidEnumDataOrigin> PARSER = AIcUidParser.of(TEST_ENUM_DATA_TYPE);
+
+	private static boolean isValidPartByPart(final String aUid) {
+		try {
+			AIsUidEnumDataUtils.validateUidParts(TEST_ENUM_DATA_TYPE, aUid);
+			return true;
+		} catch (IllegalArgumentException locException) {
+			return false;
+		}
+	}
+
+	@Test
+	public void testParsedViewOffsets() {
+		final AIcParsedUid<AInUidEnumDataOrigin> locParsed = PARSER.parse("custom:eu.algites:sources:jar");
+		Assert.assertEquals(locParsed.origin(), AInUidEnumDataOrigin.CUSTOM);
+		Assert.assertEquals(locParsed.partCount(), 4);
+		Assert.assertEquals(locParsed.partStart(NAMESPACE_UID_POSITION), 7);
+		Assert.assertEquals(locParsed.partEnd(NAMESPACE_UID_POSITION), 17);
+		Assert.assertEquals(locParsed.namespace(), "eu.algites");
+		Assert.assertTrue(locParsed.partEquals(FIRST_UID_SPECIFIC_PART_POSITION, "sources"), "Classifier part must match");
+		Assert.assertFalse(locParsed.partEquals(FIRST_UID_SPECIFIC_PART_POSITION, "source"), "Prefix must not match");
+		Assert.assertEquals(locParsed.parts(), List.of("custom", "eu.algites", "sources", "jar"));
+
+		final AIcParsedUid<AInUidEnumDataOrigin> locBuiltin = PARSER.parse(new StringBuilder("builtin:::jar"));
+		Assert.assertEquals(locBuiltin.origin(), AInUidEnumDataOrigin.BUILTIN);
+		Assert.assertEquals(locBuiltin.partLength(NAMESPACE_UID_POSITION), 0);
+		Assert.assertEquals(locBuiltin.part(FIRST_UID_SPECIFIC_PART_POSITION + 1), "jar");
+	}
+
+	@Test
+	public void testInvalidUidsAreRejectedWithDetailedMessage() {
+		for (String locUid : new String[] {"", "builtin", "builtin::jar", "builtin::::jar", "builtin:eu.algites::jar",
+				"custom:::jar", "custom: ::jar", "unknown:::jar", "builtin:::ja$r", "builtin:::jár", ":::jar"}) {
+			Assert.assertNull(PARSER.tryParse(locUid), "UID must be rejected: " + locUid);
+			Assert.assertFalse(PARSER.isValid(locUid), "UID must be invalid: " + locUid);
+			final IllegalArgumentException locException = Assert.expectThrows(IllegalArgumentException.class, () -> PARSER.parse(locUid));
+			Assert.assertTrue(locException.getMessage().startsWith("Invalid") || locException.getMessage().startsWith("Unsupported"),
+					"Message must describe the problem: " + locException.getMessage());
+		}
+	}
+
+	@Test
+	public void testRandomUidsMatchPartByPartValidation() {
+		final Random locRandom = new Random(43L);
+		final String[] locFragments = {"builtin", "custom", "Custom", "eu", ".", "-", "_", "a9", ":", ":", ":", " ", "$", "é", ""};
+		for (int locIndex = 0; locIndex < 20000; locIndex++) {
+			final StringBuilder locUid = new StringBuilder(locRandom.nextBoolean() ? "builtin:" : "custom:");
+			final int locFragmentCount = locRandom.nextInt(7);
+			for (int locFragment = 0; locFragment < locFragmentCount; locFragment++) {
+				locUid.append(locFragments[locRandom.nextInt(locFragments.length)]);
+			}
+			final String locText = locUid.toString();
+			Assert.assertEquals(PARSER.isValid(locText), isValidPartByPart(locText), "Validity must match for '" + locText + "'");
+		}
+	}
+
+	@Test
+	public void testDefaultParserIsCached() {
+		final AIcUidParser<AInUidEnumDataOrigin> locParser = TEST_ENUM_DATA_TYPE.getUidParser();
+		Assert.assertSame(locParser.getDataType(), TEST_ENUM_DATA_TYPE);
+		Assert.assertSame(TEST_ENUM_DATA_TYPE.getUidParser(), locParser, "Default parser must be compiled only once");
+	}
+
+	@Test
+	public void testUtilsUseParser() {
+		Assert.assertFalse(AIsUidEnumDataUtils.isValidOutputTypeUid(TEST_ENUM_DATA_TYPE, "custom:eu algites::jar"));
+		Assert.assertEquals(AIsUidEnumDataUtils.getOrigin(TEST_ENUM_DATA_TYPE, "custom:eu.algites::jar"), AInUidEnumDataOrigin.CUSTOM);
+		/* the record factory of the test type throws, so it must be used only by the semantic validation */
+		Assert.assertFalse(AIsUidEnumDataUtils.isValidOutputTypeUid(TEST_ENUM_DATA_TYPE, "custom:eu.algites::jar"));
+		Assert.expectThrows(UnsupportedOperationException.class,
+				() -> AIsUidEnumDataUtils.validateUid(TEST_ENUM_DATA_TYPE, "builtin::sources:jar"));
+		Assert.assertEquals(PARSER.parse("builtin::sources:jar").part(ORIGIN_UID_POSITION), "builtin");
+	}
+}
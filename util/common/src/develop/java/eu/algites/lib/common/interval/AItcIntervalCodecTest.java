@@ -0,0 +1,159 @@
+package eu.algites.lib.common.interval;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <p>
+ * Title: {@link AItcIntervalCodecTest}
+ * </p>
+ * <p>
+ * Description: TestNG tests for {@link AIcIntervalCodec}.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public class AItcIntervalCodecTest {
+
+	private static List<AIcInterval<Integer>> randomIntervals(final Random aRandom, final int aCount) {
+		List<AIcInterval<Integer>> locResult = new ArrayList<>(aCount);
+		for (int locIndex = 0; locIndex < aCount; locIndex++) {
+			locResult.add(AItcIntervalSetTest.randomInterval(aRandom));
+		}
+		locResult.sort(AIsIntervalUtils::compare);
+		return locResult;
+	}
+
+	@Test
+	public void testRoundTripForBlockSizes() throws IOException {
+		Random locRandom = new Random(40L);
+		for (int locBlockSize : new int[] {1, 2, 3, 16, AIcIntervalCodec.DEFAULT_BLOCK_SIZE}) {
+			AIcIntervalCodec<Integer, AIcInterval<Integer>> locCodec = AIcIntervalCodec.integers().withBlockSize(locBlockSize);
+			for (int locCount : new int[] {0, 1, 2, 5, 300}) {
+				List<AIcInterval<Integer>> locIntervals = randomIntervals(locRandom, locCount);
+				byte[] locData = locCodec.encode(locIntervals);
+				Assert.assertEquals(locCodec.decode(locData), locIntervals, "Decoded intervals must match for block size " + locBlockSize);
+
+				List<AIcInterval<Integer>> locStreamed = new ArrayList<>();
+				locCodec.decode(new ByteArrayInputStream(locData), locStreamed::add);
+				Assert.assertEquals(locStreamed, locIntervals, "Streamed intervals must match for block size " + locBlockSize);
+			}
+		}
+	}
+
+	@Test
+	public void testRoundTripExtremeLongs() {
+		List<AIcInterval<Long>> locIntervals = List.of(
+				new AIcInterval<>(AInIntervalBoundary.UNBOUNDED, null, AInIntervalBoundary.CLOSED, Long.MIN_VALUE),
+				new AIcInterval<>(AInIntervalBoundary.CLOSED, Long.MIN_VALUE, AInIntervalBoundary.OPEN, Long.MAX_VALUE),
+				new AIcInterval<>(AInIntervalBoundary.OPEN, -1L, AInIntervalBoundary.UNBOUNDED, null),
+				new AIcInterval<>(AInIntervalBoundary.CLOSED, Long.MAX_VALUE, AInIntervalBoundary.CLOSED, Long.MAX_VALUE),
+				new AIcInterval<Long>(AInIntervalBoundary.UNBOUNDED, null, AInIntervalBoundary.UNBOUNDED, null)
+		);
+		AIcIntervalCodec<Long, AIcInterval<Long>> locCodec = AIcIntervalCodec.longs();
+		Assert.assertEquals(locCodec.decode(locCodec.encode(locIntervals)), locIntervals, "Extreme values must survive the differences");
+	}
+
+	@Test
+	public void testEncodingIsCompact() throws IOException {
+		List<AIcInterval<Long>> locIntervals = new ArrayList<>();
+		for (long locStart = 1_700_000_000_000L, locIndex = 0; locIndex < 1000; locIndex++, locStart += 60_000) {
+			locIntervals.add(new AIcInterval<>(AInIntervalBoundary.CLOSED, locStart, AInIntervalBoundary.OPEN, locStart + 30_000));
+		}
+		byte[] locData = AIcIntervalCodec.longs().encode(locIntervals);
+		ByteArrayOutputStream locSerialized = new ByteArrayOutputStream();
+		try (ObjectOutputStream locOutput = new ObjectOutputStream(locSerialized)) {
+			locOutput.writeObject(new ArrayList<>(locIntervals));
+		}
+		Assert.assertTrue(locData.length < 7 * locIntervals.size(), "Sorted intervals must take a few bytes each: " + locData.length);
+		Assert.assertTrue(locData.length * 5 < locSerialized.size(),
+				"Encoding must be much smaller than serialization: " + locData.length + " vs " + locSerialized.size());
+	}
+
+	@Test
+	public void testDecodeFromSkipsBlocks() {
+		Random locRandom = new Random(400L);
+		AIcIntervalCodec<Integer, AIcInterval<Integer>> locCodec = AIcIntervalCodec.integers().withBlockSize(8);
+		List<AIcInterval<Integer>> locIntervals = randomIntervals(locRandom, 200);
+		ByteBuffer locData = ByteBuffer.wrap(locCodec.encode(locIntervals));
+		for (int locFrom = -2; locFrom < 52; locFrom++) {
+			List<AIcInterval<Integer>> locExpected = new ArrayList<>();
+			for (AIcInterval<Integer> locInterval : locIntervals) {
+				boolean locEndsBefore = locInterval.getRightBoundary() != AInIntervalBoundary.UNBOUNDED
+						&& (locInterval.getRightValue() < locFrom
+								|| (locInterval.getRightValue() == locFrom && locInterval.getRightBoundary() == AInIntervalBoundary.OPEN));
+				if (!locEndsBefore) {
+					locExpected.add(locInterval);
+				}
+			}
+			List<AIcInterval<Integer>> locActual = new ArrayList<>();
+			locCodec.decodeFrom(locData, locFrom, locActual::add);
+			Assert.assertEquals(locActual, locExpected, "Intervals not ending before " + locFrom + " must be decoded");
+			Assert.assertEquals(locData.position(), 0, "Position of the buffer must not change");
+		}
+	}
+
+	@Test
+	public void testDecodeFromSkipsBlocksBeforeLongInterval() {
+		List<AIcInterval<Long>> locIntervals = new ArrayList<>();
+		locIntervals.add(new AIcInterval<>(AInIntervalBoundary.CLOSED, 0L, AInIntervalBoundary.CLOSED, 5L));
+		locIntervals.add(new AIcInterval<>(AInIntervalBoundary.CLOSED, 0L, AInIntervalBoundary.CLOSED, 2000L));
+		for (long locStart = 10; locStart < 1000; locStart += 10) {
+			locIntervals.add(new AIcInterval<>(AInIntervalBoundary.CLOSED, locStart, AInIntervalBoundary.CLOSED, locStart + 5));
+		}
+		AtomicInteger locCreated = new AtomicInteger();
+		AIcIntervalCodec<Long, AIcInterval<Long>> locCodec = AIcIntervalCodec.<Long, AIcInterval<Long>>of(Long::longValue, Long::valueOf,
+				(aLeftBoundary, aLeftValue, aRightBoundary, aRightValue) -> {
+					locCreated.incrementAndGet();
+					return new AIcInterval<>(aLeftBoundary, aLeftValue, aRightBoundary, aRightValue);
+				}).withBlockSize(4);
+
+		List<AIcInterval<Long>> locActual = new ArrayList<>();
+		locCodec.decodeFrom(ByteBuffer.wrap(locCodec.encode(locIntervals)), 900L, locActual::add);
+		Assert.assertEquals(locActual.size(), 11, "Long interval and the intervals from 900 must be decoded: " + locActual);
+		Assert.assertEquals(locActual.get(0), locIntervals.get(1));
+		Assert.assertEquals(locCreated.get(), 17, "Only the first block and the blocks from the value must be decoded");
+	}
+
+	@Test
+	public void testDecodeRejectsOversizedHeader() {
+		AIcIntervalCodec<Integer, AIcInterval<Integer>> locCodec = AIcIntervalCodec.integers();
+		/* magic, version, one interval and a block size of Integer.MAX_VALUE */
+		byte[] locHugeBlock = {'A', 'I', 'I', 'C', 1, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0, 0};
+		Assert.expectThrows(IllegalArgumentException.class, () -> locCodec.decode(locHugeBlock));
+		Assert.expectThrows(IOException.class, () -> locCodec.decode(new ByteArrayInputStream(locHugeBlock), aInterval -> {
+		}));
+		/* Integer.MAX_VALUE intervals in a few bytes */
+		byte[] locHugeCount = {'A', 'I', 'I', 'C', 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 1, 0, 0};
+		Assert.expectThrows(IllegalArgumentException.class, () -> locCodec.decode(locHugeCount));
+		Assert.expectThrows(IllegalArgumentException.class, () -> locCodec.withBlockSize(AIcIntervalCodec.MAX_BLOCK_SIZE + 1));
+	}
+
+	@Test
+	public void testDecodeRejectsInvalidData() {
+		AIcIntervalCodec<Integer, AIcInterval<Integer>> locCodec = AIcIntervalCodec.integers();
+		byte[] locData = locCodec.encode(randomIntervals(new Random(4000L), 50));
+
+		Assert.expectThrows(IllegalArgumentException.class, () -> locCodec.decode(Arrays.copyOf(locData, 20)));
+		byte[] locForeign = locData.clone();
+		locForeign[0] = 'X';
+		Assert.expectThrows(IllegalArgumentException.class, () -> locCodec.decode(locForeign));
+		Assert.expectThrows(IOException.class, () -> locCodec.decode(new ByteArrayInputStream(locData, 0, 20), aInterval -> {
+		}));
+		Assert.expectThrows(IllegalArgumentException.class,
+				() -> locCodec.decodeFrom(ByteBuffer.wrap(locData, 0, locData.length - 1), 0, aInterval -> {
+				}));
+	}
+}
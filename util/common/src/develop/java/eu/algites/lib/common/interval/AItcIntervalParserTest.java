@@ -0,0 +1,94 @@
+package eu.algites.lib.common.interval;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <p>
+ * Title: {@link AItcIntervalParserTest}
+ * </p>
+ * <p>
+ * Description: TestNG tests for {@link AIcIntervalParser}.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public class AItcIntervalParserTest {
+
+	private static final AIcIntervalParser<Integer, AIcInterval<Integer>> PARSER = AIcIntervalParser.of(AIiIntervalValueParser.integers());
+
+	@Test
+	public void testParseRoundTripsStringRepresentation() {
+		Random locRandom = new Random(38L);
+		for (int locIndex = 0; locIndex < 500; locIndex++) {
+			AIcInterval<Integer> locInterval = AItcIntervalSetTest.randomInterval(locRandom);
+			String locText = AIsIntervalUtils.toStringRepresentation(locInterval);
+			Assert.assertEquals(PARSER.parse(locText), locInterval, "Parsed interval must match " + locText);
+		}
+	}
+
+	@Test
+	public void testParseBoundariesAndWhitespace() {
+		Assert.assertEquals(PARSER.parse("  [ -3 ,7 ) "), new AIcInterval<>(AInIntervalBoundary.CLOSED, -3, AInIntervalBoundary.OPEN, 7),
+				"Whitespace around the values must be ignored");
+		Assert.assertEquals(PARSER.parse("(*, *)"), new AIcInterval<Integer>(AInIntervalBoundary.UNBOUNDED, null, AInIntervalBoundary.UNBOUNDED, null),
+				"Unbounded endpoints must be parsed");
+		Assert.assertEquals(PARSER.parse("x(1, 2]y", 1, 7), new AIcInterval<>(AInIntervalBoundary.OPEN, 1, AInIntervalBoundary.CLOSED, 2),
+				"Range of the text must be parsed");
+
+		AIcIntervalParser<String, AIcInterval<String>> locStringParser = AIcIntervalParser.of(AIiIntervalValueParser.strings());
+		Assert.assertEquals(locStringParser.parse("[a b, c)").getLeftValue(), "a b", "String values may contain spaces");
+	}
+
+	@Test
+	public void testParseRejectsInvalidText() {
+		for (String locText : new String[] {"", "[1, 2", "1, 2]", "[1 2]", "[*, 2]", "(1, *]", "[, 2]", "[x, 2]", "[3, 2]", "(1, 1]"}) {
+			IllegalArgumentException locException = Assert.expectThrows(IllegalArgumentException.class, () -> PARSER.parse(locText));
+			Assert.assertTrue(locException.getMessage().startsWith("Invalid interval '" + locText.strip() + "'"),
+					"Message must quote the text: " + locException.getMessage());
+		}
+	}
+
+	@Test
+	public void testParseAllFromReader() throws IOException {
+		Random locRandom = new Random(380L);
+		List<AIcInterval<Integer>> locExpected = new ArrayList<>();
+		StringBuilder locText = new StringBuilder();
+		for (int locIndex = 0; locIndex < 3000; locIndex++) {
+			AIcInterval<Integer> locInterval = AItcIntervalSetTest.randomInterval(locRandom);
+			locExpected.add(locInterval);
+			locText.append(AIsIntervalUtils.toStringRepresentation(locInterval)).append(locIndex % 3 == 0 ? "\r\n" : "\n");
+			if (locIndex % 100 == 0) {
+				locText.append("   \n");
+			}
+		}
+		/* a line longer than the read buffer without a trailing newline */
+		locText.append("[1, ").append(" ".repeat(20000)).append("2]");
+		locExpected.add(new AIcInterval<>(AInIntervalBoundary.CLOSED, 1, AInIntervalBoundary.CLOSED, 2));
+
+		List<AIcInterval<Integer>> locActual = new ArrayList<>();
+		PARSER.parseAll(new StringReader(locText.toString()), locActual::add);
+		Assert.assertEquals(locActual, locExpected, "All lines must be parsed");
+
+		List<AIcInterval<Integer>> locFromBuffer = new ArrayList<>();
+		PARSER.parseAll(ByteBuffer.wrap(locText.toString().getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, locFromBuffer::add);
+		Assert.assertEquals(locFromBuffer, locExpected, "All lines of the buffer must be parsed");
+	}
+
+	@Test
+	public void testParseAllReportsLineNumber() {
+		IllegalArgumentException locException = Assert.expectThrows(IllegalArgumentException.class,
+				() -> PARSER.parseAll(new StringReader("[1, 2]\n\n(3, 4)\n[5, x]\n"), aInterval -> {
+				}));
+		Assert.assertTrue(locException.getMessage().startsWith("Line 4: "), "Message must contain the line number: " + locException.getMessage());
+	}
+}
@@ -0,0 +1,90 @@
+package eu.algites.lib.common.interval;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <p>
+ * Title: {@link AItcIntervalRangeMapTest}
+ * </p>
+ * <p>
+ * Description: TestNG tests for {@link AIcIntervalRangeMap}, cross-checked against a value array.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public class AItcIntervalRangeMapTest {
+
+	private static final int MIN_PROBE = -2;
+
+	private static final int MAX_PROBE = 42;
+
+	@Test
+	public void testPutAndRemoveAgreeWithModel() {
+		Random locRandom = new Random(35L);
+		for (int locRound = 0; locRound < 200; locRound++) {
+			AIcIntervalRangeMap<Integer, String> locMap = new AIcIntervalRangeMap<>();
+			String[] locModel = new String[MAX_PROBE - MIN_PROBE + 1];
+			for (int locStep = 0; locStep < 20; locStep++) {
+				AIcInterval<Integer> locInterval = AItcIntervalSetTest.randomInterval(locRandom);
+				String locValue = locRandom.nextInt(4) == 0 ? null : String.valueOf((char) ('a' + locRandom.nextInt(3)));
+				for (int locProbe = MIN_PROBE; locProbe <= MAX_PROBE; locProbe++) {
+					if (AIsIntervalUtils.contains(locInterval, locProbe)) {
+						locModel[locProbe - MIN_PROBE] = locValue;
+					}
+				}
+				if (locValue == null) {
+					locMap.remove(locInterval);
+				} else {
+					locMap.put(locInterval, locValue);
+				}
+
+				for (int locProbe = MIN_PROBE; locProbe <= MAX_PROBE; locProbe++) {
+					Assert.assertEquals(locMap.get(locProbe), locModel[locProbe - MIN_PROBE], "Value of " + locProbe + " in " + locMap);
+				}
+				List<AIrIntervalRangeEntry<Integer, String>> locEntries = locMap.asList();
+				for (int locIndex = 1; locIndex < locEntries.size(); locIndex++) {
+					AIrIntervalRangeEntry<Integer, String> locPrevious = locEntries.get(locIndex - 1);
+					AIrIntervalRangeEntry<Integer, String> locNext = locEntries.get(locIndex);
+					Assert.assertTrue(AIsIntervalUtils.isStrictlyBefore(locPrevious.interval(), locNext.interval()),
+							"Entries must be sorted and disjoint in " + locMap);
+					Assert.assertTrue(!Objects.equals(locPrevious.value(), locNext.value())
+									|| AIsIntervalUtils.isSeparated(locPrevious.interval(), locNext.interval(), AIsIntervalUtils.naturalOrder()),
+							"Touching entries of equal value must be merged in " + locMap);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testPutSplitsAndMerges() {
+		AIcIntervalRangeMap<Integer, String> locMap = new AIcIntervalRangeMap<>();
+		locMap.put(new AIcInterval<>(AInIntervalBoundary.CLOSED, 0, AInIntervalBoundary.CLOSED, 10), "a");
+		locMap.put(new AIcInterval<>(AInIntervalBoundary.OPEN, 3, AInIntervalBoundary.OPEN, 5), "b");
+		Assert.assertEquals(locMap.toString(), "[[0, 3]=a, (3, 5)=b, [5, 10]=a]", "Put must split the covered entry");
+
+		locMap.put(new AIcInterval<>(AInIntervalBoundary.CLOSED, 4, AInIntervalBoundary.CLOSED, 4), "a");
+		Assert.assertEquals(locMap.toString(), "[[0, 3]=a, (3, 4)=b, [4, 4]=a, (4, 5)=b, [5, 10]=a]", "Put must split in the middle");
+
+		locMap.put(new AIcInterval<>(AInIntervalBoundary.OPEN, 3, AInIntervalBoundary.OPEN, 5), "a");
+		Assert.assertEquals(locMap.toString(), "[[0, 10]=a]", "Touching entries of equal value must be merged");
+	}
+
+	@Test
+	public void testSnapshotIsReadOnlyAndStable() {
+		AIcIntervalRangeMap<Integer, String> locMap = new AIcIntervalRangeMap<>();
+		locMap.put(new AIcInterval<>(AInIntervalBoundary.CLOSED, 0, AInIntervalBoundary.CLOSED, 10), "a");
+		AIcIntervalRangeMap<Integer, String> locSnapshot = locMap.snapshot();
+		locMap.remove(new AIcInterval<>(AInIntervalBoundary.UNBOUNDED, null, AInIntervalBoundary.UNBOUNDED, null));
+
+		Assert.assertTrue(locMap.isEmpty(), "Map must be empty after removing everything");
+		Assert.assertEquals(locSnapshot.get(5), "a", "Snapshot must not see later changes");
+		Assert.assertThrows(UnsupportedOperationException.class,
+				() -> locSnapshot.put(new AIcInterval<>(AInIntervalBoundary.CLOSED, 0, AInIntervalBoundary.CLOSED, 1), "b"));
+	}
+}
@@ -0,0 +1,162 @@
+package eu.algites.lib.common.interval;
+
+import java.util.List;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <p>
+ * Title: {@link AItcIntervalSetTest}
+ * </p>
+ * <p>
+ * Description: TestNG tests for {@link AIcIntervalSet}, cross-checked against a membership array.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public class AItcIntervalSetTest {
+
+	private static final AInIntervalBoundary[] BOUNDARIES = AInIntervalBoundary.values();
+
+	/* interval endpoints are even, so odd probes lie strictly between them */
+	private static final int MIN_PROBE = -2;
+
+	private static final int MAX_PROBE = 42;
+
+	static AIcInterval<Integer> randomInterval(final Random aRandom) {
+		while (true) {
+			AInIntervalBoundary locLeftBoundary = BOUNDARIES[aRandom.nextInt(BOUNDARIES.length)];
+			AInIntervalBoundary locRightBoundary = BOUNDARIES[aRandom.nextInt(BOUNDARIES.length)];
+			int locLeft = 2 * aRandom.nextInt(20);
+			int locRight = locLeft + 2 * aRandom.nextInt(5);
+			if (locLeft == locRight && (locLeftBoundary == AInIntervalBoundary.OPEN || locRightBoundary == AInIntervalBoundary.OPEN)) {
+				continue;
+			}
+			if (aRandom.nextInt(4) != 0) {
+				/* keep most intervals bounded */
+				locLeftBoundary = locLeftBoundary == AInIntervalBoundary.UNBOUNDED ? AInIntervalBoundary.CLOSED : locLeftBoundary;
+				locRightBoundary = locRightBoundary == AInIntervalBoundary.UNBOUNDED ? AInIntervalBoundary.OPEN : locRightBoundary;
+				if (locLeft == locRight && locRightBoundary == AInIntervalBoundary.OPEN) {
+					continue;
+				}
+			}
+			return new AIcInterval<>(
+					locLeftBoundary,
+					locLeftBoundary.isBoundaryValueIgnored() ? null : locLeft,
+					locRightBoundary,
+					locRightBoundary.isBoundaryValueIgnored() ? null : locRight
+			);
+		}
+	}
+
+	private static void assertMatches(final AIcIntervalSet<Integer> aSet, final boolean[] aModel, final String aMessage) {
+		for (int locProbe = MIN_PROBE; locProbe <= MAX_PROBE; locProbe++) {
+			Assert.assertEquals(aSet.contains(locProbe), aModel[locProbe - MIN_PROBE], aMessage + ": membership of " + locProbe + " in " + aSet);
+		}
+		List<AIcInterval<Integer>> locIntervals = aSet.asList();
+		for (int locIndex = 1; locIndex < locIntervals.size(); locIndex++) {
+			Assert.assertTrue(
+					AIsIntervalUtils.isSeparated(locIntervals.get(locIndex - 1), locIntervals.get(locIndex), AIsIntervalUtils.naturalOrder()),
+					aMessage + ": intervals must be sorted and separated in " + aSet
+			);
+		}
+	}
+
+	private static boolean[] model(final AIcIntervalSet<Integer> aSet) {
+		boolean[] locModel = new boolean[MAX_PROBE - MIN_PROBE + 1];
+		for (int locProbe = MIN_PROBE; locProbe <= MAX_PROBE; locProbe++) {
+			locModel[locProbe - MIN_PROBE] = aSet.contains(locProbe);
+		}
+		return locModel;
+	}
+
+	@Test
+	public void testAddAndRemoveAgreeWithModel() {
+		Random locRandom = new Random(33L);
+		for (int locRound = 0; locRound < 200; locRound++) {
+			AIcIntervalSet<Integer> locSet = new AIcIntervalSet<>();
+			boolean[] locModel = new boolean[MAX_PROBE - MIN_PROBE + 1];
+			for (int locStep = 0; locStep < 20; locStep++) {
+				AIcInterval<Integer> locInterval = randomInterval(locRandom);
+				boolean locAdd = locRandom.nextInt(3) != 0;
+				boolean locChanged = false;
+				for (int locProbe = MIN_PROBE; locProbe <= MAX_PROBE; locProbe++) {
+					if (AIsIntervalUtils.contains(locInterval, locProbe) && locModel[locProbe - MIN_PROBE] != locAdd) {
+						locModel[locProbe - MIN_PROBE] = locAdd;
+						locChanged = true;
+					}
+				}
+				boolean locReported = locAdd ? locSet.add(locInterval) : locSet.remove(locInterval);
+				assertMatches(locSet, locModel, (locAdd ? "add " : "remove ") + locInterval);
+				if (locChanged) {
+					Assert.assertTrue(locReported, "Change must be reported");
+				}
+				Assert.assertEquals(locSet.encloses(locInterval), locAdd, "Added interval must be enclosed, removed one not");
+				Assert.assertEquals(locSet.overlaps(locInterval), locAdd, "Added interval must overlap, removed one not");
+			}
+		}
+	}
+
+	@Test
+	public void testSetOperationsAgreeWithModel() {
+		Random locRandom = new Random(34L);
+		for (int locRound = 0; locRound < 300; locRound++) {
+			AIcIntervalSet<Integer> locLeft = AIcIntervalSet.of(List.of(randomInterval(locRandom), randomInterval(locRandom), randomInterval(locRandom)));
+			AIcIntervalSet<Integer> locRight = AIcIntervalSet.of(List.of(randomInterval(locRandom), randomInterval(locRandom)));
+			boolean[] locLeftModel = model(locLeft);
+			boolean[] locRightModel = model(locRight);
+			boolean[] locUnion = new boolean[locLeftModel.length];
+			boolean[] locDifference = new boolean[locLeftModel.length];
+			boolean[] locIntersection = new boolean[locLeftModel.length];
+			boolean[] locComplement = new boolean[locLeftModel.length];
+			for (int locIndex = 0; locIndex < locLeftModel.length; locIndex++) {
+				locUnion[locIndex] = locLeftModel[locIndex] || locRightModel[locIndex];
+				locDifference[locIndex] = locLeftModel[locIndex] && !locRightModel[locIndex];
+				locIntersection[locIndex] = locLeftModel[locIndex] && locRightModel[locIndex];
+				locComplement[locIndex] = !locLeftModel[locIndex];
+			}
+			assertMatches(locLeft.union(locRight), locUnion, "union");
+			assertMatches(locLeft.difference(locRight), locDifference, "difference");
+			assertMatches(locLeft.intersection(locRight), locIntersection, "intersection");
+			assertMatches(locLeft.complement(), locComplement, "complement");
+			Assert.assertEquals(locLeft.complement().complement(), locLeft, "Double complement must be identity");
+
+			AIcIntervalSet<Integer> locMutable = locLeft.union(new AIcIntervalSet<>());
+			locMutable.addAll(locRight);
+			Assert.assertEquals(locMutable, locLeft.union(locRight), "addAll must match union");
+			locMutable.removeAll(locRight);
+			Assert.assertEquals(locMutable, locLeft.difference(locRight), "removeAll must match difference");
+		}
+	}
+
+	@Test
+	public void testMergesTouchingIntervals() {
+		AIcIntervalSet<Integer> locSet = new AIcIntervalSet<>();
+		locSet.add(new AIcInterval<>(AInIntervalBoundary.CLOSED, 1, AInIntervalBoundary.OPEN, 3));
+		locSet.add(new AIcInterval<>(AInIntervalBoundary.OPEN, 3, AInIntervalBoundary.CLOSED, 5));
+		Assert.assertEquals(locSet.size(), 2, "Intervals not touching at an excluded point must stay separate");
+
+		locSet.add(new AIcInterval<>(AInIntervalBoundary.CLOSED, 3, AInIntervalBoundary.CLOSED, 3));
+		Assert.assertEquals(locSet.asList(), List.of(new AIcInterval<>(AInIntervalBoundary.CLOSED, 1, AInIntervalBoundary.CLOSED, 5)),
+				"Touching intervals must be merged");
+		Assert.assertFalse(locSet.add(new AIcInterval<>(AInIntervalBoundary.OPEN, 1, AInIntervalBoundary.OPEN, 5)),
+				"Adding an enclosed interval must not change the set");
+		Assert.assertEquals(locSet.toString(), "{[1, 5]}", "String representation must match");
+	}
+
+	@Test
+	public void testSnapshotIsReadOnlyAndStable() {
+		AIcIntervalSet<Integer> locSet = new AIcIntervalSet<>();
+		locSet.add(new AIcInterval<>(AInIntervalBoundary.CLOSED, 1, AInIntervalBoundary.CLOSED, 2));
+		AIcIntervalSet<Integer> locSnapshot = locSet.snapshot();
+		locSet.add(new AIcInterval<>(AInIntervalBoundary.CLOSED, 4, AInIntervalBoundary.CLOSED, 5));
+
+		Assert.assertTrue(locSnapshot.isReadOnly(), "Snapshot must be read only");
+		Assert.assertFalse(locSnapshot.contains(4), "Snapshot must not see later changes");
+		Assert.assertTrue(locSet.contains(4), "Set must see its changes");
+		Assert.assertThrows(UnsupportedOperationException.class, locSnapshot::clear);
+	}
+}
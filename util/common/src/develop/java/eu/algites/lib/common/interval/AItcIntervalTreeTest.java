@@ -0,0 +1,186 @@
+package eu.algites.lib.common.interval;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <p>
+ * Title: {@link AItcIntervalTreeTest}
+ * </p>
+ * <p>
+ * Description: TestNG tests for {@link AIcIntervalTree} and {@link AIcIntervalTreeSnapshot},
+ * cross-checked against a brute force scan.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public class AItcIntervalTreeTest {
+
+	private static final AInIntervalBoundary[] BOUNDARIES = AInIntervalBoundary.values();
+
+	private static AIcInterval<Integer> randomInterval(final Random aRandom) {
+		while (true) {
+			AInIntervalBoundary locLeftBoundary = BOUNDARIES[aRandom.nextInt(BOUNDARIES.length)];
+			AInIntervalBoundary locRightBoundary = BOUNDARIES[aRandom.nextInt(BOUNDARIES.length)];
+			int locLeft = aRandom.nextInt(100);
+			int locRight = locLeft + aRandom.nextInt(10);
+			if (locLeft == locRight && (locLeftBoundary == AInIntervalBoundary.OPEN || locRightBoundary == AInIntervalBoundary.OPEN)) {
+				continue;
+			}
+			return new AIcInterval<>(
+					locLeftBoundary,
+					locLeftBoundary.isBoundaryValueIgnored() ? null : locLeft,
+					locRightBoundary,
+					locRightBoundary.isBoundaryValueIgnored() ? null : locRight
+			);
+		}
+	}
+
+	private static List<AIcInterval<Integer>> randomIntervals(final Random aRandom, final int aCount) {
+		List<AIcInterval<Integer>> locResult = new ArrayList<>(aCount);
+		for (int locIndex = 0; locIndex < aCount; locIndex++) {
+			locResult.add(randomInterval(aRandom));
+		}
+		return locResult;
+	}
+
+	private static void assertAgreesWithBruteForce(
+			final AIiIntervalIndex<Integer, AIcInterval<Integer>> aIndex,
+			final List<AIcInterval<Integer>> aIntervals,
+			final Random aRandom
+	) {
+		Comparator<AIcInterval<Integer>> locOrder = AIsIntervalUtils::compare;
+		List<AIcInterval<Integer>> locSorted = new ArrayList<>(aIntervals);
+		locSorted.sort(locOrder);
+		Assert.assertEquals(aIndex.size(), aIntervals.size(), "Size must match");
+		Assert.assertEquals(aIndex.toList(), locSorted, "Intervals must be listed in their order");
+
+		for (int locValue = -2; locValue < 112; locValue++) {
+			List<AIcInterval<Integer>> locContaining = new ArrayList<>();
+			AIcInterval<Integer> locBefore = null;
+			AIcInterval<Integer> locAfter = null;
+			for (AIcInterval<Integer> locInterval : locSorted) {
+				if (AIsIntervalUtils.contains(locInterval, locValue)) {
+					locContaining.add(locInterval);
+				} else if (AIsIntervalUtils.isAfterRightEndpoint(locValue, locInterval, Comparator.<Integer>naturalOrder())) {
+					if (locBefore == null || AIsIntervalUtils.compareRightEndpoints(locInterval, locBefore, Comparator.<Integer>naturalOrder()) > 0) {
+						locBefore = locInterval;
+					}
+				} else if (locAfter == null) {
+					locAfter = locInterval;
+				}
+			}
+			Assert.assertEquals(aIndex.findContaining(locValue), locContaining, "Containing intervals of " + locValue + " must match");
+			Assert.assertEquals(
+					aIndex.findFirstContaining(locValue),
+					locContaining.isEmpty() ? null : locContaining.get(0),
+					"First containing interval of " + locValue + " must match"
+			);
+			AIcInterval<Integer> locFoundBefore = aIndex.findNearestBefore(locValue);
+			if (locBefore == null) {
+				Assert.assertNull(locFoundBefore, "No interval may lie before " + locValue);
+			} else {
+				Assert.assertNotNull(locFoundBefore, "Interval before " + locValue + " must be found");
+				Assert.assertEquals(
+						AIsIntervalUtils.compareRightEndpoints(locFoundBefore, locBefore, Comparator.<Integer>naturalOrder()),
+						0,
+						"Nearest interval before " + locValue + " must end at the greatest right endpoint"
+				);
+			}
+			Assert.assertEquals(aIndex.findNearestAfter(locValue), locAfter, "Nearest interval after " + locValue + " must match");
+		}
+
+		for (int locQueryIndex = 0; locQueryIndex < 200; locQueryIndex++) {
+			AIcInterval<Integer> locQuery = randomInterval(aRandom);
+			List<AIcInterval<Integer>> locOverlapping = new ArrayList<>();
+			for (AIcInterval<Integer> locInterval : locSorted) {
+				if (AIsIntervalUtils.overlaps(locInterval, locQuery)) {
+					locOverlapping.add(locInterval);
+				}
+			}
+			Assert.assertEquals(aIndex.findOverlapping(locQuery), locOverlapping, "Intervals overlapping " + locQuery + " must match");
+		}
+	}
+
+	@Test
+	public void testIncrementalTreeAgreesWithBruteForce() {
+		Random locRandom = new Random(32L);
+		List<AIcInterval<Integer>> locIntervals = randomIntervals(locRandom, 500);
+		AIcIntervalTree<Integer, AIcInterval<Integer>> locTree = new AIcIntervalTree<>();
+		for (AIcInterval<Integer> locInterval : locIntervals) {
+			locTree.add(locInterval);
+		}
+		assertAgreesWithBruteForce(locTree, locIntervals, locRandom);
+	}
+
+	@Test
+	public void testBulkLoadedTreeAndSnapshotAgreeWithBruteForce() {
+		Random locRandom = new Random(33L);
+		List<AIcInterval<Integer>> locIntervals = randomIntervals(locRandom, 500);
+		assertAgreesWithBruteForce(AIcIntervalTree.of(locIntervals), locIntervals, locRandom);
+		assertAgreesWithBruteForce(AIcIntervalTreeSnapshot.of(locIntervals), locIntervals, locRandom);
+	}
+
+	@Test
+	public void testRemoveKeepsTreeConsistent() {
+		Random locRandom = new Random(34L);
+		List<AIcInterval<Integer>> locIntervals = randomIntervals(locRandom, 600);
+		AIcIntervalTree<Integer, AIcInterval<Integer>> locTree = AIcIntervalTree.of(locIntervals);
+		for (int locIndex = 0; locIndex < 300; locIndex++) {
+			AIcInterval<Integer> locRemoved = locIntervals.remove(locRandom.nextInt(locIntervals.size()));
+			Assert.assertTrue(locTree.remove(locRemoved), "Present interval must be removed");
+		}
+		Assert.assertFalse(locTree.remove(new AIcInterval<>(AInIntervalBoundary.CLOSED, 500, AInIntervalBoundary.CLOSED, 501)),
+				"Absent interval must not be removed");
+		assertAgreesWithBruteForce(locTree, locIntervals, locRandom);
+	}
+
+	@Test
+	public void testSnapshotIsIndependentOfTree() {
+		AIcIntervalTree<Integer, AIcInterval<Integer>> locTree = new AIcIntervalTree<>();
+		AIcInterval<Integer> locInterval = new AIcInterval<>(AInIntervalBoundary.CLOSED, 1, AInIntervalBoundary.OPEN, 5);
+		locTree.add(locInterval);
+		AIcIntervalTreeSnapshot<Integer, AIcInterval<Integer>> locSnapshot = locTree.snapshot();
+		locTree.clear();
+
+		Assert.assertTrue(locTree.isEmpty(), "Cleared tree must be empty");
+		Assert.assertEquals(locSnapshot.findContaining(3), List.of(locInterval), "Snapshot must keep its content");
+		Assert.assertTrue(locSnapshot.findContaining(5).isEmpty(), "Open right endpoint must not be contained");
+	}
+
+	@Test
+	public void testFindNearestPrefersCloserInterval() {
+		AIcInterval<Integer> locLow = new AIcInterval<>(AInIntervalBoundary.CLOSED, 0, AInIntervalBoundary.CLOSED, 10);
+		AIcInterval<Integer> locHigh = new AIcInterval<>(AInIntervalBoundary.CLOSED, 20, AInIntervalBoundary.CLOSED, 30);
+		AIcIntervalTree<Integer, AIcInterval<Integer>> locTree = AIcIntervalTree.of(List.of(locHigh, locLow));
+
+		Assert.assertEquals(locTree.findNearest(5, (aFrom, aTo) -> aTo - aFrom), locLow, "Containing interval must win");
+		Assert.assertEquals(locTree.findNearest(12, (aFrom, aTo) -> aTo - aFrom), locLow, "Closer interval before must win");
+		Assert.assertEquals(locTree.findNearest(19, (aFrom, aTo) -> aTo - aFrom), locHigh, "Closer interval after must win");
+		Assert.assertEquals(locTree.findNearest(15, (aFrom, aTo) -> aTo - aFrom), locLow, "Interval before must win a tie");
+	}
+
+	@Test
+	public void testCustomComparator() {
+		AIcInterval<String> locInterval = new AIcInterval<>(AInIntervalBoundary.CLOSED, "a", AInIntervalBoundary.CLOSED, "c");
+		AIcIntervalTree<String, AIcInterval<String>> locTree = new AIcIntervalTree<>(String.CASE_INSENSITIVE_ORDER);
+		locTree.add(locInterval);
+
+		Assert.assertFalse(AIsIntervalUtils.contains(locInterval, "B"), "Value must not be contained in natural order");
+		Assert.assertEquals(locTree.findFirstContaining("B"), locInterval, "Value must be contained in case insensitive order");
+		Assert.assertNull(locTree.findFirstContaining("D"), "Value outside must not be contained");
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testEmptyIntervalIsRejected() {
+		new AIcIntervalTree<Integer, AIcInterval<Integer>>().add(
+				new AIcInterval<>(AInIntervalBoundary.OPEN, 1, AInIntervalBoundary.OPEN, 1)
+		);
+	}
+}
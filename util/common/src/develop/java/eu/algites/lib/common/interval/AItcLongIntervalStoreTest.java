@@ -0,0 +1,220 @@
+package eu.algites.lib.common.interval;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <p>
+ * Title: {@link AItcLongIntervalStoreTest}
+ * </p>
+ * <p>
+ * Description: TestNG tests for {@link AIcLongIntervalStore}, cross-checked against a brute force scan.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public class AItcLongIntervalStoreTest {
+
+	/* 16 rows per chunk, so that the tests span several chunks */
+	private static final int SMALL_CHUNK_SHIFT = 4;
+
+	private static AIcLongInterval randomInterval(final Random aRandom) {
+		while (true) {
+			int locLeftCode = aRandom.nextInt(3);
+			int locRightCode = aRandom.nextInt(3);
+			long locLeft = aRandom.nextInt(100);
+			long locRight = locLeft + aRandom.nextInt(10);
+			if (locLeft == locRight && (locLeftCode == AIsIntervalBoundaryFlags.OPEN || locRightCode == AIsIntervalBoundaryFlags.OPEN)) {
+				continue;
+			}
+			return new AIcLongInterval(AIsIntervalBoundaryFlags.of(locLeftCode, locRightCode), locLeft, locRight);
+		}
+	}
+
+	private static List<AIcLongInterval> randomIntervals(final Random aRandom, final int aCount) {
+		List<AIcLongInterval> locResult = new ArrayList<>(aCount);
+		for (int locIndex = 0; locIndex < aCount; locIndex++) {
+			locResult.add(randomInterval(aRandom));
+		}
+		return locResult;
+	}
+
+	private static List<AIcLongInterval> rows(final AIcLongIntervalStore aStore) {
+		List<AIcLongInterval> locResult = new ArrayList<>();
+		for (long locRow = 0; locRow < aStore.size(); locRow++) {
+			locResult.add(aStore.get(locRow));
+		}
+		return locResult;
+	}
+
+	private static void assertAgreesWithBruteForce(final AIcLongIntervalStore aStore, final Random aRandom) {
+		List<AIcLongInterval> locRows = rows(aStore);
+		for (long locValue = -2; locValue < 112; locValue++) {
+			List<Long> locExpected = new ArrayList<>();
+			for (int locRow = 0; locRow < locRows.size(); locRow++) {
+				if (AIsIntervalUtils.contains(locRows.get(locRow), locValue)) {
+					locExpected.add((long) locRow);
+				}
+			}
+			List<Long> locActual = new ArrayList<>();
+			aStore.forEachContaining(locValue, locActual::add);
+			Assert.assertEquals(locActual, locExpected, "Rows containing " + locValue + " must match");
+			Assert.assertEquals(aStore.countContaining(locValue), locExpected.size(), "Count containing " + locValue + " must match");
+		}
+		for (int locIndex = 0; locIndex < 200; locIndex++) {
+			AIcLongInterval locQuery = randomInterval(aRandom);
+			List<Long> locExpected = new ArrayList<>();
+			for (int locRow = 0; locRow < locRows.size(); locRow++) {
+				if (AIsIntervalUtils.overlaps(locRows.get(locRow), locQuery)) {
+					locExpected.add((long) locRow);
+				}
+			}
+			List<Long> locActual = new ArrayList<>();
+			aStore.forEachOverlapping(locQuery, locActual::add);
+			Assert.assertEquals(locActual, locExpected, "Rows overlapping " + locQuery + " must match");
+		}
+	}
+
+	@Test
+	public void testBulkLoadQueriesMatchBruteForce() {
+		Random locRandom = new Random(36L);
+		List<AIcLongInterval> locIntervals = randomIntervals(locRandom, 300);
+		AIcLongIntervalStore locStore = AIcLongIntervalStore.bulkLoad(locIntervals, SMALL_CHUNK_SHIFT);
+
+		Assert.assertEquals(locStore.size(), locIntervals.size(), "All intervals must be stored");
+		Assert.assertFalse(locStore.isReadOnly(), "Allocated store must be writable");
+		List<AIcLongInterval> locRows = rows(locStore);
+		List<AIcLongInterval> locExpected = new ArrayList<>(locIntervals);
+		locRows.sort(Comparator.comparing(AIcLongInterval::toString));
+		locExpected.sort(Comparator.comparing(AIcLongInterval::toString));
+		Assert.assertEquals(locRows, locExpected, "Stored rows must match the loaded intervals");
+		assertAgreesWithBruteForce(locStore, locRandom);
+	}
+
+	@Test
+	public void testUnboundedFirstRowDoesNotDisablePruning() throws IOException {
+		Random locRandom = new Random(3600L);
+		List<AIcLongInterval> locIntervals = new ArrayList<>();
+		locIntervals.add(new AIcLongInterval(AIsIntervalBoundaryFlags.of(AIsIntervalBoundaryFlags.CLOSED, AIsIntervalBoundaryFlags.UNBOUNDED), -1, 0));
+		for (int locIndex = 0; locIndex < 100_000; locIndex++) {
+			long locLeft = locIndex * 10L;
+			locIntervals.add(new AIcLongInterval(AIsIntervalBoundaryFlags.of(AIsIntervalBoundaryFlags.CLOSED, AIsIntervalBoundaryFlags.OPEN),
+					locLeft, locLeft + 1 + locRandom.nextInt(20)));
+		}
+		AIcLongIntervalStore locStore = AIcLongIntervalStore.bulkLoad(locIntervals, SMALL_CHUNK_SHIFT);
+
+		List<AIcLongInterval> locRows = rows(locStore);
+		List<Long> locExpected = null;
+		long locValue = 999_995L;
+		for (long locQueryValue : new long[] {-5, 0, 5, 40_963, 500_000, 2_000_000, locValue}) {
+			locExpected = new ArrayList<>();
+			for (int locRow = 0; locRow < locRows.size(); locRow++) {
+				if (AIsIntervalUtils.contains(locRows.get(locRow), locQueryValue)) {
+					locExpected.add((long) locRow);
+				}
+			}
+			List<Long> locActual = new ArrayList<>();
+			locStore.forEachContaining(locQueryValue, locActual::add);
+			Assert.assertEquals(locActual, locExpected, "Rows containing " + locQueryValue + " must match");
+		}
+		Assert.assertTrue(locStore.countCandidatesContaining(locValue) < 200,
+				"Only the blocks of the unbounded row and of the rows near the value may be scanned");
+
+		Path locFile = Files.createTempFile("intervals", ".store");
+		try {
+			locStore.save(locFile);
+			AIcLongIntervalStore locOpened = AIcLongIntervalStore.open(locFile);
+			Assert.assertTrue(locOpened.countCandidatesContaining(locValue) < 200, "Reopened store must keep the pruning");
+			List<Long> locOpenedActual = new ArrayList<>();
+			locOpened.forEachContaining(locValue, locOpenedActual::add);
+			Assert.assertEquals(locOpenedActual, locExpected, "Reopened store must return the same rows");
+		} finally {
+			Files.delete(locFile);
+		}
+	}
+
+	@Test
+	public void testRowAccessors() {
+		AIcLongIntervalStore locStore = AIcLongIntervalStore.allocate();
+		int locFlags = AIsIntervalBoundaryFlags.of(AIsIntervalBoundaryFlags.UNBOUNDED, AIsIntervalBoundaryFlags.OPEN);
+		locStore.append(locFlags, 7, 10);
+		locStore.append(new AIcLongInterval(AIsIntervalBoundaryFlags.of(AIsIntervalBoundaryFlags.CLOSED, AIsIntervalBoundaryFlags.UNBOUNDED), 3, 0));
+
+		Assert.assertEquals(locStore.getBoundaryFlags(0), locFlags, "Flags of the first row must be stored");
+		Assert.assertEquals(locStore.getLeftLongValue(0), 0L, "Unbounded left value must be reported as zero");
+		Assert.assertEquals(locStore.getRightLongValue(0), 10L, "Right value must be stored");
+		Assert.assertEquals(locStore.getLeftLongValue(1), 3L, "Left value must be stored");
+		Assert.assertEquals(locStore.getRightLongValue(1), 0L, "Unbounded right value must be reported as zero");
+		Assert.assertEquals(locStore.get(0), new AIcLongInterval(locFlags, 0, 10), "Row must be converted to an interval");
+		Assert.assertEquals(locStore.countContaining(5), 2L, "Both rows contain 5");
+		Assert.assertEquals(locStore.countContaining(10), 1L, "Only the second row contains 10");
+		Assert.expectThrows(IndexOutOfBoundsException.class, () -> locStore.get(2));
+	}
+
+	@Test
+	public void testAppendRejectsUnsortedAndInvalidRows() {
+		AIcLongIntervalStore locStore = AIcLongIntervalStore.allocate(SMALL_CHUNK_SHIFT);
+		locStore.append(AIsIntervalBoundaryFlags.of(AIsIntervalBoundaryFlags.CLOSED, AIsIntervalBoundaryFlags.CLOSED), 5, 6);
+
+		Assert.expectThrows(IllegalArgumentException.class,
+				() -> locStore.append(AIsIntervalBoundaryFlags.of(AIsIntervalBoundaryFlags.CLOSED, AIsIntervalBoundaryFlags.CLOSED), 4, 6));
+		Assert.expectThrows(IllegalArgumentException.class,
+				() -> locStore.append(AIsIntervalBoundaryFlags.of(AIsIntervalBoundaryFlags.UNBOUNDED, AIsIntervalBoundaryFlags.CLOSED), 0, 6));
+		Assert.expectThrows(IllegalArgumentException.class,
+				() -> locStore.append(AIsIntervalBoundaryFlags.of(AIsIntervalBoundaryFlags.OPEN, AIsIntervalBoundaryFlags.CLOSED), 8, 8));
+		Assert.expectThrows(IllegalArgumentException.class, () -> AIcLongIntervalStore.allocate(40));
+		Assert.assertEquals(locStore.size(), 1L, "Rejected rows must not be stored");
+	}
+
+	@Test
+	public void testSaveAndOpenRoundTrip() throws IOException {
+		Random locRandom = new Random(360L);
+		AIcLongIntervalStore locStore = AIcLongIntervalStore.bulkLoad(randomIntervals(locRandom, 101), SMALL_CHUNK_SHIFT);
+		Path locFile = Files.createTempFile("intervals", ".store");
+		try {
+			locStore.save(locFile);
+			AIcLongIntervalStore locOpened = AIcLongIntervalStore.open(locFile);
+
+			Assert.assertTrue(locOpened.isReadOnly(), "Opened store must be read only");
+			Assert.assertEquals(rows(locOpened), rows(locStore), "Opened rows must match the saved rows");
+			assertAgreesWithBruteForce(locOpened, locRandom);
+			Assert.expectThrows(UnsupportedOperationException.class,
+					() -> locOpened.append(AIsIntervalBoundaryFlags.BOTH_UNBOUNDED, 0, 0));
+		} finally {
+			Files.delete(locFile);
+		}
+	}
+
+	@Test
+	public void testSaveAndOpenEmptyStore() throws IOException {
+		Path locFile = Files.createTempFile("intervals", ".store");
+		try {
+			AIcLongIntervalStore.allocate().save(locFile);
+			AIcLongIntervalStore locOpened = AIcLongIntervalStore.open(locFile);
+			Assert.assertTrue(locOpened.isEmpty(), "Opened store must be empty");
+			Assert.assertEquals(locOpened.countContaining(0), 0L, "Empty store contains nothing");
+		} finally {
+			Files.delete(locFile);
+		}
+	}
+
+	@Test
+	public void testOpenRejectsForeignFile() throws IOException {
+		Path locFile = Files.createTempFile("intervals", ".store");
+		try {
+			Files.writeString(locFile, "not an interval store, just some text");
+			Assert.expectThrows(IOException.class, () -> AIcLongIntervalStore.open(locFile));
+		} finally {
+			Files.delete(locFile);
+		}
+	}
+}
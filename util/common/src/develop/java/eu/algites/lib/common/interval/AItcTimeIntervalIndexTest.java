@@ -0,0 +1,215 @@
+package eu.algites.lib.common.interval;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <p>
+ * Title: {@link AItcTimeIntervalIndexTest}
+ * </p>
+ * <p>
+ * Description: TestNG tests for {@link AIcTimeIntervalIndex}, cross-checked against a brute force scan.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public class AItcTimeIntervalIndexTest {
+
+	private static final Instant ORIGIN = Instant.parse("2026-10-19T00:00:00Z");
+
+	private static final AInIntervalBoundary[] BOUNDARIES = AInIntervalBoundary.values();
+
+	/* lengths from sub-millisecond to years, so that all levels and the overflow list are used */
+	private static final long[] LENGTH_NANOS = {
+			0, 500_000, 1_000_000, 7_000_000_000L, 60_000_000_000L, 3_600_000_000_000L, 86_400_000_000_000L, 400 * 86_400_000_000_000L
+	};
+
+	private static Instant randomInstant(final Random aRandom) {
+		return ORIGIN.plusNanos(aRandom.nextInt(4) == 0 ? aRandom.nextInt(1000) * 1_000_000L : aRandom.nextLong(2 * 86_400_000_000_000L));
+	}
+
+	private static AIcInterval<Instant> randomInterval(final Random aRandom) {
+		while (true) {
+			AInIntervalBoundary locLeftBoundary = BOUNDARIES[aRandom.nextInt(BOUNDARIES.length)];
+			AInIntervalBoundary locRightBoundary = BOUNDARIES[aRandom.nextInt(BOUNDARIES.length)];
+			if (aRandom.nextInt(5) != 0) {
+				locLeftBoundary = locLeftBoundary == AInIntervalBoundary.UNBOUNDED ? AInIntervalBoundary.CLOSED : locLeftBoundary;
+				locRightBoundary = locRightBoundary == AInIntervalBoundary.UNBOUNDED ? AInIntervalBoundary.OPEN : locRightBoundary;
+			}
+			Instant locLeft = randomInstant(aRandom);
+			long locLength = LENGTH_NANOS[aRandom.nextInt(LENGTH_NANOS.length)];
+			Instant locRight = locLeft.plusNanos(locLength == 0 ? 0 : aRandom.nextLong(locLength) + 1);
+			if (locLeft.equals(locRight) && (locLeftBoundary == AInIntervalBoundary.OPEN || locRightBoundary == AInIntervalBoundary.OPEN)) {
+				continue;
+			}
+			return new AIcInterval<>(
+					locLeftBoundary,
+					locLeftBoundary.isBoundaryValueIgnored() ? null : locLeft,
+					locRightBoundary,
+					locRightBoundary.isBoundaryValueIgnored() ? null : locRight
+			);
+		}
+	}
+
+	private static List<Instant> probes(final List<AIcInterval<Instant>> aIntervals, final Random aRandom) {
+		List<Instant> locResult = new ArrayList<>();
+		for (AIcInterval<Instant> locInterval : aIntervals) {
+			if (locInterval.getLeftValue() != null) {
+				locResult.add(locInterval.getLeftValue());
+				locResult.add(locInterval.getLeftValue().minusNanos(1));
+			}
+			if (locInterval.getRightValue() != null) {
+				locResult.add(locInterval.getRightValue());
+				locResult.add(locInterval.getRightValue().plusNanos(1));
+			}
+		}
+		for (int locIndex = 0; locIndex < 200; locIndex++) {
+			locResult.add(randomInstant(aRandom));
+		}
+		return locResult;
+	}
+
+	private static List<AIcInterval<Instant>> sorted(final List<AIcInterval<Instant>> aIntervals) {
+		List<AIcInterval<Instant>> locResult = new ArrayList<>(aIntervals);
+		locResult.sort(Comparator.comparing(AIsIntervalUtils::toStringRepresentation));
+		return locResult;
+	}
+
+	private static void assertAgreesWithBruteForce(
+			final AIcTimeIntervalIndex<Instant, AIcInterval<Instant>> aIndex,
+			final List<AIcInterval<Instant>> aIntervals,
+			final Random aRandom
+	) {
+		Assert.assertEquals(aIndex.size(), aIntervals.size(), "Size must match");
+		for (Instant locTime : probes(aIntervals, aRandom)) {
+			List<AIcInterval<Instant>> locExpected = new ArrayList<>();
+			for (AIcInterval<Instant> locInterval : aIntervals) {
+				if (AIsIntervalUtils.contains(locInterval, locTime)) {
+					locExpected.add(locInterval);
+				}
+			}
+			Assert.assertEquals(sorted(aIndex.findContaining(locTime)), sorted(locExpected), "Intervals active at " + locTime + " must match");
+			Assert.assertEquals(aIndex.isActive(locTime), !locExpected.isEmpty(), "Activity at " + locTime + " must match");
+		}
+		for (int locIndex = 0; locIndex < 300; locIndex++) {
+			AIcInterval<Instant> locWindow = randomInterval(aRandom);
+			List<AIcInterval<Instant>> locExpected = new ArrayList<>();
+			for (AIcInterval<Instant> locInterval : aIntervals) {
+				if (AIsIntervalUtils.overlaps(locInterval, locWindow)) {
+					locExpected.add(locInterval);
+				}
+			}
+			Assert.assertEquals(sorted(aIndex.findOverlapping(locWindow)), sorted(locExpected), "Intervals overlapping " + locWindow + " must match");
+		}
+	}
+
+	@Test
+	public void testQueriesAgreeWithBruteForce() {
+		Random locRandom = new Random(39L);
+		List<AIcInterval<Instant>> locIntervals = new ArrayList<>();
+		for (int locIndex = 0; locIndex < 400; locIndex++) {
+			locIntervals.add(randomInterval(locRandom));
+		}
+		AIcTimeIntervalIndex<Instant, AIcInterval<Instant>> locIndex = AIcTimeIntervalIndex.forInstants(Duration.ofMinutes(1));
+		locIndex.addAll(locIntervals.subList(0, 200));
+		for (AIcInterval<Instant> locInterval : locIntervals.subList(200, 400)) {
+			locIndex.add(locInterval);
+		}
+		assertAgreesWithBruteForce(locIndex, locIntervals, locRandom);
+
+		for (int locRemoved = 0; locRemoved < 150; locRemoved++) {
+			AIcInterval<Instant> locInterval = locIntervals.remove(locRandom.nextInt(locIntervals.size()));
+			Assert.assertTrue(locIndex.remove(locInterval), "Stored interval must be removed");
+		}
+		Assert.assertFalse(locIndex.remove(new AIcInterval<>(AInIntervalBoundary.CLOSED, ORIGIN.minusSeconds(5), AInIntervalBoundary.CLOSED, ORIGIN)),
+				"Missing interval must not be removed");
+		assertAgreesWithBruteForce(locIndex, locIntervals, locRandom);
+	}
+
+	@Test
+	public void testExpireBefore() {
+		Random locRandom = new Random(390L);
+		List<AIcInterval<Instant>> locIntervals = new ArrayList<>();
+		for (int locIndex = 0; locIndex < 300; locIndex++) {
+			locIntervals.add(randomInterval(locRandom));
+		}
+		AIcTimeIntervalIndex<Instant, AIcInterval<Instant>> locIndex = AIcTimeIntervalIndex.forInstants(Duration.ofSeconds(10));
+		locIndex.addAll(locIntervals);
+
+		Instant locNow = ORIGIN.plus(Duration.ofHours(20));
+		List<AIcInterval<Instant>> locAlive = new ArrayList<>();
+		for (AIcInterval<Instant> locInterval : locIntervals) {
+			boolean locEnded = locInterval.getRightValue() != null && (locInterval.getRightValue().isBefore(locNow)
+					|| (locInterval.getRightValue().equals(locNow) && locInterval.getRightBoundary() == AInIntervalBoundary.OPEN));
+			if (!locEnded) {
+				locAlive.add(locInterval);
+			}
+		}
+		Assert.assertEquals(locIndex.expireBefore(locNow), locIntervals.size() - locAlive.size(), "Ended intervals must be counted");
+		assertAgreesWithBruteForce(locIndex, locAlive, locRandom);
+		Assert.assertEquals(locIndex.expireBefore(locNow), 0, "Nothing more expires at the same time");
+	}
+
+	@Test
+	public void testUnboundedIntervals() {
+		Random locRandom = new Random(3900L);
+		List<AIcInterval<Instant>> locIntervals = new ArrayList<>();
+		for (int locIndex = 0; locIndex < 200; locIndex++) {
+			Instant locTime = randomInstant(locRandom);
+			AInIntervalBoundary locBoundary = locRandom.nextBoolean() ? AInIntervalBoundary.CLOSED : AInIntervalBoundary.OPEN;
+			locIntervals.add(locIndex % 2 == 0
+					? new AIcInterval<>(AInIntervalBoundary.UNBOUNDED, null, locBoundary, locTime)
+					: new AIcInterval<>(locBoundary, locTime, AInIntervalBoundary.UNBOUNDED, null));
+		}
+		locIntervals.add(new AIcInterval<>(AInIntervalBoundary.UNBOUNDED, null, AInIntervalBoundary.UNBOUNDED, null));
+		AIcTimeIntervalIndex<Instant, AIcInterval<Instant>> locIndex = AIcTimeIntervalIndex.forInstants(Duration.ofMinutes(1));
+		locIndex.addAll(locIntervals);
+		assertAgreesWithBruteForce(locIndex, locIntervals, locRandom);
+
+		for (int locRemoved = 0; locRemoved < 60; locRemoved++) {
+			AIcInterval<Instant> locInterval = locIntervals.remove(locRandom.nextInt(locIntervals.size()));
+			Assert.assertTrue(locIndex.remove(locInterval), "Stored unbounded interval must be removed");
+		}
+		assertAgreesWithBruteForce(locIndex, locIntervals, locRandom);
+
+		Instant locNow = ORIGIN.plus(Duration.ofHours(20));
+		int locEnded = 0;
+		for (AIcInterval<Instant> locInterval : locIntervals) {
+			if (locInterval.getRightValue() != null && (locInterval.getRightValue().isBefore(locNow)
+					|| (locInterval.getRightValue().equals(locNow) && locInterval.getRightBoundary() == AInIntervalBoundary.OPEN))) {
+				locEnded++;
+			}
+		}
+		Assert.assertEquals(locIndex.expireBefore(locNow), locEnded, "Ended left-unbounded intervals must expire");
+		Assert.assertEquals(locIndex.size(), locIntervals.size() - locEnded);
+	}
+
+	@Test
+	public void testLocalDateBoundaries() {
+		AIcTimeIntervalIndex<LocalDate, AIcInterval<LocalDate>> locIndex = AIcTimeIntervalIndex.forLocalDates(1);
+		AIcInterval<LocalDate> locOctober = new AIcInterval<>(AInIntervalBoundary.CLOSED, LocalDate.of(2026, 10, 1),
+				AInIntervalBoundary.OPEN, LocalDate.of(2026, 11, 1));
+		AIcInterval<LocalDate> locFromNovember = new AIcInterval<>(AInIntervalBoundary.CLOSED, LocalDate.of(2026, 11, 1),
+				AInIntervalBoundary.UNBOUNDED, null);
+		locIndex.add(locOctober);
+		locIndex.add(locFromNovember);
+
+		Assert.assertEquals(locIndex.findContaining(LocalDate.of(2026, 10, 31)), List.of(locOctober), "Last day of October is in October");
+		Assert.assertEquals(locIndex.findContaining(LocalDate.of(2026, 11, 1)), List.of(locFromNovember), "Open right endpoint is excluded");
+		Assert.assertFalse(locIndex.isActive(LocalDate.of(2026, 9, 30)), "Nothing is active before October");
+		Assert.assertEquals(locIndex.findOverlapping(new AIcInterval<>(AInIntervalBoundary.CLOSED, LocalDate.of(2026, 11, 1),
+				AInIntervalBoundary.CLOSED, LocalDate.of(2026, 11, 2))), List.of(locFromNovember), "Window must honor the boundaries");
+		Assert.expectThrows(IllegalArgumentException.class, () -> locIndex.add(new AIcInterval<>(AInIntervalBoundary.CLOSED, LocalDate.of(2026, 1, 1),
+				AInIntervalBoundary.OPEN, LocalDate.of(2026, 1, 1))));
+		Assert.expectThrows(IllegalArgumentException.class, () -> AIcTimeIntervalIndex.forLocalDates(0));
+	}
+}
@@ -0,0 +1,156 @@
+package eu.algites.lib.common.interval;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <p>
+ * Title: {@link AItsIntervalCoverageUtilsTest}
+ * </p>
+ * <p>
+ * Description: TestNG tests for {@link AIsIntervalCoverageUtils}, cross-checked against counting the intervals
+ * containing each value. The random intervals have even endpoints, so the odd values probe the open ranges between them.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public class AItsIntervalCoverageUtilsTest {
+
+	private static List<AIcInterval<Integer>> randomIntervals(final Random aRandom, final int aCount) {
+		List<AIcInterval<Integer>> locResult = new ArrayList<>(aCount);
+		for (int locIndex = 0; locIndex < aCount; locIndex++) {
+			locResult.add(AItcIntervalSetTest.randomInterval(aRandom));
+		}
+		return locResult;
+	}
+
+	private static int bruteForceDepth(final List<AIcInterval<Integer>> aIntervals, final int aValue) {
+		int locDepth = 0;
+		for (AIcInterval<Integer> locInterval : aIntervals) {
+			if (AIsIntervalUtils.contains(locInterval, aValue)) {
+				locDepth++;
+			}
+		}
+		return locDepth;
+	}
+
+	private static int coverageDepth(final List<AIrIntervalDepth<Integer>> aCoverage, final int aValue) {
+		int locDepth = 0;
+		for (AIrIntervalDepth<Integer> locSegment : aCoverage) {
+			if (AIsIntervalUtils.contains(locSegment.interval(), aValue)) {
+				Assert.assertEquals(locDepth, 0, "Coverage segments must be disjoint at " + aValue);
+				locDepth = locSegment.depth();
+			}
+		}
+		return locDepth;
+	}
+
+	private static void assertCoverage(final List<AIcInterval<Integer>> aIntervals, final List<AIrIntervalDepth<Integer>> aCoverage) {
+		for (int locValue = -3; locValue < 52; locValue++) {
+			Assert.assertEquals(coverageDepth(aCoverage, locValue), bruteForceDepth(aIntervals, locValue), "Depth at " + locValue + " must match");
+		}
+		for (int locIndex = 1; locIndex < aCoverage.size(); locIndex++) {
+			AIrIntervalDepth<Integer> locPrevious = aCoverage.get(locIndex - 1);
+			AIrIntervalDepth<Integer> locNext = aCoverage.get(locIndex);
+			Assert.assertTrue(AIsIntervalUtils.isStrictlyBefore(locPrevious.interval(), locNext.interval()), "Segments must be sorted: " + aCoverage);
+			Assert.assertTrue(locPrevious.depth() != locNext.depth() || AIsIntervalUtils.isSeparated(locPrevious.interval(), locNext.interval(),
+					AIsIntervalUtils.naturalOrder()), "Touching segments of an equal depth must be merged: " + aCoverage);
+		}
+	}
+
+	@Test
+	public void testCoverageAgreesWithBruteForce() {
+		Random locRandom = new Random(37L);
+		for (int locRound = 0; locRound < 50; locRound++) {
+			List<AIcInterval<Integer>> locIntervals = randomIntervals(locRandom, 1 + locRandom.nextInt(30));
+			assertCoverage(locIntervals, AIsIntervalCoverageUtils.coverage(locIntervals));
+
+			int locExpectedMax = 0;
+			for (int locValue = -3; locValue < 52; locValue++) {
+				locExpectedMax = Math.max(locExpectedMax, bruteForceDepth(locIntervals, locValue));
+			}
+			AIrIntervalDepth<Integer> locMax = AIsIntervalCoverageUtils.maxDepth(locIntervals);
+			Assert.assertNotNull(locMax, "Maximal depth must be found");
+			Assert.assertEquals(locMax.depth(), locExpectedMax, "Maximal depth must match");
+			AIrIntervalDepth<Integer> locFirstMax = AIsIntervalCoverageUtils.coverage(locIntervals).stream()
+					.filter(aSegment -> aSegment.depth() == locMax.depth())
+					.findFirst()
+					.orElseThrow();
+			Assert.assertEquals(locMax.toString(), locFirstMax.toString(), "First segment of the maximal depth must be reported");
+		}
+	}
+
+	@Test
+	public void testParallelVariantsAgreeWithSequential() {
+		Random locRandom = new Random(370L);
+		ForkJoinPool locPool = new ForkJoinPool(4);
+		try {
+			for (int locPartitions : new int[] {1, 2, 7, 64, 1000}) {
+				List<AIcInterval<Integer>> locIntervals = randomIntervals(locRandom, 200);
+				Assert.assertEquals(
+						AIsIntervalCoverageUtils.parallelCoverage(locIntervals, Comparator.<Integer>naturalOrder(), locPool, locPartitions).toString(),
+						AIsIntervalCoverageUtils.coverage(locIntervals).toString(),
+						"Parallel coverage must match for " + locPartitions + " partitions");
+				Assert.assertEquals(
+						String.valueOf(AIsIntervalCoverageUtils.parallelMaxDepth(locIntervals, Comparator.<Integer>naturalOrder(), locPool, locPartitions)),
+						String.valueOf(AIsIntervalCoverageUtils.maxDepth(locIntervals)),
+						"Parallel maximal depth must match for " + locPartitions + " partitions");
+			}
+			Assert.assertTrue(AIsIntervalCoverageUtils.parallelCoverage(List.<AIcInterval<Integer>>of(), Comparator.<Integer>naturalOrder(), locPool, 4).isEmpty(),
+					"Nothing is covered by no intervals");
+			Assert.assertNull(AIsIntervalCoverageUtils.parallelMaxDepth(List.<AIcInterval<Integer>>of(), Comparator.<Integer>naturalOrder(), locPool, 4),
+					"No intervals have no maximal depth");
+		} finally {
+			locPool.shutdown();
+		}
+	}
+
+	@Test
+	public void testGapsAgreeWithBruteForce() {
+		Random locRandom = new Random(3700L);
+		for (int locRound = 0; locRound < 50; locRound++) {
+			List<AIcInterval<Integer>> locIntervals = randomIntervals(locRandom, locRandom.nextInt(10));
+			AIcInterval<Integer> locBounds = AItcIntervalSetTest.randomInterval(locRandom);
+			List<AIcOrderedInterval<Integer>> locGaps = AIsIntervalCoverageUtils.gaps(locIntervals, locBounds);
+			for (int locValue = -3; locValue < 52; locValue++) {
+				boolean locExpected = AIsIntervalUtils.contains(locBounds, locValue) && bruteForceDepth(locIntervals, locValue) == 0;
+				int locValueFinal = locValue;
+				long locGapCount = locGaps.stream().filter(aGap -> aGap.contains(locValueFinal)).count();
+				Assert.assertEquals(locGapCount, locExpected ? 1L : 0L, "Gap at " + locValue + " must match for " + locIntervals + " within " + locBounds);
+			}
+		}
+	}
+
+	@Test
+	public void testBoundarySemantics() {
+		List<AIcInterval<Integer>> locAdjacent = List.of(
+				new AIcInterval<>(AInIntervalBoundary.CLOSED, 1, AInIntervalBoundary.OPEN, 3),
+				new AIcInterval<>(AInIntervalBoundary.CLOSED, 3, AInIntervalBoundary.CLOSED, 5)
+		);
+		Assert.assertEquals(AIsIntervalCoverageUtils.coverage(locAdjacent).toString(), "[[1, 5]=1]", "Adjacent intervals must form one segment");
+		Assert.assertEquals(AIsIntervalCoverageUtils.maxDepth(locAdjacent).depth(), 1, "Adjacent intervals do not overlap");
+
+		List<AIcInterval<Integer>> locTouching = List.of(
+				new AIcInterval<>(AInIntervalBoundary.OPEN, 1, AInIntervalBoundary.CLOSED, 3),
+				new AIcInterval<>(AInIntervalBoundary.CLOSED, 3, AInIntervalBoundary.OPEN, 5),
+				new AIcInterval<>(AInIntervalBoundary.CLOSED, 6, AInIntervalBoundary.UNBOUNDED, null)
+		);
+		Assert.assertEquals(AIsIntervalCoverageUtils.coverage(locTouching).toString(), "[(1, 3)=1, [3, 3]=2, (3, 5)=1, [6, *)=1]",
+				"Intervals sharing a closed endpoint must overlap in it");
+		Assert.assertEquals(AIsIntervalCoverageUtils.maxDepth(locTouching).toString(), "[3, 3]=2", "Maximal depth must be reached in the shared endpoint");
+		Assert.assertEquals(
+				AIsIntervalCoverageUtils.gaps(locTouching, new AIcInterval<>(AInIntervalBoundary.CLOSED, 0, AInIntervalBoundary.CLOSED, 10)).toString(),
+				"[[0, 1], [5, 6)]",
+				"Uncovered parts of the bounds must be reported");
+		Assert.assertNull(AIsIntervalCoverageUtils.maxDepth(List.<AIcInterval<Integer>>of()), "No intervals have no maximal depth");
+		Assert.expectThrows(IllegalArgumentException.class, () -> AIsIntervalCoverageUtils.coverage(List.of(
+				new AIcInterval<>(AInIntervalBoundary.CLOSED, 1, AInIntervalBoundary.OPEN, 1))));
+	}
+}
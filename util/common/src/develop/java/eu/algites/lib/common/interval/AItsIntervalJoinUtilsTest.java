@@ -0,0 +1,121 @@
+package eu.algites.lib.common.interval;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <p>
+ * Title: {@link AItsIntervalJoinUtilsTest}
+ * </p>
+ * <p>
+ * Description: TestNG tests for {@link AIsIntervalJoinUtils}, cross-checked against a nested loop.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public class AItsIntervalJoinUtilsTest {
+
+	private static List<AIcInterval<Integer>> randomIntervals(final Random aRandom, final int aCount) {
+		List<AIcInterval<Integer>> locResult = new ArrayList<>(aCount);
+		for (int locIndex = 0; locIndex < aCount; locIndex++) {
+			AIcInterval<Integer> locInterval = AItcIntervalSetTest.randomInterval(aRandom);
+			if (aRandom.nextInt(50) == 0 && !locInterval.getLeftBoundary().isBoundaryValueIgnored()) {
+				/* a few long intervals are carried over many partitions */
+				locInterval = new AIcInterval<>(locInterval.getLeftBoundary(), locInterval.getLeftValue(), AInIntervalBoundary.CLOSED, 100);
+			}
+			locResult.add(locInterval);
+		}
+		return locResult;
+	}
+
+	private static List<Long> expectedPairs(final List<AIcInterval<Integer>> aLeft, final List<AIcInterval<Integer>> aRight) {
+		List<Long> locResult = new ArrayList<>();
+		for (int locLeftIndex = 0; locLeftIndex < aLeft.size(); locLeftIndex++) {
+			for (int locRightIndex = 0; locRightIndex < aRight.size(); locRightIndex++) {
+				if (AIsIntervalUtils.overlaps(aLeft.get(locLeftIndex), aRight.get(locRightIndex))) {
+					locResult.add(pairKey(locLeftIndex, locRightIndex));
+				}
+			}
+		}
+		Collections.sort(locResult);
+		return locResult;
+	}
+
+	private static long pairKey(final int aLeftIndex, final int aRightIndex) {
+		return (long) aLeftIndex << 32 | aRightIndex;
+	}
+
+	private static Map<AIcInterval<Integer>, Integer> indexes(final List<AIcInterval<Integer>> aIntervals) {
+		Map<AIcInterval<Integer>, Integer> locResult = new IdentityHashMap<>();
+		for (int locIndex = 0; locIndex < aIntervals.size(); locIndex++) {
+			locResult.put(aIntervals.get(locIndex), locIndex);
+		}
+		return locResult;
+	}
+
+	@Test
+	public void testJoinAgreesWithNestedLoop() {
+		Random locRandom = new Random(35L);
+		for (int locRound = 0; locRound < 20; locRound++) {
+			List<AIcInterval<Integer>> locLeft = randomIntervals(locRandom, 300);
+			List<AIcInterval<Integer>> locRight = randomIntervals(locRandom, 200);
+			Map<AIcInterval<Integer>, Integer> locLeftIndexes = indexes(locLeft);
+			Map<AIcInterval<Integer>, Integer> locRightIndexes = indexes(locRight);
+
+			List<Long> locActual = new ArrayList<>();
+			AIsIntervalJoinUtils.join(locLeft, locRight,
+					(aLeft, aRight) -> locActual.add(pairKey(locLeftIndexes.get(aLeft), locRightIndexes.get(aRight))));
+			Collections.sort(locActual);
+			Assert.assertEquals(locActual, expectedPairs(locLeft, locRight), "Joined pairs must match the nested loop");
+		}
+	}
+
+	@Test
+	public void testParallelJoinAgreesWithNestedLoop() {
+		Random locRandom = new Random(36L);
+		ForkJoinPool locPool = new ForkJoinPool(4);
+		try {
+			for (int locPartitions : new int[] {1, 3, 17, 1000}) {
+				List<AIcInterval<Integer>> locLeft = randomIntervals(locRandom, 400);
+				List<AIcInterval<Integer>> locRight = randomIntervals(locRandom, 300);
+				Map<AIcInterval<Integer>, Integer> locLeftIndexes = indexes(locLeft);
+				Map<AIcInterval<Integer>, Integer> locRightIndexes = indexes(locRight);
+
+				List<Long> locActual = Collections.synchronizedList(new ArrayList<>());
+				AIsIntervalJoinUtils.parallelJoin(locLeft, locRight, Comparator.<Integer>naturalOrder(), locPool, locPartitions,
+						(aLeft, aRight) -> locActual.add(pairKey(locLeftIndexes.get(aLeft), locRightIndexes.get(aRight))));
+				List<Long> locSorted = new ArrayList<>(locActual);
+				Collections.sort(locSorted);
+				Assert.assertEquals(locSorted, expectedPairs(locLeft, locRight), "Joined pairs must match for " + locPartitions + " partitions");
+			}
+		} finally {
+			locPool.shutdown();
+		}
+	}
+
+	@Test
+	public void testJoinIntersections() {
+		List<AIcInterval<Integer>> locUsage = List.of(
+				new AIcInterval<>(AInIntervalBoundary.CLOSED, 0, AInIntervalBoundary.OPEN, 10),
+				new AIcInterval<>(AInIntervalBoundary.CLOSED, 20, AInIntervalBoundary.OPEN, 30));
+		List<AIcInterval<Integer>> locPricing = List.of(
+				new AIcInterval<>(AInIntervalBoundary.CLOSED, 5, AInIntervalBoundary.OPEN, 25),
+				new AIcInterval<>(AInIntervalBoundary.CLOSED, 10, AInIntervalBoundary.OPEN, 20));
+
+		List<String> locActual = new ArrayList<>();
+		AIsIntervalJoinUtils.joinIntersections(locUsage, locPricing, Comparator.<Integer>naturalOrder(),
+				(aUsage, aPricing, aIntersection) -> locActual.add(aIntersection.toString()));
+		Collections.sort(locActual);
+		Assert.assertEquals(locActual, List.of("[20, 25)", "[5, 10)"), "Intersections must be reported for overlapping pairs only");
+	}
+}
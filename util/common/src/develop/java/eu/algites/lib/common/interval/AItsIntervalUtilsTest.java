@@ -1,5 +1,8 @@
 package eu.algites.lib.common.interval;
 
+import java.util.Comparator;
+import java.util.Random;
+
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -306,4 +309,139 @@ public class AItsIntervalUtilsTest {
 
 		Assert.assertEquals(AIsIntervalUtils.toStringRepresentation(locRightUnbounded), "[1, *)", "Unbounded-right string representation must match");
 	}
+	private static final AInIntervalBoundary[] BOUNDARIES = AInIntervalBoundary.values();
+
+	private static AIcLongInterval randomLongInterval(final Random aRandom) {
+		while (true) {
+			AInIntervalBoundary locLeftBoundary = BOUNDARIES[aRandom.nextInt(BOUNDARIES.length)];
+			AInIntervalBoundary locRightBoundary = BOUNDARIES[aRandom.nextInt(BOUNDARIES.length)];
+			long locLeft = aRandom.nextInt(8);
+			long locRight = locLeft + aRandom.nextInt(4);
+			if (locLeft == locRight && (locLeftBoundary == AInIntervalBoundary.OPEN || locRightBoundary == AInIntervalBoundary.OPEN)) {
+				continue;
+			}
+			return new AIcLongInterval(locLeftBoundary, locLeft, locRightBoundary, locRight);
+		}
+	}
+
+	private static AIcInterval<Long> boxed(final AIiLongInterval aInterval) {
+		return new AIcInterval<>(aInterval.getLeftBoundary(), aInterval.getLeftValue(), aInterval.getRightBoundary(), aInterval.getRightValue());
+	}
+
+	@Test
+	public void testBoundaryFlagsRoundTrip() {
+		for (AInIntervalBoundary locLeft : BOUNDARIES) {
+			for (AInIntervalBoundary locRight : BOUNDARIES) {
+				int locFlags = AIsIntervalBoundaryFlags.of(locLeft, locRight);
+				Assert.assertTrue(locFlags >= 0 && locFlags < 16, "Flags must fit into a nibble");
+				Assert.assertEquals(AIsIntervalBoundaryFlags.leftBoundary(locFlags), locLeft, "Left boundary must round-trip");
+				Assert.assertEquals(AIsIntervalBoundaryFlags.rightBoundary(locFlags), locRight, "Right boundary must round-trip");
+			}
+		}
+	}
+
+	@Test
+	public void testLongIntervalOperationsAgreeWithGenericOnes() {
+		Random locRandom = new Random(31L);
+		for (int locIndex = 0; locIndex < 20_000; locIndex++) {
+			AIcLongInterval locFirst = randomLongInterval(locRandom);
+			AIcLongInterval locSecond = randomLongInterval(locRandom);
+			AIcInterval<Long> locBoxedFirst = boxed(locFirst);
+			AIcInterval<Long> locBoxedSecond = boxed(locSecond);
+			long locValue = locRandom.nextInt(12) - 1;
+
+			Assert.assertEquals(AIsIntervalUtils.contains(locFirst, locValue), AIsIntervalUtils.contains(locBoxedFirst, Long.valueOf(locValue)),
+					"contains must agree for " + locFirst + " and " + locValue);
+			Assert.assertEquals(AIsIntervalUtils.overlaps(locFirst, locSecond), AIsIntervalUtils.overlaps(locBoxedFirst, locBoxedSecond),
+					"overlaps must agree for " + locFirst + " and " + locSecond);
+			Assert.assertEquals(AIsIntervalUtils.tryIntersect(locFirst, locSecond), AIsIntervalUtils.tryIntersect(locBoxedFirst, locBoxedSecond),
+					"tryIntersect must agree for " + locFirst + " and " + locSecond);
+			Assert.assertEquals(Integer.signum(AIsIntervalUtils.compare(locFirst, locSecond)),
+					Integer.signum(AIsIntervalUtils.compare(locBoxedFirst, locBoxedSecond)),
+					"compare must agree for " + locFirst + " and " + locSecond);
+			Assert.assertEquals(AIsIntervalUtils.isStrictlyBefore(locFirst, locSecond), AIsIntervalUtils.isStrictlyBefore(locBoxedFirst, locBoxedSecond),
+					"isStrictlyBefore must agree for " + locFirst + " and " + locSecond);
+		}
+	}
+
+	@Test
+	public void testPrimitiveIntervalsEqualBoxedIntervals() {
+		AIcLongInterval locLong = new AIcLongInterval(AInIntervalBoundary.CLOSED, 5L, AInIntervalBoundary.UNBOUNDED, 99L);
+		AIcInterval<Long> locBoxed = new AIcInterval<>(AInIntervalBoundary.CLOSED, 5L, AInIntervalBoundary.UNBOUNDED, null);
+
+		Assert.assertEquals(locLong, locBoxed, "Primitive interval must equal the boxed one");
+		Assert.assertEquals(locBoxed, locLong, "Equality must be symmetric");
+		Assert.assertEquals(locLong.hashCode(), locBoxed.hashCode(), "Hash codes must match");
+		Assert.assertEquals(locLong.toString(), "[5, *)", "String representation must use boundary symbols");
+
+		AIcIntInterval locInt = new AIcIntInterval(AInIntervalBoundary.OPEN, 1, AInIntervalBoundary.CLOSED, 3);
+		Assert.assertEquals(locInt.hashCode(), new AIcInterval<>(AInIntervalBoundary.OPEN, 1, AInIntervalBoundary.CLOSED, 3).hashCode(),
+				"Int interval hash code must match the boxed one");
+	}
+
+	@Test
+	public void testIntAndDoubleIntervalOperations() {
+		AIcIntInterval locFirst = new AIcIntInterval(AInIntervalBoundary.CLOSED, 1, AInIntervalBoundary.OPEN, 5);
+		AIcIntInterval locSecond = new AIcIntInterval(AInIntervalBoundary.OPEN, 3, AInIntervalBoundary.UNBOUNDED, 0);
+
+		Assert.assertTrue(AIsIntervalUtils.contains(locFirst, 1), "Closed left boundary must contain its value");
+		Assert.assertFalse(AIsIntervalUtils.contains(locFirst, 5), "Open right boundary must not contain its value");
+		Assert.assertEquals(AIsIntervalUtils.intersect(locFirst, locSecond),
+				new AIcIntInterval(AInIntervalBoundary.OPEN, 3, AInIntervalBoundary.OPEN, 5), "Intersection must take the inner endpoints");
+
+		AIcDoubleInterval locDouble = new AIcDoubleInterval(AInIntervalBoundary.CLOSED, -0.0, AInIntervalBoundary.CLOSED, 1.5);
+		Assert.assertFalse(AIsIntervalUtils.contains(locDouble, -0.1), "Value below the interval must not be contained");
+		Assert.assertTrue(AIsIntervalUtils.contains(locDouble, 1.5), "Closed right boundary must contain its value");
+		Assert.assertFalse(AIsIntervalUtils.contains(locDouble, Double.NaN), "NaN is ordered above all values and must not be contained");
+		Assert.assertTrue(AIsIntervalUtils.isStrictlyBefore(locDouble,
+				new AIcDoubleInterval(AInIntervalBoundary.OPEN, 1.5, AInIntervalBoundary.UNBOUNDED, 0.0)), "Touching open boundary must be a gap");
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testDoubleIntervalRejectsNaN() {
+		new AIcDoubleInterval(AInIntervalBoundary.CLOSED, Double.NaN, AInIntervalBoundary.UNBOUNDED, 0.0);
+	}
+
+	@Test
+	public void testComparatorOverloadsAgreeWithNaturalOrder() {
+		Random locRandom = new Random(34L);
+		Comparator<Long> locComparator = Long::compare;
+		for (int locIndex = 0; locIndex < 20_000; locIndex++) {
+			AIcInterval<Long> locFirst = boxed(randomLongInterval(locRandom));
+			AIcInterval<Long> locSecond = boxed(randomLongInterval(locRandom));
+			long locValue = locRandom.nextInt(12) - 1;
+
+			Assert.assertEquals(AIsIntervalUtils.contains(locFirst, locValue, locComparator), AIsIntervalUtils.contains(locFirst, locValue),
+					"contains must agree for " + locFirst + " and " + locValue);
+			Assert.assertEquals(AIsIntervalUtils.overlaps(locFirst, locSecond, locComparator), AIsIntervalUtils.overlaps(locFirst, locSecond),
+					"overlaps must agree for " + locFirst + " and " + locSecond);
+			Assert.assertEquals(AIsIntervalUtils.tryIntersect(locFirst, locSecond, locComparator), AIsIntervalUtils.tryIntersect(locFirst, locSecond),
+					"tryIntersect must agree for " + locFirst + " and " + locSecond);
+			Assert.assertEquals(AIsIntervalUtils.compare(locFirst, locSecond, locComparator), AIsIntervalUtils.compare(locFirst, locSecond),
+					"compare must agree for " + locFirst + " and " + locSecond);
+			Assert.assertEquals(AIsIntervalUtils.isStrictlyBefore(locFirst, locSecond, locComparator),
+					AIsIntervalUtils.isStrictlyBefore(locFirst, locSecond), "isStrictlyBefore must agree for " + locFirst + " and " + locSecond);
+		}
+	}
+
+	@Test
+	public void testOrderedIntervalUsesItsComparator() {
+		AIcOrderedInterval<String> locInterval = new AIcOrderedInterval<>(
+				AInIntervalBoundary.CLOSED, "a", AInIntervalBoundary.OPEN, "C", String.CASE_INSENSITIVE_ORDER);
+
+		Assert.assertTrue(locInterval.contains("B"), "Value must be contained in case insensitive order");
+		Assert.assertFalse(locInterval.contains("c"), "Open right boundary must not contain an equal value");
+
+		AIcOrderedInterval<String> locIntersection = locInterval.intersect(
+				new AIcInterval<>(AInIntervalBoundary.OPEN, "b", AInIntervalBoundary.UNBOUNDED, null));
+		Assert.assertEquals(locIntersection.toString(), "(b, C)", "Intersection must take the inner endpoints");
+		Assert.assertSame(locIntersection.getComparator(), String.CASE_INSENSITIVE_ORDER, "Intersection must keep the comparator");
+		Assert.assertNull(locInterval.tryIntersect(new AIcInterval<>(AInIntervalBoundary.CLOSED, "c", AInIntervalBoundary.CLOSED, "d")),
+				"Intervals touching at an open boundary must not intersect");
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testOrderedIntervalIsValidatedByItsComparator() {
+		new AIcOrderedInterval<>(AInIntervalBoundary.CLOSED, 1, AInIntervalBoundary.CLOSED, 2, Comparator.<Integer>reverseOrder());
+	}
 }
@@ -0,0 +1,152 @@
+package eu.algites.lib.common.enums.uiddata;
+
+import static eu.algites.lib.common.enums.uiddata.AIsUidEnumDataUtils.NAMESPACE_UID_POSITION;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Title: {@link AIcParsedUid}
+ * </p>
+ * <p>
+ * Description: Validated UID parsed by {@link AIcUidParser}. It keeps the UID and the offsets of its parts only,
+ *    the parts are copied into strings just when they are requested by {@link #part(int)} or {@link #parts()}.
+ * </p>
+ * <p>
+ * Copyright: Copyright (c) 2026 Artur Linhart, Algites
+ * </p>
+ * <p>
+ * Company: Algites
+ * </p>
+ *
+ * @param <O> type of the origin
+ * @author linhart1
+ * @date 19.10.26
+ */
+public final class AIcParsedUid<O extends AIiUidEnumDataOrigin> {
+
+	private final CharSequence uid;
+	private final O origin;
+
+	/** Positions of the separators between the parts */
+	private final int[] separators;
+
+	AIcParsedUid(@Nonnull final CharSequence aUid, @Nonnull final O aOrigin, @Nonnull final int[] aSeparators) {
+		uid = aUid;
+		origin = aOrigin;
+		separators = aSeparators;
+	}
+
+	/**
+	 * Gets the parsed UID.
+	 * @return the UID
+	 */
+	public CharSequence uid() {
+		return uid;
+	}
+
+	/**
+	 * Gets the resolved origin of the UID.
+	 * @return the origin
+	 */
+	public O origin() {
+		return origin;
+	}
+
+	/**
+	 * Gets the count of the parts of the UID.
+	 * @return the count of the parts, see {@link AIiUidEnumDataType#getUidPartCount()}
+	 */
+	public int partCount() {
+		return separators.length + 1;
+	}
+
+	/**
+	 * Gets the start of the part.
+	 * @param aPosition position of the part, e.g. {@link AIsUidEnumDataUtils#NAMESPACE_UID_POSITION}
+	 * @return index of the first character of the part in the UID
+	 * @throws IndexOutOfBoundsException if there is no part on the given position
+	 */
+	public int partStart(final int aPosition) {
+		return aPosition == 0 ? 0 : separators[aPosition - 1] + 1;
+	}
+
+	/**
+	 * Gets the end of the part.
+	 * @param aPosition position of the part, e.g. {@link AIsUidEnumDataUtils#NAMESPACE_UID_POSITION}
+	 * @return index after the last character of the part in the UID
+	 * @throws IndexOutOfBoundsException if there is no part on the given position
+	 */
+	public int partEnd(final int aPosition) {
+		return aPosition == separators.length ? uid.length() : separators[aPosition];
+	}
+
+	/**
+	 * Gets the length of the part.
+	 * @param aPosition position of the part
+	 * @return length of the part
+	 * @throws IndexOutOfBoundsException if there is no part on the given position
+	 */
+	public int partLength(final int aPosition) {
+		return partEnd(aPosition) - partStart(aPosition);
+	}
+
+	/**
+	 * Compares the part with the given text without creating a substring.
+	 * @param aPosition position of the part
+	 * @param aText text to be compared
+	 * @return true if the part is equal to the text
+	 * @throws IndexOutOfBoundsException if there is no part on the given position
+	 */
+	public boolean partEquals(final int aPosition, @Nonnull final CharSequence aText) {
+		final int locStart = partStart(aPosition);
+		final int locLength = partEnd(aPosition) - locStart;
+		if (locLength != aText.length()) {
+			return false;
+		}
+		for (int locIndex = 0; locIndex < locLength; locIndex++) {
+			if (uid.charAt(locStart + locIndex) != aText.charAt(locIndex)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the part as a string.
+	 * @param aPosition position of the part
+	 * @return the part
+	 * @throws IndexOutOfBoundsException if there is no part on the given position
+	 */
+	public String part(final int aPosition) {
+		return uid.subSequence(partStart(aPosition), partEnd(aPosition)).toString();
+	}
+
+	/**
+	 * Gets the namespace part.
+	 * @return the namespace, empty for the origins not using the namespace
+	 */
+	public String namespace() {
+		return part(NAMESPACE_UID_POSITION);
+	}
+
+	/**
+	 * Gets all parts as strings, in the form passed to {@link AIiUidEnumDataType#getUidRecordFactory()}.
+	 * @return unmodifiable list of the parts
+	 */
+	public List<String> parts() {
+		final List<String> locParts = new ArrayList<>(partCount());
+		for (int locPosition = 0; locPosition < partCount(); locPosition++) {
+			locParts.add(part(locPosition));
+		}
+		return List.copyOf(locParts);
+	}
+
+	@Override
+	public String toString() {
+		return uid.toString();
+	}
+}
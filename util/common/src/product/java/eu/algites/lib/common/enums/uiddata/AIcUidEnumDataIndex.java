@@ -0,0 +1,235 @@
+package eu.algites.lib.common.enums.uiddata;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+/**
+ * <p>
+ * Title: {@link AIcUidEnumDataIndex}
+ * </p>
+ * <p>
+ * Description: Immutable secondary index of the items of a single data type registered in {@link AIcUidEnumDataRegistry},
+ *    kept for a published snapshot of the registry. For each UID part position it keeps the ids of the items
+ *    sorted by the value of the part, so the items with a given part value or part prefix form a contiguous range
+ *    returned as a list view without copying.
+ * </p>
+ * <p>
+ * The index holds only the ids and the part values, the items are resolved by the caller on access, so the lazily
+ * loaded items are not created by the index. A new snapshot gets its index by {@link #update(BitSet, int[], IntFunction)},
+ * which merges the added and released ids of a publication into the sorted ranges, so only the UIDs of the added
+ * items are needed and a publication of k changes costs O(n + k log k) per part position.
+ * </p>
+ * <p>
+ * Copyright: Copyright (c) 2026 Artur Linhart, Algites
+ * </p>
+ * <p>
+ * Company: Algites
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+final class AIcUidEnumDataIndex {
+
+	/** Values of the parts for each part position, sorted */
+	private final String[][] sortedValues;
+
+	/** Ids of the items for each part position in the order of {@link #sortedValues}, ascending for the equal values */
+	private final int[][] sortedIds;
+
+	private AIcUidEnumDataIndex(final String[][] aSortedValues, final int[][] aSortedIds) {
+		sortedValues = aSortedValues;
+		sortedIds = aSortedIds;
+	}
+
+	/**
+	 * Creates the index without any item.
+	 * @param aPartCount count of the UID parts of the data type
+	 * @return the empty index
+	 */
+	static AIcUidEnumDataIndex empty(final int aPartCount) {
+		final String[][] locSortedValues = new String[aPartCount][];
+		final int[][] locSortedIds = new int[aPartCount][];
+		Arrays.fill(locSortedValues, new String[0]);
+		Arrays.fill(locSortedIds, new int[0]);
+		return new AIcUidEnumDataIndex(locSortedValues, locSortedIds);
+	}
+
+	/**
+	 * Creates the index of the next snapshot. This index is not modified.
+	 * @param aReleasedIds ids of the items contained in this index, which are no longer registered
+	 * @param aAddedIds ids of the items not contained in this index, which are registered now
+	 * @param aParsedUidById parsed UIDs of the added items by their ids
+	 * @return the updated index
+	 */
+	AIcUidEnumDataIndex update(
+			@Nonnull final BitSet aReleasedIds,
+			@Nonnull final int[] aAddedIds,
+			@Nonnull final IntFunction<AIcParsedUid<?>> aParsedUidById
+	) {
+
+		if (aReleasedIds.isEmpty() && aAddedIds.length == 0) {
+			return this;
+		}
+
+		final AIcParsedUid<?>[] locAddedUids = new AIcParsedUid<?>[aAddedIds.length];
+		for (int locIndex = 0; locIndex < aAddedIds.length; locIndex++) {
+			locAddedUids[locIndex] = aParsedUidById.apply(aAddedIds[locIndex]);
+		}
+
+		final int locPartCount = sortedValues.length;
+		final String[][] locSortedValues = new String[locPartCount][];
+		final int[][] locSortedIds = new int[locPartCount][];
+		for (int locPosition = 0; locPosition < locPartCount; locPosition++) {
+			final int locFinalPosition = locPosition;
+			final String[] locAddedValues = new String[aAddedIds.length];
+			final Integer[] locAddedOrder = new Integer[aAddedIds.length];
+			for (int locIndex = 0; locIndex < aAddedIds.length; locIndex++) {
+				locAddedValues[locIndex] = locAddedUids[locIndex].part(locFinalPosition);
+				locAddedOrder[locIndex] = locIndex;
+			}
+			Arrays.sort(locAddedOrder, Comparator.<Integer, String>comparing(aIndex -> locAddedValues[aIndex])
+					.thenComparingInt(aIndex -> aAddedIds[aIndex]));
+
+			final String[] locOldValues = sortedValues[locPosition];
+			final int[] locOldIds = sortedIds[locPosition];
+			final int locCount = locOldIds.length - aReleasedIds.cardinality() + aAddedIds.length;
+			final String[] locValues = new String[locCount];
+			final int[] locIds = new int[locCount];
+			int locOld = 0;
+			int locAdded = 0;
+			int locTarget = 0;
+			while (locTarget < locCount) {
+				while (locOld < locOldIds.length && aReleasedIds.get(locOldIds[locOld])) {
+					locOld++;
+				}
+				final boolean locTakeOld;
+				if (locAdded == aAddedIds.length) {
+					locTakeOld = true;
+				} else if (locOld == locOldIds.length) {
+					locTakeOld = false;
+				} else {
+					final int locAddedIndex = locAddedOrder[locAdded];
+					final int locCmp = locOldValues[locOld].compareTo(locAddedValues[locAddedIndex]);
+					locTakeOld = locCmp < 0 || (locCmp == 0 && locOldIds[locOld] < aAddedIds[locAddedIndex]);
+				}
+				if (locTakeOld) {
+					locValues[locTarget] = locOldValues[locOld];
+					locIds[locTarget] = locOldIds[locOld];
+					locOld++;
+				} else {
+					final int locAddedIndex = locAddedOrder[locAdded++];
+					locValues[locTarget] = locAddedValues[locAddedIndex];
+					locIds[locTarget] = aAddedIds[locAddedIndex];
+				}
+				locTarget++;
+			}
+			locSortedValues[locPosition] = locValues;
+			locSortedIds[locPosition] = locIds;
+		}
+		return new AIcUidEnumDataIndex(locSortedValues, locSortedIds);
+	}
+
+	/**
+	 * Gets the items with the given value of the part.
+	 * @param aPosition position of the part
+	 * @param aValue value of the part
+	 * @param aItemById resolver of the items by their ids
+	 * @return view of the items in the order of their ids
+	 * @param <T> type of the items
+	 */
+	<T> List<T> withPart(final int aPosition, @Nonnull final String aValue, @Nonnull final IntFunction<? extends T> aItemById) {
+		final String[] locValues = sortedValues[aPosition];
+		return new AIcItemsView<>(aItemById, sortedIds[aPosition], lowerBound(locValues, aValue), upperBound(locValues, aValue));
+	}
+
+	/**
+	 * Gets the items with the part starting by the given prefix.
+	 * @param aPosition position of the part
+	 * @param aPrefix prefix of the part
+	 * @param aItemById resolver of the items by their ids
+	 * @return view of the items in the order of the part values and then of their ids
+	 * @param <T> type of the items
+	 */
+	<T> List<T> withPartPrefix(final int aPosition, @Nonnull final String aPrefix, @Nonnull final IntFunction<? extends T> aItemById) {
+		final String[] locValues = sortedValues[aPosition];
+		/* the allowed UID characters are ASCII, so no part value following the prefix starts by the maximal character */
+		return new AIcItemsView<>(aItemById, sortedIds[aPosition],
+				lowerBound(locValues, aPrefix), lowerBound(locValues, aPrefix + Character.MAX_VALUE));
+	}
+
+	private static int lowerBound(final String[] aValues, final String aValue) {
+		int locLow = 0;
+		int locHigh = aValues.length;
+		while (locLow < locHigh) {
+			final int locMiddle = (locLow + locHigh) >>> 1;
+			if (aValues[locMiddle].compareTo(aValue) < 0) {
+				locLow = locMiddle + 1;
+			} else {
+				locHigh = locMiddle;
+			}
+		}
+		return locLow;
+	}
+
+	private static int upperBound(final String[] aValues, final String aValue) {
+		int locLow = 0;
+		int locHigh = aValues.length;
+		while (locLow < locHigh) {
+			final int locMiddle = (locLow + locHigh) >>> 1;
+			if (aValues[locMiddle].compareTo(aValue) <= 0) {
+				locLow = locMiddle + 1;
+			} else {
+				locHigh = locMiddle;
+			}
+		}
+		return locLow;
+	}
+
+	/**
+	 * Unmodifiable view of the items with the ids from a range of an id array.
+	 * @param <T> type of the items
+	 */
+	private static final class AIcItemsView<T> extends AbstractList<T> implements RandomAccess {
+
+		private final IntFunction<? extends T> itemById;
+		private final int[] ids;
+		private final int from;
+		private final int to;
+
+		private AIcItemsView(final IntFunction<? extends T> aItemById, final int[] aIds, final int aFrom, final int aTo) {
+			itemById = aItemById;
+			ids = aIds;
+			from = aFrom;
+			to = aTo;
+		}
+
+		@Override
+		public T get(final int aIndex) {
+			if (aIndex < 0 || aIndex >= to - from) {
+				throw new IndexOutOfBoundsException("Index " + aIndex + " out of bounds for length " + (to - from));
+			}
+			return itemById.apply(ids[from + aIndex]);
+		}
+
+		@Override
+		public int size() {
+			return to - from;
+		}
+
+		@Override
+		public List<T> subList(final int aFromIndex, final int aToIndex) {
+			if (aFromIndex < 0 || aToIndex > to - from || aFromIndex > aToIndex) {
+				throw new IndexOutOfBoundsException("Range [" + aFromIndex + ", " + aToIndex + ") out of bounds for length " + (to - from));
+			}
+			return new AIcItemsView<>(itemById, ids, from + aFromIndex, from + aToIndex);
+		}
+	}
+}
@@ -1,14 +1,57 @@
 package eu.algites.lib.common.enums.uiddata;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 /**
  * Default singleton implementation of {@link AIiUidEnumDataRegistry}.
+ * <p>
+ * Reads are served without locking from an immutable snapshot published through a volatile reference.
+ * Writers are serialized on a lock object, copy only the entries of the data types they modify and publish
+ * the new snapshot once they are done.
+ * </p>
+ * <p>
+ * The ids of the UIDs are assigned per data type in the order of the first registration, starting by 0.
+ * The id of a released UID is kept reserved and reused when the UID is registered again,
+ * so the ids stay stable for the whole life of the registry.
+ * </p>
+ * <p>
+ * Registrations and releases across several data types can be applied in a single publication
+ * by {@link #transaction()}.
+ * </p>
+ * <p>
+ * A registry created by {@link #createChild()} overlays its own items over the items of its parent.
+ * The lookups fall through to the parent, the items of the child shadow the parent items with the same UID
+ * and the changes of the parent are visible in the child. The child holds only its own items, so it is created
+ * in constant time and it is discarded by dropping the reference to it. The read-only parent items cannot be
+ * overwritten through the child, the parent items cannot be released through it.
+ * The ids of the items are unique across the layers, the layer of the registry is stored in the highest
+ * bits of the id, see {@link #LOCAL_ID_BITS}.
+ * </p>
+ * <p>
+ * Each change of the items of a data type increments its epoch, so the caches of the values derived from the items
+ * can be validated by {@link #epoch(AIiUidEnumDataType)}. The listeners added by
+ * {@link #addListener(AIiUidEnumDataRegistryListener)} are notified by the notification executor,
+ * the changes published before the notification task runs are merged into a single event.
+ * The listeners of a child registry are notified only about the changes of its own items.
+ * </p>
  *
  * @author linhart1
  * @date 30.01.26
@@ -17,12 +60,63 @@ public class AIcUidEnumDataRegistry implements AIiUidEnumDataRegistry {
 
 	private static final AIcUidEnumDataRegistry INSTANCE = new AIcUidEnumDataRegistry();
 
+	/** Minimal count of the operations of a transaction validated in parallel */
+	private static final int PARALLEL_VALIDATION_THRESHOLD = 256;
+
+	/**
+	 * Count of the bits of an id used for the id inside the layer, so each layer can contain up to 2<sup>24</sup>
+	 * UIDs of a data type. The remaining bits contain the layer, i.e. the count of the parents of the registry.
+	 */
+	public static final int LOCAL_ID_BITS = 24;
+
+	/** Maximal layer of a registry, limited by the bits of the id not used by {@link #LOCAL_ID_BITS} */
+	public static final int MAX_LAYER = (1 << (Integer.SIZE - 1 - LOCAL_ID_BITS)) - 1;
+
+	private static final int LOCAL_ID_MASK = (1 << LOCAL_ID_BITS) - 1;
+
+	/** Id returned by {@link #idOf(AIiUidEnumDataType, String)} for the UIDs without a registered item */
+	public static final int NO_ID = -1;
+
 	private final Object lockObject = new Object();
 
-	private final IdentityHashMap<AIiUidEnumDataType<?, ?>, Map<String, AIcRegistryEntry>> entriesByDataType
+	/** Parent registry, null for the root registry */
+	private final AIcUidEnumDataRegistry parent;
+
+	/** Count of the parents */
+	private final int layer;
+
+	private volatile List<AIiUidEnumDataRegistryListener> listeners = List.of();
+
+	private volatile Executor notificationExecutor = ForkJoinPool.commonPool();
+
+	/** Changes published, but not yet delivered to the listeners */
+	private final Queue<AIrUidEnumDataChangeEvent> pendingChanges = new ConcurrentLinkedQueue<>();
+
+	private final AtomicBoolean notificationScheduled = new AtomicBoolean();
+
+	/** Published snapshot, neither the map nor its values are modified after the publication */
+	private volatile Map<AIiUidEnumDataType<?, ?>, AIcDataTypeEntries> entriesByDataType
 			= new IdentityHashMap<>();
 
 	protected AIcUidEnumDataRegistry() {
+		parent = null;
+		layer = 0;
+	}
+
+	/**
+	 * Constructor of a child registry.
+	 * @param aParent parent registry, whose items are overlaid
+	 * @throws IllegalArgumentException if the parent has already the layer {@link #MAX_LAYER}
+	 */
+	protected AIcUidEnumDataRegistry(final AIcUidEnumDataRegistry aParent) {
+		if (aParent == null) {
+			throw new IllegalArgumentException("Parent registry must not be null");
+		}
+		if (aParent.layer == MAX_LAYER) {
+			throw new IllegalArgumentException("Parent registry is already on the maximal layer " + MAX_LAYER);
+		}
+		parent = aParent;
+		layer = aParent.layer + 1;
 	}
 
 	/**
@@ -33,6 +127,47 @@ public class AIcUidEnumDataRegistry implements AIiUidEnumDataRegistry {
 		return INSTANCE;
 	}
 
+	/**
+	 * Creates a child registry overlaying its own items over the items of this registry.
+	 * The listeners of the child are notified only about the changes of its own items, not about the changes
+	 * of this registry, although they are visible in the child and included in its {@link #epoch(AIiUidEnumDataType)}.
+	 * The child is not referenced by this registry, so it is not kept alive by it.
+	 * @return new empty child registry
+	 * @throws IllegalArgumentException if this registry has already the layer {@link #MAX_LAYER}
+	 */
+	public AIcUidEnumDataRegistry createChild() {
+		return new AIcUidEnumDataRegistry(this);
+	}
+
+	/**
+	 * Gets the parent registry.
+	 * @return the parent or null for the root registry
+	 */
+	public AIcUidEnumDataRegistry getParent() {
+		return parent;
+	}
+
+	/**
+	 * Sets the executor delivering the notifications to the listeners. The executor is called under the lock
+	 * of the registry, so it should only submit the task, not run it. By default {@link ForkJoinPool#commonPool()}
+	 * is used.
+	 * @param aNotificationExecutor the executor
+	 */
+	public void setNotificationExecutor(final Executor aNotificationExecutor) {
+		if (aNotificationExecutor == null) {
+			throw new IllegalArgumentException("Notification executor must not be null");
+		}
+		notificationExecutor = aNotificationExecutor;
+	}
+
+	/**
+	 * Creates a transaction staging registrations and releases to be applied to this registry at once.
+	 * @return new transaction
+	 */
+	public AIcUidEnumDataTransaction transaction() {
+		return new AIcUidEnumDataTransaction(this);
+	}
+
 	@Override
 	@SafeVarargs
 	@SuppressWarnings("unchecked")
@@ -50,39 +185,39 @@ public class AIcUidEnumDataRegistry implements AIiUidEnumDataRegistry {
 		final List<T> locRegisteredItems = new ArrayList<>();
 
 		synchronized (lockObject) {
-			for (final T locDataToRegister : aDataToRegister) {
-				if (locDataToRegister == null) {
-					continue;
-				}
+			final AIcRegistryUpdate locUpdate = new AIcRegistryUpdate();
+			try {
+				for (final T locDataToRegister : aDataToRegister) {
+					if (locDataToRegister == null) {
+						continue;
+					}
 
-				final AIiUidEnumDataType<?, ?> locDataType = locDataToRegister.getDataType();
-				if (locDataType == null) {
-					throw new IllegalArgumentException("Data type must not be null for item " + locDataToRegister);
-				}
+					final AIiUidEnumDataType<?, ?> locDataType = locDataToRegister.getDataType();
+					if (locDataType == null) {
+						throw new IllegalArgumentException("Data type must not be null for item " + locDataToRegister);
+					}
 
-				final String locUid = locDataToRegister.uid();
-				AIsUidEnumDataUtils.validateUid((AIiUidEnumDataType) locDataType, locUid);
+					final String locUid = locDataToRegister.uid();
+					final AIcParsedUid<?> locParsedUid = parseUid(locDataType, locUid);
 
-				final Map<String, AIcRegistryEntry> locByUidMap = entriesByDataType.computeIfAbsent(
-						locDataType,
-						aK -> new java.util.HashMap<>()
-				);
+					final AIcRegistryEntry locExistingEntry = findVisibleEntry(locUpdate, locDataType, locUid);
+					if (locExistingEntry != null) {
+						if (locExistingEntry.isReadOnly()) {
+							throw new AIxEnumDataRegistryIllegalOperationException(
+									() -> "Cannot overwrite read-only item for uid '" + locUid + "' in data type '" + locDataType + "'"
+							);
+						}
 
-				final AIcRegistryEntry locExistingEntry = locByUidMap.get(locUid);
-				if (locExistingEntry != null) {
-					if (locExistingEntry.isReadOnly()) {
-						throw new AIxEnumDataRegistryIllegalOperationException(
-								() -> "Cannot overwrite read-only item for uid '" + locUid + "' in data type '" + locDataType + "'"
-						);
+						if (!aOverwriteExisting) {
+							continue;
+						}
 					}
 
-					if (!aOverwriteExisting) {
-						continue;
-					}
+					locUpdate.put(locDataType, locUid, new AIcRegistryEntry(locDataToRegister, locParsedUid, aReadOnly, aPermanent));
+					locRegisteredItems.add(locDataToRegister);
 				}
-
-				locByUidMap.put(locUid, new AIcRegistryEntry(locDataToRegister, aReadOnly, aPermanent));
-				locRegisteredItems.add(locDataToRegister);
+			} finally {
+				locUpdate.publish();
 			}
 		}
 
@@ -102,21 +237,26 @@ public class AIcUidEnumDataRegistry implements AIiUidEnumDataRegistry {
 		final List<T> locReleasedItems = new ArrayList<>();
 
 		synchronized (lockObject) {
-			for (final T locDataToRelease : aDataToRelease) {
-				if (locDataToRelease == null) {
-					continue;
-				}
+			final AIcRegistryUpdate locUpdate = new AIcRegistryUpdate();
+			try {
+				for (final T locDataToRelease : aDataToRelease) {
+					if (locDataToRelease == null) {
+						continue;
+					}
 
-				final DT locDataType = locDataToRelease.getDataType();
-				if (locDataType == null) {
-					throw new IllegalArgumentException("Data type must not be null for item " + locDataToRelease);
-				}
+					final DT locDataType = locDataToRelease.getDataType();
+					if (locDataType == null) {
+						throw new IllegalArgumentException("Data type must not be null for item " + locDataToRelease);
+					}
 
-				final String locUid = locDataToRelease.uid();
-				final T locReleasedItem = releaseByTypeAndUid(locDataType, locUid);
-				if (locReleasedItem != null) {
-					locReleasedItems.add(locReleasedItem);
+					final String locUid = locDataToRelease.uid();
+					final T locReleasedItem = releaseByTypeAndUid(locUpdate, locDataType, locUid);
+					if (locReleasedItem != null) {
+						locReleasedItems.add(locReleasedItem);
+					}
 				}
+			} finally {
+				locUpdate.publish();
 			}
 		}
 
@@ -140,17 +280,22 @@ public class AIcUidEnumDataRegistry implements AIiUidEnumDataRegistry {
 		final List<T> locReleasedItems = new ArrayList<>();
 
 		synchronized (lockObject) {
-			for (final String locUid : aUidToRelease) {
-				if (locUid == null) {
-					continue;
-				}
+			final AIcRegistryUpdate locUpdate = new AIcRegistryUpdate();
+			try {
+				for (final String locUid : aUidToRelease) {
+					if (locUid == null) {
+						continue;
+					}
 
-				AIsUidEnumDataUtils.validateUid((AIiUidEnumDataType) aDataType, locUid);
+					AIsUidEnumDataUtils.validateUid((AIiUidEnumDataType) aDataType, locUid);
 
-				final AIiUidEnumData<?, ?, ?> locReleasedItem = releaseByTypeAndUid(aDataType, locUid);
-				if (locReleasedItem != null) {
-					locReleasedItems.add((T) locReleasedItem);
+					final AIiUidEnumData<?, ?, ?> locReleasedItem = releaseByTypeAndUid(locUpdate, aDataType, locUid);
+					if (locReleasedItem != null) {
+						locReleasedItems.add((T) locReleasedItem);
+					}
 				}
+			} finally {
+				locUpdate.publish();
 			}
 		}
 
@@ -158,11 +303,20 @@ public class AIcUidEnumDataRegistry implements AIiUidEnumDataRegistry {
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public final <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> Optional<T> findByUid(
 			final DT aDataType,
 			final String aUid
 	) {
+		return findByUid(aDataType, aUid, false);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public final <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> Optional<T> findByUid(
+			final DT aDataType,
+			final String aUid,
+			final boolean aStrict
+	) {
 
 		if (aDataType == null) {
 			throw new IllegalArgumentException("Data type must not be null");
@@ -171,21 +325,38 @@ public class AIcUidEnumDataRegistry implements AIiUidEnumDataRegistry {
 			throw new IllegalArgumentException("Uid must not be null");
 		}
 
-		AIsUidEnumDataUtils.validateUid((AIiUidEnumDataType) aDataType, aUid);
+		if (aStrict) {
+			AIsUidEnumDataUtils.validateUid((AIiUidEnumDataType) aDataType, aUid);
+		}
 
-		synchronized (lockObject) {
-			final Map<String, AIcRegistryEntry> locByUidMap = entriesByDataType.get(aDataType);
-			if (locByUidMap == null) {
-				return Optional.empty();
+		final AIcRegistryEntry locEntry = findEntry(aDataType, aUid);
+		if (locEntry == null) {
+			if (!aStrict) {
+				/* registered UIDs were validated by the registration, so only the missing ones are validated */
+				AIsUidEnumDataUtils.validateUid((AIiUidEnumDataType) aDataType, aUid);
 			}
+			return Optional.empty();
+		}
 
-			final AIcRegistryEntry locEntry = locByUidMap.get(aUid);
-			if (locEntry == null) {
-				return Optional.empty();
-			}
+		return Optional.of((T) locEntry.getData());
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public final <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> Optional<T> tryFindByUid(
+			final DT aDataType,
+			final String aUid
+	) {
 
-			return Optional.of((T) locEntry.getData());
+		if (aDataType == null) {
+			throw new IllegalArgumentException("Data type must not be null");
+		}
+		if (aUid == null) {
+			return Optional.empty();
 		}
+
+		final AIcRegistryEntry locEntry = findEntry(aDataType, aUid);
+		return locEntry == null ? Optional.empty() : Optional.of((T) locEntry.getData());
 	}
 
 	@Override
@@ -213,34 +384,530 @@ public class AIcUidEnumDataRegistry implements AIiUidEnumDataRegistry {
 			throw new IllegalArgumentException("Data type must not be null");
 		}
 
+		final AIcDataTypeEntries locEntries = entriesByDataType.get(aDataType);
+		final List<T> locItems = locEntries == null ? List.of() : (List<T>) locEntries.items();
+		return withParentItems(locEntries, locItems, aParent -> aParent.items(aDataType));
+	}
+
+	@Override
+	public final <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> List<T> itemsByOrigin(
+			final DT aDataType,
+			final AIiUidEnumDataOrigin aOrigin
+	) {
+
+		if (aOrigin == null) {
+			throw new IllegalArgumentException("Origin must not be null");
+		}
+		return itemsByPart(aDataType, AIsUidEnumDataUtils.ORIGIN_UID_POSITION, aOrigin.code());
+	}
+
+	@Override
+	public final <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> List<T> itemsByNamespace(
+			final DT aDataType,
+			final String aNamespace
+	) {
+		return itemsByPart(aDataType, AIsUidEnumDataUtils.NAMESPACE_UID_POSITION, aNamespace);
+	}
+
+	@Override
+	public final <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> List<T> itemsByPart(
+			final DT aDataType,
+			final int aPartPosition,
+			final String aValue
+	) {
+
+		if (aValue == null) {
+			throw new IllegalArgumentException("Part value must not be null");
+		}
+		checkPartPosition(aDataType, aPartPosition);
+		final AIcDataTypeEntries locEntries = entriesByDataType.get(aDataType);
+		final List<T> locItems = locEntries == null ? List.of()
+				: locEntries.index(aDataType).withPart(aPartPosition, aValue, locEntries::<T>itemById);
+		return withParentItems(locEntries, locItems, aParent -> aParent.itemsByPart(aDataType, aPartPosition, aValue));
+	}
+
+	@Override
+	public final <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> List<T> itemsByPartPrefix(
+			final DT aDataType,
+			final int aPartPosition,
+			final String aPrefix
+	) {
+
+		if (aPrefix == null) {
+			throw new IllegalArgumentException("Part prefix must not be null");
+		}
+		checkPartPosition(aDataType, aPartPosition);
+		final AIcDataTypeEntries locEntries = entriesByDataType.get(aDataType);
+		final List<T> locItems = locEntries == null ? List.of()
+				: locEntries.index(aDataType).withPartPrefix(aPartPosition, aPrefix, locEntries::<T>itemById);
+		return withParentItems(locEntries, locItems, aParent -> aParent.itemsByPartPrefix(aDataType, aPartPosition, aPrefix));
+	}
+
+	/**
+	 * Gets the id of the registered item. The ids are dense and assigned per data type from 0,
+	 * the id of a UID does not change even if the item is released and registered again,
+	 * so it can be stored instead of the UID. The id of an item of the parent registry is the id in the parent.
+	 * @param aDataType data type of the item
+	 * @param aUid UID of the item
+	 * @return id of the item or {@link #NO_ID} if no item is registered for the UID
+	 * @param <DT> type of the enum data type expected.
+	 * @throws IllegalArgumentException if no item is found and the UID is not valid for the data type
+	 */
+	@SuppressWarnings("unchecked")
+	public final <DT extends AIiUidEnumDataType<?, ?>> int idOf(
+			final DT aDataType,
+			final String aUid
+	) {
+
+		if (aDataType == null) {
+			throw new IllegalArgumentException("Data type must not be null");
+		}
+		if (aUid == null) {
+			throw new IllegalArgumentException("Uid must not be null");
+		}
+
+		final AIcDataTypeEntries locEntries = entriesByDataType.get(aDataType);
+		final Integer locId = locEntries == null ? null : locEntries.idsByUid.get(aUid);
+		if (locId == null || locEntries.entriesById[locId] == null) {
+			if (parent != null) {
+				return parent.idOf(aDataType, aUid);
+			}
+			AIsUidEnumDataUtils.validateUid((AIiUidEnumDataType) aDataType, aUid);
+			return NO_ID;
+		}
+		return (layer << LOCAL_ID_BITS) | locId;
+	}
+
+	/**
+	 * Finds the data item by its id.
+	 * @param aDataType data type of the item to be found
+	 * @param aId id of the item, see {@link #idOf(AIiUidEnumDataType, String)}
+	 * @return the found item or null if no item is registered with the id
+	 * @param <T> type of the enum data expected.
+	 * @param <DT> type of the enum data type expected.
+	 */
+	@SuppressWarnings("unchecked")
+	public final <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> T findByIdOrNull(
+			final DT aDataType,
+			final int aId
+	) {
+
+		if (aDataType == null) {
+			throw new IllegalArgumentException("Data type must not be null");
+		}
+
+		if (aId < 0) {
+			return null;
+		}
+		final int locLayer = aId >>> LOCAL_ID_BITS;
+		final AIcDataTypeEntries locEntries = entriesByDataType.get(aDataType);
+		if (locLayer < layer) {
+			final T locItem = parent.findByIdOrNull(aDataType, aId);
+			/* the parent item shadowed by an item of this registry is not visible */
+			return locItem == null || (locEntries != null && locEntries.get(locItem.uid()) != null) ? null : locItem;
+		}
+		final int locLocalId = aId & LOCAL_ID_MASK;
+		if (locLayer > layer || locEntries == null || locLocalId >= locEntries.idCount) {
+			return null;
+		}
+		final AIcRegistryEntry locEntry = locEntries.entriesById[locLocalId];
+		return locEntry == null ? null : (T) locEntry.getData();
+	}
+
+	/**
+	 * Gets the data item by its id.
+	 * @param aDataType data type of the item to be found
+	 * @param aId id of the item, see {@link #idOf(AIiUidEnumDataType, String)}
+	 * @return the found item
+	 * @param <T> type of the enum data expected.
+	 * @param <DT> type of the enum data type expected.
+	 * @throws AIxEnumDataRegistryItemNotFoundException if no item is registered with the id
+	 */
+	public final <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> T getByIdOrThrow(
+			final DT aDataType,
+			final int aId
+	) throws AIxEnumDataRegistryItemNotFoundException {
+
+		final T locItem = findByIdOrNull(aDataType, aId);
+		if (locItem == null) {
+			throw new AIxEnumDataRegistryItemNotFoundException(
+					() -> "Item not found for id " + aId + " in data type '" + aDataType + "'"
+			);
+		}
+		return locItem;
+	}
+
+	/**
+	 * Gets the own data items of the given data type indexed by their ids. The items of the parent are not returned,
+	 * the index of an item in the list is equal to the id of the item without the layer bits, see {@link #LOCAL_ID_BITS}.
+	 * @param aDataType data type of the items to be found
+	 * @return unmodifiable view of the published items, where the ids of the released items contain null.
+	 *    The view does not reflect the later changes of the registry.
+	 * @param <DT> data type of the items to be found
+	 * @param <T> type of the enum data expected.
+	 */
+	public final <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> List<T> itemsById(
+			final DT aDataType
+	) {
+
+		if (aDataType == null) {
+			throw new IllegalArgumentException("Data type must not be null");
+		}
+
+		final AIcDataTypeEntries locEntries = entriesByDataType.get(aDataType);
+		return locEntries == null ? List.of() : new AIcItemsByIdView<>(locEntries.entriesById, locEntries.idCount);
+	}
+
+	/**
+	 * Gets the epoch of the data type. The epoch is increased by each change of the items of the data type,
+	 * so a cached value derived from the items is valid as long as the epoch is the same as when the value was created.
+	 * The epoch of a child registry includes the epoch of its parent.
+	 * @param aDataType data type of the items
+	 * @return the epoch, 0 if no item of the data type was registered yet
+	 * @param <DT> data type of the items
+	 */
+	public final <DT extends AIiUidEnumDataType<?, ?>> long epoch(
+			final DT aDataType
+	) {
+
+		if (aDataType == null) {
+			throw new IllegalArgumentException("Data type must not be null");
+		}
+
+		final AIcDataTypeEntries locEntries = entriesByDataType.get(aDataType);
+		final long locEpoch = locEntries == null ? 0 : locEntries.epoch;
+		return parent == null ? locEpoch : locEpoch + parent.epoch(aDataType);
+	}
+
+	/**
+	 * Adds the listener notified about the changes of the registry, see {@link AIiUidEnumDataRegistryListener}.
+	 * Only the changes of the own items of this registry are delivered. The changes of the parent registries
+	 * are not, although they change {@link #epoch(AIiUidEnumDataType)}, so the listeners interested in them
+	 * have to be added to the parents too.
+	 * @param aListener the listener
+	 */
+	public final void addListener(
+			final AIiUidEnumDataRegistryListener aListener
+	) {
+
+		if (aListener == null) {
+			throw new IllegalArgumentException("Listener must not be null");
+		}
+
+		synchronized (lockObject) {
+			final List<AIiUidEnumDataRegistryListener> locListeners = new ArrayList<>(listeners);
+			locListeners.add(aListener);
+			listeners = List.copyOf(locListeners);
+		}
+	}
+
+	/**
+	 * Removes the listener.
+	 * @param aListener the listener
+	 * @return true if the listener was removed
+	 */
+	public final boolean removeListener(
+			final AIiUidEnumDataRegistryListener aListener
+	) {
+
 		synchronized (lockObject) {
-			final Map<String, AIcRegistryEntry> locByUidMap = entriesByDataType.get(aDataType);
-			if (locByUidMap == null) {
-				return List.of();
+			final List<AIiUidEnumDataRegistryListener> locListeners = new ArrayList<>(listeners);
+			final boolean locRemoved = locListeners.remove(aListener);
+			listeners = List.copyOf(locListeners);
+			return locRemoved;
+		}
+	}
+
+	/**
+	 * Applies the operations of a transaction, see {@link AIcUidEnumDataTransaction#commit()}.
+	 * @param aOperations operations to be applied
+	 * @return result of the transaction
+	 */
+	AIrUidEnumDataTransactionResult commit(final List<AIcUidEnumDataTransaction.AIrOperation> aOperations) {
+
+		final AIcParsedUid<?>[] locParsedUids = new AIcParsedUid<?>[aOperations.size()];
+		final String[] locValidationErrors = validateOperations(aOperations, locParsedUids);
+
+		final List<AIiUidEnumData<?, ?, ?>> locRegisteredItems = new ArrayList<>();
+		final List<AIiUidEnumData<?, ?, ?>> locReleasedItems = new ArrayList<>();
+		final List<AIrUidEnumDataConflict> locConflicts = new ArrayList<>();
+
+		synchronized (lockObject) {
+			final AIcRegistryUpdate locUpdate = new AIcRegistryUpdate();
+			for (int locIndex = 0; locIndex < aOperations.size(); locIndex++) {
+				final AIcUidEnumDataTransaction.AIrOperation locOperation = aOperations.get(locIndex);
+				if (locValidationErrors[locIndex] != null) {
+					locConflicts.add(locOperation.conflict(locValidationErrors[locIndex]));
+					continue;
+				}
+
+				final AIcRegistryEntry locExistingEntry = locOperation.register()
+						? findVisibleEntry(locUpdate, locOperation.dataType(), locOperation.uid())
+						: locUpdate.get(locOperation.dataType(), locOperation.uid());
+				if (locOperation.register()) {
+					if (locExistingEntry != null) {
+						if (locExistingEntry.isReadOnly()) {
+							locConflicts.add(locOperation.conflict("Cannot overwrite read-only item"));
+							continue;
+						}
+						if (!locOperation.overwriteExisting()) {
+							continue;
+						}
+					}
+					@SuppressWarnings("unchecked")
+					final AIcRegistryEntry locEntry = new AIcRegistryEntry(locOperation.data(), locParsedUids[locIndex],
+							locOperation.readOnly(), locOperation.permanent());
+					locUpdate.put(locOperation.dataType(), locOperation.uid(), locEntry);
+					locRegisteredItems.add(locOperation.data());
+				} else if (locExistingEntry != null) {
+					if (locExistingEntry.isPermanent()) {
+						locConflicts.add(locOperation.conflict("Cannot release permanent item"));
+						continue;
+					}
+					locUpdate.remove(locOperation.dataType(), locOperation.uid(), locExistingEntry.getData());
+					locReleasedItems.add(locExistingEntry.getData());
+				}
+			}
+			if (!locConflicts.isEmpty()) {
+				return new AIrUidEnumDataTransactionResult(List.of(), List.of(), locConflicts);
 			}
+			locUpdate.publish();
+		}
+		return new AIrUidEnumDataTransactionResult(locRegisteredItems, locReleasedItems, locConflicts);
+	}
+
+	/**
+	 * Gets the own entries of the data type for {@link AIcUidEnumDataSnapshot}, without materializing the lazily loaded items.
+	 * @param aDataType data type of the entries
+	 * @return the entries in the order of their ids
+	 */
+	List<AIcUidEnumDataSnapshot.AIrEntry> snapshotEntries(final AIiUidEnumDataType<?, ?> aDataType) {
+
+		final AIcDataTypeEntries locEntries = entriesByDataType.get(aDataType);
+		if (locEntries == null) {
+			return List.of();
+		}
 
-			final Collection<T> locItems = new ArrayList<>();
-			for (final AIcRegistryEntry locEntry : locByUidMap.values()) {
-				locItems.add((T) locEntry.getData());
+		final String[] locUids = new String[locEntries.idCount];
+		locEntries.idsByUid.forEach((aUid, aId) -> locUids[aId] = aUid);
+		final List<AIcUidEnumDataSnapshot.AIrEntry> locSnapshotEntries = new ArrayList<>(locEntries.count);
+		for (int locId = 0; locId < locEntries.idCount; locId++) {
+			final AIcRegistryEntry locEntry = locEntries.entriesById[locId];
+			if (locEntry != null) {
+				locSnapshotEntries.add(new AIcUidEnumDataSnapshot.AIrEntry(locUids[locId], locEntry.isReadOnly(), locEntry.isPermanent()));
 			}
-			return List.copyOf(locItems);
 		}
+		return locSnapshotEntries;
+	}
+
+	/**
+	 * Registers the entries loaded from {@link AIcUidEnumDataSnapshot} in a single publication. The UIDs are not validated,
+	 * the items are created by the factory on the first request. The entries with the UIDs already visible
+	 * in this registry are skipped.
+	 * @param aDataType data type of the entries
+	 * @param aEntries loaded entries
+	 * @param aFactory factory of the items from their UIDs
+	 * @return count of the registered entries
+	 */
+	@SuppressWarnings("unchecked")
+	int loadEntries(
+			final AIiUidEnumDataType<?, ?> aDataType,
+			final List<AIcUidEnumDataSnapshot.AIrEntry> aEntries,
+			final Function<String, ? extends AIiUidEnumData<?, ?, ?>> aFactory
+	) {
+
+		int locLoadedCount = 0;
+		synchronized (lockObject) {
+			final AIcRegistryUpdate locUpdate = new AIcRegistryUpdate();
+			try {
+				for (final AIcUidEnumDataSnapshot.AIrEntry locEntry : aEntries) {
+					if (findVisibleEntry(locUpdate, aDataType, locEntry.uid()) == null) {
+						locUpdate.load(aDataType, locEntry.uid(),
+								new AIcRegistryEntry(locEntry.uid(), aFactory, locEntry.readOnly(), locEntry.permanent()));
+						locLoadedCount++;
+					}
+				}
+			} finally {
+				locUpdate.publish();
+			}
+		}
+		return locLoadedCount;
+	}
+
+	/**
+	 * Validates the UIDs of the operations without holding the lock, in parallel for the large transactions.
+	 * @param aOperations operations to be validated
+	 * @param aParsedUids filled by the parsed UIDs on the indexes of the valid operations
+	 * @return messages of the validation errors on the indexes of the operations, null for the valid ones
+	 */
+	private static String[] validateOperations(
+			final List<AIcUidEnumDataTransaction.AIrOperation> aOperations,
+			final AIcParsedUid<?>[] aParsedUids
+	) {
+
+		/* parsers are looked up once per data type, not by each operation */
+		final Map<AIiUidEnumDataType<?, ?>, AIcUidParser<?>> locParsers = new IdentityHashMap<>();
+		for (final AIcUidEnumDataTransaction.AIrOperation locOperation : aOperations) {
+			if (locOperation.dataType() != null) {
+				locParsers.computeIfAbsent(locOperation.dataType(), AIiUidEnumDataType::getUidParser);
+			}
+		}
+
+		final String[] locErrors = new String[aOperations.size()];
+		IntStream locIndexes = IntStream.range(0, aOperations.size());
+		if (aOperations.size() >= PARALLEL_VALIDATION_THRESHOLD) {
+			locIndexes = locIndexes.parallel();
+		}
+		locIndexes.forEach(aIndex -> {
+			final AIcUidEnumDataTransaction.AIrOperation locOperation = aOperations.get(aIndex);
+			if (locOperation.dataType() == null) {
+				locErrors[aIndex] = "Data type must not be null";
+				return;
+			}
+			try {
+				final AIcParsedUid<?> locParsedUid = locParsers.get(locOperation.dataType()).parse(locOperation.uid());
+				/* the record factory rejects the syntactically valid UIDs of the unknown items */
+				locOperation.dataType().getUidRecordFactory().apply(locOperation.uid(), locParsedUid.parts());
+				aParsedUids[aIndex] = locParsedUid;
+			} catch (final IllegalArgumentException locException) {
+				locErrors[aIndex] = locException.getMessage();
+			}
+		});
+		return locErrors;
+	}
+
+	private void scheduleNotification() {
+		if (notificationScheduled.compareAndSet(false, true)) {
+			notificationExecutor.execute(this::deliverNotifications);
+		}
+	}
+
+	/**
+	 * Delivers the pending changes merged into events to all listeners. The scheduled flag stays set while
+	 * the listeners are called, so the changes published meanwhile (e.g. by the listeners) are delivered
+	 * by this task afterwards, not by a concurrent one. The exceptions of the listeners do not prevent
+	 * the notification of the other listeners, the first one is rethrown after all changes are delivered.
+	 */
+	private void deliverNotifications() {
+		RuntimeException locFailure = null;
+		do {
+			final Set<AIiUidEnumDataType<?, ?>> locDataTypes = Collections.newSetFromMap(new IdentityHashMap<>());
+			final List<AIiUidEnumData<?, ?, ?>> locRegistered = new ArrayList<>();
+			final List<AIiUidEnumData<?, ?, ?>> locReleased = new ArrayList<>();
+			AIrUidEnumDataChangeEvent locChange;
+			while ((locChange = pendingChanges.poll()) != null) {
+				locDataTypes.addAll(locChange.dataTypes());
+				locRegistered.addAll(locChange.registered());
+				locReleased.addAll(locChange.released());
+			}
+
+			if (!locDataTypes.isEmpty()) {
+				final AIrUidEnumDataChangeEvent locEvent = new AIrUidEnumDataChangeEvent(this, locDataTypes, locRegistered, locReleased);
+				for (final AIiUidEnumDataRegistryListener locListener : listeners) {
+					try {
+						locListener.registryChanged(locEvent);
+					} catch (final RuntimeException locException) {
+						if (locFailure == null) {
+							locFailure = locException;
+						} else {
+							locFailure.addSuppressed(locException);
+						}
+					}
+				}
+			}
+
+			notificationScheduled.set(false);
+			/* the changes queued after the draining are delivered by this task, unless another one was already scheduled */
+		} while (!pendingChanges.isEmpty() && notificationScheduled.compareAndSet(false, true));
+
+		if (locFailure != null) {
+			throw locFailure;
+		}
+	}
+
+	/**
+	 * Validates the UID as {@link AIsUidEnumDataUtils#validateUid(AIiUidEnumDataType, String)} does
+	 * and returns the parsed UID kept by the entry for the secondary index.
+	 */
+	private static AIcParsedUid<?> parseUid(final AIiUidEnumDataType<?, ?> aDataType, final String aUid) {
+		final AIcParsedUid<?> locParsedUid = aDataType.getUidParser().parse(aUid);
+		/* the record factory rejects the syntactically valid UIDs of the unknown items */
+		aDataType.getUidRecordFactory().apply(aUid, locParsedUid.parts());
+		return locParsedUid;
+	}
+
+	private static void checkPartPosition(final AIiUidEnumDataType<?, ?> aDataType, final int aPartPosition) {
+
+		if (aDataType == null) {
+			throw new IllegalArgumentException("Data type must not be null");
+		}
+		if (aPartPosition < 0 || aPartPosition >= aDataType.getUidPartCount()) {
+			throw new IllegalArgumentException("Part position " + aPartPosition + " out of range for data type '" + aDataType
+					+ "' with " + aDataType.getUidPartCount() + " parts");
+		}
+	}
+
+	/**
+	 * Finds the entry visible in this registry, i.e. in this registry or in its parents.
+	 */
+	private AIcRegistryEntry findEntry(final AIiUidEnumDataType<?, ?> aDataType, final String aUid) {
+		final AIcDataTypeEntries locEntries = entriesByDataType.get(aDataType);
+		/* the UIDs longer than any registered one are rejected without hashing them */
+		final AIcRegistryEntry locEntry = locEntries == null || aUid.length() > locEntries.maxUidLength ? null : locEntries.get(aUid);
+		return locEntry != null || parent == null ? locEntry : parent.findEntry(aDataType, aUid);
+	}
+
+	/**
+	 * Finds the entry visible in the working copy of this registry or in the parents.
+	 */
+	private AIcRegistryEntry findVisibleEntry(final AIcRegistryUpdate aUpdate, final AIiUidEnumDataType<?, ?> aDataType, final String aUid) {
+		final AIcRegistryEntry locEntry = aUpdate.get(aDataType, aUid);
+		return locEntry != null || parent == null ? locEntry : parent.findEntry(aDataType, aUid);
+	}
+
+	/**
+	 * Adds the items of the parent not shadowed by the items of this registry before the items of this registry.
+	 * @param aEntries entries of the data type in this registry, from which the own items were taken
+	 * @param aItems own items
+	 * @param aParentQuery query of the same items in the parent
+	 * @return the items visible in this registry
+	 */
+	private <T extends AIiUidEnumData<?, ?, ?>> List<T> withParentItems(
+			final AIcDataTypeEntries aEntries,
+			final List<T> aItems,
+			final Function<AIcUidEnumDataRegistry, List<T>> aParentQuery
+	) {
+
+		if (parent == null) {
+			return aItems;
+		}
+		final List<T> locParentItems = aParentQuery.apply(parent);
+		if (aEntries == null || aEntries.count == 0) {
+			return locParentItems;
+		}
+		if (locParentItems.isEmpty()) {
+			return aItems;
+		}
+		final List<T> locItems = new ArrayList<>(locParentItems.size() + aItems.size());
+		for (final T locParentItem : locParentItems) {
+			if (aEntries.get(locParentItem.uid()) == null) {
+				locItems.add(locParentItem);
+			}
+		}
+		locItems.addAll(aItems);
+		return Collections.unmodifiableList(locItems);
 	}
 
 	@SuppressWarnings("unchecked")
 	private <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> T releaseByTypeAndUid(
+			final AIcRegistryUpdate aUpdate,
 			final DT aDataType,
 			final String aUid
 	) throws AIxEnumDataRegistryIllegalOperationException {
 
 		AIsUidEnumDataUtils.validateUid((AIiUidEnumDataType) aDataType, aUid);
 
-		final Map<String, AIcRegistryEntry> locByUidMap = entriesByDataType.get(aDataType);
-		if (locByUidMap == null) {
-			return null;
-		}
-
-		final AIcRegistryEntry<DT, T> locEntry = locByUidMap.get(aUid);
+		final AIcRegistryEntry<DT, T> locEntry = aUpdate.get(aDataType, aUid);
 		if (locEntry == null) {
 			return null;
 		}
@@ -251,30 +918,334 @@ public class AIcUidEnumDataRegistry implements AIiUidEnumDataRegistry {
 			);
 		}
 
-		locByUidMap.remove(aUid);
+		aUpdate.remove(aDataType, aUid, locEntry.getData());
 		return locEntry.getData();
 	}
 
+	/**
+	 * Working copy of the entries modified by a single write operation. Only the entries of the data types
+	 * being modified are copied, the others are shared with the published snapshot.
+	 * Must be used under the lock object only, it is published even if the operation fails, so the items processed
+	 * before the failure stay applied.
+	 */
+	private final class AIcRegistryUpdate {
+
+		private final Map<AIiUidEnumDataType<?, ?>, AIcDataTypeEntries> entries
+				= new IdentityHashMap<>(entriesByDataType);
+
+		private final Set<AIiUidEnumDataType<?, ?>> copiedDataTypes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		private final List<AIiUidEnumData<?, ?, ?>> registered = new ArrayList<>();
+		private final List<AIiUidEnumData<?, ?, ?>> released = new ArrayList<>();
+
+		private AIcRegistryEntry get(final AIiUidEnumDataType<?, ?> aDataType, final String aUid) {
+			final AIcDataTypeEntries locEntries = entries.get(aDataType);
+			return locEntries == null ? null : locEntries.get(aUid);
+		}
+
+		private void put(final AIiUidEnumDataType<?, ?> aDataType, final String aUid, final AIcRegistryEntry aEntry) {
+			modify(aDataType).put(aUid, aEntry);
+			registered.add(aEntry.getData());
+		}
+
+		/**
+		 * Puts the entry without materializing its item, so the item is not reported to the listeners.
+		 */
+		private void load(final AIiUidEnumDataType<?, ?> aDataType, final String aUid, final AIcRegistryEntry aEntry) {
+			modify(aDataType).put(aUid, aEntry);
+		}
+
+		private void remove(final AIiUidEnumDataType<?, ?> aDataType, final String aUid, final AIiUidEnumData<?, ?, ?> aData) {
+			modify(aDataType).remove(aUid);
+			released.add(aData);
+		}
+
+		private AIcDataTypeEntries modify(final AIiUidEnumDataType<?, ?> aDataType) {
+			if (copiedDataTypes.add(aDataType)) {
+				final AIcDataTypeEntries locEntries = entries.get(aDataType);
+				final AIcDataTypeEntries locCopy = locEntries == null ? new AIcDataTypeEntries() : new AIcDataTypeEntries(locEntries);
+				locCopy.epoch++;
+				entries.put(aDataType, locCopy);
+			}
+			return entries.get(aDataType);
+		}
+
+		private void publish() {
+			if (!copiedDataTypes.isEmpty()) {
+				for (final AIiUidEnumDataType<?, ?> locDataType : copiedDataTypes) {
+					entries.get(locDataType).updateIndex(locDataType);
+				}
+				entriesByDataType = entries;
+				if (!listeners.isEmpty()) {
+					pendingChanges.add(new AIrUidEnumDataChangeEvent(AIcUidEnumDataRegistry.this, copiedDataTypes, registered, released));
+					scheduleNotification();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Entries of a single data type indexed by their ids. The ids of the UIDs are never removed,
+	 * the entry of a released UID is set to null. The list of the items is created on the first request
+	 * after the entries are published. The secondary index is created on the first part query, then the copy
+	 * of the entries updates the index of its source by the ids changed before the publication.
+	 */
+	private static final class AIcDataTypeEntries {
+
+		private final Map<String, Integer> idsByUid;
+		private AIcRegistryEntry[] entriesById;
+		private int idCount;
+		private int count;
+
+		/** Maximal length of the UIDs having an id */
+		private int maxUidLength;
+
+		/** Count of the modifications of the entries */
+		private long epoch;
+
+		private volatile List<AIiUidEnumData<?, ?, ?>> items;
+		private volatile AIcUidEnumDataIndex index;
+
+		/** Entries of the source, to which {@link #index} belongs, null if the index is not updated */
+		private AIcRegistryEntry[] sourceEntriesById;
+
+		/** Ids changed since the copy of the source, null if the index is not updated */
+		private BitSet changedIds;
+
+		private AIcDataTypeEntries() {
+			idsByUid = new HashMap<>();
+			entriesById = new AIcRegistryEntry[8];
+		}
+
+		private AIcDataTypeEntries(final AIcDataTypeEntries aSource) {
+			idsByUid = new HashMap<>(aSource.idsByUid);
+			entriesById = aSource.entriesById.clone();
+			idCount = aSource.idCount;
+			count = aSource.count;
+			maxUidLength = aSource.maxUidLength;
+			epoch = aSource.epoch;
+			index = aSource.index;
+			if (index != null) {
+				sourceEntriesById = aSource.entriesById;
+				changedIds = new BitSet();
+			}
+		}
+
+		private AIcRegistryEntry get(final String aUid) {
+			final Integer locId = idsByUid.get(aUid);
+			return locId == null ? null : entriesById[locId];
+		}
+
+		private List<AIiUidEnumData<?, ?, ?>> items() {
+			List<AIiUidEnumData<?, ?, ?>> locItems = items;
+			if (locItems == null) {
+				/* concurrent readers may create equal lists, any of them can be kept */
+				final List<AIiUidEnumData<?, ?, ?>> locCreatedItems = new ArrayList<>(count);
+				for (int locId = 0; locId < idCount; locId++) {
+					if (entriesById[locId] != null) {
+						locCreatedItems.add(entriesById[locId].getData());
+					}
+				}
+				locItems = List.copyOf(locCreatedItems);
+				items = locItems;
+			}
+			return locItems;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <T> T itemById(final int aId) {
+			final AIcRegistryEntry locEntry = entriesById[aId];
+			return locEntry == null ? null : (T) locEntry.getData();
+		}
+
+		private AIcUidEnumDataIndex index(final AIiUidEnumDataType<?, ?> aDataType) {
+			AIcUidEnumDataIndex locIndex = index;
+			if (locIndex == null) {
+				/* concurrent readers may create equal indexes, any of them can be kept */
+				final int[] locIds = new int[count];
+				int locCount = 0;
+				for (int locId = 0; locId < idCount; locId++) {
+					if (entriesById[locId] != null) {
+						locIds[locCount++] = locId;
+					}
+				}
+				final AIcUidParser<?> locParser = aDataType.getUidParser();
+				locIndex = AIcUidEnumDataIndex.empty(aDataType.getUidPartCount())
+						.update(new BitSet(), locIds, aId -> entriesById[aId].getParsedUid(locParser));
+				index = locIndex;
+			}
+			return locIndex;
+		}
+
+		/**
+		 * Updates the index copied from the source by the changed ids. Called before the publication.
+		 * @param aDataType data type of the entries
+		 */
+		private void updateIndex(final AIiUidEnumDataType<?, ?> aDataType) {
+			if (changedIds == null) {
+				return;
+			}
+			final BitSet locReleasedIds = new BitSet();
+			final int[] locAddedIds = new int[changedIds.cardinality()];
+			int locAddedCount = 0;
+			for (int locId = changedIds.nextSetBit(0); locId >= 0; locId = changedIds.nextSetBit(locId + 1)) {
+				final boolean locWasRegistered = locId < sourceEntriesById.length && sourceEntriesById[locId] != null;
+				final boolean locIsRegistered = entriesById[locId] != null;
+				if (locWasRegistered && !locIsRegistered) {
+					locReleasedIds.set(locId);
+				} else if (!locWasRegistered && locIsRegistered) {
+					locAddedIds[locAddedCount++] = locId;
+				}
+			}
+			final AIcUidParser<?> locParser = aDataType.getUidParser();
+			try {
+				index = index.update(locReleasedIds, Arrays.copyOf(locAddedIds, locAddedCount),
+						aId -> entriesById[aId].getParsedUid(locParser));
+			} catch (final IllegalArgumentException locException) {
+				/* a UID loaded from a snapshot not valid for the data type is reported by the query building the index */
+				index = null;
+			}
+			sourceEntriesById = null;
+			changedIds = null;
+		}
+
+		private void put(final String aUid, final AIcRegistryEntry aEntry) {
+			Integer locId = idsByUid.get(aUid);
+			if (locId == null) {
+				if (idCount > LOCAL_ID_MASK) {
+					throw new IllegalStateException("Count of the UIDs of the data type exceeds " + (LOCAL_ID_MASK + 1));
+				}
+				locId = idCount++;
+				idsByUid.put(aUid, locId);
+				maxUidLength = Math.max(maxUidLength, aUid.length());
+				if (locId == entriesById.length) {
+					entriesById = Arrays.copyOf(entriesById, entriesById.length * 2);
+				}
+			}
+			if (entriesById[locId] == null) {
+				count++;
+			}
+			entriesById[locId] = aEntry;
+			if (changedIds != null) {
+				changedIds.set(locId);
+			}
+		}
+
+		private void remove(final String aUid) {
+			final Integer locId = idsByUid.get(aUid);
+			if (locId != null && entriesById[locId] != null) {
+				entriesById[locId] = null;
+				count--;
+				if (changedIds != null) {
+					changedIds.set(locId);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Unmodifiable view of the items of the published entries by their ids. The entries of a published snapshot
+	 * are never modified, so the view is created without copying them.
+	 * @param <T> type of the items
+	 */
+	private static final class AIcItemsByIdView<T> extends AbstractList<T> implements RandomAccess {
+
+		private final AIcRegistryEntry[] entriesById;
+		private final int size;
+
+		private AIcItemsByIdView(final AIcRegistryEntry[] aEntriesById, final int aSize) {
+			entriesById = aEntriesById;
+			size = aSize;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T get(final int aIndex) {
+			if (aIndex < 0 || aIndex >= size) {
+				throw new IndexOutOfBoundsException("Index " + aIndex + " out of bounds for length " + size);
+			}
+			final AIcRegistryEntry locEntry = entriesById[aIndex];
+			return locEntry == null ? null : (T) locEntry.getData();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+
 	private static final class AIcRegistryEntry<DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> {
 
-		private final T data;
+		private volatile T data;
 		private final boolean readOnly;
 		private final boolean permanent;
 
+		/** UID of the item */
+		private final String uid;
+
+		/** Parsed UID used by the secondary index, parsed on the first request for the items loaded from a snapshot */
+		private volatile AIcParsedUid<?> parsedUid;
+
+		/** Factory of the item not materialized yet, null for the materialized item */
+		private Function<String, ? extends T> factory;
+
 		private AIcRegistryEntry(
 				final T aData,
+				final AIcParsedUid<?> aParsedUid,
 				final boolean aReadOnly,
 				final boolean aPermanent
 		) {
 			data = aData;
+			uid = aData.uid();
+			parsedUid = aParsedUid;
+			readOnly = aReadOnly;
+			permanent = aPermanent;
+		}
+
+		/**
+		 * Constructor of the entry, whose item is created by the factory on the first request.
+		 */
+		private AIcRegistryEntry(
+				final String aUid,
+				final Function<String, ? extends T> aFactory,
+				final boolean aReadOnly,
+				final boolean aPermanent
+		) {
+			uid = aUid;
+			factory = aFactory;
 			readOnly = aReadOnly;
 			permanent = aPermanent;
 		}
 
 		private T getData() {
+			final T locData = data;
+			return locData != null ? locData : materialize();
+		}
+
+		/**
+		 * Creates the item, synchronized so all readers get the same instance.
+		 */
+		private synchronized T materialize() {
+			if (data == null) {
+				final T locData = factory.apply(uid);
+				if (locData == null || !uid.equals(locData.uid())) {
+					throw new IllegalStateException("Factory created item " + locData + " for uid '" + uid + "'");
+				}
+				data = locData;
+				factory = null;
+			}
 			return data;
 		}
 
+		private AIcParsedUid<?> getParsedUid(final AIcUidParser<?> aParser) {
+			AIcParsedUid<?> locParsedUid = parsedUid;
+			if (locParsedUid == null) {
+				locParsedUid = aParser.parse(uid);
+				parsedUid = locParsedUid;
+			}
+			return locParsedUid;
+		}
+
 		private boolean isReadOnly() {
 			return readOnly;
 		}
@@ -0,0 +1,294 @@
+package eu.algites.lib.common.enums.uiddata;
+
+import jakarta.annotation.Nonnull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+
+/**
+ * <p>
+ * Title: {@link AIcUidEnumDataSnapshot}
+ * </p>
+ * <p>
+ * Description: Binary snapshot of the items registered in {@link AIcUidEnumDataRegistry}, used to skip
+ *    the validation and the creation of the items when a large set of items is registered at the start.
+ * </p>
+ * <p>
+ * The snapshot contains the UIDs and the flags of the items, not the items themselves. The data types have no
+ * persistent identity, so they are stored under the keys given by the caller. A snapshot file is memory-mapped
+ * by {@link #open(Path)} and verified against its CRC32C checksum, the entries of a data type are decoded only
+ * when they are loaded by {@link #load(AIcUidEnumDataRegistry, String, AIiUidEnumDataType, Function)}.
+ * The loaded UIDs are not validated again and the items are created by the given factory on their first request.
+ * </p>
+ * <p>
+ * The file starts by the magic number, the format version and the checksum of the rest of the file. Then the count
+ * of the data types follows and for each data type its key, the count of its UID parts, the count of its entries,
+ * the byte length of the entries and the entries, each of them as the flags and the UID.
+ * </p>
+ * <p>
+ * Copyright: Copyright (c) 2026 Artur Linhart, Algites
+ * </p>
+ * <p>
+ * Company: Algites
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public final class AIcUidEnumDataSnapshot {
+
+	/** "AIUS" */
+	private static final int MAGIC = 0x41495553;
+
+	private static final int VERSION = 1;
+
+	/** Length of the magic number, the version and the checksum */
+	private static final int HEADER_LENGTH = 3 * Integer.BYTES;
+
+	private static final int READ_ONLY_FLAG = 1;
+	private static final int PERMANENT_FLAG = 2;
+
+	private final Path file;
+
+	/** Entries of the data types by their keys, positioned on the first entry */
+	private final Map<String, AIrSection> sections;
+
+	private AIcUidEnumDataSnapshot(final Path aFile, final Map<String, AIrSection> aSections) {
+		file = aFile;
+		sections = aSections;
+	}
+
+	/**
+	 * Writes the own items of the registry of the given data types to the file. The file is replaced atomically,
+	 * the lazily loaded items are not materialized.
+	 * @param aRegistry registry to be written
+	 * @param aDataTypes data types to be written by the keys they are stored under
+	 * @param aFile target file
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(
+			@Nonnull final AIcUidEnumDataRegistry aRegistry,
+			@Nonnull final Map<String, ? extends AIiUidEnumDataType<?, ?>> aDataTypes,
+			@Nonnull final Path aFile
+	) throws IOException {
+
+		if (aRegistry == null) {
+			throw new IllegalArgumentException("Registry must not be null");
+		}
+		if (aDataTypes == null) {
+			throw new IllegalArgumentException("Data types must not be null");
+		}
+		if (aFile == null) {
+			throw new IllegalArgumentException("File must not be null");
+		}
+
+		final ByteArrayOutputStream locBody = new ByteArrayOutputStream();
+		final DataOutputStream locOutput = new DataOutputStream(locBody);
+		locOutput.writeInt(aDataTypes.size());
+		for (final Map.Entry<String, ? extends AIiUidEnumDataType<?, ?>> locDataType : aDataTypes.entrySet()) {
+			if (locDataType.getKey() == null || locDataType.getValue() == null) {
+				throw new IllegalArgumentException("Data type and its key must not be null");
+			}
+			final List<AIrEntry> locEntries = aRegistry.snapshotEntries(locDataType.getValue());
+			final ByteArrayOutputStream locEntriesBytes = new ByteArrayOutputStream();
+			final DataOutputStream locEntriesOutput = new DataOutputStream(locEntriesBytes);
+			for (final AIrEntry locEntry : locEntries) {
+				locEntriesOutput.writeByte((locEntry.readOnly() ? READ_ONLY_FLAG : 0) | (locEntry.permanent() ? PERMANENT_FLAG : 0));
+				writeString(locEntriesOutput, locEntry.uid());
+			}
+			locEntriesOutput.flush();
+
+			writeString(locOutput, locDataType.getKey());
+			locOutput.writeInt(locDataType.getValue().getUidPartCount());
+			locOutput.writeInt(locEntries.size());
+			locOutput.writeInt(locEntriesBytes.size());
+			locEntriesBytes.writeTo(locOutput);
+		}
+		locOutput.flush();
+
+		final byte[] locBodyBytes = locBody.toByteArray();
+		final CRC32C locChecksum = new CRC32C();
+		locChecksum.update(locBodyBytes);
+		final ByteBuffer locHeader = ByteBuffer.allocate(HEADER_LENGTH)
+				.putInt(MAGIC)
+				.putInt(VERSION)
+				.putInt((int) locChecksum.getValue());
+
+		final Path locAbsoluteFile = aFile.toAbsolutePath();
+		final Path locTemporaryFile = Files.createTempFile(locAbsoluteFile.getParent(), locAbsoluteFile.getFileName().toString(), ".tmp");
+		try {
+			try (FileChannel locChannel = FileChannel.open(locTemporaryFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				locHeader.flip();
+				final ByteBuffer locBodyBuffer = ByteBuffer.wrap(locBodyBytes);
+				while (locHeader.hasRemaining() || locBodyBuffer.hasRemaining()) {
+					locChannel.write(new ByteBuffer[] {locHeader, locBodyBuffer});
+				}
+			}
+			Files.move(locTemporaryFile, locAbsoluteFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(locTemporaryFile);
+		}
+	}
+
+	/**
+	 * Maps the snapshot file to the memory and verifies it.
+	 * @param aFile the snapshot file
+	 * @return the snapshot
+	 * @throws IOException if the file cannot be read, is not a snapshot or its checksum does not match
+	 */
+	public static AIcUidEnumDataSnapshot open(@Nonnull final Path aFile) throws IOException {
+
+		if (aFile == null) {
+			throw new IllegalArgumentException("File must not be null");
+		}
+
+		final ByteBuffer locBuffer;
+		try (FileChannel locChannel = FileChannel.open(aFile, StandardOpenOption.READ)) {
+			locBuffer = locChannel.map(FileChannel.MapMode.READ_ONLY, 0, locChannel.size());
+		}
+
+		try {
+			if (locBuffer.remaining() < HEADER_LENGTH || locBuffer.getInt() != MAGIC) {
+				throw new IOException("File " + aFile + " is not a UID enum data snapshot");
+			}
+			final int locVersion = locBuffer.getInt();
+			if (locVersion != VERSION) {
+				throw new IOException("Unsupported version " + locVersion + " of the snapshot " + aFile);
+			}
+			final int locExpectedChecksum = locBuffer.getInt();
+			final CRC32C locChecksum = new CRC32C();
+			locChecksum.update(locBuffer.duplicate());
+			if ((int) locChecksum.getValue() != locExpectedChecksum) {
+				throw new IOException("Checksum of the snapshot " + aFile + " does not match its content");
+			}
+
+			final int locDataTypeCount = locBuffer.getInt();
+			final Map<String, AIrSection> locSections = new LinkedHashMap<>();
+			for (int locIndex = 0; locIndex < locDataTypeCount; locIndex++) {
+				final String locKey = readString(locBuffer);
+				final int locPartCount = locBuffer.getInt();
+				final int locEntryCount = locBuffer.getInt();
+				final int locLength = locBuffer.getInt();
+				final ByteBuffer locEntries = locBuffer.slice(locBuffer.position(), locLength);
+				locBuffer.position(locBuffer.position() + locLength);
+				locSections.put(locKey, new AIrSection(locPartCount, locEntryCount, locEntries));
+			}
+			return new AIcUidEnumDataSnapshot(aFile, Collections.unmodifiableMap(locSections));
+		} catch (final BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException | NegativeArraySizeException locException) {
+			throw new IOException("Snapshot " + aFile + " is truncated", locException);
+		}
+	}
+
+	/**
+	 * Gets the keys of the data types contained in the snapshot.
+	 * @return the keys in the order they were written
+	 */
+	public Set<String> keys() {
+		return sections.keySet();
+	}
+
+	/**
+	 * Registers the items of the data type stored in the snapshot to the registry. The UIDs are not validated
+	 * and the items are created by the factory on their first request, so the factory must create the item
+	 * with the given UID. The items with the UIDs already visible in the registry are skipped.
+	 * The lazily loaded items are not contained in {@link AIrUidEnumDataChangeEvent#registered()},
+	 * the event contains only their data type.
+	 * @param aRegistry the target registry
+	 * @param aKey key the data type is stored under
+	 * @param aDataType the data type
+	 * @param aFactory factory of the items from their UIDs
+	 * @return count of the registered items
+	 * @param <DT> type of the enum data type
+	 * @param <T> type of the enum data
+	 * @throws IllegalArgumentException if the snapshot does not contain the key or the data type has a different
+	 *    count of the UID parts than the stored one
+	 */
+	public <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> int load(
+			@Nonnull final AIcUidEnumDataRegistry aRegistry,
+			@Nonnull final String aKey,
+			@Nonnull final DT aDataType,
+			@Nonnull final Function<String, ? extends T> aFactory
+	) {
+
+		if (aRegistry == null) {
+			throw new IllegalArgumentException("Registry must not be null");
+		}
+		if (aDataType == null) {
+			throw new IllegalArgumentException("Data type must not be null");
+		}
+		if (aFactory == null) {
+			throw new IllegalArgumentException("Factory must not be null");
+		}
+		final AIrSection locSection = sections.get(aKey);
+		if (locSection == null) {
+			throw new IllegalArgumentException("Snapshot " + file + " does not contain data type '" + aKey + "'");
+		}
+		if (locSection.partCount() != aDataType.getUidPartCount()) {
+			throw new IllegalArgumentException("Data type '" + aDataType + "' has " + aDataType.getUidPartCount()
+					+ " UID parts, but " + locSection.partCount() + " are stored in the snapshot " + file + " for '" + aKey + "'");
+		}
+
+		final ByteBuffer locBuffer = locSection.entries().duplicate();
+		final List<AIrEntry> locEntries = new ArrayList<>(locSection.entryCount());
+		for (int locIndex = 0; locIndex < locSection.entryCount(); locIndex++) {
+			final byte locFlags = locBuffer.get();
+			locEntries.add(new AIrEntry(readString(locBuffer), (locFlags & READ_ONLY_FLAG) != 0, (locFlags & PERMANENT_FLAG) != 0));
+		}
+		return aRegistry.loadEntries(aDataType, locEntries, aFactory);
+	}
+
+	private static void writeString(final DataOutputStream aOutput, final String aValue) throws IOException {
+		final byte[] locBytes = aValue.getBytes(StandardCharsets.UTF_8);
+		aOutput.writeInt(locBytes.length);
+		aOutput.write(locBytes);
+	}
+
+	private static String readString(final ByteBuffer aBuffer) {
+		final byte[] locBytes = new byte[aBuffer.getInt()];
+		aBuffer.get(locBytes);
+		return new String(locBytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Entry of a data type stored in the snapshot.
+	 * @param uid UID of the item
+	 * @param readOnly if the item is registered as read only
+	 * @param permanent if the item is registered as permanent
+	 */
+	record AIrEntry(
+			String uid,
+			boolean readOnly,
+			boolean permanent
+	) {
+	}
+
+	/**
+	 * Stored entries of a data type.
+	 * @param partCount count of the UID parts of the data type
+	 * @param entryCount count of the entries
+	 * @param entries the encoded entries
+	 */
+	private record AIrSection(
+			int partCount,
+			int entryCount,
+			ByteBuffer entries
+	) {
+	}
+}
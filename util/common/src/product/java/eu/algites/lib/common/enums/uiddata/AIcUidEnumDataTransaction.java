@@ -0,0 +1,179 @@
+package eu.algites.lib.common.enums.uiddata;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Title: {@link AIcUidEnumDataTransaction}
+ * </p>
+ * <p>
+ * Description: Registrations and releases of items of any data types staged to be applied
+ *    to {@link AIcUidEnumDataRegistry} at once.
+ * </p>
+ * <p>
+ * The UIDs are validated by {@link #commit()} without holding the registry lock, in parallel for large transactions.
+ * Then the operations are applied in the staging order to a working copy of the registry and the copy is published
+ * in a single step, so the readers see either none or all of the operations. If any operation conflicts,
+ * e.g. it overwrites a read-only item, releases a permanent one or has an invalid UID, nothing is published
+ * and all conflicts are reported in the result.
+ * </p>
+ * <p>
+ * The flags of the registrations and the handling of the existing items are the same as for
+ * {@link AIiUidEnumDataRegistry#registerData(boolean, boolean, boolean, AIiUidEnumData[])}.
+ * The transaction is not thread safe and can be committed only once.
+ * </p>
+ * <p>
+ * Copyright: Copyright (c) 2026 Artur Linhart, Algites
+ * </p>
+ * <p>
+ * Company: Algites
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public final class AIcUidEnumDataTransaction {
+
+	private final AIcUidEnumDataRegistry registry;
+	private final List<AIrOperation> operations = new ArrayList<>();
+	private boolean committed;
+
+	AIcUidEnumDataTransaction(final AIcUidEnumDataRegistry aRegistry) {
+		registry = aRegistry;
+	}
+
+	/**
+	 * Stages the registration of the items.
+	 * @param aReadOnly if the items have to be registered as read only
+	 * @param aPermanent if the items have to be registered as permanent
+	 * @param aOverwriteExisting if the existing items have to be overwritten
+	 * @param aDataToRegister items to be registered, null items are ignored
+	 * @return this transaction
+	 * @param <T> type of the enum data
+	 * @param <DT> type of the enum data type
+	 * @throws IllegalStateException if the transaction was already committed
+	 */
+	@SafeVarargs
+	public final <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> AIcUidEnumDataTransaction register(
+			final boolean aReadOnly,
+			final boolean aPermanent,
+			final boolean aOverwriteExisting,
+			final T... aDataToRegister
+	) {
+
+		if (aDataToRegister == null) {
+			throw new IllegalArgumentException("Data to register must not be null");
+		}
+		checkNotCommitted();
+		for (final T locData : aDataToRegister) {
+			if (locData != null) {
+				operations.add(new AIrOperation(true, locData.getDataType(), locData.uid(), locData, aReadOnly, aPermanent, aOverwriteExisting));
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Stages the release of the items.
+	 * @param aDataToRelease items to be released, null items are ignored
+	 * @return this transaction
+	 * @param <T> type of the enum data
+	 * @param <DT> type of the enum data type
+	 * @throws IllegalStateException if the transaction was already committed
+	 */
+	@SafeVarargs
+	public final <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> AIcUidEnumDataTransaction release(
+			final T... aDataToRelease
+	) {
+
+		if (aDataToRelease == null) {
+			throw new IllegalArgumentException("Data to release must not be null");
+		}
+		checkNotCommitted();
+		for (final T locData : aDataToRelease) {
+			if (locData != null) {
+				operations.add(new AIrOperation(false, locData.getDataType(), locData.uid(), locData, false, false, false));
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Stages the release of the items of the given data type.
+	 * @param aDataType data type of the items
+	 * @param aUidToRelease UIDs of the items to be released, null UIDs are ignored
+	 * @return this transaction
+	 * @param <DT> type of the enum data type
+	 * @throws IllegalStateException if the transaction was already committed
+	 */
+	public <DT extends AIiUidEnumDataType<?, ?>> AIcUidEnumDataTransaction release(
+			final DT aDataType,
+			final String... aUidToRelease
+	) {
+
+		if (aDataType == null) {
+			throw new IllegalArgumentException("Data type must not be null");
+		}
+		if (aUidToRelease == null) {
+			throw new IllegalArgumentException("Uids to release must not be null");
+		}
+		checkNotCommitted();
+		for (final String locUid : aUidToRelease) {
+			if (locUid != null) {
+				operations.add(new AIrOperation(false, aDataType, locUid, null, false, false, false));
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Gets the count of the staged operations.
+	 * @return the count
+	 */
+	public int size() {
+		return operations.size();
+	}
+
+	/**
+	 * Validates the staged operations and applies them to the registry, if there is no conflict.
+	 * @return result of the transaction
+	 * @throws IllegalStateException if the transaction was already committed
+	 */
+	public AIrUidEnumDataTransactionResult commit() {
+		checkNotCommitted();
+		committed = true;
+		return registry.commit(List.copyOf(operations));
+	}
+
+	private void checkNotCommitted() {
+		if (committed) {
+			throw new IllegalStateException("Transaction was already committed");
+		}
+	}
+
+	/**
+	 * Staged operation.
+	 * @param register true for the registration, false for the release
+	 * @param dataType data type of the item
+	 * @param uid UID of the item
+	 * @param data the item, null for the releases by UID
+	 * @param readOnly if the item has to be registered as read only
+	 * @param permanent if the item has to be registered as permanent
+	 * @param overwriteExisting if the existing item has to be overwritten
+	 */
+	record AIrOperation(
+			boolean register,
+			AIiUidEnumDataType<?, ?> dataType,
+			String uid,
+			AIiUidEnumData<?, ?, ?> data,
+			boolean readOnly,
+			boolean permanent,
+			boolean overwriteExisting
+	) {
+
+		AIrUidEnumDataConflict conflict(final String aReason) {
+			return new AIrUidEnumDataConflict(dataType, uid, data, aReason);
+		}
+	}
+}
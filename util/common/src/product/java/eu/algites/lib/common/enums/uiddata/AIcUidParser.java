@@ -0,0 +1,246 @@
+package eu.algites.lib.common.enums.uiddata;
+
+import static eu.algites.lib.common.enums.uiddata.AIsUidEnumDataUtils.NAMESPACE_UID_POSITION;
+import static eu.algites.lib.common.enums.uiddata.AIsUidEnumDataUtils.ORIGIN_UID_POSITION;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Title: {@link AIcUidParser}
+ * </p>
+ * <p>
+ * Description: UID parser and validator compiled for a given {@link AIiUidEnumDataType}.
+ *    It checks the UID in a single pass over its characters using a lookup table of the allowed characters
+ *    instead of splitting the UID and matching the parts against the regular expressions
+ *    {@link AIsUidEnumDataUtils#UID_COMMON_PART_PATTERN} and {@link AIsUidEnumDataUtils#UID_CUSTOM_NAMESPACE_PART_PATTERN}.
+ *    The result is an {@link AIcParsedUid} view keeping only the offsets of the parts, no substrings are created.
+ *    The record factory of the data type is not invoked.
+ * </p>
+ * <p>
+ * The validity rules are the same as the ones of {@link AIsUidEnumDataUtils#parseUid(AIiUidEnumDataType, String)}.
+ * If the UID is invalid, the detailed message of the thrown exception is created by the slower
+ * part-by-part validation.
+ * </p>
+ * <p>
+ * The codes of the origins resolved by {@link AIiUidEnumDataType#getOriginFinder()} are remembered,
+ * so the origin of the following UIDs is resolved without creating a substring.
+ * The parser is thread safe.
+ * </p>
+ * <p>
+ * Copyright: Copyright (c) 2026 Artur Linhart, Algites
+ * </p>
+ * <p>
+ * Company: Algites
+ * </p>
+ *
+ * @param <O> type of the origin
+ * @author linhart1
+ * @date 19.10.26
+ */
+public final class AIcUidParser<O extends AIiUidEnumDataOrigin> {
+
+	/** Maximal count of the remembered origin codes */
+	private static final int KNOWN_ORIGINS_LIMIT = 8;
+
+	/** Characters allowed in the namespace and specific parts, see {@link AIsUidEnumDataUtils#UID_COMMON_PART_PATTERN} */
+	private static final boolean[] SAFE_CHARS = new boolean[128];
+
+	static {
+		for (char locChar = 'A'; locChar <= 'Z'; locChar++) {
+			SAFE_CHARS[locChar] = true;
+			SAFE_CHARS[Character.toLowerCase(locChar)] = true;
+		}
+		for (char locChar = '0'; locChar <= '9'; locChar++) {
+			SAFE_CHARS[locChar] = true;
+		}
+		SAFE_CHARS['.'] = true;
+		SAFE_CHARS['_'] = true;
+		SAFE_CHARS['-'] = true;
+	}
+
+	private static final char SEPARATOR = AIsUidEnumDataUtils.UID_PART_SEPARATOR.charAt(0);
+
+	/**
+	 * Parsers returned by the default {@link AIiUidEnumDataType#getUidParser()}. The parser references its
+	 * data type, so it is held softly, otherwise the weak key would never be cleared.
+	 */
+	private static final Map<AIiUidEnumDataType<?, ?>, SoftReference<AIcUidParser<?>>> CACHED_PARSERS
+			= Collections.synchronizedMap(new WeakHashMap<>());
+
+	private final AIiUidEnumDataType<?, O> dataType;
+	private final int partCount;
+	private final Function<String, O> originFinder;
+
+	/** Remembered origins, replaced as a whole when a new one is added */
+	private volatile AIrKnownOrigin<O>[] knownOrigins;
+
+	@SuppressWarnings("unchecked")
+	private AIcUidParser(@Nonnull final AIiUidEnumDataType<?, O> aDataType) {
+		dataType = aDataType;
+		partCount = aDataType.getUidPartCount();
+		originFinder = Objects.requireNonNull(aDataType.getOriginFinder(), "Origin finder must not be null");
+		knownOrigins = new AIrKnownOrigin[0];
+	}
+
+	/**
+	 * Compiles the parser for the given data type.
+	 * @param aDataType data type of the UIDs to be parsed
+	 * @return the parser
+	 * @param <O> type of the origin
+	 */
+	public static <O extends AIiUidEnumDataOrigin> AIcUidParser<O> of(@Nonnull final AIiUidEnumDataType<?, O> aDataType) {
+		return new AIcUidParser<>(Objects.requireNonNull(aDataType, "Data type must not be null"));
+	}
+
+	/**
+	 * Gets the parser compiled for the given data type on the first call.
+	 * @param aDataType data type of the UIDs to be parsed
+	 * @return the cached parser
+	 * @param <O> type of the origin
+	 */
+	@SuppressWarnings("unchecked")
+	static <O extends AIiUidEnumDataOrigin> AIcUidParser<O> cached(@Nonnull final AIiUidEnumDataType<?, O> aDataType) {
+		final SoftReference<AIcUidParser<?>> locReference = CACHED_PARSERS.get(aDataType);
+		final AIcUidParser<?> locCached = locReference == null ? null : locReference.get();
+		if (locCached != null && locCached.dataType == aDataType) {
+			return (AIcUidParser<O>) locCached;
+		}
+		final AIcUidParser<O> locParser = of(aDataType);
+		CACHED_PARSERS.put(aDataType, new SoftReference<>(locParser));
+		return locParser;
+	}
+
+	/**
+	 * Gets the data type, for which the parser was compiled.
+	 * @return the data type
+	 */
+	public AIiUidEnumDataType<?, O> getDataType() {
+		return dataType;
+	}
+
+	/**
+	 * Parses the UID.
+	 * @param aUid UID to be parsed
+	 * @return parsed view of the UID
+	 * @throws IllegalArgumentException if the UID is not valid for the data type
+	 */
+	public AIcParsedUid<O> parse(@Nonnull final CharSequence aUid) throws IllegalArgumentException {
+		final AIcParsedUid<O> locResult = tryParse(aUid);
+		if (locResult == null) {
+			AIsUidEnumDataUtils.validateUidParts(dataType, aUid.toString());
+			throw new IllegalArgumentException("Invalid UID '" + aUid + "' for the data type " + dataType);
+		}
+		return locResult;
+	}
+
+	/**
+	 * Parses the UID without throwing an exception for an invalid UID.
+	 * @param aUid UID to be parsed
+	 * @return parsed view of the UID or null if the UID is not valid for the data type
+	 */
+	public @Nullable AIcParsedUid<O> tryParse(@Nonnull final CharSequence aUid) {
+		Objects.requireNonNull(aUid, "UID must not be null");
+		final int[] locSeparators = new int[partCount - 1];
+		if (!scan(aUid, locSeparators)) {
+			return null;
+		}
+		final O locOrigin = resolveOrigin(aUid, locSeparators[ORIGIN_UID_POSITION]);
+		if (locOrigin == null || !isNamespaceValid(locOrigin, locSeparators)) {
+			return null;
+		}
+		return new AIcParsedUid<>(aUid, locOrigin, locSeparators);
+	}
+
+	/**
+	 * Checks the validity of the UID.
+	 * @param aUid UID to be checked
+	 * @return true if the UID is valid for the data type
+	 */
+	public boolean isValid(@Nonnull final CharSequence aUid) {
+		return tryParse(aUid) != null;
+	}
+
+	/**
+	 * Scans the characters of the UID and stores the positions of the separators.
+	 * @param aUid UID to be scanned
+	 * @param aSeparators array of the length equal to the count of the separators to store their positions in
+	 * @return true if the UID has the expected count of parts and the parts after the origin
+	 *    contain only the allowed characters
+	 */
+	private static boolean scan(final CharSequence aUid, final int[] aSeparators) {
+		int locSeparatorCount = 0;
+		final int locLength = aUid.length();
+		for (int locIndex = 0; locIndex < locLength; locIndex++) {
+			final char locChar = aUid.charAt(locIndex);
+			if (locChar == SEPARATOR) {
+				if (locSeparatorCount == aSeparators.length) {
+					return false;
+				}
+				aSeparators[locSeparatorCount++] = locIndex;
+			} else if (locSeparatorCount > ORIGIN_UID_POSITION && (locChar >= SAFE_CHARS.length || !SAFE_CHARS[locChar])) {
+				/* the origin part is checked by the origin resolution */
+				return false;
+			}
+		}
+		return locSeparatorCount == aSeparators.length;
+	}
+
+	private boolean isNamespaceValid(final O aOrigin, final int[] aSeparators) {
+		final boolean locNamespaceEmpty = aSeparators[NAMESPACE_UID_POSITION] == aSeparators[ORIGIN_UID_POSITION] + 1;
+		return aOrigin.namespaceUsed() != locNamespaceEmpty;
+	}
+
+	private @Nullable O resolveOrigin(final CharSequence aUid, final int aEnd) {
+		final AIrKnownOrigin<O>[] locKnownOrigins = knownOrigins;
+		for (final AIrKnownOrigin<O> locKnownOrigin : locKnownOrigins) {
+			if (locKnownOrigin.matches(aUid, aEnd)) {
+				return locKnownOrigin.origin();
+			}
+		}
+		final String locCode = aUid.subSequence(0, aEnd).toString();
+		final O locOrigin = originFinder.apply(locCode);
+		if (locOrigin != null && locKnownOrigins.length < KNOWN_ORIGINS_LIMIT) {
+			/* a lost update by a concurrent thread only means the code is remembered later */
+			final AIrKnownOrigin<O>[] locUpdated = Arrays.copyOf(locKnownOrigins, locKnownOrigins.length + 1);
+			locUpdated[locKnownOrigins.length] = new AIrKnownOrigin<>(locCode, locOrigin);
+			knownOrigins = locUpdated;
+		}
+		return locOrigin;
+	}
+
+	@Override
+	public String toString() {
+		return "AIcUidParser{dataType=" + dataType + ", partCount=" + partCount + "}";
+	}
+
+	/**
+	 * Origin remembered for its code.
+	 * @param code code of the origin as found in the UID
+	 * @param origin the origin
+	 * @param <O> type of the origin
+	 */
+	private record AIrKnownOrigin<O extends AIiUidEnumDataOrigin>(String code, O origin) {
+
+		private boolean matches(final CharSequence aUid, final int aEnd) {
+			if (code.length() != aEnd) {
+				return false;
+			}
+			for (int locIndex = 0; locIndex < aEnd; locIndex++) {
+				if (code.charAt(locIndex) != aUid.charAt(locIndex)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
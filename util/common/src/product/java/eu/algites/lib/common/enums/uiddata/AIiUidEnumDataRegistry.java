@@ -1,10 +1,15 @@
 package eu.algites.lib.common.enums.uiddata;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Registry for {@link AIiUidEnumData} instances keyed by {@link AIiUidEnumDataType} instance and UID.
+ * <p>
+ * The lookups added after {@link #findByUid(AIiUidEnumDataType, String)} and {@link #items(AIiUidEnumDataType)}
+ * have default implementations built on these methods, so the existing implementations keep working.
+ * </p>
  *
  * @author linhart1
  * @date 30.01.26
@@ -63,17 +68,71 @@ public interface AIiUidEnumDataRegistry {
 
 	/**
 	 * Finds the data item by UID.
+	 * The UID is validated only if no item is registered for it, as the registered UIDs were already
+	 * validated during the registration. Use {@link #findByUid(AIiUidEnumDataType, String, boolean)}
+	 * to validate it always.
 	 * @param aDataType data type of the item to be found
 	 * @param aUid UID of the item to be found
 	 * @return optional of the found item
 	 * @param <T> type of the enum data expected.
 	 * @param <DT> type of the enum data type expected.
+	 * @throws IllegalArgumentException if no item is found and the UID is not valid for the data type
 	 */
 	<DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> Optional<T> findByUid(
 			DT aDataType,
 			String aUid
 	);
 
+	/**
+	 * Finds the data item by UID.
+	 * @param aDataType data type of the item to be found
+	 * @param aUid UID of the item to be found
+	 * @param aStrict if true, the UID is validated even if an item is registered for it
+	 * @return optional of the found item
+	 * @param <T> type of the enum data expected.
+	 * @param <DT> type of the enum data type expected.
+	 * @throws IllegalArgumentException if the UID is not valid for the data type and it has to be validated
+	 */
+	@SuppressWarnings("unchecked")
+	default <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> Optional<T> findByUid(
+			final DT aDataType,
+			final String aUid,
+			final boolean aStrict
+	) {
+		if (aStrict) {
+			AIsUidEnumDataUtils.validateUid((AIiUidEnumDataType) aDataType, aUid);
+		}
+		return findByUid(aDataType, aUid);
+	}
+
+	/**
+	 * Finds the data item by UID without validating the UID. As only the valid UIDs can be registered,
+	 * the result is empty for an invalid UID, but no exception is thrown, so it is suitable for the UIDs
+	 * coming from untrusted sources.
+	 * @param aDataType data type of the item to be found
+	 * @param aUid UID of the item to be found
+	 * @return optional of the found item, empty if the item is not registered or the UID is not valid
+	 * @param <T> type of the enum data expected.
+	 * @param <DT> type of the enum data type expected.
+	 */
+	default <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> Optional<T> tryFindByUid(
+			final DT aDataType,
+			final String aUid
+	) {
+		if (aDataType == null) {
+			throw new IllegalArgumentException("Data type must not be null");
+		}
+		if (aUid == null || !aDataType.getUidParser().isValid(aUid)) {
+			return Optional.empty();
+		}
+		try {
+			return findByUid(aDataType, aUid);
+		} catch (IllegalArgumentException locException) {
+			/* the syntactically valid UID can still be rejected by the record factory of the data type */
+			return Optional.empty();
+		}
+	}
+
 	/**
 	 * Gets the data item by UID.
 	 * @param aDataType data type of the item to be found
@@ -89,7 +148,7 @@ public interface AIiUidEnumDataRegistry {
 	) throws AIxEnumDataRegistryItemNotFoundException;
 
 	/**
-	 * Gets all data items of the given data type.
+	 * Gets all data items of the given data type in the order of their ids.
 	 * @param aDataType data type of the items to be found
 	 * @return list of found items
 	 * @param <DT> data type of the items to be found
@@ -98,4 +157,108 @@ public interface AIiUidEnumDataRegistry {
 	<DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> List<T> items(
 			DT aDataType
 	);
+
+	/**
+	 * Gets the data items of the given data type with the given origin.
+	 * @param aDataType data type of the items to be found
+	 * @param aOrigin origin of the items
+	 * @return unmodifiable view of the found items in the order of their ids
+	 * @param <DT> data type of the items to be found
+	 * @param <T> type of the enum data expected.
+	 */
+	default <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> List<T> itemsByOrigin(
+			final DT aDataType,
+			final AIiUidEnumDataOrigin aOrigin
+	) {
+		if (aOrigin == null) {
+			throw new IllegalArgumentException("Origin must not be null");
+		}
+		return itemsByPart(aDataType, AIsUidEnumDataUtils.ORIGIN_UID_POSITION, aOrigin.code());
+	}
+
+	/**
+	 * Gets the data items of the given data type in the given namespace.
+	 * @param aDataType data type of the items to be found
+	 * @param aNamespace namespace of the items, empty for the origins without namespace
+	 * @return unmodifiable view of the found items in the order of their ids
+	 * @param <DT> data type of the items to be found
+	 * @param <T> type of the enum data expected.
+	 */
+	default <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> List<T> itemsByNamespace(
+			final DT aDataType,
+			final String aNamespace
+	) {
+		return itemsByPart(aDataType, AIsUidEnumDataUtils.NAMESPACE_UID_POSITION, aNamespace);
+	}
+
+	/**
+	 * Gets the data items of the given data type, which have the UID part on the given position equal to the value.
+	 * @param aDataType data type of the items to be found
+	 * @param aPartPosition position of the UID part, e.g. {@link AIsUidEnumDataUtils#FIRST_UID_SPECIFIC_PART_POSITION}
+	 *    for the first part described by {@link AIiUidEnumDataType#getSpecificUidPartsMetadata()}
+	 * @param aValue value of the part
+	 * @return unmodifiable view of the found items in the order of their ids
+	 * @param <DT> data type of the items to be found
+	 * @param <T> type of the enum data expected.
+	 * @throws IllegalArgumentException if the position is out of the range of the UID parts of the data type
+	 */
+	default <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> List<T> itemsByPart(
+			final DT aDataType,
+			final int aPartPosition,
+			final String aValue
+	) {
+		if (aValue == null) {
+			throw new IllegalArgumentException("Part value must not be null");
+		}
+		final AIcUidParser<?> locParser = partParser(aDataType, aPartPosition);
+		final List<T> locItems = items(aDataType);
+		return locItems.stream()
+				.filter(aItem -> locParser.parse(aItem.uid()).partEquals(aPartPosition, aValue))
+				.toList();
+	}
+
+	/**
+	 * Gets the data items of the given data type, which have the UID part on the given position starting by the prefix.
+	 * @param aDataType data type of the items to be found
+	 * @param aPartPosition position of the UID part, see {@link #itemsByPart(AIiUidEnumDataType, int, String)}
+	 * @param aPrefix prefix of the part
+	 * @return unmodifiable view of the found items ordered by the part value and then by their ids
+	 * @param <DT> data type of the items to be found
+	 * @param <T> type of the enum data expected.
+	 * @throws IllegalArgumentException if the position is out of the range of the UID parts of the data type
+	 */
+	default <DT extends AIiUidEnumDataType<?, ?>, T extends AIiUidEnumData<?, ?, DT>> List<T> itemsByPartPrefix(
+			final DT aDataType,
+			final int aPartPosition,
+			final String aPrefix
+	) {
+		if (aPrefix == null) {
+			throw new IllegalArgumentException("Part prefix must not be null");
+		}
+		final AIcUidParser<?> locParser = partParser(aDataType, aPartPosition);
+		final List<T> locItems = items(aDataType);
+		/* the sort is stable, so the items with the equal parts stay in the order of their ids */
+		return locItems.stream()
+				.filter(aItem -> locParser.parse(aItem.uid()).part(aPartPosition).startsWith(aPrefix))
+				.sorted(Comparator.comparing(aItem -> locParser.parse(aItem.uid()).part(aPartPosition)))
+				.toList();
+	}
+
+	/**
+	 * Gets the parser of the UIDs of the data type for the default queries of the UID parts.
+	 * @param aDataType data type of the items
+	 * @param aPartPosition position of the queried part
+	 * @return the parser
+	 * @throws IllegalArgumentException if the data type is null or the position is out of the range of its UID parts
+	 */
+	private static AIcUidParser<?> partParser(final AIiUidEnumDataType<?, ?> aDataType, final int aPartPosition) {
+		if (aDataType == null) {
+			throw new IllegalArgumentException("Data type must not be null");
+		}
+		if (aPartPosition < 0 || aPartPosition >= aDataType.getUidPartCount()) {
+			throw new IllegalArgumentException("Part position " + aPartPosition + " out of range for data type '" + aDataType
+					+ "' with " + aDataType.getUidPartCount() + " parts");
+		}
+		return aDataType.getUidParser();
+	}
 }
@@ -0,0 +1,37 @@
+package eu.algites.lib.common.enums.uiddata;
+
+/**
+ * <p>
+ * Title: {@link AIiUidEnumDataRegistryListener}
+ * </p>
+ * <p>
+ * Description: Listener of the changes of an {@link AIcUidEnumDataRegistry}. The listener is notified
+ *    asynchronously after the changes are published, the changes published before the notification
+ *    is delivered are merged into a single event.
+ * </p>
+ * <p>
+ * The notifications of a registry are delivered by the notification executor of the registry one at a time,
+ * never concurrently, and in the order the changes were published, so an event never contains a change published
+ * after a change contained in a later event. The listener may be called by different threads, each call
+ * happens after the previous one has returned. The changes published by the listener itself are delivered
+ * in a following event after the current call returns.
+ * </p>
+ * <p>
+ * Copyright: Copyright (c) 2026 Artur Linhart, Algites
+ * </p>
+ * <p>
+ * Company: Algites
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+@FunctionalInterface
+public interface AIiUidEnumDataRegistryListener {
+
+	/**
+	 * Called after the registry has changed.
+	 * @param aEvent the changes
+	 */
+	void registryChanged(AIrUidEnumDataChangeEvent aEvent);
+}
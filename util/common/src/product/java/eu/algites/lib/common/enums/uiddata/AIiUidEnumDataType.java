@@ -68,4 +68,14 @@ public interface AIiUidEnumDataType<R extends AIiUidEnumDataRecord, O extends AI
 		return getSpecificUidPartsMetadata().size() + LAST_UID_HEADER_PART_POSITION + 1;
 	}
 
+	/**
+	 * Gets the parser validating the UIDs of this enum uiddata type.
+	 * By default the parser is compiled by {@link AIcUidParser#of(AIiUidEnumDataType)} on the first call
+	 * and cached for this data type, so the metadata must not change after the first validation.
+	 * @return the parser compiled for this enum uiddata type
+	 */
+	default AIcUidParser<O> getUidParser() {
+		return AIcUidParser.cached(this);
+	}
+
 }
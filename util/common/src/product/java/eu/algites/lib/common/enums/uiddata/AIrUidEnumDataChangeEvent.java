@@ -0,0 +1,59 @@
+package eu.algites.lib.common.enums.uiddata;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>
+ * Title: {@link AIrUidEnumDataChangeEvent}
+ * </p>
+ * <p>
+ * Description: Changes of an {@link AIiUidEnumDataRegistry} delivered to {@link AIiUidEnumDataRegistryListener}.
+ * </p>
+ * <p>
+ * Copyright: Copyright (c) 2026 Artur Linhart, Algites
+ * </p>
+ * <p>
+ * Company: Algites
+ * </p>
+ *
+ * @param registry the changed registry
+ * @param dataTypes data types whose items were changed, compared by identity
+ * @param registered registered items in the order of the registration
+ * @param released released items in the order of the release
+ * @author linhart1
+ * @date 19.10.26
+ */
+public record AIrUidEnumDataChangeEvent(
+		AIiUidEnumDataRegistry registry,
+		Set<AIiUidEnumDataType<?, ?>> dataTypes,
+		List<AIiUidEnumData<?, ?, ?>> registered,
+		List<AIiUidEnumData<?, ?, ?>> released
+) {
+
+	/**
+	 * Constructor
+	 * @param registry the changed registry
+	 * @param dataTypes data types whose items were changed
+	 * @param registered registered items
+	 * @param released released items
+	 */
+	public AIrUidEnumDataChangeEvent {
+		final Set<AIiUidEnumDataType<?, ?>> locDataTypes = Collections.newSetFromMap(new IdentityHashMap<>());
+		locDataTypes.addAll(dataTypes);
+		dataTypes = Collections.unmodifiableSet(locDataTypes);
+		registered = List.copyOf(registered);
+		released = List.copyOf(released);
+	}
+
+	/**
+	 * Checks if the items of the data type were changed.
+	 * @param aDataType data type to be checked
+	 * @return true if the data type is contained in {@link #dataTypes()}
+	 */
+	public boolean isChanged(final AIiUidEnumDataType<?, ?> aDataType) {
+		return dataTypes.contains(aDataType);
+	}
+}
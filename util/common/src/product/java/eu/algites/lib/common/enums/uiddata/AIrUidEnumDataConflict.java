@@ -0,0 +1,35 @@
+package eu.algites.lib.common.enums.uiddata;
+
+/**
+ * <p>
+ * Title: {@link AIrUidEnumDataConflict}
+ * </p>
+ * <p>
+ * Description: Operation of an {@link AIcUidEnumDataTransaction}, which could not be applied.
+ * </p>
+ * <p>
+ * Copyright: Copyright (c) 2026 Artur Linhart, Algites
+ * </p>
+ * <p>
+ * Company: Algites
+ * </p>
+ *
+ * @param dataType data type of the item, null if the item has no data type
+ * @param uid UID of the item
+ * @param data the item to be registered or released, null for the releases by UID
+ * @param reason description of the conflict
+ * @author linhart1
+ * @date 19.10.26
+ */
+public record AIrUidEnumDataConflict(
+		AIiUidEnumDataType<?, ?> dataType,
+		String uid,
+		AIiUidEnumData<?, ?, ?> data,
+		String reason
+) {
+
+	@Override
+	public String toString() {
+		return "'" + uid + "' in data type '" + dataType + "': " + reason;
+	}
+}
@@ -0,0 +1,52 @@
+package eu.algites.lib.common.enums.uiddata;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Title: {@link AIrUidEnumDataTransactionResult}
+ * </p>
+ * <p>
+ * Description: Result of {@link AIcUidEnumDataTransaction#commit()}. The transaction is committed
+ *    only if there is no conflict, otherwise no operation of the transaction is applied
+ *    and the lists of the registered and released items are empty.
+ * </p>
+ * <p>
+ * Copyright: Copyright (c) 2026 Artur Linhart, Algites
+ * </p>
+ * <p>
+ * Company: Algites
+ * </p>
+ *
+ * @param registered items registered by the transaction, the existing items not to be overwritten are not contained
+ * @param released items released by the transaction
+ * @param conflicts operations which could not be applied
+ * @author linhart1
+ * @date 19.10.26
+ */
+public record AIrUidEnumDataTransactionResult(
+		List<AIiUidEnumData<?, ?, ?>> registered,
+		List<AIiUidEnumData<?, ?, ?>> released,
+		List<AIrUidEnumDataConflict> conflicts
+) {
+
+	/**
+	 * Constructor
+	 * @param registered items registered by the transaction
+	 * @param released items released by the transaction
+	 * @param conflicts operations which could not be applied
+	 */
+	public AIrUidEnumDataTransactionResult {
+		registered = List.copyOf(registered);
+		released = List.copyOf(released);
+		conflicts = List.copyOf(conflicts);
+	}
+
+	/**
+	 * Whether the transaction was applied.
+	 * @return true if there was no conflict
+	 */
+	public boolean committed() {
+		return conflicts.isEmpty();
+	}
+}
@@ -132,7 +132,8 @@ public class AIsUidEnumDataUtils {
 	}
 
 	/**
-	 * Parse and validate an OutputType UID.
+	 * Parse and validate an OutputType UID. The UID is validated by {@link AIiUidEnumDataType#getUidParser()}
+	 * and the record is created by {@link AIiUidEnumDataType#getUidRecordFactory()}.
 	 *
 	 * @param aEnumDataType enum uiddata type for which the result has to be returned
 	 * @param aUid uid string
@@ -148,16 +149,14 @@ public class AIsUidEnumDataUtils {
 			@Nonnull String aUid) {
 		Objects.requireNonNull(aEnumDataType, () -> "Enum uiddata type must not be null. Passed UID:" + aUid);
 		String locUid = Objects.requireNonNull(aUid, () -> "aUid must not be null. Passed enum uiddata type:" + aEnumDataType);
-		String[] locParts = splitUidIntoParts(aEnumDataType, locUid);
-		O locOrigin = aEnumDataType.getOriginGetter().apply(locParts[ORIGIN_UID_POSITION]);
-
-		validatePartsSemantics(aEnumDataType, locOrigin, locParts);
-
-		return aEnumDataType.getUidRecordFactory().apply(aUid, List.of(locParts));
+		AIcParsedUid<O> locParsedUid = aEnumDataType.getUidParser().parse(locUid);
+		return aEnumDataType.getUidRecordFactory().apply(aUid, locParsedUid.parts());
 	}
 
 	/**
-	 * Validate a UID (throws on error).
+	 * Validate a UID (throws on error). The syntax is validated by {@link AIiUidEnumDataType#getUidParser()},
+	 * the semantics by creating the record of the UID by {@link AIiUidEnumDataType#getUidRecordFactory()},
+	 * which rejects e.g. the unknown builtin items.
 	 *
 	 * @param aEnumDataType component type to be examined
 	 * @param aUid uid string
@@ -173,6 +172,26 @@ public class AIsUidEnumDataUtils {
 	}
 
 	/**
+	 * Validate a UID part by part and throw the exception with the detailed message on error.
+	 * Used by {@link AIcUidParser} to describe the UIDs it rejected.
+	 *
+	 * @param aEnumDataType component type to be examined
+	 * @param aUid uid string
+	 * @throws IllegalArgumentException if invalid
+	 * @param <O> origin type
+	 */
+	static <O extends AIiUidEnumDataOrigin> void validateUidParts(
+			@Nonnull final AIiUidEnumDataType<?, O> aEnumDataType, @Nonnull String aUid)
+			throws IllegalArgumentException {
+		String[] locParts = splitUidIntoParts(aEnumDataType, aUid);
+		O locOrigin = aEnumDataType.getOriginGetter().apply(locParts[ORIGIN_UID_POSITION]);
+		validatePartsSemantics(aEnumDataType, locOrigin, locParts);
+	}
+
+	/**
+	 * Checks the UID as {@link #validateUid(AIiUidEnumDataType, String)} does, but without throwing an exception.
+	 * The record is created only if the UID passes the fast syntax check of the parser.
+	 *
 	 * @param aEnumDataType enum uiddata type to be examined
 	 * @param aUid uid string
 	 * @return true if valid, else false
@@ -184,8 +203,15 @@ public class AIsUidEnumDataUtils {
 	boolean isValidOutputTypeUid(
 			@Nonnull final GUEDT aEnumDataType,
 			@Nonnull String aUid) {
+		if (aEnumDataType == null || aUid == null) {
+			return false;
+		}
+		final AIcParsedUid<O> locParsedUid = aEnumDataType.getUidParser().tryParse(aUid);
+		if (locParsedUid == null) {
+			return false;
+		}
 		try {
-			validateUid(aEnumDataType, aUid);
+			aEnumDataType.getUidRecordFactory().apply(aUid, locParsedUid.parts());
 			return true;
 		} catch (RuntimeException locException) {
 			return false;
@@ -203,7 +229,7 @@ public class AIsUidEnumDataUtils {
 			GUEDT extends AIiUidEnumDataType<? extends R, O>> AIiUidEnumDataOrigin getOrigin(
 			@Nonnull final GUEDT aEnumDataType,
 			@Nonnull String aUid) {
-		return parseUid(aEnumDataType, aUid).origin();
+		return aEnumDataType.getUidParser().parse(aUid).origin();
 	}
 
 	/**
@@ -216,7 +242,7 @@ public class AIsUidEnumDataUtils {
 	public static <R extends AIiUidEnumDataRecord, O extends AIiUidEnumDataOrigin,
 			GUEDT extends AIiUidEnumDataType<? extends R, O>> String getNamespace(
 			final GUEDT aComponentType, String aUid) {
-		return parseUid(aComponentType, aUid).namespace();
+		return aComponentType.getUidParser().parse(aUid).namespace();
 	}
 
 	/**
@@ -244,15 +270,14 @@ public class AIsUidEnumDataUtils {
 							+ " segments '<origin-code>:<namespace>:"
 							+ String.join(UID_PART_SEPARATOR,
 														aEnumDataType.getSpecificUidPartsMetadata().stream()
-															.map(locName -> "<" + locName + ">").toList()) + "': '" + aUid + "'"
+															.map(locMetadata -> "<" + locMetadata.displayLabelSupplier().get() + ">").toList()) + "': '" + aUid + "'"
 			);
 		}
 		return locParts;
 	}
 
-	private static <R extends AIiUidEnumDataRecord, O extends AIiUidEnumDataOrigin,
-			GUEDT extends AIiUidEnumDataType<? extends R, O>> void validatePartsSemantics(
-			@Nonnull GUEDT aEnumDataType,
+	private static <O extends AIiUidEnumDataOrigin> void validatePartsSemantics(
+			@Nonnull AIiUidEnumDataType<?, O> aEnumDataType,
 			@Nonnull O aEnumDataOrigin,
 			@Nonnull String[] aEnumDataParts
 	) {
@@ -266,15 +291,13 @@ public class AIsUidEnumDataUtils {
 
 		if (!aEnumDataOrigin.namespaceUsed()) {
 			if (!locNamespace.isEmpty()) {
-				throw new IllegalArgumentException("Invalid builtin UID: " 
-						+ aEnumDataType.getSpecificUidPartsMetadata().get(NAMESPACE_UID_POSITION).displayLabelSupplier().get()
-						+ " must be empty");
+				throw new IllegalArgumentException("Invalid UID: namespace must be empty for the origin '"
+						+ aEnumDataOrigin.code() + "'");
 			}
 		} else {
 			if (locNamespace.isBlank()) {
-				throw new IllegalArgumentException("Invalid builtin UID: "
-						+ aEnumDataType.getSpecificUidPartsMetadata().get(NAMESPACE_UID_POSITION).displayLabelSupplier().get()
-						+ " must be non-blank");
+				throw new IllegalArgumentException("Invalid UID: namespace must be non-blank for the origin '"
+						+ aEnumDataOrigin.code() + "'");
 			}
 			validateSafeNamespace(locNamespace);
 		}
@@ -0,0 +1,293 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * Title: {@link AIcAbstractIntervalTree}
+ * </p>
+ * <p>
+ * Description: Common part of the interval trees - a binary search tree ordered by the interval order,
+ * where every node is augmented by the interval of its subtree with the greatest right endpoint.
+ * </p>
+ * <p>
+ * The augmentation allows pruning all subtrees which end before the queried value, so the stabbing and overlap
+ * queries run in {@code O(log n + k)} for {@code k} reported intervals.
+ * </p>
+ *
+ * @param <T> value type
+ * @param <I> interval type
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+abstract class AIcAbstractIntervalTree<T extends Comparable, I extends AIiInterval<T>> implements AIiIntervalIndex<T, I> {
+
+	@Nonnull
+	private final Comparator<? super T> valueComparator;
+
+	@Nonnull
+	private final Comparator<I> intervalComparator;
+
+	AIcAbstractIntervalTree(@Nullable final Comparator<? super T> aValueComparator) {
+		valueComparator = aValueComparator != null ? aValueComparator : AIsIntervalUtils.naturalOrder();
+		intervalComparator = (aLeft, aRight) -> {
+			int locCmp = AIsIntervalUtils.compareLeftEndpoints(aLeft, aRight, valueComparator);
+			return locCmp != 0 ? locCmp : AIsIntervalUtils.compareRightEndpoints(aLeft, aRight, valueComparator);
+		};
+	}
+
+	/**
+	 * @return root of the tree or {@code null} if the tree is empty
+	 */
+	@Nullable
+	abstract AIcNode<T, I> root();
+
+	@Override
+	@Nonnull
+	public Comparator<? super T> getValueComparator() {
+		return valueComparator;
+	}
+
+	/**
+	 * @return comparator ordering the intervals by left endpoint, then by right endpoint
+	 */
+	@Nonnull
+	public Comparator<I> getIntervalComparator() {
+		return intervalComparator;
+	}
+
+	@Override
+	public void forEachContaining(@Nonnull final T aValue, @Nonnull final Consumer<? super I> aConsumer) {
+		Objects.requireNonNull(aValue, "Value must not be null");
+		Objects.requireNonNull(aConsumer, "Consumer must not be null");
+		forEachContaining(root(), aValue, aConsumer);
+	}
+
+	@Override
+	public void forEachOverlapping(@Nonnull final AIiInterval<T> aQuery, @Nonnull final Consumer<? super I> aConsumer) {
+		Objects.requireNonNull(aQuery, "Query must not be null");
+		Objects.requireNonNull(aConsumer, "Consumer must not be null");
+		if (!AIsIntervalUtils.isSatisfiable(aQuery, valueComparator)) {
+			throw new IllegalArgumentException("Query interval must not be empty: " + aQuery);
+		}
+		forEachOverlapping(root(), aQuery, aConsumer);
+	}
+
+	@Override
+	@Nullable
+	public I findFirstContaining(@Nonnull final T aValue) {
+		Objects.requireNonNull(aValue, "Value must not be null");
+		return findFirstContaining(root(), aValue);
+	}
+
+	@Override
+	@Nullable
+	public I findNearestBefore(@Nonnull final T aValue) {
+		Objects.requireNonNull(aValue, "Value must not be null");
+		return findNearestBefore(root(), aValue);
+	}
+
+	@Override
+	@Nullable
+	public I findNearestAfter(@Nonnull final T aValue) {
+		Objects.requireNonNull(aValue, "Value must not be null");
+		/* the predicate "value is before the left endpoint" is monotone in the interval order */
+		I locResult = null;
+		AIcNode<T, I> locNode = root();
+		while (locNode != null) {
+			if (AIsIntervalUtils.isBeforeLeftEndpoint(aValue, locNode.interval, valueComparator)) {
+				locResult = locNode.interval;
+				locNode = locNode.left;
+			} else {
+				locNode = locNode.right;
+			}
+		}
+		return locResult;
+	}
+
+	@Override
+	@Nonnull
+	public List<I> toList() {
+		List<I> locResult = new ArrayList<>(size());
+		collect(root(), locResult);
+		return locResult;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + toList();
+	}
+
+	private void forEachContaining(@Nullable final AIcNode<T, I> aNode, @Nonnull final T aValue, @Nonnull final Consumer<? super I> aConsumer) {
+		if (aNode == null || AIsIntervalUtils.isAfterRightEndpoint(aValue, aNode.maxRight, valueComparator)) {
+			return;
+		}
+		forEachContaining(aNode.left, aValue, aConsumer);
+		if (AIsIntervalUtils.isBeforeLeftEndpoint(aValue, aNode.interval, valueComparator)) {
+			/* the node and its right subtree start after the value */
+			return;
+		}
+		if (!AIsIntervalUtils.isAfterRightEndpoint(aValue, aNode.interval, valueComparator)) {
+			aConsumer.accept(aNode.interval);
+		}
+		forEachContaining(aNode.right, aValue, aConsumer);
+	}
+
+	@Nullable
+	private I findFirstContaining(@Nullable final AIcNode<T, I> aNode, @Nonnull final T aValue) {
+		if (aNode == null || AIsIntervalUtils.isAfterRightEndpoint(aValue, aNode.maxRight, valueComparator)) {
+			return null;
+		}
+		I locResult = findFirstContaining(aNode.left, aValue);
+		if (locResult != null || AIsIntervalUtils.isBeforeLeftEndpoint(aValue, aNode.interval, valueComparator)) {
+			return locResult;
+		}
+		if (!AIsIntervalUtils.isAfterRightEndpoint(aValue, aNode.interval, valueComparator)) {
+			return aNode.interval;
+		}
+		return findFirstContaining(aNode.right, aValue);
+	}
+
+	private void forEachOverlapping(
+			@Nullable final AIcNode<T, I> aNode,
+			@Nonnull final AIiInterval<T> aQuery,
+			@Nonnull final Consumer<? super I> aConsumer
+	) {
+		if (aNode == null || AIsIntervalUtils.isStrictlyBefore(aNode.maxRight, aQuery, valueComparator)) {
+			return;
+		}
+		forEachOverlapping(aNode.left, aQuery, aConsumer);
+		if (AIsIntervalUtils.isStrictlyBefore(aQuery, aNode.interval, valueComparator)) {
+			/* the node and its right subtree start after the query ends */
+			return;
+		}
+		if (!AIsIntervalUtils.isStrictlyBefore(aNode.interval, aQuery, valueComparator)) {
+			aConsumer.accept(aNode.interval);
+		}
+		forEachOverlapping(aNode.right, aQuery, aConsumer);
+	}
+
+	@Nullable
+	private I findNearestBefore(@Nullable final AIcNode<T, I> aNode, @Nonnull final T aValue) {
+		if (aNode == null) {
+			return null;
+		}
+		if (AIsIntervalUtils.isAfterRightEndpoint(aValue, aNode.maxRight, valueComparator)) {
+			/* the whole subtree ends before the value */
+			return aNode.maxRight;
+		}
+		I locResult = findNearestBefore(aNode.left, aValue);
+		if (AIsIntervalUtils.isBeforeLeftEndpoint(aValue, aNode.interval, valueComparator)) {
+			return locResult;
+		}
+		if (AIsIntervalUtils.isAfterRightEndpoint(aValue, aNode.interval, valueComparator)) {
+			locResult = maxRight(locResult, aNode.interval);
+		}
+		return maxRight(locResult, findNearestBefore(aNode.right, aValue));
+	}
+
+	private void collect(@Nullable final AIcNode<T, I> aNode, @Nonnull final List<I> aTarget) {
+		if (aNode != null) {
+			collect(aNode.left, aTarget);
+			aTarget.add(aNode.interval);
+			collect(aNode.right, aTarget);
+		}
+	}
+
+	/**
+	 * Validates an interval being added.
+	 */
+	@Nonnull
+	I checkInterval(@Nullable final I aInterval) {
+		Objects.requireNonNull(aInterval, "Interval must not be null");
+		if (!AIsIntervalUtils.isSatisfiable(aInterval, valueComparator)) {
+			throw new IllegalArgumentException("Interval must not be empty: " + aInterval);
+		}
+		return aInterval;
+	}
+
+	/**
+	 * @return validated intervals sorted by the interval order
+	 */
+	@Nonnull
+	List<I> sortedCopy(@Nonnull final Collection<? extends I> aIntervals) {
+		Objects.requireNonNull(aIntervals, "Intervals must not be null");
+		List<I> locSorted = new ArrayList<>(aIntervals.size());
+		for (I locInterval : aIntervals) {
+			locSorted.add(checkInterval(locInterval));
+		}
+		locSorted.sort(intervalComparator);
+		return locSorted;
+	}
+
+	/**
+	 * Builds a perfectly balanced subtree of the sorted intervals in {@code O(n)}.
+	 */
+	@Nullable
+	AIcNode<T, I> buildBalanced(@Nonnull final List<I> aSorted, final int aFrom, final int aTo) {
+		if (aFrom >= aTo) {
+			return null;
+		}
+		int locMiddle = (aFrom + aTo) >>> 1;
+		AIcNode<T, I> locNode = new AIcNode<>(aSorted.get(locMiddle));
+		locNode.left = buildBalanced(aSorted, aFrom, locMiddle);
+		locNode.right = buildBalanced(aSorted, locMiddle + 1, aTo);
+		update(locNode);
+		return locNode;
+	}
+
+	/**
+	 * Recomputes the height and the augmentation of the node from its children.
+	 */
+	void update(@Nonnull final AIcNode<T, I> aNode) {
+		I locMaxRight = aNode.interval;
+		int locHeight = 0;
+		if (aNode.left != null) {
+			locMaxRight = maxRight(locMaxRight, aNode.left.maxRight);
+			locHeight = aNode.left.height;
+		}
+		if (aNode.right != null) {
+			locMaxRight = maxRight(locMaxRight, aNode.right.maxRight);
+			locHeight = Math.max(locHeight, aNode.right.height);
+		}
+		aNode.maxRight = locMaxRight;
+		aNode.height = locHeight + 1;
+	}
+
+	@Nullable
+	private I maxRight(@Nullable final I aFirst, @Nullable final I aSecond) {
+		if (aFirst == null || aSecond == null) {
+			return aFirst != null ? aFirst : aSecond;
+		}
+		return AIsIntervalUtils.compareRightEndpoints(aFirst, aSecond, valueComparator) >= 0 ? aFirst : aSecond;
+	}
+
+	/**
+	 * Tree node.
+	 */
+	static final class AIcNode<T extends Comparable, I extends AIiInterval<T>> {
+
+		@Nonnull
+		final I interval;
+		AIcNode<T, I> left;
+		AIcNode<T, I> right;
+		/* interval of the subtree with the greatest right endpoint */
+		I maxRight;
+		int height;
+
+		AIcNode(@Nonnull final I aInterval) {
+			interval = aInterval;
+			maxRight = aInterval;
+			height = 1;
+		}
+	}
+}
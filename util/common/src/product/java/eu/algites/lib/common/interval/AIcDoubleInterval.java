@@ -0,0 +1,137 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Title: {@link AIcDoubleInterval}
+ * </p>
+ * <p>
+ * Description: Immutable implementation of {@link AIiDoubleInterval} storing primitive values and boundary flags.
+ * </p>
+ * <p>
+ * Instances are equal to (and have the same hash code as) an {@link AIcInterval} with the same boundaries and boxed values.
+ * The value of an unbounded side is stored as {@code 0}.
+ * </p>
+ * <p>
+ * Values are ordered by {@link Double#compare(double, double)}, as their boxed {@link Double} counterparts;
+ * in particular {@code -0.0} is less than {@code 0.0}. {@code NaN} values are rejected.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public final class AIcDoubleInterval implements AIiDoubleInterval, Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private final int boundaryFlags;
+	private final double leftValue;
+	private final double rightValue;
+
+	/**
+	 * Creates a new interval.
+	 *
+	 * @param aLeftBoundary left boundary
+	 * @param aLeftValue left value (ignored if the boundary ignores its value)
+	 * @param aRightBoundary right boundary
+	 * @param aRightValue right value (ignored if the boundary ignores its value)
+	 */
+	public AIcDoubleInterval(@Nonnull final AInIntervalBoundary aLeftBoundary, final double aLeftValue,
+			@Nonnull final AInIntervalBoundary aRightBoundary, final double aRightValue) {
+		this(AIsIntervalBoundaryFlags.of(aLeftBoundary, aRightBoundary), aLeftValue, aRightValue);
+	}
+
+	/**
+	 * Creates a new interval.
+	 *
+	 * @param aBoundaryFlags boundaries encoded by {@link AIsIntervalBoundaryFlags}
+	 * @param aLeftValue left value (ignored if the left side is unbounded)
+	 * @param aRightValue right value (ignored if the right side is unbounded)
+	 */
+	public AIcDoubleInterval(final int aBoundaryFlags, final double aLeftValue, final double aRightValue) {
+		this(aBoundaryFlags, aLeftValue, aRightValue, false);
+	}
+
+	/**
+	 * Creates a new interval, optionally skipping the validation for results of interval operations.
+	 */
+	AIcDoubleInterval(final int aBoundaryFlags, final double aLeftValue, final double aRightValue, final boolean aSkipValidation) {
+		boolean locLeftUnbounded = AIsIntervalBoundaryFlags.isLeftUnbounded(aBoundaryFlags);
+		boolean locRightUnbounded = AIsIntervalBoundaryFlags.isRightUnbounded(aBoundaryFlags);
+		if (!aSkipValidation) {
+			if (!AIsIntervalBoundaryFlags.isValid(aBoundaryFlags)) {
+				throw new IllegalArgumentException("Invalid boundary flags: " + aBoundaryFlags);
+			}
+			if ((!locLeftUnbounded && Double.isNaN(aLeftValue)) || (!locRightUnbounded && Double.isNaN(aRightValue))) {
+				throw new IllegalArgumentException("Interval values must not be NaN");
+			}
+			if (!locLeftUnbounded && !locRightUnbounded) {
+				int locCmp = Double.compare(aLeftValue, aRightValue);
+				if (locCmp > 0) {
+					throw new IllegalArgumentException("Invalid interval: left value is greater than right value");
+				}
+				if (locCmp == 0 && (AIsIntervalBoundaryFlags.isLeftOpen(aBoundaryFlags) || AIsIntervalBoundaryFlags.isRightOpen(aBoundaryFlags))) {
+					throw new IllegalArgumentException("Invalid interval: point interval requires both boundaries to be closed");
+				}
+			}
+		}
+		boundaryFlags = aBoundaryFlags;
+		leftValue = locLeftUnbounded ? 0 : aLeftValue;
+		rightValue = locRightUnbounded ? 0 : aRightValue;
+	}
+
+	@Override
+	public int getBoundaryFlags() {
+		return boundaryFlags;
+	}
+
+	@Override
+	public double getLeftDoubleValue() {
+		return leftValue;
+	}
+
+	@Override
+	public double getRightDoubleValue() {
+		return rightValue;
+	}
+
+	@Override
+	public boolean equals(final Object aOther) {
+		if (this == aOther) {
+			return true;
+		}
+		if (aOther instanceof AIiDoubleInterval locOther) {
+			return boundaryFlags == locOther.getBoundaryFlags()
+					&& (AIsIntervalBoundaryFlags.isLeftUnbounded(boundaryFlags) || Double.compare(leftValue, locOther.getLeftDoubleValue()) == 0)
+					&& (AIsIntervalBoundaryFlags.isRightUnbounded(boundaryFlags) || Double.compare(rightValue, locOther.getRightDoubleValue()) == 0);
+		}
+		if (!(aOther instanceof AIiInterval)) {
+			return false;
+		}
+		AIiInterval<?> locOther = (AIiInterval<?>) aOther;
+		return getLeftBoundary() == locOther.getLeftBoundary()
+				&& getRightBoundary() == locOther.getRightBoundary()
+				&& Objects.equals(getLeftValue(), locOther.getLeftValue())
+				&& Objects.equals(getRightValue(), locOther.getRightValue());
+	}
+
+	@Override
+	public int hashCode() {
+		/* same as Objects.hash(leftBoundary, leftValue, rightBoundary, rightValue) of AIcInterval, without boxing */
+		int locHash = 31 + getLeftBoundary().hashCode();
+		locHash = 31 * locHash + (AIsIntervalBoundaryFlags.isLeftUnbounded(boundaryFlags) ? 0 : Double.hashCode(leftValue));
+		locHash = 31 * locHash + getRightBoundary().hashCode();
+		return 31 * locHash + (AIsIntervalBoundaryFlags.isRightUnbounded(boundaryFlags) ? 0 : Double.hashCode(rightValue));
+	}
+
+	@Override
+	public String toString() {
+		return AIsIntervalUtils.toStringRepresentation(this);
+	}
+}
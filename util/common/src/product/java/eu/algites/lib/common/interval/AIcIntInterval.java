@@ -0,0 +1,130 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Title: {@link AIcIntInterval}
+ * </p>
+ * <p>
+ * Description: Immutable implementation of {@link AIiIntInterval} storing primitive values and boundary flags.
+ * </p>
+ * <p>
+ * Instances are equal to (and have the same hash code as) an {@link AIcInterval} with the same boundaries and boxed values.
+ * The value of an unbounded side is stored as {@code 0}.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public final class AIcIntInterval implements AIiIntInterval, Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private final int boundaryFlags;
+	private final int leftValue;
+	private final int rightValue;
+
+	/**
+	 * Creates a new interval.
+	 *
+	 * @param aLeftBoundary left boundary
+	 * @param aLeftValue left value (ignored if the boundary ignores its value)
+	 * @param aRightBoundary right boundary
+	 * @param aRightValue right value (ignored if the boundary ignores its value)
+	 */
+	public AIcIntInterval(@Nonnull final AInIntervalBoundary aLeftBoundary, final int aLeftValue,
+			@Nonnull final AInIntervalBoundary aRightBoundary, final int aRightValue) {
+		this(AIsIntervalBoundaryFlags.of(aLeftBoundary, aRightBoundary), aLeftValue, aRightValue);
+	}
+
+	/**
+	 * Creates a new interval.
+	 *
+	 * @param aBoundaryFlags boundaries encoded by {@link AIsIntervalBoundaryFlags}
+	 * @param aLeftValue left value (ignored if the left side is unbounded)
+	 * @param aRightValue right value (ignored if the right side is unbounded)
+	 */
+	public AIcIntInterval(final int aBoundaryFlags, final int aLeftValue, final int aRightValue) {
+		this(aBoundaryFlags, aLeftValue, aRightValue, false);
+	}
+
+	/**
+	 * Creates a new interval, optionally skipping the validation for results of interval operations.
+	 */
+	AIcIntInterval(final int aBoundaryFlags, final int aLeftValue, final int aRightValue, final boolean aSkipValidation) {
+		boolean locLeftUnbounded = AIsIntervalBoundaryFlags.isLeftUnbounded(aBoundaryFlags);
+		boolean locRightUnbounded = AIsIntervalBoundaryFlags.isRightUnbounded(aBoundaryFlags);
+		if (!aSkipValidation) {
+			if (!AIsIntervalBoundaryFlags.isValid(aBoundaryFlags)) {
+				throw new IllegalArgumentException("Invalid boundary flags: " + aBoundaryFlags);
+			}
+			if (!locLeftUnbounded && !locRightUnbounded) {
+				int locCmp = Integer.compare(aLeftValue, aRightValue);
+				if (locCmp > 0) {
+					throw new IllegalArgumentException("Invalid interval: left value is greater than right value");
+				}
+				if (locCmp == 0 && (AIsIntervalBoundaryFlags.isLeftOpen(aBoundaryFlags) || AIsIntervalBoundaryFlags.isRightOpen(aBoundaryFlags))) {
+					throw new IllegalArgumentException("Invalid interval: point interval requires both boundaries to be closed");
+				}
+			}
+		}
+		boundaryFlags = aBoundaryFlags;
+		leftValue = locLeftUnbounded ? 0 : aLeftValue;
+		rightValue = locRightUnbounded ? 0 : aRightValue;
+	}
+
+	@Override
+	public int getBoundaryFlags() {
+		return boundaryFlags;
+	}
+
+	@Override
+	public int getLeftIntValue() {
+		return leftValue;
+	}
+
+	@Override
+	public int getRightIntValue() {
+		return rightValue;
+	}
+
+	@Override
+	public boolean equals(final Object aOther) {
+		if (this == aOther) {
+			return true;
+		}
+		if (aOther instanceof AIiIntInterval locOther) {
+			return boundaryFlags == locOther.getBoundaryFlags()
+					&& (AIsIntervalBoundaryFlags.isLeftUnbounded(boundaryFlags) || leftValue == locOther.getLeftIntValue())
+					&& (AIsIntervalBoundaryFlags.isRightUnbounded(boundaryFlags) || rightValue == locOther.getRightIntValue());
+		}
+		if (!(aOther instanceof AIiInterval)) {
+			return false;
+		}
+		AIiInterval<?> locOther = (AIiInterval<?>) aOther;
+		return getLeftBoundary() == locOther.getLeftBoundary()
+				&& getRightBoundary() == locOther.getRightBoundary()
+				&& Objects.equals(getLeftValue(), locOther.getLeftValue())
+				&& Objects.equals(getRightValue(), locOther.getRightValue());
+	}
+
+	@Override
+	public int hashCode() {
+		/* same as Objects.hash(leftBoundary, leftValue, rightBoundary, rightValue) of AIcInterval, without boxing */
+		int locHash = 31 + getLeftBoundary().hashCode();
+		locHash = 31 * locHash + (AIsIntervalBoundaryFlags.isLeftUnbounded(boundaryFlags) ? 0 : Integer.hashCode(leftValue));
+		locHash = 31 * locHash + getRightBoundary().hashCode();
+		return 31 * locHash + (AIsIntervalBoundaryFlags.isRightUnbounded(boundaryFlags) ? 0 : Integer.hashCode(rightValue));
+	}
+
+	@Override
+	public String toString() {
+		return AIsIntervalUtils.toStringRepresentation(this);
+	}
+}
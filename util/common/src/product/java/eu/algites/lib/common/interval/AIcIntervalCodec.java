@@ -0,0 +1,455 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>
+ * Title: {@link AIcIntervalCodec}
+ * </p>
+ * <p>
+ * Description: Compact binary format of interval sequences sorted by their left endpoints,
+ * e.g. {@link AIcIntervalSet#asList()}.
+ * </p>
+ * <p>
+ * The values are mapped to {@code long} keys by an order preserving, reversible mapping. The intervals are
+ * written in blocks; a block starts with the boundaries of its intervals packed by {@link AIsIntervalBoundaryFlags}
+ * into 4 bits per interval, followed by the left endpoint as a difference to the previous left endpoint and
+ * the right endpoint as a difference to the left one, both as zig-zag varints. Sorted input therefore takes
+ * a few bytes per interval instead of the tens of bytes of Java serialization.
+ * </p>
+ * <p>
+ * Layout: the magic as a 4-byte int, the version byte, the count and the block size as varints, the blocks, an index
+ * with the offset and the maximal right key of each block, and the offset of the index in the last 4 bytes.
+ * {@link #decode(InputStream, Consumer)} reads the blocks as a stream and ignores the index;
+ * {@link #decodeFrom(ByteBuffer, Comparable, Consumer)} uses the index to skip the blocks in which all intervals end
+ * before a value. The codec is immutable and thread safe.
+ * </p>
+ *
+ * @param <T> value type
+ * @param <I> type of the decoded intervals
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public final class AIcIntervalCodec<T extends Comparable, I extends AIiInterval<T>> {
+
+	/**
+	 * Default number of intervals of a block.
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 128;
+
+	/**
+	 * Maximal number of intervals of a block, which limits the buffer allocated by the decoding of untrusted data.
+	 */
+	public static final int MAX_BLOCK_SIZE = 1 << 16;
+
+	/* "AIIC" */
+	private static final int MAGIC = 0x41494943;
+
+	private static final int FORMAT_VERSION = 1;
+
+	private static final int INDEX_ENTRY_SIZE = Integer.BYTES + Long.BYTES;
+
+	private final ToLongFunction<? super T> encoder;
+
+	private final LongFunction<? extends T> decoder;
+
+	private final AIiIntervalFactory<T, I> factory;
+
+	private final int blockSize;
+
+	private AIcIntervalCodec(
+			@Nonnull final ToLongFunction<? super T> aEncoder,
+			@Nonnull final LongFunction<? extends T> aDecoder,
+			@Nonnull final AIiIntervalFactory<T, I> aFactory,
+			final int aBlockSize
+	) {
+		encoder = Objects.requireNonNull(aEncoder, "Encoder must not be null");
+		decoder = Objects.requireNonNull(aDecoder, "Decoder must not be null");
+		factory = Objects.requireNonNull(aFactory, "Factory must not be null");
+		if (aBlockSize <= 0 || aBlockSize > MAX_BLOCK_SIZE) {
+			throw new IllegalArgumentException("Block size must be between 1 and " + MAX_BLOCK_SIZE + ": " + aBlockSize);
+		}
+		blockSize = aBlockSize;
+	}
+
+	/**
+	 * @return codec of {@link Long} intervals
+	 */
+	@Nonnull
+	public static AIcIntervalCodec<Long, AIcInterval<Long>> longs() {
+		return new AIcIntervalCodec<Long, AIcInterval<Long>>(Long::longValue, Long::valueOf,
+				(aLeftBoundary, aLeftValue, aRightBoundary, aRightValue) -> new AIcInterval<>(aLeftBoundary, aLeftValue, aRightBoundary, aRightValue),
+				DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * @return codec of {@link Integer} intervals
+	 */
+	@Nonnull
+	public static AIcIntervalCodec<Integer, AIcInterval<Integer>> integers() {
+		return new AIcIntervalCodec<Integer, AIcInterval<Integer>>(Integer::longValue, Math::toIntExact,
+				(aLeftBoundary, aLeftValue, aRightBoundary, aRightValue) -> new AIcInterval<>(aLeftBoundary, aLeftValue, aRightBoundary, aRightValue),
+				DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Creates a codec of intervals of any type with an order preserving mapping to {@code long}.
+	 *
+	 * @param aEncoder mapping of the values to keys; a greater value must get a greater key
+	 * @param aDecoder inverse mapping of the keys to the values
+	 * @param aFactory factory creating the decoded intervals
+	 * @param <T> value type
+	 * @param <I> interval type
+	 * @return new codec
+	 */
+	@Nonnull
+	public static <T extends Comparable, I extends AIiInterval<T>> AIcIntervalCodec<T, I> of(
+			@Nonnull final ToLongFunction<? super T> aEncoder,
+			@Nonnull final LongFunction<? extends T> aDecoder,
+			@Nonnull final AIiIntervalFactory<T, I> aFactory
+	) {
+		return new AIcIntervalCodec<>(aEncoder, aDecoder, aFactory, DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * @param aBlockSize number of intervals of a block up to {@link #MAX_BLOCK_SIZE}; smaller blocks skip more precisely,
+	 *    larger ones have a smaller index
+	 * @return codec writing blocks of the given size
+	 */
+	@Nonnull
+	public AIcIntervalCodec<T, I> withBlockSize(final int aBlockSize) {
+		return new AIcIntervalCodec<>(encoder, decoder, factory, aBlockSize);
+	}
+
+	/**
+	 * Encodes the intervals.
+	 *
+	 * @param aIntervals intervals, preferably sorted by their left endpoints
+	 * @return encoded intervals
+	 */
+	@Nonnull
+	public byte[] encode(@Nonnull final Collection<? extends AIiInterval<T>> aIntervals) {
+		ByteArrayOutputStream locOutput = new ByteArrayOutputStream(16 + aIntervals.size() * 4);
+		try {
+			encode(aIntervals, locOutput);
+		} catch (IOException e) {
+			throw new IllegalStateException("In-memory stream must not fail", e);
+		}
+		return locOutput.toByteArray();
+	}
+
+	/**
+	 * Encodes the intervals to the stream.
+	 *
+	 * @param aIntervals intervals, preferably sorted by their left endpoints
+	 * @param aOutput target stream; it is not closed
+	 * @throws IOException if the stream fails
+	 */
+	public void encode(@Nonnull final Collection<? extends AIiInterval<T>> aIntervals, @Nonnull final OutputStream aOutput) throws IOException {
+		Objects.requireNonNull(aIntervals, "Intervals must not be null");
+		Objects.requireNonNull(aOutput, "Output must not be null");
+		List<AIiInterval<T>> locIntervals = List.copyOf(aIntervals);
+		ByteArrayOutputStream locData = new ByteArrayOutputStream(16 + locIntervals.size() * 4);
+		writeInt(locData, MAGIC);
+		locData.write(FORMAT_VERSION);
+		writeVarint(locData, locIntervals.size());
+		writeVarint(locData, blockSize);
+
+		int locBlocks = (locIntervals.size() + blockSize - 1) / blockSize;
+		int[] locOffsets = new int[locBlocks];
+		long[] locMaxRightKeys = new long[locBlocks];
+		for (int locBlock = 0; locBlock < locBlocks; locBlock++) {
+			locOffsets[locBlock] = locData.size();
+			int locFrom = locBlock * blockSize;
+			int locTo = Math.min(locFrom + blockSize, locIntervals.size());
+			for (int locIndex = locFrom; locIndex < locTo; locIndex += 2) {
+				int locFlags = flags(locIntervals.get(locIndex));
+				if (locIndex + 1 < locTo) {
+					locFlags |= flags(locIntervals.get(locIndex + 1)) << 4;
+				}
+				locData.write(locFlags);
+			}
+			long locPrevious = 0;
+			long locMaxRightKey = Long.MIN_VALUE;
+			for (int locIndex = locFrom; locIndex < locTo; locIndex++) {
+				AIiInterval<T> locInterval = locIntervals.get(locIndex);
+				long locBase = locPrevious;
+				if (locInterval.getLeftBoundary() != AInIntervalBoundary.UNBOUNDED) {
+					long locLeftKey = encoder.applyAsLong(locInterval.getLeftValue());
+					writeVarint(locData, zigZag(locLeftKey - locPrevious));
+					locPrevious = locLeftKey;
+					locBase = locLeftKey;
+				}
+				if (locInterval.getRightBoundary() != AInIntervalBoundary.UNBOUNDED) {
+					long locRightKey = encoder.applyAsLong(locInterval.getRightValue());
+					writeVarint(locData, zigZag(locRightKey - locBase));
+					locMaxRightKey = Math.max(locMaxRightKey, locRightKey);
+				} else {
+					locMaxRightKey = Long.MAX_VALUE;
+				}
+			}
+			locMaxRightKeys[locBlock] = locMaxRightKey;
+		}
+
+		int locIndexOffset = locData.size();
+		for (int locBlock = 0; locBlock < locBlocks; locBlock++) {
+			writeInt(locData, locOffsets[locBlock]);
+			writeLong(locData, locMaxRightKeys[locBlock]);
+		}
+		writeInt(locData, locIndexOffset);
+		locData.writeTo(aOutput);
+	}
+
+	/**
+	 * Decodes all intervals.
+	 *
+	 * @param aData encoded intervals
+	 * @return decoded intervals in their encoded order
+	 * @throws IllegalArgumentException if the data is not valid
+	 */
+	@Nonnull
+	public List<I> decode(@Nonnull final byte[] aData) {
+		Objects.requireNonNull(aData, "Data must not be null");
+		ByteBuffer locBuffer = ByteBuffer.wrap(aData);
+		List<I> locResult = new ArrayList<>();
+		try {
+			AIrHeader locHeader = readHeader(() -> locBuffer.get() & 0xFF);
+			checkRemaining(locHeader, locBuffer.remaining());
+			decodeBlocks(() -> locBuffer.get() & 0xFF, locHeader.count, locHeader.blockSize, locResult::add);
+		} catch (IOException | BufferUnderflowException e) {
+			throw new IllegalArgumentException("Invalid interval data", e);
+		}
+		return locResult;
+	}
+
+	/**
+	 * Decodes the intervals from the stream as they are read.
+	 *
+	 * @param aInput source stream positioned at the encoded intervals; it is not closed and it is read only up to the last block.
+	 *    It is read byte by byte, so a stream reading a file or a socket should be passed as a {@link java.io.BufferedInputStream}
+	 * @param aConsumer consumer of the decoded intervals
+	 * @throws IOException if the stream fails or its data is not valid
+	 */
+	public void decode(@Nonnull final InputStream aInput, @Nonnull final Consumer<? super I> aConsumer) throws IOException {
+		Objects.requireNonNull(aInput, "Input must not be null");
+		Objects.requireNonNull(aConsumer, "Consumer must not be null");
+		AIiByteInput locInput = () -> {
+			int locByte = aInput.read();
+			if (locByte < 0) {
+				throw new EOFException("Unexpected end of interval data");
+			}
+			return locByte;
+		};
+		AIrHeader locHeader = readHeader(locInput);
+		decodeBlocks(locInput, locHeader.count, locHeader.blockSize, aConsumer);
+	}
+
+	/**
+	 * Decodes the intervals not ending before the value, skipping the blocks in which all intervals end before it.
+	 *
+	 * @param aData encoded intervals from its position to its limit; the position is not changed
+	 * @param aFrom value
+	 * @param aConsumer consumer of the decoded intervals
+	 * @throws IllegalArgumentException if the data is not valid
+	 */
+	public void decodeFrom(@Nonnull final ByteBuffer aData, @Nonnull final T aFrom, @Nonnull final Consumer<? super I> aConsumer) {
+		Objects.requireNonNull(aData, "Data must not be null");
+		Objects.requireNonNull(aFrom, "Value must not be null");
+		Objects.requireNonNull(aConsumer, "Consumer must not be null");
+		ByteBuffer locBuffer = aData.slice();
+		long locFromKey = encoder.applyAsLong(aFrom);
+		try {
+			AIrHeader locHeader = readHeader(() -> locBuffer.get() & 0xFF);
+			checkRemaining(locHeader, locBuffer.remaining());
+			int locBlocks = (locHeader.count + locHeader.blockSize - 1) / locHeader.blockSize;
+			int locIndexOffset = locBuffer.getInt(locBuffer.limit() - Integer.BYTES);
+			if (locIndexOffset < 0 || (long) locIndexOffset + (long) locBlocks * INDEX_ENTRY_SIZE + Integer.BYTES != locBuffer.limit()) {
+				throw new IOException("Invalid index offset " + locIndexOffset);
+			}
+			Consumer<I> locFilter = aInterval -> {
+				if (!endsBefore(aInterval, aFrom)) {
+					aConsumer.accept(aInterval);
+				}
+			};
+			byte[] locFlags = new byte[(Math.min(locHeader.blockSize, locHeader.count) + 1) / 2];
+			/* the blocks are sorted by the left endpoints only, so any block can contain a long interval reaching the value */
+			for (int locBlock = 0; locBlock < locBlocks; locBlock++) {
+				int locEntryOffset = locIndexOffset + locBlock * INDEX_ENTRY_SIZE;
+				if (locBuffer.getLong(locEntryOffset + Integer.BYTES) >= locFromKey) {
+					locBuffer.position(locBuffer.getInt(locEntryOffset));
+					int locFrom = locBlock * locHeader.blockSize;
+					decodeBlock(() -> locBuffer.get() & 0xFF, Math.min(locHeader.blockSize, locHeader.count - locFrom), locFlags, locFilter);
+				}
+			}
+		} catch (IOException | IndexOutOfBoundsException | BufferUnderflowException e) {
+			throw new IllegalArgumentException("Invalid interval data", e);
+		}
+	}
+
+	private void decodeBlocks(
+			@Nonnull final AIiByteInput aInput,
+			final int aCount,
+			final int aBlockSize,
+			@Nonnull final Consumer<? super I> aConsumer
+	) throws IOException {
+		/* the header limits the block size, so the count bounds the buffer even for the untrusted data */
+		byte[] locFlags = new byte[(Math.min(aBlockSize, aCount) + 1) / 2];
+		for (long locFrom = 0; locFrom < aCount; locFrom += aBlockSize) {
+			decodeBlock(aInput, (int) Math.min(aBlockSize, aCount - locFrom), locFlags, aConsumer);
+		}
+	}
+
+	private void decodeBlock(
+			@Nonnull final AIiByteInput aInput,
+			final int aSize,
+			@Nonnull final byte[] aFlags,
+			@Nonnull final Consumer<? super I> aConsumer
+	) throws IOException {
+		for (int locIndex = 0; locIndex < (aSize + 1) / 2; locIndex++) {
+			aFlags[locIndex] = (byte) aInput.read();
+		}
+		long locPrevious = 0;
+		for (int locIndex = 0; locIndex < aSize; locIndex++) {
+			int locIntervalFlags = aFlags[locIndex >> 1] >> ((locIndex & 1) * 4) & 0xF;
+			if (!AIsIntervalBoundaryFlags.isValid(locIntervalFlags)) {
+				throw new IOException("Invalid boundary flags " + locIntervalFlags);
+			}
+			T locLeftValue = null;
+			T locRightValue = null;
+			long locBase = locPrevious;
+			if (!AIsIntervalBoundaryFlags.isLeftUnbounded(locIntervalFlags)) {
+				locPrevious += unZigZag(readVarint(aInput));
+				locBase = locPrevious;
+				locLeftValue = decoder.apply(locPrevious);
+			}
+			if (!AIsIntervalBoundaryFlags.isRightUnbounded(locIntervalFlags)) {
+				locRightValue = decoder.apply(locBase + unZigZag(readVarint(aInput)));
+			}
+			aConsumer.accept(factory.create(
+					AIsIntervalBoundaryFlags.leftBoundary(locIntervalFlags),
+					locLeftValue,
+					AIsIntervalBoundaryFlags.rightBoundary(locIntervalFlags),
+					locRightValue
+			));
+		}
+	}
+
+	private boolean endsBefore(@Nonnull final AIiInterval<T> aInterval, @Nonnull final T aValue) {
+		AInIntervalBoundary locBoundary = aInterval.getRightBoundary();
+		if (locBoundary == AInIntervalBoundary.UNBOUNDED) {
+			return false;
+		}
+		long locRightKey = encoder.applyAsLong(aInterval.getRightValue());
+		long locKey = encoder.applyAsLong(aValue);
+		return locRightKey < locKey || (locRightKey == locKey && locBoundary == AInIntervalBoundary.OPEN);
+	}
+
+	private static int flags(@Nonnull final AIiInterval<?> aInterval) {
+		Objects.requireNonNull(aInterval, "Interval must not be null");
+		return AIsIntervalBoundaryFlags.of(aInterval.getLeftBoundary(), aInterval.getRightBoundary());
+	}
+
+	@Nonnull
+	private static AIrHeader readHeader(@Nonnull final AIiByteInput aInput) throws IOException {
+		int locMagic = aInput.read() << 24 | aInput.read() << 16 | aInput.read() << 8 | aInput.read();
+		if (locMagic != MAGIC) {
+			throw new IOException("Not an interval data stream");
+		}
+		int locVersion = aInput.read();
+		if (locVersion != FORMAT_VERSION) {
+			throw new IOException("Unsupported interval data version " + locVersion);
+		}
+		long locCount = readVarint(aInput);
+		long locBlockSize = readVarint(aInput);
+		if (locCount < 0 || locCount > Integer.MAX_VALUE || locBlockSize <= 0 || locBlockSize > MAX_BLOCK_SIZE) {
+			throw new IOException("Invalid interval data header");
+		}
+		return new AIrHeader((int) locCount, (int) locBlockSize);
+	}
+
+	/**
+	 * Checks that the data following the header can hold the flags of all intervals, at least half a byte each.
+	 */
+	private static void checkRemaining(@Nonnull final AIrHeader aHeader, final int aRemaining) throws IOException {
+		if ((aHeader.count + 1L) / 2 > aRemaining) {
+			throw new IOException("Interval count " + aHeader.count + " exceeds the data of " + aRemaining + " bytes");
+		}
+	}
+
+	private static long zigZag(final long aValue) {
+		return (aValue << 1) ^ (aValue >> 63);
+	}
+
+	private static long unZigZag(final long aValue) {
+		return (aValue >>> 1) ^ -(aValue & 1);
+	}
+
+	private static void writeVarint(@Nonnull final ByteArrayOutputStream aOutput, final long aValue) {
+		long locValue = aValue;
+		while ((locValue & ~0x7FL) != 0) {
+			aOutput.write((int) (locValue & 0x7F) | 0x80);
+			locValue >>>= 7;
+		}
+		aOutput.write((int) locValue);
+	}
+
+	private static long readVarint(@Nonnull final AIiByteInput aInput) throws IOException {
+		long locResult = 0;
+		for (int locShift = 0; locShift < Long.SIZE; locShift += 7) {
+			int locByte = aInput.read();
+			locResult |= (long) (locByte & 0x7F) << locShift;
+			if ((locByte & 0x80) == 0) {
+				return locResult;
+			}
+		}
+		throw new IOException("Varint is too long");
+	}
+
+	private static void writeInt(@Nonnull final ByteArrayOutputStream aOutput, final int aValue) {
+		aOutput.write(aValue >>> 24);
+		aOutput.write(aValue >>> 16);
+		aOutput.write(aValue >>> 8);
+		aOutput.write(aValue);
+	}
+
+	private static void writeLong(@Nonnull final ByteArrayOutputStream aOutput, final long aValue) {
+		writeInt(aOutput, (int) (aValue >>> 32));
+		writeInt(aOutput, (int) aValue);
+	}
+
+	/**
+	 * Source of the encoded bytes.
+	 */
+	@FunctionalInterface
+	private interface AIiByteInput {
+
+		/**
+		 * @return next byte as an unsigned value
+		 * @throws IOException if there is no next byte
+		 */
+		int read() throws IOException;
+	}
+
+	/**
+	 * @param count number of intervals
+	 * @param blockSize number of intervals of a block
+	 */
+	private record AIrHeader(int count, int blockSize) {
+	}
+}
@@ -0,0 +1,296 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * Title: {@link AIcIntervalParser}
+ * </p>
+ * <p>
+ * Description: Parses intervals written by {@link AIsIntervalUtils#toStringRepresentation(AIiInterval)},
+ * e.g. {@code [1, 5)}, {@code (*, 3]} or {@code (*, *)}.
+ * </p>
+ * <p>
+ * The text is read in a single pass without regular expressions or intermediate strings; the endpoint values
+ * are passed to the {@link AIiIntervalValueParser} as ranges of the text and the interval is created by the
+ * {@link AIiIntervalFactory}. Whitespace around the brackets, the values and the separating comma is ignored;
+ * the values must not contain a comma.
+ * </p>
+ * <p>
+ * The bulk methods parse one interval per line from a {@link Reader} or a {@link ByteBuffer}, skipping blank
+ * lines. The parser is immutable and thread safe if its value parser and factory are.
+ * </p>
+ *
+ * @param <T> value type
+ * @param <I> type of the parsed intervals
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public final class AIcIntervalParser<T extends Comparable, I extends AIiInterval<T>> {
+
+	private static final int READ_BUFFER_SIZE = 8192;
+
+	private final AIiIntervalValueParser<T> valueParser;
+
+	private final AIiIntervalFactory<T, I> factory;
+
+	private AIcIntervalParser(@Nonnull final AIiIntervalValueParser<T> aValueParser, @Nonnull final AIiIntervalFactory<T, I> aFactory) {
+		valueParser = Objects.requireNonNull(aValueParser, "Value parser must not be null");
+		factory = Objects.requireNonNull(aFactory, "Factory must not be null");
+	}
+
+	/**
+	 * Creates a parser of {@link AIcInterval}s validated by the natural order of the values.
+	 *
+	 * @param aValueParser parser of the endpoint values
+	 * @param <T> value type
+	 * @return new parser
+	 */
+	@Nonnull
+	public static <T extends Comparable> AIcIntervalParser<T, AIcInterval<T>> of(@Nonnull final AIiIntervalValueParser<T> aValueParser) {
+		return new AIcIntervalParser<T, AIcInterval<T>>(aValueParser,
+				(aLeftBoundary, aLeftValue, aRightBoundary, aRightValue) -> new AIcInterval<>(aLeftBoundary, aLeftValue, aRightBoundary, aRightValue));
+	}
+
+	/**
+	 * Creates a parser of intervals created by the factory.
+	 *
+	 * @param aValueParser parser of the endpoint values
+	 * @param aFactory factory creating (and validating) the parsed intervals
+	 * @param <T> value type
+	 * @param <I> interval type
+	 * @return new parser
+	 */
+	@Nonnull
+	public static <T extends Comparable, I extends AIiInterval<T>> AIcIntervalParser<T, I> of(
+			@Nonnull final AIiIntervalValueParser<T> aValueParser,
+			@Nonnull final AIiIntervalFactory<T, I> aFactory
+	) {
+		return new AIcIntervalParser<>(aValueParser, aFactory);
+	}
+
+	/**
+	 * Parses the interval.
+	 *
+	 * @param aText interval text
+	 * @return parsed interval
+	 * @throws IllegalArgumentException if the text is not a valid interval
+	 */
+	@Nonnull
+	public I parse(@Nonnull final CharSequence aText) {
+		Objects.requireNonNull(aText, "Text must not be null");
+		return parse(aText, 0, aText.length());
+	}
+
+	/**
+	 * Parses the interval from a range of the text.
+	 *
+	 * @param aText text
+	 * @param aFrom index of the first character of the interval
+	 * @param aTo index after the last character of the interval
+	 * @return parsed interval
+	 * @throws IllegalArgumentException if the range is not a valid interval
+	 */
+	@Nonnull
+	public I parse(@Nonnull final CharSequence aText, final int aFrom, final int aTo) {
+		Objects.requireNonNull(aText, "Text must not be null");
+		Objects.checkFromToIndex(aFrom, aTo, aText.length());
+		int locFrom = skipWhitespace(aText, aFrom, aTo);
+		int locTo = trimWhitespace(aText, locFrom, aTo);
+		if (locTo - locFrom < 2) {
+			throw invalid(aText, aFrom, aTo, "interval must be enclosed in brackets");
+		}
+		char locOpening = aText.charAt(locFrom);
+		char locClosing = aText.charAt(locTo - 1);
+		if (locOpening != '[' && locOpening != '(') {
+			throw invalid(aText, aFrom, aTo, "interval must start with '[' or '('");
+		}
+		if (locClosing != ']' && locClosing != ')') {
+			throw invalid(aText, aFrom, aTo, "interval must end with ']' or ')'");
+		}
+		int locComma = locFrom + 1;
+		while (locComma < locTo - 1 && aText.charAt(locComma) != ',') {
+			locComma++;
+		}
+		if (locComma == locTo - 1) {
+			throw invalid(aText, aFrom, aTo, "endpoints must be separated by ','");
+		}
+
+		int locLeftFrom = skipWhitespace(aText, locFrom + 1, locComma);
+		int locLeftTo = trimWhitespace(aText, locLeftFrom, locComma);
+		int locRightFrom = skipWhitespace(aText, locComma + 1, locTo - 1);
+		int locRightTo = trimWhitespace(aText, locRightFrom, locTo - 1);
+		boolean locLeftUnbounded = isUnboundedMark(aText, locLeftFrom, locLeftTo);
+		boolean locRightUnbounded = isUnboundedMark(aText, locRightFrom, locRightTo);
+		if (locLeftUnbounded && locOpening != '(') {
+			throw invalid(aText, aFrom, aTo, "unbounded left endpoint must be written as '(*'");
+		}
+		if (locRightUnbounded && locClosing != ')') {
+			throw invalid(aText, aFrom, aTo, "unbounded right endpoint must be written as '*)'");
+		}
+
+		AInIntervalBoundary locLeftBoundary = locLeftUnbounded ? AInIntervalBoundary.UNBOUNDED
+				: locOpening == '[' ? AInIntervalBoundary.CLOSED : AInIntervalBoundary.OPEN;
+		AInIntervalBoundary locRightBoundary = locRightUnbounded ? AInIntervalBoundary.UNBOUNDED
+				: locClosing == ']' ? AInIntervalBoundary.CLOSED : AInIntervalBoundary.OPEN;
+		T locLeftValue = locLeftUnbounded ? null : parseValue(aText, aFrom, aTo, locLeftFrom, locLeftTo);
+		T locRightValue = locRightUnbounded ? null : parseValue(aText, aFrom, aTo, locRightFrom, locRightTo);
+		try {
+			return factory.create(locLeftBoundary, locLeftValue, locRightBoundary, locRightValue);
+		} catch (IllegalArgumentException e) {
+			throw invalid(aText, aFrom, aTo, e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Parses one interval per line of the reader, skipping blank lines.
+	 *
+	 * @param aReader reader; it is not closed
+	 * @param aConsumer consumer of the parsed intervals
+	 * @throws IOException if the reader fails
+	 * @throws IllegalArgumentException if a line is not a valid interval; the message contains the line number
+	 */
+	public void parseAll(@Nonnull final Reader aReader, @Nonnull final Consumer<? super I> aConsumer) throws IOException {
+		Objects.requireNonNull(aReader, "Reader must not be null");
+		Objects.requireNonNull(aConsumer, "Consumer must not be null");
+		char[] locBuffer = new char[READ_BUFFER_SIZE];
+		CharBuffer locText = CharBuffer.wrap(locBuffer);
+		int locLength = 0;
+		long locLine = 1;
+		int locRead;
+		while ((locRead = aReader.read(locBuffer, locLength, locBuffer.length - locLength)) >= 0) {
+			locLength += locRead;
+			int locLastNewline = locLength - 1;
+			while (locLastNewline >= 0 && locBuffer[locLastNewline] != '\n') {
+				locLastNewline--;
+			}
+			if (locLastNewline < 0) {
+				if (locLength == locBuffer.length) {
+					/* line longer than the buffer */
+					locBuffer = Arrays.copyOf(locBuffer, locBuffer.length * 2);
+					locText = CharBuffer.wrap(locBuffer);
+				}
+				continue;
+			}
+			locLine = parseLines(locText, 0, locLastNewline + 1, locLine, aConsumer);
+			locLength -= locLastNewline + 1;
+			System.arraycopy(locBuffer, locLastNewline + 1, locBuffer, 0, locLength);
+		}
+		parseLines(locText, 0, locLength, locLine, aConsumer);
+	}
+
+	/**
+	 * Parses one interval per line of the remaining bytes of the buffer, skipping blank lines.
+	 * The position of the buffer is moved to its limit.
+	 *
+	 * @param aBuffer buffer with the encoded text
+	 * @param aCharset charset of the text
+	 * @param aConsumer consumer of the parsed intervals
+	 * @throws IllegalArgumentException if a line is not a valid interval; the message contains the line number
+	 */
+	public void parseAll(@Nonnull final ByteBuffer aBuffer, @Nonnull final Charset aCharset, @Nonnull final Consumer<? super I> aConsumer) {
+		Objects.requireNonNull(aBuffer, "Buffer must not be null");
+		Objects.requireNonNull(aCharset, "Charset must not be null");
+		Objects.requireNonNull(aConsumer, "Consumer must not be null");
+		CharBuffer locText = aCharset.decode(aBuffer);
+		parseLines(locText, 0, locText.length(), 1, aConsumer);
+	}
+
+	/**
+	 * @return number of the line following the parsed range
+	 */
+	private long parseLines(
+			@Nonnull final CharSequence aText,
+			final int aFrom,
+			final int aTo,
+			final long aLine,
+			@Nonnull final Consumer<? super I> aConsumer
+	) {
+		long locLine = aLine;
+		int locLineFrom = aFrom;
+		while (locLineFrom < aTo) {
+			int locLineTo = locLineFrom;
+			while (locLineTo < aTo && aText.charAt(locLineTo) != '\n') {
+				locLineTo++;
+			}
+			if (skipWhitespace(aText, locLineFrom, locLineTo) < locLineTo) {
+				I locInterval;
+				try {
+					locInterval = parse(aText, locLineFrom, locLineTo);
+				} catch (IllegalArgumentException e) {
+					throw new IllegalArgumentException("Line " + locLine + ": " + e.getMessage(), e);
+				}
+				aConsumer.accept(locInterval);
+			}
+			locLine++;
+			locLineFrom = locLineTo + 1;
+		}
+		return locLine;
+	}
+
+	@Nonnull
+	private T parseValue(@Nonnull final CharSequence aText, final int aFrom, final int aTo, final int aValueFrom, final int aValueTo) {
+		if (aValueFrom == aValueTo) {
+			throw invalid(aText, aFrom, aTo, "endpoint value must not be empty");
+		}
+		T locValue;
+		try {
+			locValue = valueParser.parse(aText, aValueFrom, aValueTo);
+		} catch (RuntimeException e) {
+			throw invalid(aText, aFrom, aTo, "invalid endpoint value '" + aText.subSequence(aValueFrom, aValueTo) + "'", e);
+		}
+		return Objects.requireNonNull(locValue, "Value parser must not return null");
+	}
+
+	private static boolean isUnboundedMark(@Nonnull final CharSequence aText, final int aFrom, final int aTo) {
+		return aTo - aFrom == 1 && aText.charAt(aFrom) == '*';
+	}
+
+	private static int skipWhitespace(@Nonnull final CharSequence aText, final int aFrom, final int aTo) {
+		int locIndex = aFrom;
+		while (locIndex < aTo && Character.isWhitespace(aText.charAt(locIndex))) {
+			locIndex++;
+		}
+		return locIndex;
+	}
+
+	private static int trimWhitespace(@Nonnull final CharSequence aText, final int aFrom, final int aTo) {
+		int locIndex = aTo;
+		while (locIndex > aFrom && Character.isWhitespace(aText.charAt(locIndex - 1))) {
+			locIndex--;
+		}
+		return locIndex;
+	}
+
+	@Nonnull
+	private static IllegalArgumentException invalid(
+			@Nonnull final CharSequence aText,
+			final int aFrom,
+			final int aTo,
+			@Nonnull final String aReason
+	) {
+		return invalid(aText, aFrom, aTo, aReason, null);
+	}
+
+	@Nonnull
+	private static IllegalArgumentException invalid(
+			@Nonnull final CharSequence aText,
+			final int aFrom,
+			final int aTo,
+			@Nullable final String aReason,
+			@Nullable final Throwable aCause
+	) {
+		return new IllegalArgumentException("Invalid interval '" + aText.subSequence(aFrom, aTo).toString().strip() + "': " + aReason, aCause);
+	}
+}
@@ -0,0 +1,247 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Title: {@link AIcIntervalRangeMap}
+ * </p>
+ * <p>
+ * Description: Map from sorted, disjoint intervals to values.
+ * </p>
+ * <p>
+ * {@link #put(AIiInterval, Object)} assigns the value to all values of the interval, splitting the entries
+ * it partially covers and replacing the ones it covers completely. Touching or overlapping entries with values
+ * equal by {@link Object#equals(Object)} are merged into one entry; the endpoints are compared by their natural order.
+ * </p>
+ * <p>
+ * Lookups run in {@code O(log n)}. The entries are kept in an immutable list which is replaced on every change
+ * (copy on write), so readers never lock; writers are serialized. {@link #snapshot()} returns a read-only map
+ * sharing the current list in {@code O(1)}. The price is that every change copies the list in {@code O(n)},
+ * so the map suits ranges read far more often than changed.
+ * </p>
+ *
+ * @param <T> value type of the intervals
+ * @param <V> type of the assigned values
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public final class AIcIntervalRangeMap<T extends Comparable, V> {
+
+	private final Object lockObject = new Object();
+
+	private final boolean readOnly;
+
+	@Nonnull
+	private volatile List<AIrIntervalRangeEntry<T, V>> entries;
+
+	/**
+	 * Creates an empty map.
+	 */
+	public AIcIntervalRangeMap() {
+		this(List.of(), false);
+	}
+
+	private AIcIntervalRangeMap(@Nonnull final List<AIrIntervalRangeEntry<T, V>> aEntries, final boolean aReadOnly) {
+		entries = aEntries;
+		readOnly = aReadOnly;
+	}
+
+	/**
+	 * @return {@code true} if the map is a read-only snapshot
+	 */
+	public boolean isReadOnly() {
+		return readOnly;
+	}
+
+	/**
+	 * @return number of entries
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return {@code true} if the map has no entry
+	 */
+	public boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	/**
+	 * @return sorted, disjoint entries of the map (unmodifiable)
+	 */
+	@Nonnull
+	public List<AIrIntervalRangeEntry<T, V>> asList() {
+		return entries;
+	}
+
+	/**
+	 * @param aValue value
+	 * @return value assigned to the given value, or {@code null} if there is none
+	 */
+	@Nullable
+	public V get(@Nonnull final T aValue) {
+		AIrIntervalRangeEntry<T, V> locEntry = getEntry(aValue);
+		return locEntry == null ? null : locEntry.value();
+	}
+
+	/**
+	 * @param aValue value
+	 * @return entry whose interval contains the given value, or {@code null} if there is none
+	 */
+	@Nullable
+	public AIrIntervalRangeEntry<T, V> getEntry(@Nonnull final T aValue) {
+		Objects.requireNonNull(aValue, "Value must not be null");
+		List<AIrIntervalRangeEntry<T, V>> locEntries = entries;
+		Comparator<T> locComparator = AIsIntervalUtils.naturalOrder();
+		int locIndex = AIcIntervalSet.firstIndex(locEntries.size(),
+				aIndex -> AIsIntervalUtils.isBeforeLeftEndpoint(aValue, locEntries.get(aIndex).interval(), locComparator)) - 1;
+		if (locIndex < 0) {
+			return null;
+		}
+		AIrIntervalRangeEntry<T, V> locEntry = locEntries.get(locIndex);
+		return AIsIntervalUtils.isAfterRightEndpoint(aValue, locEntry.interval(), locComparator) ? null : locEntry;
+	}
+
+	/**
+	 * Assigns the value to all values of the interval. The entries are copied, so it runs in {@code O(n)}.
+	 *
+	 * @param aInterval interval; it must not be empty
+	 * @param aValue value
+	 */
+	public void put(@Nonnull final AIiInterval<T> aInterval, @Nonnull final V aValue) {
+		AIcIntervalSet.checkInterval(aInterval);
+		Objects.requireNonNull(aValue, "Value must not be null");
+		checkWritable();
+		synchronized (lockObject) {
+			entries = replace(entries, aInterval, new AIrIntervalRangeEntry<>(AIcIntervalSet.toInterval(aInterval), aValue));
+		}
+	}
+
+	/**
+	 * Removes the assignments of all values of the interval. The entries are copied, so it runs in {@code O(n)}.
+	 *
+	 * @param aInterval interval; it must not be empty
+	 */
+	public void remove(@Nonnull final AIiInterval<T> aInterval) {
+		AIcIntervalSet.checkInterval(aInterval);
+		checkWritable();
+		synchronized (lockObject) {
+			entries = replace(entries, aInterval, null);
+		}
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public void clear() {
+		checkWritable();
+		synchronized (lockObject) {
+			entries = List.of();
+		}
+	}
+
+	/**
+	 * @return read-only map with the current content; later changes of this map are not visible in it
+	 */
+	@Nonnull
+	public AIcIntervalRangeMap<T, V> snapshot() {
+		return readOnly ? this : new AIcIntervalRangeMap<>(entries, true);
+	}
+
+	@Override
+	public boolean equals(final Object aOther) {
+		if (this == aOther) {
+			return true;
+		}
+		return aOther instanceof AIcIntervalRangeMap<?, ?> locOther && entries.equals(locOther.entries);
+	}
+
+	@Override
+	public int hashCode() {
+		return entries.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return entries.toString();
+	}
+
+	private void checkWritable() {
+		if (readOnly) {
+			throw new UnsupportedOperationException("Interval range map snapshot is read only");
+		}
+	}
+
+	/**
+	 * Cuts the interval out of the entries and inserts the new entry (if any) in its place,
+	 * merging it with touching neighbours of an equal value.
+	 */
+	@Nonnull
+	private static <T extends Comparable, V> List<AIrIntervalRangeEntry<T, V>> replace(
+			@Nonnull final List<AIrIntervalRangeEntry<T, V>> aEntries,
+			@Nonnull final AIiInterval<T> aInterval,
+			@Nullable final AIrIntervalRangeEntry<T, V> aNewEntry
+	) {
+		Comparator<T> locComparator = AIsIntervalUtils.naturalOrder();
+		int locFrom = AIcIntervalSet.firstIndex(aEntries.size(),
+				aIndex -> !AIsIntervalUtils.isStrictlyBefore(aEntries.get(aIndex).interval(), aInterval, locComparator));
+		int locTo = AIcIntervalSet.firstIndex(aEntries.size(),
+				aIndex -> AIsIntervalUtils.isStrictlyBefore(aInterval, aEntries.get(aIndex).interval(), locComparator));
+		if (locFrom >= locTo && aNewEntry == null) {
+			return aEntries;
+		}
+
+		List<AIrIntervalRangeEntry<T, V>> locResult = new ArrayList<>(aEntries.size() + 3);
+		locResult.addAll(aEntries.subList(0, locFrom));
+		if (locFrom < locTo) {
+			AIrIntervalRangeEntry<T, V> locFirst = aEntries.get(locFrom);
+			AIcInterval<T> locBefore = AIsIntervalUtils.partBefore(locFirst.interval(), aInterval, locComparator);
+			if (locBefore != null) {
+				locResult.add(new AIrIntervalRangeEntry<>(locBefore, locFirst.value()));
+			}
+		}
+		if (aNewEntry != null) {
+			appendMerging(locResult, aNewEntry, locComparator);
+		}
+		if (locFrom < locTo) {
+			AIrIntervalRangeEntry<T, V> locLast = aEntries.get(locTo - 1);
+			AIcInterval<T> locAfter = AIsIntervalUtils.partAfter(locLast.interval(), aInterval, locComparator);
+			if (locAfter != null) {
+				appendMerging(locResult, new AIrIntervalRangeEntry<>(locAfter, locLast.value()), locComparator);
+			}
+		}
+		for (int locIndex = locTo; locIndex < aEntries.size(); locIndex++) {
+			appendMerging(locResult, aEntries.get(locIndex), locComparator);
+		}
+		return Collections.unmodifiableList(locResult);
+	}
+
+	private static <T extends Comparable, V> void appendMerging(
+			@Nonnull final List<AIrIntervalRangeEntry<T, V>> aTarget,
+			@Nonnull final AIrIntervalRangeEntry<T, V> aEntry,
+			@Nonnull final Comparator<T> aComparator
+	) {
+		if (!aTarget.isEmpty()) {
+			AIrIntervalRangeEntry<T, V> locPrevious = aTarget.get(aTarget.size() - 1);
+			if (locPrevious.value().equals(aEntry.value())
+					&& !AIsIntervalUtils.isSeparated(locPrevious.interval(), aEntry.interval(), aComparator)) {
+				aTarget.set(aTarget.size() - 1, new AIrIntervalRangeEntry<>(
+						AIsIntervalUtils.span(locPrevious.interval(), aEntry.interval(), aComparator),
+						aEntry.value()
+				));
+				return;
+			}
+		}
+		aTarget.add(aEntry);
+	}
+}
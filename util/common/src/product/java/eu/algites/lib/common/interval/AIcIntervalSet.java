@@ -0,0 +1,477 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * <p>
+ * Title: {@link AIcIntervalSet}
+ * </p>
+ * <p>
+ * Description: Set of values represented by sorted, disjoint intervals.
+ * </p>
+ * <p>
+ * Added intervals are merged with all intervals they overlap or touch, e.g. {@code [1, 3)} and {@code [3, 5]}
+ * become {@code [1, 5]}, while {@code [1, 3)} and {@code (3, 5]} stay separate. Values are compared by their
+ * natural order; no successor function is assumed, so {@code [1, 2]} and {@code [3, 4]} are not merged.
+ * </p>
+ * <p>
+ * Point queries run in {@code O(log n)}. The intervals are kept in an immutable list which is replaced
+ * on every change (copy on write), so readers never lock and always see a consistent state; writers are
+ * serialized. {@link #snapshot()} returns a read-only set sharing the current list in {@code O(1)}. The price is that
+ * every change copies the list in {@code O(n)}, so many intervals should be added at once by {@link #of(Collection)}
+ * or {@link #addAll(AIcIntervalSet)}, which merge the sorted lists in one pass.
+ * </p>
+ *
+ * @param <T> value type
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public final class AIcIntervalSet<T extends Comparable> {
+
+	private final Object lockObject = new Object();
+
+	private final boolean readOnly;
+
+	@Nonnull
+	private volatile List<AIcInterval<T>> intervals;
+
+	/**
+	 * Creates an empty set.
+	 */
+	public AIcIntervalSet() {
+		this(List.of(), false);
+	}
+
+	private AIcIntervalSet(@Nonnull final List<AIcInterval<T>> aIntervals, final boolean aReadOnly) {
+		intervals = aIntervals;
+		readOnly = aReadOnly;
+	}
+
+	/**
+	 * Creates a set containing the union of the given intervals in {@code O(n log n)}.
+	 *
+	 * @param aIntervals intervals; they must not be empty
+	 * @param <T> value type
+	 * @return new set
+	 */
+	@Nonnull
+	public static <T extends Comparable> AIcIntervalSet<T> of(@Nonnull final Collection<? extends AIiInterval<T>> aIntervals) {
+		Objects.requireNonNull(aIntervals, "Intervals must not be null");
+		List<AIiInterval<T>> locSorted = new ArrayList<>(aIntervals.size());
+		for (AIiInterval<T> locInterval : aIntervals) {
+			locSorted.add(checkInterval(locInterval));
+		}
+		locSorted.sort(AIsIntervalUtils::compare);
+		return new AIcIntervalSet<>(coalesce(locSorted), false);
+	}
+
+	/**
+	 * @return {@code true} if the set is a read-only snapshot
+	 */
+	public boolean isReadOnly() {
+		return readOnly;
+	}
+
+	/**
+	 * @return number of disjoint intervals
+	 */
+	public int size() {
+		return intervals.size();
+	}
+
+	/**
+	 * @return {@code true} if the set contains no value
+	 */
+	public boolean isEmpty() {
+		return intervals.isEmpty();
+	}
+
+	/**
+	 * @return sorted, disjoint intervals of the set (unmodifiable)
+	 */
+	@Nonnull
+	public List<AIcInterval<T>> asList() {
+		return intervals;
+	}
+
+	/**
+	 * @param aValue value
+	 * @return {@code true} if the value is in the set
+	 */
+	public boolean contains(@Nonnull final T aValue) {
+		return findContaining(aValue) != null;
+	}
+
+	/**
+	 * @param aValue value
+	 * @return interval of the set containing the value, or {@code null} if there is none
+	 */
+	@Nullable
+	public AIcInterval<T> findContaining(@Nonnull final T aValue) {
+		Objects.requireNonNull(aValue, "Value must not be null");
+		List<AIcInterval<T>> locIntervals = intervals;
+		Comparator<T> locComparator = AIsIntervalUtils.naturalOrder();
+		int locIndex = firstIndex(locIntervals.size(),
+				aIndex -> AIsIntervalUtils.isBeforeLeftEndpoint(aValue, locIntervals.get(aIndex), locComparator)) - 1;
+		if (locIndex < 0) {
+			return null;
+		}
+		AIcInterval<T> locInterval = locIntervals.get(locIndex);
+		return AIsIntervalUtils.isAfterRightEndpoint(aValue, locInterval, locComparator) ? null : locInterval;
+	}
+
+	/**
+	 * @param aInterval interval
+	 * @return {@code true} if all values of the interval are in the set
+	 */
+	public boolean encloses(@Nonnull final AIiInterval<T> aInterval) {
+		checkInterval(aInterval);
+		List<AIcInterval<T>> locIntervals = intervals;
+		Comparator<T> locComparator = AIsIntervalUtils.naturalOrder();
+		int locFrom = firstIndex(locIntervals.size(),
+				aIndex -> !AIsIntervalUtils.isStrictlyBefore(locIntervals.get(aIndex), aInterval, locComparator));
+		if (locFrom == locIntervals.size()) {
+			return false;
+		}
+		AIcInterval<T> locInterval = locIntervals.get(locFrom);
+		return AIsIntervalUtils.compareLeftEndpoints(locInterval, aInterval, locComparator) <= 0
+				&& AIsIntervalUtils.compareRightEndpoints(locInterval, aInterval, locComparator) >= 0;
+	}
+
+	/**
+	 * @param aInterval interval
+	 * @return {@code true} if at least one value of the interval is in the set
+	 */
+	public boolean overlaps(@Nonnull final AIiInterval<T> aInterval) {
+		checkInterval(aInterval);
+		List<AIcInterval<T>> locIntervals = intervals;
+		Comparator<T> locComparator = AIsIntervalUtils.naturalOrder();
+		int locFrom = firstIndex(locIntervals.size(),
+				aIndex -> !AIsIntervalUtils.isStrictlyBefore(locIntervals.get(aIndex), aInterval, locComparator));
+		return locFrom < locIntervals.size() && !AIsIntervalUtils.isStrictlyBefore(aInterval, locIntervals.get(locFrom), locComparator);
+	}
+
+	/**
+	 * Adds all values of the interval. The intervals are copied, so it runs in {@code O(n)}.
+	 *
+	 * @param aInterval interval; it must not be empty
+	 * @return {@code true} if the set changed
+	 */
+	public boolean add(@Nonnull final AIiInterval<T> aInterval) {
+		checkInterval(aInterval);
+		checkWritable();
+		Comparator<T> locComparator = AIsIntervalUtils.naturalOrder();
+		synchronized (lockObject) {
+			List<AIcInterval<T>> locIntervals = intervals;
+			int locFrom = firstIndex(locIntervals.size(),
+					aIndex -> !AIsIntervalUtils.isSeparated(locIntervals.get(aIndex), aInterval, locComparator));
+			int locTo = firstIndex(locIntervals.size(),
+					aIndex -> AIsIntervalUtils.isSeparated(aInterval, locIntervals.get(aIndex), locComparator));
+			AIcInterval<T> locMerged = locFrom < locTo
+					? AIsIntervalUtils.span(AIsIntervalUtils.span(locIntervals.get(locFrom), aInterval, locComparator),
+							locIntervals.get(locTo - 1), locComparator)
+					: toInterval(aInterval);
+			if (locTo - locFrom == 1 && locMerged.equals(locIntervals.get(locFrom))) {
+				return false;
+			}
+			List<AIcInterval<T>> locResult = new ArrayList<>(locIntervals.size() - (locTo - locFrom) + 1);
+			locResult.addAll(locIntervals.subList(0, locFrom));
+			locResult.add(locMerged);
+			locResult.addAll(locIntervals.subList(locTo, locIntervals.size()));
+			intervals = Collections.unmodifiableList(locResult);
+			return true;
+		}
+	}
+
+	/**
+	 * Removes all values of the interval. The intervals are copied, so it runs in {@code O(n)}.
+	 *
+	 * @param aInterval interval; it must not be empty
+	 * @return {@code true} if the set changed
+	 */
+	public boolean remove(@Nonnull final AIiInterval<T> aInterval) {
+		checkInterval(aInterval);
+		checkWritable();
+		Comparator<T> locComparator = AIsIntervalUtils.naturalOrder();
+		synchronized (lockObject) {
+			List<AIcInterval<T>> locIntervals = intervals;
+			int locFrom = firstIndex(locIntervals.size(),
+					aIndex -> !AIsIntervalUtils.isStrictlyBefore(locIntervals.get(aIndex), aInterval, locComparator));
+			int locTo = firstIndex(locIntervals.size(),
+					aIndex -> AIsIntervalUtils.isStrictlyBefore(aInterval, locIntervals.get(aIndex), locComparator));
+			if (locFrom >= locTo) {
+				return false;
+			}
+			List<AIcInterval<T>> locResult = new ArrayList<>(locIntervals.size() - (locTo - locFrom) + 2);
+			locResult.addAll(locIntervals.subList(0, locFrom));
+			addIfNotNull(locResult, AIsIntervalUtils.partBefore(locIntervals.get(locFrom), aInterval, locComparator));
+			addIfNotNull(locResult, AIsIntervalUtils.partAfter(locIntervals.get(locTo - 1), aInterval, locComparator));
+			locResult.addAll(locIntervals.subList(locTo, locIntervals.size()));
+			intervals = Collections.unmodifiableList(locResult);
+			return true;
+		}
+	}
+
+	/**
+	 * Adds all values of the other set.
+	 *
+	 * @param aOther other set
+	 */
+	public void addAll(@Nonnull final AIcIntervalSet<T> aOther) {
+		Objects.requireNonNull(aOther, "Other set must not be null");
+		checkWritable();
+		List<AIcInterval<T>> locOther = aOther.intervals;
+		synchronized (lockObject) {
+			intervals = union(intervals, locOther);
+		}
+	}
+
+	/**
+	 * Removes all values of the other set.
+	 *
+	 * @param aOther other set
+	 */
+	public void removeAll(@Nonnull final AIcIntervalSet<T> aOther) {
+		Objects.requireNonNull(aOther, "Other set must not be null");
+		checkWritable();
+		List<AIcInterval<T>> locOther = aOther.intervals;
+		synchronized (lockObject) {
+			intervals = difference(intervals, locOther);
+		}
+	}
+
+	/**
+	 * Removes all values.
+	 */
+	public void clear() {
+		checkWritable();
+		synchronized (lockObject) {
+			intervals = List.of();
+		}
+	}
+
+	/**
+	 * @param aOther other set
+	 * @return new set containing the values of both sets
+	 */
+	@Nonnull
+	public AIcIntervalSet<T> union(@Nonnull final AIcIntervalSet<T> aOther) {
+		Objects.requireNonNull(aOther, "Other set must not be null");
+		return new AIcIntervalSet<>(union(intervals, aOther.intervals), false);
+	}
+
+	/**
+	 * @param aOther other set
+	 * @return new set containing the values of this set which are not in the other set
+	 */
+	@Nonnull
+	public AIcIntervalSet<T> difference(@Nonnull final AIcIntervalSet<T> aOther) {
+		Objects.requireNonNull(aOther, "Other set must not be null");
+		return new AIcIntervalSet<>(difference(intervals, aOther.intervals), false);
+	}
+
+	/**
+	 * @param aOther other set
+	 * @return new set containing the values present in both sets
+	 */
+	@Nonnull
+	public AIcIntervalSet<T> intersection(@Nonnull final AIcIntervalSet<T> aOther) {
+		Objects.requireNonNull(aOther, "Other set must not be null");
+		return new AIcIntervalSet<>(complement(union(complement(intervals), complement(aOther.intervals))), false);
+	}
+
+	/**
+	 * @return new set containing all values which are not in this set
+	 */
+	@Nonnull
+	public AIcIntervalSet<T> complement() {
+		return new AIcIntervalSet<>(complement(intervals), false);
+	}
+
+	/**
+	 * @return read-only set with the current content; later changes of this set are not visible in it
+	 */
+	@Nonnull
+	public AIcIntervalSet<T> snapshot() {
+		return readOnly ? this : new AIcIntervalSet<>(intervals, true);
+	}
+
+	@Override
+	public boolean equals(final Object aOther) {
+		if (this == aOther) {
+			return true;
+		}
+		return aOther instanceof AIcIntervalSet<?> locOther && intervals.equals(locOther.intervals);
+	}
+
+	@Override
+	public int hashCode() {
+		return intervals.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder locBuilder = new StringBuilder("{");
+		for (AIcInterval<T> locInterval : intervals) {
+			if (locBuilder.length() > 1) {
+				locBuilder.append(", ");
+			}
+			locBuilder.append(AIsIntervalUtils.toStringRepresentation(locInterval));
+		}
+		return locBuilder.append('}').toString();
+	}
+
+	/**
+	 * Binary search over the indexes {@code 0..aSize-1} for a predicate which is {@code false} for a prefix
+	 * and {@code true} for the rest.
+	 *
+	 * @return first index for which the predicate holds, or {@code aSize} if there is none
+	 */
+	static int firstIndex(final int aSize, @Nonnull final IntPredicate aPredicate) {
+		int locLow = 0;
+		int locHigh = aSize;
+		while (locLow < locHigh) {
+			int locMiddle = (locLow + locHigh) >>> 1;
+			if (aPredicate.test(locMiddle)) {
+				locHigh = locMiddle;
+			} else {
+				locLow = locMiddle + 1;
+			}
+		}
+		return locLow;
+	}
+
+	@Nonnull
+	static <T extends Comparable> AIiInterval<T> checkInterval(@Nullable final AIiInterval<T> aInterval) {
+		Objects.requireNonNull(aInterval, "Interval must not be null");
+		if (!AIsIntervalUtils.isSatisfiable(aInterval)) {
+			throw new IllegalArgumentException("Interval must not be empty: " + aInterval);
+		}
+		return aInterval;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Nonnull
+	static <T extends Comparable> AIcInterval<T> toInterval(@Nonnull final AIiInterval<T> aInterval) {
+		if (aInterval.getClass() == AIcInterval.class) {
+			return (AIcInterval<T>) aInterval;
+		}
+		return new AIcInterval<>(aInterval.getLeftBoundary(), aInterval.getLeftValue(), aInterval.getRightBoundary(), aInterval.getRightValue());
+	}
+
+	private void checkWritable() {
+		if (readOnly) {
+			throw new UnsupportedOperationException("Interval set snapshot is read only");
+		}
+	}
+
+	private static <E> void addIfNotNull(@Nonnull final List<E> aTarget, @Nullable final E aElement) {
+		if (aElement != null) {
+			aTarget.add(aElement);
+		}
+	}
+
+	/**
+	 * Merges intervals sorted by their left endpoints into sorted, disjoint, non-touching intervals.
+	 */
+	@Nonnull
+	private static <T extends Comparable> List<AIcInterval<T>> coalesce(@Nonnull final List<? extends AIiInterval<T>> aSorted) {
+		Comparator<T> locComparator = AIsIntervalUtils.naturalOrder();
+		List<AIcInterval<T>> locResult = new ArrayList<>();
+		AIcInterval<T> locCurrent = null;
+		for (AIiInterval<T> locInterval : aSorted) {
+			if (locCurrent == null) {
+				locCurrent = toInterval(locInterval);
+			} else if (AIsIntervalUtils.isSeparated(locCurrent, locInterval, locComparator)) {
+				locResult.add(locCurrent);
+				locCurrent = toInterval(locInterval);
+			} else {
+				locCurrent = AIsIntervalUtils.span(locCurrent, locInterval, locComparator);
+			}
+		}
+		if (locCurrent != null) {
+			locResult.add(locCurrent);
+		}
+		return Collections.unmodifiableList(locResult);
+	}
+
+	@Nonnull
+	private static <T extends Comparable> List<AIcInterval<T>> union(
+			@Nonnull final List<AIcInterval<T>> aLeft,
+			@Nonnull final List<AIcInterval<T>> aRight
+	) {
+		if (aRight.isEmpty()) {
+			return aLeft;
+		}
+		if (aLeft.isEmpty()) {
+			return aRight;
+		}
+		List<AIcInterval<T>> locMerged = new ArrayList<>(aLeft.size() + aRight.size());
+		int locLeftIndex = 0;
+		int locRightIndex = 0;
+		while (locLeftIndex < aLeft.size() && locRightIndex < aRight.size()) {
+			if (AIsIntervalUtils.compare(aLeft.get(locLeftIndex), aRight.get(locRightIndex)) <= 0) {
+				locMerged.add(aLeft.get(locLeftIndex++));
+			} else {
+				locMerged.add(aRight.get(locRightIndex++));
+			}
+		}
+		locMerged.addAll(aLeft.subList(locLeftIndex, aLeft.size()));
+		locMerged.addAll(aRight.subList(locRightIndex, aRight.size()));
+		return coalesce(locMerged);
+	}
+
+	@Nonnull
+	private static <T extends Comparable> List<AIcInterval<T>> difference(
+			@Nonnull final List<AIcInterval<T>> aLeft,
+			@Nonnull final List<AIcInterval<T>> aRight
+	) {
+		if (aLeft.isEmpty() || aRight.isEmpty()) {
+			return aLeft;
+		}
+		/* A \ B = complement(complement(A) u B) */
+		return complement(union(complement(aLeft), aRight));
+	}
+
+	/**
+	 * @return gaps between the sorted, disjoint, non-touching intervals including the unbounded ends
+	 */
+	@Nonnull
+	private static <T extends Comparable> List<AIcInterval<T>> complement(@Nonnull final List<AIcInterval<T>> aIntervals) {
+		List<AIcInterval<T>> locResult = new ArrayList<>(aIntervals.size() + 1);
+		AInIntervalBoundary locGapLeftBoundary = AInIntervalBoundary.UNBOUNDED;
+		T locGapLeftValue = null;
+		for (AIcInterval<T> locInterval : aIntervals) {
+			if (!AIsIntervalUtils.isLeftUnbounded(locInterval)) {
+				locResult.add(new AIcInterval<>(
+						locGapLeftBoundary,
+						locGapLeftValue,
+						flip(locInterval.getLeftBoundary()),
+						locInterval.getLeftValue()
+				));
+			}
+			if (AIsIntervalUtils.isRightUnbounded(locInterval)) {
+				return Collections.unmodifiableList(locResult);
+			}
+			locGapLeftBoundary = flip(locInterval.getRightBoundary());
+			locGapLeftValue = locInterval.getRightValue();
+		}
+		locResult.add(new AIcInterval<>(locGapLeftBoundary, locGapLeftValue, AInIntervalBoundary.UNBOUNDED, null));
+		return Collections.unmodifiableList(locResult);
+	}
+
+	@Nonnull
+	private static AInIntervalBoundary flip(@Nonnull final AInIntervalBoundary aBoundary) {
+		return aBoundary.isOpen() ? AInIntervalBoundary.CLOSED : AInIntervalBoundary.OPEN;
+	}
+}
@@ -0,0 +1,264 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Title: {@link AIcIntervalTree}
+ * </p>
+ * <p>
+ * Description: Mutable augmented interval tree (AVL balanced) implementing {@link AIiIntervalIndex}.
+ * </p>
+ * <p>
+ * Additions and removals run in {@code O(log n)}, bulk construction by {@link #of(Collection, Comparator)}
+ * in {@code O(n log n)}. Equal intervals may be stored multiple times. The tree is not thread safe;
+ * {@link #snapshot()} creates an immutable copy which may be shared between threads.
+ * </p>
+ *
+ * @param <T> value type
+ * @param <I> interval type
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public class AIcIntervalTree<T extends Comparable, I extends AIiInterval<T>> extends AIcAbstractIntervalTree<T, I> {
+
+	@Nullable
+	private AIcNode<T, I> root;
+
+	private int size;
+
+	/* set by remove(AIcNode, I) when the interval was found */
+	private boolean removed;
+
+	/**
+	 * Creates an empty tree ordering values by their natural order.
+	 */
+	public AIcIntervalTree() {
+		this(null);
+	}
+
+	/**
+	 * Creates an empty tree.
+	 *
+	 * @param aValueComparator comparator of the values, {@code null} for the natural order
+	 */
+	public AIcIntervalTree(@Nullable final Comparator<? super T> aValueComparator) {
+		super(aValueComparator);
+	}
+
+	/**
+	 * Creates a tree containing the given intervals, ordering values by their natural order.
+	 *
+	 * @param aIntervals intervals
+	 * @param <T> value type
+	 * @param <I> interval type
+	 * @return new tree
+	 */
+	@Nonnull
+	public static <T extends Comparable, I extends AIiInterval<T>> AIcIntervalTree<T, I> of(@Nonnull final Collection<? extends I> aIntervals) {
+		return of(aIntervals, null);
+	}
+
+	/**
+	 * Creates a tree containing the given intervals.
+	 *
+	 * @param aIntervals intervals
+	 * @param aValueComparator comparator of the values, {@code null} for the natural order
+	 * @param <T> value type
+	 * @param <I> interval type
+	 * @return new tree
+	 */
+	@Nonnull
+	public static <T extends Comparable, I extends AIiInterval<T>> AIcIntervalTree<T, I> of(
+			@Nonnull final Collection<? extends I> aIntervals,
+			@Nullable final Comparator<? super T> aValueComparator
+	) {
+		AIcIntervalTree<T, I> locTree = new AIcIntervalTree<>(aValueComparator);
+		List<I> locSorted = locTree.sortedCopy(aIntervals);
+		locTree.root = locTree.buildBalanced(locSorted, 0, locSorted.size());
+		locTree.size = locSorted.size();
+		return locTree;
+	}
+
+	@Override
+	@Nullable
+	AIcNode<T, I> root() {
+		return root;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Adds the interval.
+	 *
+	 * @param aInterval interval; it must not be empty
+	 */
+	public void add(@Nonnull final I aInterval) {
+		root = insert(root, checkInterval(aInterval));
+		size++;
+	}
+
+	/**
+	 * Adds all intervals. When the tree is empty, the intervals are bulk loaded.
+	 *
+	 * @param aIntervals intervals
+	 */
+	public void addAll(@Nonnull final Collection<? extends I> aIntervals) {
+		if (root == null) {
+			List<I> locSorted = sortedCopy(aIntervals);
+			root = buildBalanced(locSorted, 0, locSorted.size());
+			size = locSorted.size();
+			return;
+		}
+		for (I locInterval : Objects.requireNonNull(aIntervals, "Intervals must not be null")) {
+			add(locInterval);
+		}
+	}
+
+	/**
+	 * Removes one interval equal to the given one.
+	 *
+	 * @param aInterval interval
+	 * @return {@code true} if an interval was removed
+	 */
+	public boolean remove(@Nonnull final I aInterval) {
+		Objects.requireNonNull(aInterval, "Interval must not be null");
+		removed = false;
+		root = remove(root, aInterval);
+		if (removed) {
+			size--;
+		}
+		return removed;
+	}
+
+	/**
+	 * Removes all intervals.
+	 */
+	public void clear() {
+		root = null;
+		size = 0;
+	}
+
+	/**
+	 * @return immutable, thread safe copy of the current content
+	 */
+	@Nonnull
+	public AIcIntervalTreeSnapshot<T, I> snapshot() {
+		return new AIcIntervalTreeSnapshot<>(toList(), getValueComparator());
+	}
+
+	@Nonnull
+	private AIcNode<T, I> insert(@Nullable final AIcNode<T, I> aNode, @Nonnull final I aInterval) {
+		if (aNode == null) {
+			return new AIcNode<>(aInterval);
+		}
+		if (getIntervalComparator().compare(aInterval, aNode.interval) < 0) {
+			aNode.left = insert(aNode.left, aInterval);
+		} else {
+			aNode.right = insert(aNode.right, aInterval);
+		}
+		return rebalance(aNode);
+	}
+
+	@Nullable
+	private AIcNode<T, I> remove(@Nullable final AIcNode<T, I> aNode, @Nonnull final I aInterval) {
+		if (aNode == null) {
+			return null;
+		}
+		int locCmp = getIntervalComparator().compare(aInterval, aNode.interval);
+		if (locCmp < 0) {
+			aNode.left = remove(aNode.left, aInterval);
+		} else if (locCmp > 0) {
+			aNode.right = remove(aNode.right, aInterval);
+		} else if (aNode.interval.equals(aInterval)) {
+			removed = true;
+			return removeNode(aNode);
+		} else {
+			/* intervals of the same order, but not equal, may be on both sides */
+			aNode.left = remove(aNode.left, aInterval);
+			if (!removed) {
+				aNode.right = remove(aNode.right, aInterval);
+			}
+		}
+		return removed ? rebalance(aNode) : aNode;
+	}
+
+	@Nullable
+	private AIcNode<T, I> removeNode(@Nonnull final AIcNode<T, I> aNode) {
+		if (aNode.left == null) {
+			return aNode.right;
+		}
+		if (aNode.right == null) {
+			return aNode.left;
+		}
+		AIcNode<T, I> locSuccessor = aNode.right;
+		while (locSuccessor.left != null) {
+			locSuccessor = locSuccessor.left;
+		}
+		locSuccessor.right = removeMin(aNode.right);
+		locSuccessor.left = aNode.left;
+		return rebalance(locSuccessor);
+	}
+
+	@Nullable
+	private AIcNode<T, I> removeMin(@Nonnull final AIcNode<T, I> aNode) {
+		if (aNode.left == null) {
+			return aNode.right;
+		}
+		aNode.left = removeMin(aNode.left);
+		return rebalance(aNode);
+	}
+
+	@Nonnull
+	private AIcNode<T, I> rebalance(@Nonnull final AIcNode<T, I> aNode) {
+		update(aNode);
+		int locBalance = height(aNode.left) - height(aNode.right);
+		if (locBalance > 1) {
+			if (height(aNode.left.left) < height(aNode.left.right)) {
+				aNode.left = rotateLeft(aNode.left);
+			}
+			return rotateRight(aNode);
+		}
+		if (locBalance < -1) {
+			if (height(aNode.right.right) < height(aNode.right.left)) {
+				aNode.right = rotateRight(aNode.right);
+			}
+			return rotateLeft(aNode);
+		}
+		return aNode;
+	}
+
+	@Nonnull
+	private AIcNode<T, I> rotateRight(@Nonnull final AIcNode<T, I> aNode) {
+		AIcNode<T, I> locPivot = aNode.left;
+		aNode.left = locPivot.right;
+		locPivot.right = aNode;
+		update(aNode);
+		update(locPivot);
+		return locPivot;
+	}
+
+	@Nonnull
+	private AIcNode<T, I> rotateLeft(@Nonnull final AIcNode<T, I> aNode) {
+		AIcNode<T, I> locPivot = aNode.right;
+		aNode.right = locPivot.left;
+		locPivot.left = aNode;
+		update(aNode);
+		update(locPivot);
+		return locPivot;
+	}
+
+	private static int height(@Nullable final AIcNode<?, ?> aNode) {
+		return aNode == null ? 0 : aNode.height;
+	}
+}
@@ -0,0 +1,86 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * <p>
+ * Title: {@link AIcIntervalTreeSnapshot}
+ * </p>
+ * <p>
+ * Description: Immutable, perfectly balanced augmented interval tree implementing {@link AIiIntervalIndex}.
+ * </p>
+ * <p>
+ * The tree is built once in {@code O(n log n)} (or {@code O(n)} from {@link AIcIntervalTree#snapshot()})
+ * and never modified afterwards, so it may be queried concurrently without synchronization.
+ * </p>
+ *
+ * @param <T> value type
+ * @param <I> interval type
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public final class AIcIntervalTreeSnapshot<T extends Comparable, I extends AIiInterval<T>> extends AIcAbstractIntervalTree<T, I> {
+
+	@Nullable
+	private final AIcNode<T, I> root;
+
+	private final int size;
+
+	/**
+	 * Creates the snapshot from intervals already sorted by the interval order.
+	 */
+	AIcIntervalTreeSnapshot(@Nonnull final List<I> aSorted, @Nullable final Comparator<? super T> aValueComparator) {
+		super(aValueComparator);
+		root = buildBalanced(aSorted, 0, aSorted.size());
+		size = aSorted.size();
+	}
+
+	/**
+	 * Creates a snapshot containing the given intervals, ordering values by their natural order.
+	 *
+	 * @param aIntervals intervals
+	 * @param <T> value type
+	 * @param <I> interval type
+	 * @return new snapshot
+	 */
+	@Nonnull
+	public static <T extends Comparable, I extends AIiInterval<T>> AIcIntervalTreeSnapshot<T, I> of(
+			@Nonnull final Collection<? extends I> aIntervals
+	) {
+		return of(aIntervals, null);
+	}
+
+	/**
+	 * Creates a snapshot containing the given intervals.
+	 *
+	 * @param aIntervals intervals
+	 * @param aValueComparator comparator of the values, {@code null} for the natural order
+	 * @param <T> value type
+	 * @param <I> interval type
+	 * @return new snapshot
+	 */
+	@Nonnull
+	public static <T extends Comparable, I extends AIiInterval<T>> AIcIntervalTreeSnapshot<T, I> of(
+			@Nonnull final Collection<? extends I> aIntervals,
+			@Nullable final Comparator<? super T> aValueComparator
+	) {
+		return AIcIntervalTree.<T, I>of(aIntervals, aValueComparator).snapshot();
+	}
+
+	@Override
+	@Nullable
+	AIcNode<T, I> root() {
+		return root;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+}
@@ -0,0 +1,138 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Title: {@link AIcLongInterval}
+ * </p>
+ * <p>
+ * Description: Immutable implementation of {@link AIiLongInterval} storing primitive values and boundary flags.
+ * </p>
+ * <p>
+ * Instances are equal to (and have the same hash code as) an {@link AIcInterval} with the same boundaries and boxed values.
+ * The value of an unbounded side is stored as {@code 0}.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public final class AIcLongInterval implements AIiLongInterval, Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private final int boundaryFlags;
+	private final long leftValue;
+	private final long rightValue;
+
+	/**
+	 * Creates a new interval.
+	 *
+	 * @param aLeftBoundary left boundary
+	 * @param aLeftValue left value (ignored if the boundary ignores its value)
+	 * @param aRightBoundary right boundary
+	 * @param aRightValue right value (ignored if the boundary ignores its value)
+	 */
+	public AIcLongInterval(@Nonnull final AInIntervalBoundary aLeftBoundary, final long aLeftValue,
+			@Nonnull final AInIntervalBoundary aRightBoundary, final long aRightValue) {
+		this(AIsIntervalBoundaryFlags.of(aLeftBoundary, aRightBoundary), aLeftValue, aRightValue);
+	}
+
+	/**
+	 * Creates a new interval.
+	 *
+	 * @param aBoundaryFlags boundaries encoded by {@link AIsIntervalBoundaryFlags}
+	 * @param aLeftValue left value (ignored if the left side is unbounded)
+	 * @param aRightValue right value (ignored if the right side is unbounded)
+	 */
+	public AIcLongInterval(final int aBoundaryFlags, final long aLeftValue, final long aRightValue) {
+		this(aBoundaryFlags, aLeftValue, aRightValue, false);
+	}
+
+	/**
+	 * Creates a new interval, optionally skipping the validation for results of interval operations.
+	 */
+	AIcLongInterval(final int aBoundaryFlags, final long aLeftValue, final long aRightValue, final boolean aSkipValidation) {
+		if (!aSkipValidation) {
+			validate(aBoundaryFlags, aLeftValue, aRightValue);
+		}
+		boundaryFlags = aBoundaryFlags;
+		leftValue = AIsIntervalBoundaryFlags.isLeftUnbounded(aBoundaryFlags) ? 0 : aLeftValue;
+		rightValue = AIsIntervalBoundaryFlags.isRightUnbounded(aBoundaryFlags) ? 0 : aRightValue;
+	}
+
+	/**
+	 * Validates boundary flags and values of an interval.
+	 *
+	 * @throws IllegalArgumentException if they do not form a valid, non-empty interval
+	 */
+	static void validate(final int aBoundaryFlags, final long aLeftValue, final long aRightValue) {
+		if (!AIsIntervalBoundaryFlags.isValid(aBoundaryFlags)) {
+			throw new IllegalArgumentException("Invalid boundary flags: " + aBoundaryFlags);
+		}
+		if (AIsIntervalBoundaryFlags.isLeftUnbounded(aBoundaryFlags) || AIsIntervalBoundaryFlags.isRightUnbounded(aBoundaryFlags)) {
+			return;
+		}
+		int locCmp = Long.compare(aLeftValue, aRightValue);
+		if (locCmp > 0) {
+			throw new IllegalArgumentException("Invalid interval: left value is greater than right value");
+		}
+		if (locCmp == 0 && (AIsIntervalBoundaryFlags.isLeftOpen(aBoundaryFlags) || AIsIntervalBoundaryFlags.isRightOpen(aBoundaryFlags))) {
+			throw new IllegalArgumentException("Invalid interval: point interval requires both boundaries to be closed");
+		}
+	}
+
+	@Override
+	public int getBoundaryFlags() {
+		return boundaryFlags;
+	}
+
+	@Override
+	public long getLeftLongValue() {
+		return leftValue;
+	}
+
+	@Override
+	public long getRightLongValue() {
+		return rightValue;
+	}
+
+	@Override
+	public boolean equals(final Object aOther) {
+		if (this == aOther) {
+			return true;
+		}
+		if (aOther instanceof AIiLongInterval locOther) {
+			return boundaryFlags == locOther.getBoundaryFlags()
+					&& (AIsIntervalBoundaryFlags.isLeftUnbounded(boundaryFlags) || leftValue == locOther.getLeftLongValue())
+					&& (AIsIntervalBoundaryFlags.isRightUnbounded(boundaryFlags) || rightValue == locOther.getRightLongValue());
+		}
+		if (!(aOther instanceof AIiInterval)) {
+			return false;
+		}
+		AIiInterval<?> locOther = (AIiInterval<?>) aOther;
+		return getLeftBoundary() == locOther.getLeftBoundary()
+				&& getRightBoundary() == locOther.getRightBoundary()
+				&& Objects.equals(getLeftValue(), locOther.getLeftValue())
+				&& Objects.equals(getRightValue(), locOther.getRightValue());
+	}
+
+	@Override
+	public int hashCode() {
+		/* same as Objects.hash(leftBoundary, leftValue, rightBoundary, rightValue) of AIcInterval, without boxing */
+		int locHash = 31 + getLeftBoundary().hashCode();
+		locHash = 31 * locHash + (AIsIntervalBoundaryFlags.isLeftUnbounded(boundaryFlags) ? 0 : Long.hashCode(leftValue));
+		locHash = 31 * locHash + getRightBoundary().hashCode();
+		return 31 * locHash + (AIsIntervalBoundaryFlags.isRightUnbounded(boundaryFlags) ? 0 : Long.hashCode(rightValue));
+	}
+
+	@Override
+	public String toString() {
+		return AIsIntervalUtils.toStringRepresentation(this);
+	}
+}
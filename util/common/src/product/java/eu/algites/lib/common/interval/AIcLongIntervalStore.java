@@ -0,0 +1,603 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+/**
+ * <p>
+ * Title: {@link AIcLongIntervalStore}
+ * </p>
+ * <p>
+ * Description: Append-only columnar store of {@code long} intervals kept outside of the Java heap.
+ * </p>
+ * <p>
+ * Each row consists of the left and right endpoint in {@code long} columns, a column with the maximal right
+ * endpoint of the rows from the start of the row's block of {@code 2^6} rows up to the row and the boundary flags
+ * ({@link AIsIntervalBoundaryFlags}) packed into 4 bits.
+ * The columns are split into chunks of {@code 2^chunkShift} rows held in direct byte buffers, or in buffers
+ * mapped from a file written by {@link #save(Path)} and reopened by {@link #open(Path)} without copying.
+ * </p>
+ * <p>
+ * Rows must be appended by non-decreasing left endpoints (unbounded first); {@link #bulkLoad(Collection)} sorts
+ * them. Stabbing and overlap queries then binary search the left column for the last candidate row and descend
+ * a small on-heap tree of the block maxima of the right endpoints, so only the blocks containing a right endpoint
+ * not before the query are tested. A single wide or right-unbounded row therefore costs only the scan of its own
+ * block, not of all rows following it. The row numbers are reported without creating interval objects.
+ * </p>
+ * <p>
+ * The store is not thread safe while appending; a store opened from a file is read only and may be queried
+ * concurrently. The off-heap memory is released when the store becomes unreachable.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public final class AIcLongIntervalStore {
+
+	/**
+	 * Default number of rows of a chunk as a power of two (16M rows, 128 MiB per {@code long} column).
+	 */
+	public static final int DEFAULT_CHUNK_SHIFT = 24;
+
+	private static final int MIN_CHUNK_SHIFT = 4;
+
+	/* keeps a chunk column below the 2 GiB limit of a byte buffer */
+	private static final int MAX_CHUNK_SHIFT = 27;
+
+	private static final int INITIAL_CHUNK_CAPACITY = 1024;
+
+	/* "AILS" */
+	private static final int MAGIC = 0x41494C53;
+
+	private static final int FORMAT_VERSION = 1;
+
+	/* number of rows of a block and of the children of a node of the block maxima tree as a power of two */
+	private static final int BLOCK_SHIFT = 6;
+
+	private static final int BLOCK_MASK = (1 << BLOCK_SHIFT) - 1;
+
+	private static final int HEADER_SIZE = 32;
+
+	private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+	private final int chunkShift;
+
+	private final boolean readOnly;
+
+	private final List<AIcChunk> chunks = new ArrayList<>();
+
+	private long size;
+
+	private long lastLeft = Long.MIN_VALUE;
+
+	/* maximal right endpoint of the rows of the last block */
+	private long blockMaxRight = Long.MIN_VALUE;
+
+	/*
+	 * Levels of the block maxima tree; the entry i of the level k is the maximal right endpoint of the blocks
+	 * i * 2^(6(k+1)) to (i + 1) * 2^(6(k+1)) - 1, the top level has a single entry
+	 */
+	private final List<long[]> blockMaxLevels = new ArrayList<>();
+
+	private AIcLongIntervalStore(final int aChunkShift, final boolean aReadOnly) {
+		if (aChunkShift < MIN_CHUNK_SHIFT || aChunkShift > MAX_CHUNK_SHIFT) {
+			throw new IllegalArgumentException("Chunk shift must be between " + MIN_CHUNK_SHIFT + " and " + MAX_CHUNK_SHIFT + ": " + aChunkShift);
+		}
+		chunkShift = aChunkShift;
+		readOnly = aReadOnly;
+	}
+
+	/**
+	 * @return new empty store
+	 */
+	@Nonnull
+	public static AIcLongIntervalStore allocate() {
+		return allocate(DEFAULT_CHUNK_SHIFT);
+	}
+
+	/**
+	 * @param aChunkShift number of rows of a chunk as a power of two
+	 * @return new empty store
+	 */
+	@Nonnull
+	static AIcLongIntervalStore allocate(final int aChunkShift) {
+		return new AIcLongIntervalStore(aChunkShift, false);
+	}
+
+	/**
+	 * Creates a store containing the given intervals sorted by their left endpoints.
+	 *
+	 * @param aIntervals intervals
+	 * @return new store
+	 */
+	@Nonnull
+	public static AIcLongIntervalStore bulkLoad(@Nonnull final Collection<? extends AIiLongInterval> aIntervals) {
+		return bulkLoad(aIntervals, DEFAULT_CHUNK_SHIFT);
+	}
+
+	@Nonnull
+	static AIcLongIntervalStore bulkLoad(@Nonnull final Collection<? extends AIiLongInterval> aIntervals, final int aChunkShift) {
+		Objects.requireNonNull(aIntervals, "Intervals must not be null");
+		AIiLongInterval[] locSorted = aIntervals.toArray(new AIiLongInterval[0]);
+		Arrays.sort(locSorted, (aLeft, aRight) -> Long.compare(leftKey(aLeft), leftKey(aRight)));
+		AIcLongIntervalStore locStore = allocate(aChunkShift);
+		for (AIiLongInterval locInterval : locSorted) {
+			locStore.append(locInterval);
+		}
+		return locStore;
+	}
+
+	/**
+	 * Opens a store saved by {@link #save(Path)}, mapping its columns read only.
+	 *
+	 * @param aFile store file
+	 * @return read only store
+	 * @throws IOException if the file cannot be read or is not a store file
+	 */
+	@Nonnull
+	public static AIcLongIntervalStore open(@Nonnull final Path aFile) throws IOException {
+		Objects.requireNonNull(aFile, "File must not be null");
+		try (FileChannel locChannel = FileChannel.open(aFile, StandardOpenOption.READ)) {
+			ByteBuffer locHeader = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+			while (locHeader.hasRemaining() && locChannel.read(locHeader, locHeader.position()) >= 0) {
+				/* read the whole header */
+			}
+			if (locHeader.hasRemaining() || locHeader.getInt(0) != MAGIC) {
+				throw new IOException("Not an interval store file: " + aFile);
+			}
+			if (locHeader.getInt(4) != FORMAT_VERSION) {
+				throw new IOException("Unsupported interval store version " + locHeader.getInt(4) + ": " + aFile);
+			}
+			int locChunkShift = locHeader.getInt(8);
+			long locSize = locHeader.getLong(16);
+			if (locChunkShift < MIN_CHUNK_SHIFT || locChunkShift > MAX_CHUNK_SHIFT || locSize < 0
+					|| locChannel.size() != fileSize(locSize)) {
+				throw new IOException("Corrupted interval store file: " + aFile);
+			}
+
+			AIcLongIntervalStore locStore = new AIcLongIntervalStore(locChunkShift, true);
+			long locChunkRows = 1L << locChunkShift;
+			long locRightBase = HEADER_SIZE + locSize * Long.BYTES;
+			long locMaxRightBase = locRightBase + locSize * Long.BYTES;
+			long locFlagsBase = locMaxRightBase + locSize * Long.BYTES;
+			for (long locFirstRow = 0; locFirstRow < locSize; locFirstRow += locChunkRows) {
+				int locRows = (int) Math.min(locChunkRows, locSize - locFirstRow);
+				long locOffset = locFirstRow * Long.BYTES;
+				locStore.chunks.add(new AIcChunk(
+						map(locChannel, HEADER_SIZE + locOffset, (long) locRows * Long.BYTES),
+						map(locChannel, locRightBase + locOffset, (long) locRows * Long.BYTES),
+						map(locChannel, locMaxRightBase + locOffset, (long) locRows * Long.BYTES),
+						map(locChannel, locFlagsBase + locFirstRow / 2, (locRows + 1) / 2),
+						locRows
+				));
+			}
+			locStore.size = locSize;
+			if (locSize > 0) {
+				locStore.lastLeft = locStore.leftKey(locSize - 1);
+				locStore.blockMaxRight = locStore.maxRightKey(locSize - 1);
+			}
+			for (long locBlock = 0; locBlock << BLOCK_SHIFT < locSize; locBlock++) {
+				locStore.updateBlockMax(locBlock, locStore.maxRightKey(Math.min((locBlock + 1) << BLOCK_SHIFT, locSize) - 1));
+			}
+			return locStore;
+		}
+	}
+
+	/**
+	 * @return number of rows
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * @return {@code true} if the store has no rows
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @return {@code true} if the store was opened from a file and does not accept new rows
+	 */
+	public boolean isReadOnly() {
+		return readOnly;
+	}
+
+	/**
+	 * Appends the interval as the last row.
+	 *
+	 * @param aInterval interval; its left endpoint must not be before the left endpoint of the last row
+	 */
+	public void append(@Nonnull final AIiLongInterval aInterval) {
+		Objects.requireNonNull(aInterval, "Interval must not be null");
+		append(aInterval.getBoundaryFlags(), aInterval.getLeftLongValue(), aInterval.getRightLongValue());
+	}
+
+	/**
+	 * Appends the interval as the last row.
+	 *
+	 * @param aBoundaryFlags boundaries encoded by {@link AIsIntervalBoundaryFlags}
+	 * @param aLeftValue left value (ignored if the left side is unbounded); it must not be before the left endpoint of the last row
+	 * @param aRightValue right value (ignored if the right side is unbounded)
+	 */
+	public void append(final int aBoundaryFlags, final long aLeftValue, final long aRightValue) {
+		if (readOnly) {
+			throw new UnsupportedOperationException("Interval store opened from a file is read only");
+		}
+		AIcLongInterval.validate(aBoundaryFlags, aLeftValue, aRightValue);
+		long locLeft = AIsIntervalBoundaryFlags.isLeftUnbounded(aBoundaryFlags) ? Long.MIN_VALUE : aLeftValue;
+		long locRight = AIsIntervalBoundaryFlags.isRightUnbounded(aBoundaryFlags) ? Long.MAX_VALUE : aRightValue;
+		if (locLeft < lastLeft) {
+			throw new IllegalArgumentException("Rows must be appended by non-decreasing left endpoints: " + aLeftValue
+					+ " after " + lastLeft);
+		}
+
+		AIcChunk locChunk = writableChunk();
+		int locRow = (int) (size & chunkMask());
+		lastLeft = locLeft;
+		blockMaxRight = (size & BLOCK_MASK) == 0 ? locRight : Math.max(blockMaxRight, locRight);
+		updateBlockMax(size >>> BLOCK_SHIFT, locRight);
+		locChunk.left.putLong(locRow * Long.BYTES, locLeft);
+		locChunk.right.putLong(locRow * Long.BYTES, locRight);
+		locChunk.maxRight.putLong(locRow * Long.BYTES, blockMaxRight);
+		int locShift = (locRow & 1) * 4;
+		int locByte = locChunk.flags.get(locRow >> 1) & ~(0xF << locShift);
+		locChunk.flags.put(locRow >> 1, (byte) (locByte | (aBoundaryFlags & 0xF) << locShift));
+		locChunk.rows++;
+		size++;
+	}
+
+	/**
+	 * @param aRow row number
+	 * @return boundary flags of the row
+	 */
+	public int getBoundaryFlags(final long aRow) {
+		AIcChunk locChunk = chunk(aRow);
+		int locRow = (int) (aRow & chunkMask());
+		return locChunk.flags.get(locRow >> 1) >> (locRow & 1) * 4 & 0xF;
+	}
+
+	/**
+	 * @param aRow row number
+	 * @return left value of the row, zero if the left side is unbounded
+	 */
+	public long getLeftLongValue(final long aRow) {
+		return AIsIntervalBoundaryFlags.isLeftUnbounded(getBoundaryFlags(aRow)) ? 0 : leftKey(aRow);
+	}
+
+	/**
+	 * @param aRow row number
+	 * @return right value of the row, zero if the right side is unbounded
+	 */
+	public long getRightLongValue(final long aRow) {
+		return AIsIntervalBoundaryFlags.isRightUnbounded(getBoundaryFlags(aRow)) ? 0 : rightKey(aRow);
+	}
+
+	/**
+	 * @param aRow row number
+	 * @return interval of the row
+	 */
+	@Nonnull
+	public AIcLongInterval get(final long aRow) {
+		return new AIcLongInterval(getBoundaryFlags(aRow), leftKey(aRow), rightKey(aRow), true);
+	}
+
+	/**
+	 * Passes the numbers of all rows containing the value to the consumer in ascending order.
+	 *
+	 * @param aValue value
+	 * @param aRowConsumer consumer of the row numbers
+	 */
+	public void forEachContaining(final long aValue, @Nonnull final LongConsumer aRowConsumer) {
+		Objects.requireNonNull(aRowConsumer, "Row consumer must not be null");
+		long locTo = firstRow(aRow -> leftKey(aRow) > aValue);
+		forEachCandidateRow(aValue, locTo, aRow -> {
+			if (AIsIntervalUtils.containsLong(getBoundaryFlags(aRow), leftKey(aRow), rightKey(aRow), aValue)) {
+				aRowConsumer.accept(aRow);
+			}
+		});
+	}
+
+	/**
+	 * @param aValue value
+	 * @return number of rows containing the value
+	 */
+	public long countContaining(final long aValue) {
+		long[] locCount = new long[1];
+		forEachContaining(aValue, aRow -> locCount[0]++);
+		return locCount[0];
+	}
+
+	/**
+	 * Passes the numbers of all rows overlapping the query interval to the consumer in ascending order.
+	 *
+	 * @param aQuery query interval
+	 * @param aRowConsumer consumer of the row numbers
+	 */
+	public void forEachOverlapping(@Nonnull final AIiLongInterval aQuery, @Nonnull final LongConsumer aRowConsumer) {
+		Objects.requireNonNull(aQuery, "Query must not be null");
+		Objects.requireNonNull(aRowConsumer, "Row consumer must not be null");
+		int locFlags = aQuery.getBoundaryFlags();
+		long locLeft = leftKey(aQuery);
+		long locRight = AIsIntervalBoundaryFlags.isRightUnbounded(locFlags) ? Long.MAX_VALUE : aQuery.getRightLongValue();
+		long locTo = firstRow(aRow -> leftKey(aRow) > locRight);
+		forEachCandidateRow(locLeft, locTo, aRow -> {
+			if (AIsIntervalUtils.overlapsLong(getBoundaryFlags(aRow), leftKey(aRow), rightKey(aRow), locFlags, locLeft, locRight)) {
+				aRowConsumer.accept(aRow);
+			}
+		});
+	}
+
+	/**
+	 * @param aValue value
+	 * @return number of rows tested by {@link #forEachContaining(long, LongConsumer)}, for the tests of the pruning
+	 */
+	long countCandidatesContaining(final long aValue) {
+		long[] locCount = new long[1];
+		forEachCandidateRow(aValue, firstRow(aRow -> leftKey(aRow) > aValue), aRow -> locCount[0]++);
+		return locCount[0];
+	}
+
+	/**
+	 * Writes the store to the file, replacing its content.
+	 *
+	 * @param aFile target file
+	 * @throws IOException if the file cannot be written
+	 */
+	public void save(@Nonnull final Path aFile) throws IOException {
+		Objects.requireNonNull(aFile, "File must not be null");
+		try (FileChannel locChannel = FileChannel.open(aFile,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer locHeader = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+			locHeader.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(chunkShift).putInt(0).putLong(size).putLong(0).flip();
+			writeFully(locChannel, locHeader);
+			for (AIcChunk locChunk : chunks) {
+				writeFully(locChannel, locChunk.left.duplicate().position(0).limit(locChunk.rows * Long.BYTES));
+			}
+			for (AIcChunk locChunk : chunks) {
+				writeFully(locChannel, locChunk.right.duplicate().position(0).limit(locChunk.rows * Long.BYTES));
+			}
+			for (AIcChunk locChunk : chunks) {
+				writeFully(locChannel, locChunk.maxRight.duplicate().position(0).limit(locChunk.rows * Long.BYTES));
+			}
+			for (AIcChunk locChunk : chunks) {
+				writeFully(locChannel, locChunk.flags.duplicate().position(0).limit((locChunk.rows + 1) / 2));
+			}
+			locChannel.force(false);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[size=" + size + ", chunks=" + chunks.size() + ", readOnly=" + readOnly + "]";
+	}
+
+	private int chunkMask() {
+		return (1 << chunkShift) - 1;
+	}
+
+	@Nonnull
+	private AIcChunk chunk(final long aRow) {
+		Objects.checkIndex(aRow, size);
+		return chunks.get((int) (aRow >>> chunkShift));
+	}
+
+	private long leftKey(final long aRow) {
+		return chunk(aRow).left.getLong((int) (aRow & chunkMask()) * Long.BYTES);
+	}
+
+	private long rightKey(final long aRow) {
+		return chunk(aRow).right.getLong((int) (aRow & chunkMask()) * Long.BYTES);
+	}
+
+	private long maxRightKey(final long aRow) {
+		return chunk(aRow).maxRight.getLong((int) (aRow & chunkMask()) * Long.BYTES);
+	}
+
+	/**
+	 * Passes the rows before the given row whose right endpoint is not before the value to the consumer
+	 * in ascending order, skipping the blocks by the block maxima tree.
+	 */
+	private void forEachCandidateRow(final long aMinRight, final long aTo, @Nonnull final LongConsumer aRowConsumer) {
+		if (aTo == 0) {
+			return;
+		}
+		int locTopLevel = blockMaxLevels.size() - 1;
+		if (blockMaxLevels.get(locTopLevel)[0] >= aMinRight) {
+			forEachCandidateRow(locTopLevel, 0, aMinRight, aTo, aRowConsumer);
+		}
+	}
+
+	private void forEachCandidateRow(
+			final int aLevel,
+			final long aIndex,
+			final long aMinRight,
+			final long aTo,
+			@Nonnull final LongConsumer aRowConsumer
+	) {
+		long locLastBlock = (aTo - 1) >>> BLOCK_SHIFT;
+		long locFirstChild = aIndex << BLOCK_SHIFT;
+		long locLastChild = Math.min(locFirstChild + BLOCK_MASK, locLastBlock >>> (BLOCK_SHIFT * aLevel));
+		for (long locChild = locFirstChild; locChild <= locLastChild; locChild++) {
+			if (aLevel > 0) {
+				if (blockMaxLevels.get(aLevel - 1)[(int) locChild] >= aMinRight) {
+					forEachCandidateRow(aLevel - 1, locChild, aMinRight, aTo, aRowConsumer);
+				}
+				continue;
+			}
+			long locBlockTo = Math.min((locChild + 1) << BLOCK_SHIFT, size);
+			/* the block column is a running maximum inside the block, so its last row holds the block maximum */
+			if (maxRightKey(locBlockTo - 1) < aMinRight) {
+				continue;
+			}
+			for (long locRow = locChild << BLOCK_SHIFT; locRow < Math.min(locBlockTo, aTo); locRow++) {
+				if (rightKey(locRow) >= aMinRight) {
+					aRowConsumer.accept(locRow);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Raises the maxima of the tree nodes above the block to the right endpoint, adding the levels as needed.
+	 */
+	private void updateBlockMax(final long aBlock, final long aRight) {
+		long locIndex = aBlock;
+		int locLevel = 0;
+		do {
+			locIndex >>>= BLOCK_SHIFT;
+			if (locLevel == blockMaxLevels.size()) {
+				long[] locTop = newBlockMaxima(1);
+				/* all entries of the former top level are children of the single entry of the new one */
+				if (locLevel > 0) {
+					for (long locMax : blockMaxLevels.get(locLevel - 1)) {
+						locTop[0] = Math.max(locTop[0], locMax);
+					}
+				}
+				blockMaxLevels.add(locTop);
+			}
+			long[] locMaxima = blockMaxLevels.get(locLevel);
+			if (locIndex >= locMaxima.length) {
+				long[] locGrown = newBlockMaxima(locMaxima.length * 2);
+				System.arraycopy(locMaxima, 0, locGrown, 0, locMaxima.length);
+				blockMaxLevels.set(locLevel, locGrown);
+				locMaxima = locGrown;
+			}
+			locMaxima[(int) locIndex] = Math.max(locMaxima[(int) locIndex], aRight);
+			locLevel++;
+		} while (locIndex > 0);
+	}
+
+	@Nonnull
+	private static long[] newBlockMaxima(final int aLength) {
+		long[] locResult = new long[aLength];
+		Arrays.fill(locResult, Long.MIN_VALUE);
+		return locResult;
+	}
+
+	/**
+	 * @return first row for which the predicate holds, or {@link #size()}; the predicate must be monotone over the rows
+	 */
+	private long firstRow(@Nonnull final LongPredicate aPredicate) {
+		long locLow = 0;
+		long locHigh = size;
+		while (locLow < locHigh) {
+			long locMiddle = (locLow + locHigh) >>> 1;
+			if (aPredicate.test(locMiddle)) {
+				locHigh = locMiddle;
+			} else {
+				locLow = locMiddle + 1;
+			}
+		}
+		return locLow;
+	}
+
+	/**
+	 * @return chunk receiving the next row, allocated or grown as needed
+	 */
+	@Nonnull
+	private AIcChunk writableChunk() {
+		int locChunkRows = 1 << chunkShift;
+		if ((size & chunkMask()) == 0) {
+			AIcChunk locChunk = AIcChunk.allocate(Math.min(INITIAL_CHUNK_CAPACITY, locChunkRows));
+			chunks.add(locChunk);
+			return locChunk;
+		}
+		int locIndex = chunks.size() - 1;
+		AIcChunk locChunk = chunks.get(locIndex);
+		if (locChunk.rows == locChunk.capacity()) {
+			locChunk = locChunk.grow(Math.min(locChunk.capacity() * 2, locChunkRows));
+			chunks.set(locIndex, locChunk);
+		}
+		return locChunk;
+	}
+
+	private static long leftKey(@Nonnull final AIiLongInterval aInterval) {
+		return AIsIntervalBoundaryFlags.isLeftUnbounded(aInterval.getBoundaryFlags()) ? Long.MIN_VALUE : aInterval.getLeftLongValue();
+	}
+
+	private static long fileSize(final long aSize) {
+		return HEADER_SIZE + 3 * aSize * Long.BYTES + (aSize + 1) / 2;
+	}
+
+	@Nonnull
+	private static ByteBuffer map(@Nonnull final FileChannel aChannel, final long aOffset, final long aLength) throws IOException {
+		return aChannel.map(FileChannel.MapMode.READ_ONLY, aOffset, aLength).order(BYTE_ORDER);
+	}
+
+	private static void writeFully(@Nonnull final FileChannel aChannel, @Nonnull final ByteBuffer aBuffer) throws IOException {
+		while (aBuffer.hasRemaining()) {
+			aChannel.write(aBuffer);
+		}
+	}
+
+	/**
+	 * Columns of up to {@code 2^chunkShift} consecutive rows.
+	 */
+	private static final class AIcChunk {
+
+		private final ByteBuffer left;
+
+		private final ByteBuffer right;
+
+		private final ByteBuffer maxRight;
+
+		private final ByteBuffer flags;
+
+		private int rows;
+
+		private AIcChunk(
+				@Nonnull final ByteBuffer aLeft,
+				@Nonnull final ByteBuffer aRight,
+				@Nonnull final ByteBuffer aMaxRight,
+				@Nonnull final ByteBuffer aFlags,
+				final int aRows
+		) {
+			left = aLeft;
+			right = aRight;
+			maxRight = aMaxRight;
+			flags = aFlags;
+			rows = aRows;
+		}
+
+		@Nonnull
+		private static AIcChunk allocate(final int aCapacity) {
+			return new AIcChunk(
+					ByteBuffer.allocateDirect(aCapacity * Long.BYTES).order(BYTE_ORDER),
+					ByteBuffer.allocateDirect(aCapacity * Long.BYTES).order(BYTE_ORDER),
+					ByteBuffer.allocateDirect(aCapacity * Long.BYTES).order(BYTE_ORDER),
+					ByteBuffer.allocateDirect((aCapacity + 1) / 2).order(BYTE_ORDER),
+					0
+			);
+		}
+
+		private int capacity() {
+			return left.capacity() / Long.BYTES;
+		}
+
+		@Nonnull
+		private AIcChunk grow(final int aCapacity) {
+			AIcChunk locResult = allocate(aCapacity);
+			locResult.left.put(0, left, 0, rows * Long.BYTES);
+			locResult.right.put(0, right, 0, rows * Long.BYTES);
+			locResult.maxRight.put(0, maxRight, 0, rows * Long.BYTES);
+			locResult.flags.put(0, flags, 0, (rows + 1) / 2);
+			locResult.rows = rows;
+			return locResult;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.Serial;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Title: {@link AIcOrderedInterval}
+ * </p>
+ * <p>
+ * Description: Immutable interval bound to the {@link Comparator} ordering its values.
+ * </p>
+ * <p>
+ * Notes:
+ * </p>
+ * <ul>
+ *   <li>The interval is validated and all its operations are evaluated using the comparator, so the natural
+ *       order of the values ({@link Comparable#compareTo(Object)}) is never used.</li>
+ *   <li>The comparator is not part of {@link #equals(Object)} and {@link #hashCode()}, which compare endpoints
+ *       like {@link AIcInterval}.</li>
+ *   <li>The interval is serializable only if the comparator is.</li>
+ * </ul>
+ *
+ * @param <T> value type
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public class AIcOrderedInterval<T extends Comparable> extends AIcInterval<T> {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	@Nonnull
+	private final Comparator<? super T> comparator;
+
+	/**
+	 * Creates a new interval validated using the comparator.
+	 *
+	 * @param aLeftBoundary left boundary
+	 * @param aLeftValue left value (may be {@code null} if the boundary ignores its value)
+	 * @param aRightBoundary right boundary
+	 * @param aRightValue right value (may be {@code null} if the boundary ignores its value)
+	 * @param aComparator comparator of the values
+	 */
+	public AIcOrderedInterval(
+			@Nonnull final AInIntervalBoundary aLeftBoundary,
+			@Nullable final T aLeftValue,
+			@Nonnull final AInIntervalBoundary aRightBoundary,
+			@Nullable final T aRightValue,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		this(aLeftBoundary, aLeftValue, aRightBoundary, aRightValue, aComparator, false);
+	}
+
+	/**
+	 * Creates a new interval.
+	 *
+	 * @param aLeftBoundary left boundary
+	 * @param aLeftValue left value (may be {@code null} if the boundary ignores its value)
+	 * @param aRightBoundary right boundary
+	 * @param aRightValue right value (may be {@code null} if the boundary ignores its value)
+	 * @param aComparator comparator of the values
+	 * @param aSkipValidation when {@code true}, the constructor does not validate the interval
+	 */
+	protected AIcOrderedInterval(
+			@Nonnull final AInIntervalBoundary aLeftBoundary,
+			@Nullable final T aLeftValue,
+			@Nonnull final AInIntervalBoundary aRightBoundary,
+			@Nullable final T aRightValue,
+			@Nonnull final Comparator<? super T> aComparator,
+			final boolean aSkipValidation
+	) {
+		super(aLeftBoundary, aLeftValue, aRightBoundary, aRightValue, true);
+		comparator = Objects.requireNonNull(aComparator, "Comparator must not be null");
+		if (!aSkipValidation) {
+			AIsIntervalUtils.validateInterval(this, comparator);
+		}
+	}
+
+	/**
+	 * @return comparator of the values
+	 */
+	@Nonnull
+	public Comparator<? super T> getComparator() {
+		return comparator;
+	}
+
+	/**
+	 * @param aValue value
+	 * @return {@code true} if the value is contained in this interval
+	 */
+	public boolean contains(@Nonnull final T aValue) {
+		return AIsIntervalUtils.contains(this, aValue, comparator);
+	}
+
+	/**
+	 * @param aOther other interval
+	 * @return {@code true} if this interval overlaps the other one
+	 */
+	public boolean overlaps(@Nonnull final AIiInterval<T> aOther) {
+		return AIsIntervalUtils.overlaps(this, aOther, comparator);
+	}
+
+	/**
+	 * @param aOther other interval
+	 * @return {@code true} if this interval ends before the other one starts
+	 */
+	public boolean isStrictlyBefore(@Nonnull final AIiInterval<T> aOther) {
+		Objects.requireNonNull(aOther, "Other interval must not be null");
+		return AIsIntervalUtils.isStrictlyBefore(this, aOther, comparator);
+	}
+
+	/**
+	 * @param aOther other interval
+	 * @return intersection of both intervals
+	 * @throws IllegalArgumentException when intervals do not overlap
+	 */
+	@Nonnull
+	public AIcOrderedInterval<T> intersect(@Nonnull final AIiInterval<T> aOther) {
+		return AIsIntervalUtils.intersect(this, aOther, comparator);
+	}
+
+	/**
+	 * @param aOther other interval
+	 * @return intersection of both intervals or {@code null} if they do not overlap
+	 */
+	@Nullable
+	public AIcOrderedInterval<T> tryIntersect(@Nonnull final AIiInterval<T> aOther) {
+		return AIsIntervalUtils.tryIntersect(this, aOther, comparator);
+	}
+}
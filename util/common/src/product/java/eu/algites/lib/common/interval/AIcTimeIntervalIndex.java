@@ -0,0 +1,786 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>
+ * Title: {@link AIcTimeIntervalIndex}
+ * </p>
+ * <p>
+ * Description: Index of time intervals (e.g. schedules) answering which intervals are active at a time
+ * or overlap a time window.
+ * </p>
+ * <p>
+ * The endpoints are encoded as {@code long} keys (epoch milliseconds of an {@link Instant}, epoch days of
+ * a {@link LocalDate}) and the intervals are kept in hashed buckets of a fixed width on several levels, each
+ * level 16 times coarser than the previous one (a hierarchical timing wheel). An interval is stored on the
+ * finest level on which it spans at most two buckets. The intervals unbounded on one side are kept in sorted maps
+ * keyed by their bounded endpoint (the fully unbounded ones under the minimal left key), so a query visits only
+ * those reaching its time; the bounded intervals longer than the coarsest level are kept in a list checked by every
+ * query. A point query therefore visits one bucket per level, independently of the number of stored intervals.
+ * The keys decide most comparisons; the values are compared only when a key equals the key of an endpoint,
+ * so the boundaries are honored exactly.
+ * </p>
+ * <p>
+ * The buckets are immutable and replaced on every change (copy on write), so queries never lock; writers are
+ * serialized. Changes copy the bucket tables of the affected levels and the maps of the unbounded intervals, so
+ * the index suits intervals queried far more often than changed; {@link #addAll(Collection)} applies many changes
+ * at once and {@link #expireBefore(Comparable)} drops the intervals which ended before a time.
+ * </p>
+ *
+ * @param <T> time type
+ * @param <I> interval type
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public final class AIcTimeIntervalIndex<T extends Comparable, I extends AIiInterval<T>> {
+
+	private static final int LEVEL_COUNT = 8;
+
+	/* each level is 2^4 = 16 times coarser than the previous one */
+	private static final int LEVEL_SHIFT = 4;
+
+	private static final long MAX_EPOCH_SECOND = Long.MAX_VALUE / 1000 - 1;
+
+	private static final long MIN_EPOCH_SECOND = Long.MIN_VALUE / 1000 + 1;
+
+	/* levels of the entries kept outside of the bucket levels */
+	private static final int OVERFLOW_LEVEL = -1;
+
+	private static final int RIGHT_UNBOUNDED_LEVEL = -2;
+
+	private static final int LEFT_UNBOUNDED_LEVEL = -3;
+
+	private final Object lockObject = new Object();
+
+	private final ToLongFunction<? super T> encoder;
+
+	private final Comparator<? super T> comparator;
+
+	private final long[] bucketWidths;
+
+	@Nonnull
+	private volatile AIcState<T, I> state;
+
+	private AIcTimeIntervalIndex(
+			@Nonnull final ToLongFunction<? super T> aEncoder,
+			final long aBucketWidth,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		encoder = Objects.requireNonNull(aEncoder, "Encoder must not be null");
+		comparator = Objects.requireNonNull(aComparator, "Comparator must not be null");
+		if (aBucketWidth <= 0) {
+			throw new IllegalArgumentException("Bucket width must be positive: " + aBucketWidth);
+		}
+		int locLevels = 1;
+		while (locLevels < LEVEL_COUNT && aBucketWidth <= Long.MAX_VALUE >> (LEVEL_SHIFT * locLevels)) {
+			locLevels++;
+		}
+		bucketWidths = new long[locLevels];
+		for (int locLevel = 0; locLevel < locLevels; locLevel++) {
+			bucketWidths[locLevel] = aBucketWidth << (LEVEL_SHIFT * locLevel);
+		}
+		state = AIcState.empty(locLevels);
+	}
+
+	/**
+	 * Creates an index of {@link Instant} intervals.
+	 *
+	 * @param aBucketWidth width of the finest buckets, e.g. the typical length of the intervals; at least one millisecond
+	 * @param <I> interval type
+	 * @return new empty index
+	 */
+	@Nonnull
+	public static <I extends AIiInterval<Instant>> AIcTimeIntervalIndex<Instant, I> forInstants(@Nonnull final Duration aBucketWidth) {
+		Objects.requireNonNull(aBucketWidth, "Bucket width must not be null");
+		return new AIcTimeIntervalIndex<>(AIcTimeIntervalIndex::epochMillis, aBucketWidth.toMillis(), AIsIntervalUtils.naturalOrder());
+	}
+
+	/**
+	 * Creates an index of {@link LocalDate} intervals.
+	 *
+	 * @param aBucketDays width of the finest buckets in days
+	 * @param <I> interval type
+	 * @return new empty index
+	 */
+	@Nonnull
+	public static <I extends AIiInterval<LocalDate>> AIcTimeIntervalIndex<LocalDate, I> forLocalDates(final int aBucketDays) {
+		return new AIcTimeIntervalIndex<>(LocalDate::toEpochDay, aBucketDays, AIsIntervalUtils.naturalOrder());
+	}
+
+	/**
+	 * Creates an index of intervals of any time type.
+	 *
+	 * @param aEncoder encoder of the values to keys; it must preserve the order of the comparator
+	 *        (a later value must not get a smaller key), equal keys are allowed
+	 * @param aBucketWidth width of the finest buckets in key units
+	 * @param aComparator comparator of the values
+	 * @param <T> time type
+	 * @param <I> interval type
+	 * @return new empty index
+	 */
+	@Nonnull
+	public static <T extends Comparable, I extends AIiInterval<T>> AIcTimeIntervalIndex<T, I> of(
+			@Nonnull final ToLongFunction<? super T> aEncoder,
+			final long aBucketWidth,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		return new AIcTimeIntervalIndex<>(aEncoder, aBucketWidth, aComparator);
+	}
+
+	/**
+	 * @return number of intervals
+	 */
+	public int size() {
+		return state.size;
+	}
+
+	/**
+	 * @return {@code true} if the index has no interval
+	 */
+	public boolean isEmpty() {
+		return state.size == 0;
+	}
+
+	/**
+	 * @param aTime time
+	 * @return {@code true} if any interval contains the time
+	 */
+	public boolean isActive(@Nonnull final T aTime) {
+		Objects.requireNonNull(aTime, "Time must not be null");
+		AIcState<T, I> locState = state;
+		long locKey = encoder.applyAsLong(aTime);
+		for (int locLevel = 0; locLevel < bucketWidths.length; locLevel++) {
+			List<AIcEntry<T, I>> locBucket = locState.levels.get(locLevel).get(Math.floorDiv(locKey, bucketWidths[locLevel]));
+			if (locBucket != null) {
+				for (int locIndex = 0; locIndex < locBucket.size(); locIndex++) {
+					if (contains(locBucket.get(locIndex), aTime, locKey)) {
+						return true;
+					}
+				}
+			}
+		}
+		return visitOutsideLevels(locState, locKey, locKey, aEntry -> contains(aEntry, aTime, locKey));
+	}
+
+	/**
+	 * Passes all intervals containing the time to the consumer, in no particular order.
+	 *
+	 * @param aTime time
+	 * @param aConsumer consumer of the intervals
+	 */
+	public void forEachContaining(@Nonnull final T aTime, @Nonnull final Consumer<? super I> aConsumer) {
+		Objects.requireNonNull(aTime, "Time must not be null");
+		Objects.requireNonNull(aConsumer, "Consumer must not be null");
+		AIcState<T, I> locState = state;
+		long locKey = encoder.applyAsLong(aTime);
+		for (int locLevel = 0; locLevel < bucketWidths.length; locLevel++) {
+			List<AIcEntry<T, I>> locBucket = locState.levels.get(locLevel).get(Math.floorDiv(locKey, bucketWidths[locLevel]));
+			if (locBucket != null) {
+				for (int locIndex = 0; locIndex < locBucket.size(); locIndex++) {
+					AIcEntry<T, I> locEntry = locBucket.get(locIndex);
+					if (contains(locEntry, aTime, locKey)) {
+						aConsumer.accept(locEntry.interval);
+					}
+				}
+			}
+		}
+		visitOutsideLevels(locState, locKey, locKey, aEntry -> {
+			if (contains(aEntry, aTime, locKey)) {
+				aConsumer.accept(aEntry.interval);
+			}
+			return false;
+		});
+	}
+
+	/**
+	 * @param aTime time
+	 * @return intervals containing the time, in no particular order
+	 */
+	@Nonnull
+	public List<I> findContaining(@Nonnull final T aTime) {
+		List<I> locResult = new ArrayList<>();
+		forEachContaining(aTime, locResult::add);
+		return locResult;
+	}
+
+	/**
+	 * Passes all intervals overlapping the window to the consumer, in no particular order.
+	 *
+	 * @param aWindow time window, e.g. {@code [t1, t2)}; it must not be empty
+	 * @param aConsumer consumer of the intervals
+	 */
+	public void forEachOverlapping(@Nonnull final AIiInterval<T> aWindow, @Nonnull final Consumer<? super I> aConsumer) {
+		checkInterval(aWindow);
+		Objects.requireNonNull(aConsumer, "Consumer must not be null");
+		AIcState<T, I> locState = state;
+		long locLeftKey = leftKey(aWindow);
+		long locRightKey = rightKey(aWindow);
+		for (int locLevel = 0; locLevel < bucketWidths.length; locLevel++) {
+			Map<Long, List<AIcEntry<T, I>>> locBuckets = locState.levels.get(locLevel);
+			if (locBuckets.isEmpty()) {
+				continue;
+			}
+			long locWidth = bucketWidths[locLevel];
+			long locFirst = Math.floorDiv(locLeftKey, locWidth);
+			long locLast = Math.floorDiv(locRightKey, locWidth);
+			/* the bucket range may be wider than the level; then it is cheaper to scan the buckets present */
+			if (Long.compareUnsigned(locLast - locFirst, locBuckets.size()) < 0) {
+				for (long locBucket = locFirst; ; locBucket++) {
+					List<AIcEntry<T, I>> locEntries = locBuckets.get(locBucket);
+					if (locEntries != null) {
+						reportOverlapping(locEntries, locBucket, locFirst, locWidth, aWindow, locLeftKey, locRightKey, aConsumer);
+					}
+					if (locBucket == locLast) {
+						break;
+					}
+				}
+			} else {
+				for (Map.Entry<Long, List<AIcEntry<T, I>>> locBucket : locBuckets.entrySet()) {
+					long locBucketIndex = locBucket.getKey();
+					if (locBucketIndex >= locFirst && locBucketIndex <= locLast) {
+						reportOverlapping(locBucket.getValue(), locBucketIndex, locFirst, locWidth, aWindow, locLeftKey, locRightKey, aConsumer);
+					}
+				}
+			}
+		}
+		visitOutsideLevels(locState, locLeftKey, locRightKey, aEntry -> {
+			if (overlaps(aEntry, aWindow, locLeftKey, locRightKey)) {
+				aConsumer.accept(aEntry.interval);
+			}
+			return false;
+		});
+	}
+
+	/**
+	 * @param aWindow time window, e.g. {@code [t1, t2)}; it must not be empty
+	 * @return intervals overlapping the window, in no particular order
+	 */
+	@Nonnull
+	public List<I> findOverlapping(@Nonnull final AIiInterval<T> aWindow) {
+		List<I> locResult = new ArrayList<>();
+		forEachOverlapping(aWindow, locResult::add);
+		return locResult;
+	}
+
+	/**
+	 * Adds the interval.
+	 *
+	 * @param aInterval interval; it must not be empty
+	 */
+	public void add(@Nonnull final I aInterval) {
+		AIcEntry<T, I> locEntry = entry(aInterval);
+		synchronized (lockObject) {
+			AIcWriter<T, I> locWriter = new AIcWriter<>(state);
+			locWriter.add(locEntry);
+			state = locWriter.build();
+		}
+	}
+
+	/**
+	 * Adds all the intervals in one change.
+	 *
+	 * @param aIntervals intervals; they must not be empty
+	 */
+	public void addAll(@Nonnull final Collection<? extends I> aIntervals) {
+		Objects.requireNonNull(aIntervals, "Intervals must not be null");
+		List<AIcEntry<T, I>> locEntries = new ArrayList<>(aIntervals.size());
+		for (I locInterval : aIntervals) {
+			locEntries.add(entry(locInterval));
+		}
+		synchronized (lockObject) {
+			AIcWriter<T, I> locWriter = new AIcWriter<>(state);
+			for (AIcEntry<T, I> locEntry : locEntries) {
+				locWriter.add(locEntry);
+			}
+			state = locWriter.build();
+		}
+	}
+
+	/**
+	 * Removes one interval equal to the given one.
+	 *
+	 * @param aInterval interval
+	 * @return {@code true} if an interval was removed
+	 */
+	public boolean remove(@Nonnull final I aInterval) {
+		AIcEntry<T, I> locProbe = entry(aInterval);
+		synchronized (lockObject) {
+			AIcState<T, I> locState = state;
+			List<AIcEntry<T, I>> locCandidates = switch (locProbe.level) {
+				case OVERFLOW_LEVEL -> locState.overflow;
+				case RIGHT_UNBOUNDED_LEVEL -> locState.rightUnbounded.get(locProbe.leftKey);
+				case LEFT_UNBOUNDED_LEVEL -> locState.leftUnbounded.get(locProbe.rightKey);
+				default -> locState.levels.get(locProbe.level).get(locProbe.firstBucket);
+			};
+			if (locCandidates != null) {
+				for (AIcEntry<T, I> locEntry : locCandidates) {
+					if (locEntry.interval.equals(aInterval)) {
+						AIcWriter<T, I> locWriter = new AIcWriter<>(locState);
+						locWriter.remove(locEntry);
+						state = locWriter.build();
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Removes the intervals which ended before the time, i.e. contain no value equal to or after it,
+	 * and drops their buckets.
+	 *
+	 * @param aTime time
+	 * @return number of removed intervals
+	 */
+	public int expireBefore(@Nonnull final T aTime) {
+		Objects.requireNonNull(aTime, "Time must not be null");
+		long locKey = encoder.applyAsLong(aTime);
+		Predicate<AIcEntry<T, I>> locExpired = aEntry -> aEntry.rightKey <= locKey && endsBefore(aEntry.interval, aTime);
+		synchronized (lockObject) {
+			AIcWriter<T, I> locWriter = new AIcWriter<>(state);
+			for (int locLevel = 0; locLevel < bucketWidths.length; locLevel++) {
+				long locLastExpired = Math.floorDiv(locKey, bucketWidths[locLevel]);
+				locWriter.removeIf(locLevel, aBucket -> aBucket <= locLastExpired, locExpired);
+			}
+			locWriter.removeIf(OVERFLOW_LEVEL, aBucket -> true, locExpired);
+			locWriter.removeIf(LEFT_UNBOUNDED_LEVEL, aRightKey -> aRightKey <= locKey, locExpired);
+			int locRemoved = state.size - locWriter.size;
+			state = locWriter.build();
+			return locRemoved;
+		}
+	}
+
+	/**
+	 * Removes all intervals.
+	 */
+	public void clear() {
+		synchronized (lockObject) {
+			state = AIcState.empty(bucketWidths.length);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[size=" + state.size + "]";
+	}
+
+	private void reportOverlapping(
+			@Nonnull final List<AIcEntry<T, I>> aEntries,
+			final long aBucket,
+			final long aFirstBucket,
+			final long aWidth,
+			@Nonnull final AIiInterval<T> aWindow,
+			final long aLeftKey,
+			final long aRightKey,
+			@Nonnull final Consumer<? super I> aConsumer
+	) {
+		for (int locIndex = 0; locIndex < aEntries.size(); locIndex++) {
+			AIcEntry<T, I> locEntry = aEntries.get(locIndex);
+			/* an interval spanning two buckets of the window is reported from the first one */
+			if (Math.max(Math.floorDiv(locEntry.leftKey, aWidth), aFirstBucket) == aBucket
+					&& overlaps(locEntry, aWindow, aLeftKey, aRightKey)) {
+				aConsumer.accept(locEntry.interval);
+			}
+		}
+	}
+
+	/**
+	 * Passes the entries kept outside of the bucket levels, which may reach the keys, to the visitor until it returns {@code true}.
+	 *
+	 * @return {@code true} if the visitor stopped the visiting
+	 */
+	private boolean visitOutsideLevels(
+			@Nonnull final AIcState<T, I> aState,
+			final long aLeftKey,
+			final long aRightKey,
+			@Nonnull final Predicate<AIcEntry<T, I>> aVisitor
+	) {
+		for (List<AIcEntry<T, I>> locEntries : aState.rightUnbounded.headMap(aRightKey, true).values()) {
+			for (int locIndex = 0; locIndex < locEntries.size(); locIndex++) {
+				if (aVisitor.test(locEntries.get(locIndex))) {
+					return true;
+				}
+			}
+		}
+		for (List<AIcEntry<T, I>> locEntries : aState.leftUnbounded.tailMap(aLeftKey, true).values()) {
+			for (int locIndex = 0; locIndex < locEntries.size(); locIndex++) {
+				if (aVisitor.test(locEntries.get(locIndex))) {
+					return true;
+				}
+			}
+		}
+		for (int locIndex = 0; locIndex < aState.overflow.size(); locIndex++) {
+			if (aVisitor.test(aState.overflow.get(locIndex))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean contains(@Nonnull final AIcEntry<T, I> aEntry, @Nonnull final T aTime, final long aKey) {
+		if (aKey < aEntry.leftKey || aKey > aEntry.rightKey) {
+			return false;
+		}
+		if (aKey > aEntry.leftKey && aKey < aEntry.rightKey) {
+			return true;
+		}
+		return AIsIntervalUtils.contains(aEntry.interval, aTime, comparator);
+	}
+
+	private boolean overlaps(@Nonnull final AIcEntry<T, I> aEntry, @Nonnull final AIiInterval<T> aWindow, final long aLeftKey, final long aRightKey) {
+		if (aEntry.leftKey > aRightKey || aEntry.rightKey < aLeftKey) {
+			return false;
+		}
+		return AIsIntervalUtils.overlaps(aEntry.interval, aWindow, comparator);
+	}
+
+	private boolean endsBefore(@Nonnull final AIiInterval<T> aInterval, @Nonnull final T aTime) {
+		AInIntervalBoundary locBoundary = aInterval.getRightBoundary();
+		if (locBoundary == AInIntervalBoundary.UNBOUNDED) {
+			return false;
+		}
+		int locResult = comparator.compare(aInterval.getRightValue(), aTime);
+		return locResult < 0 || (locResult == 0 && locBoundary == AInIntervalBoundary.OPEN);
+	}
+
+	@Nonnull
+	private AIcEntry<T, I> entry(@Nonnull final I aInterval) {
+		checkInterval(aInterval);
+		long locLeftKey = leftKey(aInterval);
+		long locRightKey = rightKey(aInterval);
+		int locLevel = OVERFLOW_LEVEL;
+		if (aInterval.getRightBoundary() == AInIntervalBoundary.UNBOUNDED) {
+			locLevel = RIGHT_UNBOUNDED_LEVEL;
+		} else if (aInterval.getLeftBoundary() == AInIntervalBoundary.UNBOUNDED) {
+			locLevel = LEFT_UNBOUNDED_LEVEL;
+		} else if (locLeftKey != Long.MIN_VALUE && locRightKey != Long.MAX_VALUE) {
+			long locSpan = locRightKey - locLeftKey;
+			/* a negative span overflowed; such an interval is longer than any level */
+			for (int locCandidate = 0; locSpan >= 0 && locCandidate < bucketWidths.length; locCandidate++) {
+				if (locSpan < bucketWidths[locCandidate]) {
+					locLevel = locCandidate;
+					break;
+				}
+			}
+		}
+		long locFirst = locLevel < 0 ? 0 : Math.floorDiv(locLeftKey, bucketWidths[locLevel]);
+		long locLast = locLevel < 0 ? 0 : Math.floorDiv(locRightKey, bucketWidths[locLevel]);
+		return new AIcEntry<>(aInterval, locLeftKey, locRightKey, locLevel, locFirst, locLast);
+	}
+
+	private long leftKey(@Nonnull final AIiInterval<T> aInterval) {
+		return aInterval.getLeftBoundary() == AInIntervalBoundary.UNBOUNDED ? Long.MIN_VALUE : encoder.applyAsLong(aInterval.getLeftValue());
+	}
+
+	private long rightKey(@Nonnull final AIiInterval<T> aInterval) {
+		return aInterval.getRightBoundary() == AInIntervalBoundary.UNBOUNDED ? Long.MAX_VALUE : encoder.applyAsLong(aInterval.getRightValue());
+	}
+
+	private void checkInterval(@Nonnull final AIiInterval<T> aInterval) {
+		Objects.requireNonNull(aInterval, "Interval must not be null");
+		if (!AIsIntervalUtils.isSatisfiable(aInterval, comparator)) {
+			throw new IllegalArgumentException("Interval must not be empty: " + aInterval);
+		}
+	}
+
+	/**
+	 * @return epoch milliseconds of the instant, saturated to the range of {@code long}
+	 */
+	private static long epochMillis(@Nonnull final Instant aInstant) {
+		long locSecond = aInstant.getEpochSecond();
+		if (locSecond > MAX_EPOCH_SECOND) {
+			return Long.MAX_VALUE;
+		}
+		if (locSecond < MIN_EPOCH_SECOND) {
+			return Long.MIN_VALUE;
+		}
+		return locSecond * 1000 + aInstant.getNano() / 1_000_000;
+	}
+
+	/**
+	 * Stored interval with its keys and buckets.
+	 */
+	private static final class AIcEntry<T extends Comparable, I extends AIiInterval<T>> {
+
+		@Nonnull
+		private final I interval;
+
+		private final long leftKey;
+
+		private final long rightKey;
+
+		/* one of the negative levels for the intervals kept outside of the bucket levels */
+		private final int level;
+
+		private final long firstBucket;
+
+		private final long lastBucket;
+
+		private AIcEntry(@Nonnull final I aInterval, final long aLeftKey, final long aRightKey, final int aLevel,
+				final long aFirstBucket, final long aLastBucket) {
+			interval = aInterval;
+			leftKey = aLeftKey;
+			rightKey = aRightKey;
+			level = aLevel;
+			firstBucket = aFirstBucket;
+			lastBucket = aLastBucket;
+		}
+	}
+
+	/**
+	 * Immutable content of the index published to the readers.
+	 */
+	private static final class AIcState<T extends Comparable, I extends AIiInterval<T>> {
+
+		@Nonnull
+		private final List<Map<Long, List<AIcEntry<T, I>>>> levels;
+
+		@Nonnull
+		private final List<AIcEntry<T, I>> overflow;
+
+		/* intervals unbounded on the right by their left keys */
+		@Nonnull
+		private final NavigableMap<Long, List<AIcEntry<T, I>>> rightUnbounded;
+
+		/* intervals unbounded on the left and bounded on the right by their right keys */
+		@Nonnull
+		private final NavigableMap<Long, List<AIcEntry<T, I>>> leftUnbounded;
+
+		private final int size;
+
+		private AIcState(
+				@Nonnull final List<Map<Long, List<AIcEntry<T, I>>>> aLevels,
+				@Nonnull final List<AIcEntry<T, I>> aOverflow,
+				@Nonnull final NavigableMap<Long, List<AIcEntry<T, I>>> aRightUnbounded,
+				@Nonnull final NavigableMap<Long, List<AIcEntry<T, I>>> aLeftUnbounded,
+				final int aSize
+		) {
+			levels = aLevels;
+			overflow = aOverflow;
+			rightUnbounded = aRightUnbounded;
+			leftUnbounded = aLeftUnbounded;
+			size = aSize;
+		}
+
+		@Nonnull
+		private static <T extends Comparable, I extends AIiInterval<T>> AIcState<T, I> empty(final int aLevels) {
+			List<Map<Long, List<AIcEntry<T, I>>>> locLevels = new ArrayList<>(aLevels);
+			for (int locLevel = 0; locLevel < aLevels; locLevel++) {
+				locLevels.add(Map.of());
+			}
+			return new AIcState<>(List.copyOf(locLevels), List.of(), new TreeMap<>(), new TreeMap<>(), 0);
+		}
+	}
+
+	/**
+	 * Builds a new state from a published one, copying each level and bucket before its first change.
+	 */
+	private static final class AIcWriter<T extends Comparable, I extends AIiInterval<T>> {
+
+		@Nonnull
+		private final List<Map<Long, List<AIcEntry<T, I>>>> levels;
+
+		@Nonnull
+		private final List<Set<Long>> copiedBuckets = new ArrayList<>();
+
+		@Nonnull
+		private List<AIcEntry<T, I>> overflow;
+
+		private boolean overflowCopied;
+
+		@Nonnull
+		private NavigableMap<Long, List<AIcEntry<T, I>>> rightUnbounded;
+
+		@Nonnull
+		private NavigableMap<Long, List<AIcEntry<T, I>>> leftUnbounded;
+
+		/* the lists of the maps are never modified, a changed list is replaced */
+		private boolean rightUnboundedCopied;
+
+		private boolean leftUnboundedCopied;
+
+		private int size;
+
+		private AIcWriter(@Nonnull final AIcState<T, I> aState) {
+			levels = new ArrayList<>(aState.levels);
+			for (int locLevel = 0; locLevel < levels.size(); locLevel++) {
+				copiedBuckets.add(null);
+			}
+			overflow = aState.overflow;
+			rightUnbounded = aState.rightUnbounded;
+			leftUnbounded = aState.leftUnbounded;
+			size = aState.size;
+		}
+
+		private void add(@Nonnull final AIcEntry<T, I> aEntry) {
+			switch (aEntry.level) {
+				case OVERFLOW_LEVEL -> writableOverflow().add(aEntry);
+				case RIGHT_UNBOUNDED_LEVEL, LEFT_UNBOUNDED_LEVEL -> {
+					NavigableMap<Long, List<AIcEntry<T, I>>> locUnbounded = writableUnbounded(aEntry.level);
+					List<AIcEntry<T, I>> locEntries = new ArrayList<>(locUnbounded.getOrDefault(unboundedKey(aEntry), List.of()));
+					locEntries.add(aEntry);
+					locUnbounded.put(unboundedKey(aEntry), List.copyOf(locEntries));
+				}
+				default -> {
+					for (long locBucket = aEntry.firstBucket; ; locBucket++) {
+						writableBucket(aEntry.level, locBucket).add(aEntry);
+						if (locBucket == aEntry.lastBucket) {
+							break;
+						}
+					}
+				}
+			}
+			size++;
+		}
+
+		/**
+		 * Removes the stored entry from the buckets or the list holding it.
+		 */
+		private void remove(@Nonnull final AIcEntry<T, I> aEntry) {
+			switch (aEntry.level) {
+				case OVERFLOW_LEVEL -> writableOverflow().remove(aEntry);
+				case RIGHT_UNBOUNDED_LEVEL, LEFT_UNBOUNDED_LEVEL -> {
+					NavigableMap<Long, List<AIcEntry<T, I>>> locUnbounded = writableUnbounded(aEntry.level);
+					List<AIcEntry<T, I>> locEntries = new ArrayList<>(locUnbounded.get(unboundedKey(aEntry)));
+					locEntries.remove(aEntry);
+					if (locEntries.isEmpty()) {
+						locUnbounded.remove(unboundedKey(aEntry));
+					} else {
+						locUnbounded.put(unboundedKey(aEntry), List.copyOf(locEntries));
+					}
+				}
+				default -> {
+					for (long locBucket = aEntry.firstBucket; ; locBucket++) {
+						List<AIcEntry<T, I>> locEntries = writableBucket(aEntry.level, locBucket);
+						locEntries.remove(aEntry);
+						if (locEntries.isEmpty()) {
+							levels.get(aEntry.level).remove(locBucket);
+							copiedBuckets.get(aEntry.level).remove(locBucket);
+						}
+						if (locBucket == aEntry.lastBucket) {
+							break;
+						}
+					}
+				}
+			}
+			size--;
+		}
+
+		/**
+		 * Removes the matching entries from the buckets of the level whose index is accepted by the filter, and from
+		 * all other buckets of the same entries. The filter is not used for the overflow list; the keys of the maps
+		 * of the unbounded intervals are visited in ascending order up to the first key it rejects.
+		 */
+		private void removeIf(
+				final int aLevel,
+				@Nonnull final Predicate<Long> aBucketFilter,
+				@Nonnull final Predicate<AIcEntry<T, I>> aPredicate
+		) {
+			if (aLevel == OVERFLOW_LEVEL) {
+				List<AIcEntry<T, I>> locOverflow = writableOverflow();
+				int locSize = locOverflow.size();
+				locOverflow.removeIf(aPredicate);
+				size -= locSize - locOverflow.size();
+				return;
+			}
+			List<AIcEntry<T, I>> locRemoved = new ArrayList<>();
+			if (aLevel < 0) {
+				for (Map.Entry<Long, List<AIcEntry<T, I>>> locKey : (aLevel == RIGHT_UNBOUNDED_LEVEL ? rightUnbounded : leftUnbounded).entrySet()) {
+					if (!aBucketFilter.test(locKey.getKey())) {
+						break;
+					}
+					for (AIcEntry<T, I> locEntry : locKey.getValue()) {
+						if (aPredicate.test(locEntry)) {
+							locRemoved.add(locEntry);
+						}
+					}
+				}
+			} else {
+				for (Map.Entry<Long, List<AIcEntry<T, I>>> locBucket : levels.get(aLevel).entrySet()) {
+					if (aBucketFilter.test(locBucket.getKey())) {
+						for (AIcEntry<T, I> locEntry : locBucket.getValue()) {
+							if (locEntry.firstBucket == locBucket.getKey() && aPredicate.test(locEntry)) {
+								locRemoved.add(locEntry);
+							}
+						}
+					}
+				}
+			}
+			for (AIcEntry<T, I> locEntry : locRemoved) {
+				remove(locEntry);
+			}
+		}
+
+		@Nonnull
+		private AIcState<T, I> build() {
+			return new AIcState<>(List.copyOf(levels), overflow, rightUnbounded, leftUnbounded, size);
+		}
+
+		private static long unboundedKey(@Nonnull final AIcEntry<?, ?> aEntry) {
+			return aEntry.level == RIGHT_UNBOUNDED_LEVEL ? aEntry.leftKey : aEntry.rightKey;
+		}
+
+		@Nonnull
+		private NavigableMap<Long, List<AIcEntry<T, I>>> writableUnbounded(final int aLevel) {
+			if (aLevel == RIGHT_UNBOUNDED_LEVEL) {
+				if (!rightUnboundedCopied) {
+					rightUnbounded = new TreeMap<>(rightUnbounded);
+					rightUnboundedCopied = true;
+				}
+				return rightUnbounded;
+			}
+			if (!leftUnboundedCopied) {
+				leftUnbounded = new TreeMap<>(leftUnbounded);
+				leftUnboundedCopied = true;
+			}
+			return leftUnbounded;
+		}
+
+		@Nonnull
+		private List<AIcEntry<T, I>> writableOverflow() {
+			if (!overflowCopied) {
+				overflow = new ArrayList<>(overflow);
+				overflowCopied = true;
+			}
+			return overflow;
+		}
+
+		@Nonnull
+		private List<AIcEntry<T, I>> writableBucket(final int aLevel, final long aBucket) {
+			Set<Long> locCopied = copiedBuckets.get(aLevel);
+			if (locCopied == null) {
+				levels.set(aLevel, new HashMap<>(levels.get(aLevel)));
+				locCopied = new HashSet<>();
+				copiedBuckets.set(aLevel, locCopied);
+			}
+			Map<Long, List<AIcEntry<T, I>>> locBuckets = levels.get(aLevel);
+			List<AIcEntry<T, I>> locEntries = locBuckets.get(aBucket);
+			if (locCopied.add(aBucket)) {
+				locEntries = locEntries == null ? new ArrayList<>(2) : new ArrayList<>(locEntries);
+				locBuckets.put(aBucket, locEntries);
+			}
+			return locEntries;
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * <p>
+ * Title: {@link AIiIntervalFactory}
+ * </p>
+ * <p>
+ * Description: Creates intervals of a specific type from their endpoints.
+ * </p>
+ * <p>
+ * Used by the interval operations producing new intervals (e.g.
+ * {@link AIsIntervalUtils#tryIntersect(AIiInterval, AIiInterval, java.util.Comparator, AIiIntervalFactory)}),
+ * so the result has the type of the caller without converting it afterwards.
+ * </p>
+ *
+ * @param <T> value type
+ * @param <I> interval type
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+@FunctionalInterface
+public interface AIiIntervalFactory<T extends Comparable, I extends AIiInterval<T>> {
+
+	/**
+	 * Creates the interval.
+	 *
+	 * @param aLeftBoundary left boundary
+	 * @param aLeftValue left value (may be {@code null} if the boundary ignores its value)
+	 * @param aRightBoundary right boundary
+	 * @param aRightValue right value (may be {@code null} if the boundary ignores its value)
+	 * @return new interval
+	 */
+	@Nonnull
+	I create(
+			@Nonnull AInIntervalBoundary aLeftBoundary,
+			@Nullable T aLeftValue,
+			@Nonnull AInIntervalBoundary aRightBoundary,
+			@Nullable T aRightValue
+	);
+}
@@ -0,0 +1,141 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * <p>
+ * Title: {@link AIiIntervalIndex}
+ * </p>
+ * <p>
+ * Description: Read access to a collection of intervals supporting stabbing, overlap and nearest-neighbour queries.
+ * </p>
+ * <p>
+ * All queries honor the {@link AInIntervalBoundary} semantics of the stored intervals and of the query interval.
+ * Values are ordered by {@link #getValueComparator()}. Results are reported in the order of the intervals,
+ * i.e. by left endpoint, then by right endpoint (see {@link AIsIntervalUtils#compare(AIiInterval, AIiInterval)}).
+ * </p>
+ *
+ * @param <T> value type
+ * @param <I> interval type
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public interface AIiIntervalIndex<T extends Comparable, I extends AIiInterval<T>> {
+
+	/**
+	 * @return comparator ordering the interval values
+	 */
+	@Nonnull
+	Comparator<? super T> getValueComparator();
+
+	/**
+	 * @return number of stored intervals
+	 */
+	int size();
+
+	/**
+	 * @return {@code true} if no interval is stored
+	 */
+	default boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Passes every interval containing the value to the consumer.
+	 *
+	 * @param aValue value
+	 * @param aConsumer consumer of the intervals
+	 */
+	void forEachContaining(@Nonnull T aValue, @Nonnull Consumer<? super I> aConsumer);
+
+	/**
+	 * Passes every interval overlapping the query interval to the consumer.
+	 *
+	 * @param aQuery query interval; it must not be empty
+	 * @param aConsumer consumer of the intervals
+	 */
+	void forEachOverlapping(@Nonnull AIiInterval<T> aQuery, @Nonnull Consumer<? super I> aConsumer);
+
+	/**
+	 * @param aValue value
+	 * @return first interval containing the value, or {@code null} if there is none
+	 */
+	@Nullable
+	I findFirstContaining(@Nonnull T aValue);
+
+	/**
+	 * @param aValue value
+	 * @return interval lying entirely before the value whose right endpoint is the greatest, or {@code null}
+	 */
+	@Nullable
+	I findNearestBefore(@Nonnull T aValue);
+
+	/**
+	 * @param aValue value
+	 * @return interval lying entirely after the value whose left endpoint is the smallest, or {@code null}
+	 */
+	@Nullable
+	I findNearestAfter(@Nonnull T aValue);
+
+	/**
+	 * @return all intervals in their order
+	 */
+	@Nonnull
+	List<I> toList();
+
+	/**
+	 * @param aValue value
+	 * @return all intervals containing the value
+	 */
+	@Nonnull
+	default List<I> findContaining(@Nonnull final T aValue) {
+		List<I> locResult = new ArrayList<>();
+		forEachContaining(aValue, locResult::add);
+		return locResult;
+	}
+
+	/**
+	 * @param aQuery query interval; it must not be empty
+	 * @return all intervals overlapping the query interval
+	 */
+	@Nonnull
+	default List<I> findOverlapping(@Nonnull final AIiInterval<T> aQuery) {
+		List<I> locResult = new ArrayList<>();
+		forEachOverlapping(aQuery, locResult::add);
+		return locResult;
+	}
+
+	/**
+	 * Finds the interval nearest to the value: an interval containing it, or otherwise the nearer of
+	 * {@link #findNearestBefore(Comparable)} and {@link #findNearestAfter(Comparable)} (the one before on a tie).
+	 *
+	 * @param aValue value
+	 * @param aDistance non-negative distance of two values, called with the smaller value first
+	 * @return nearest interval or {@code null} if the index is empty
+	 */
+	@Nullable
+	default I findNearest(@Nonnull final T aValue, @Nonnull final ToDoubleBiFunction<? super T, ? super T> aDistance) {
+		Objects.requireNonNull(aDistance, "Distance must not be null");
+		I locContaining = findFirstContaining(aValue);
+		if (locContaining != null) {
+			return locContaining;
+		}
+		I locBefore = findNearestBefore(aValue);
+		I locAfter = findNearestAfter(aValue);
+		if (locBefore == null || locAfter == null) {
+			return locBefore != null ? locBefore : locAfter;
+		}
+		double locBeforeDistance = aDistance.applyAsDouble(locBefore.getRightValue(), aValue);
+		double locAfterDistance = aDistance.applyAsDouble(aValue, locAfter.getLeftValue());
+		return locAfterDistance < locBeforeDistance ? locAfter : locBefore;
+	}
+}
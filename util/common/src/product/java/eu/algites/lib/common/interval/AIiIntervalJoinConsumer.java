@@ -0,0 +1,30 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * <p>
+ * Title: {@link AIiIntervalJoinConsumer}
+ * </p>
+ * <p>
+ * Description: Receives overlapping pairs of intervals together with their intersection
+ * from {@link AIsIntervalJoinUtils}.
+ * </p>
+ *
+ * @param <T> value type
+ * @param <A> type of the intervals of the left collection
+ * @param <B> type of the intervals of the right collection
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+@FunctionalInterface
+public interface AIiIntervalJoinConsumer<T extends Comparable, A, B> {
+
+	/**
+	 * @param aLeft interval of the left collection
+	 * @param aRight interval of the right collection
+	 * @param aIntersection intersection of both intervals
+	 */
+	void accept(@Nonnull A aLeft, @Nonnull B aRight, @Nonnull AIcOrderedInterval<T> aIntersection);
+}
@@ -0,0 +1,74 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Title: {@link AIiIntervalValueParser}
+ * </p>
+ * <p>
+ * Description: Parses an endpoint value of an interval read by {@link AIcIntervalParser}.
+ * </p>
+ * <p>
+ * The value is passed as a range of the parsed text, so parsers of numbers can read it without creating
+ * a substring (e.g. {@link Long#parseLong(CharSequence, int, int, int)}).
+ * </p>
+ *
+ * @param <T> value type
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+@FunctionalInterface
+public interface AIiIntervalValueParser<T extends Comparable> {
+
+	/**
+	 * Parses the value.
+	 *
+	 * @param aText parsed text
+	 * @param aFrom index of the first character of the value
+	 * @param aTo index after the last character of the value
+	 * @return parsed value
+	 * @throws IllegalArgumentException if the text is not a valid value
+	 */
+	@Nonnull
+	T parse(@Nonnull CharSequence aText, int aFrom, int aTo);
+
+	/**
+	 * @return parser of decimal {@link Integer} values
+	 */
+	@Nonnull
+	static AIiIntervalValueParser<Integer> integers() {
+		return (aText, aFrom, aTo) -> Integer.parseInt(aText, aFrom, aTo, 10);
+	}
+
+	/**
+	 * @return parser of decimal {@link Long} values
+	 */
+	@Nonnull
+	static AIiIntervalValueParser<Long> longs() {
+		return (aText, aFrom, aTo) -> Long.parseLong(aText, aFrom, aTo, 10);
+	}
+
+	/**
+	 * @return parser keeping the values as strings
+	 */
+	@Nonnull
+	static AIiIntervalValueParser<String> strings() {
+		return (aText, aFrom, aTo) -> aText.subSequence(aFrom, aTo).toString();
+	}
+
+	/**
+	 * @param aFunction function parsing the value from its string
+	 * @param <T> value type
+	 * @return parser passing the value as a string to the function
+	 */
+	@Nonnull
+	static <T extends Comparable> AIiIntervalValueParser<T> of(@Nonnull final Function<? super String, ? extends T> aFunction) {
+		Objects.requireNonNull(aFunction, "Function must not be null");
+		return (aText, aFrom, aTo) -> aFunction.apply(aText.subSequence(aFrom, aTo).toString());
+	}
+}
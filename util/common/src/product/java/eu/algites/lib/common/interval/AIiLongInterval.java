@@ -0,0 +1,58 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * <p>
+ * Title: {@link AIiLongInterval}
+ * </p>
+ * <p>
+ * Description: Interval of primitive {@code long} values.
+ * </p>
+ * <p>
+ * The values and the boundaries ({@link AIsIntervalBoundaryFlags}) are exposed without boxing;
+ * the {@link AIiInterval} view boxes the values on demand.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public interface AIiLongInterval extends AIiInterval<Long> {
+
+	/**
+	 * @return boundaries of the interval encoded by {@link AIsIntervalBoundaryFlags}
+	 */
+	int getBoundaryFlags();
+
+	/**
+	 * @return left value; meaningless when the left side is unbounded
+	 */
+	long getLeftLongValue();
+
+	/**
+	 * @return right value; meaningless when the right side is unbounded
+	 */
+	long getRightLongValue();
+
+	@Override
+	@Nonnull
+	default AInIntervalBoundary getLeftBoundary() {
+		return AIsIntervalBoundaryFlags.leftBoundary(getBoundaryFlags());
+	}
+
+	@Override
+	@Nonnull
+	default AInIntervalBoundary getRightBoundary() {
+		return AIsIntervalBoundaryFlags.rightBoundary(getBoundaryFlags());
+	}
+
+	@Override
+	default Long getLeftValue() {
+		return AIsIntervalBoundaryFlags.isLeftUnbounded(getBoundaryFlags()) ? null : getLeftLongValue();
+	}
+
+	@Override
+	default Long getRightValue() {
+		return AIsIntervalBoundaryFlags.isRightUnbounded(getBoundaryFlags()) ? null : getRightLongValue();
+	}
+}
@@ -0,0 +1,35 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Title: {@link AIrIntervalDepth}
+ * </p>
+ * <p>
+ * Description: Interval over which a constant number of intervals overlap, reported by {@link AIsIntervalCoverageUtils}.
+ * </p>
+ *
+ * @param interval interval of a constant depth
+ * @param depth number of intervals containing every value of the interval
+ * @param <T> value type of the interval
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public record AIrIntervalDepth<T extends Comparable>(@Nonnull AIcInterval<T> interval, int depth) {
+
+	public AIrIntervalDepth {
+		Objects.requireNonNull(interval, "Interval must not be null");
+		if (depth < 0) {
+			throw new IllegalArgumentException("Depth must not be negative: " + depth);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return AIsIntervalUtils.toStringRepresentation(interval) + "=" + depth;
+	}
+}
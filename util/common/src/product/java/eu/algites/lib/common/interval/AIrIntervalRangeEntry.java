@@ -0,0 +1,34 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Title: {@link AIrIntervalRangeEntry}
+ * </p>
+ * <p>
+ * Description: Interval with its value stored in {@link AIcIntervalRangeMap}.
+ * </p>
+ *
+ * @param interval interval
+ * @param value value assigned to all values of the interval
+ * @param <T> value type of the interval
+ * @param <V> type of the assigned value
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public record AIrIntervalRangeEntry<T extends Comparable, V>(@Nonnull AIcInterval<T> interval, @Nonnull V value) {
+
+	public AIrIntervalRangeEntry {
+		Objects.requireNonNull(interval, "Interval must not be null");
+		Objects.requireNonNull(value, "Value must not be null");
+	}
+
+	@Override
+	public String toString() {
+		return AIsIntervalUtils.toStringRepresentation(interval) + "=" + value;
+	}
+}
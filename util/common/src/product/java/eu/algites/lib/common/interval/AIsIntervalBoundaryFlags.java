@@ -0,0 +1,178 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Title: {@link AIsIntervalBoundaryFlags}
+ * </p>
+ * <p>
+ * Description: Compact bit encoding of a pair of {@link AInIntervalBoundary} values.
+ * </p>
+ * <p>
+ * Each boundary is encoded in two bits ({@link #CLOSED}, {@link #OPEN}, {@link #UNBOUNDED});
+ * the left boundary occupies bits 0-1 and the right boundary bits 2-3, so both fit into a nibble.
+ * Primitive interval implementations store their boundaries this way and evaluate them without touching the enum.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public final class AIsIntervalBoundaryFlags {
+
+	/**
+	 * Code of {@link AInIntervalBoundary#CLOSED}.
+	 */
+	public static final int CLOSED = 0;
+
+	/**
+	 * Code of {@link AInIntervalBoundary#OPEN}.
+	 */
+	public static final int OPEN = 1;
+
+	/**
+	 * Code of {@link AInIntervalBoundary#UNBOUNDED}.
+	 */
+	public static final int UNBOUNDED = 2;
+
+	/**
+	 * Mask of a single boundary code.
+	 */
+	public static final int BOUNDARY_MASK = 0b11;
+
+	/**
+	 * Shift of the right boundary code.
+	 */
+	public static final int RIGHT_SHIFT = 2;
+
+	/**
+	 * Flags of an interval unbounded on both sides.
+	 */
+	public static final int BOTH_UNBOUNDED = UNBOUNDED | (UNBOUNDED << RIGHT_SHIFT);
+
+	private static final AInIntervalBoundary[] BOUNDARIES_BY_CODE = {
+			AInIntervalBoundary.CLOSED, AInIntervalBoundary.OPEN, AInIntervalBoundary.UNBOUNDED
+	};
+
+	private AIsIntervalBoundaryFlags() {
+		/* utility class */
+	}
+
+	/**
+	 * @param aBoundary boundary
+	 * @return two-bit code of the boundary
+	 */
+	public static int code(@Nonnull final AInIntervalBoundary aBoundary) {
+		return switch (Objects.requireNonNull(aBoundary, "Boundary must not be null")) {
+			case CLOSED -> CLOSED;
+			case OPEN -> OPEN;
+			case UNBOUNDED -> UNBOUNDED;
+		};
+	}
+
+	/**
+	 * @param aCode two-bit code
+	 * @return boundary of the code
+	 */
+	@Nonnull
+	public static AInIntervalBoundary boundary(final int aCode) {
+		if (aCode < CLOSED || aCode > UNBOUNDED) {
+			throw new IllegalArgumentException("Invalid boundary code: " + aCode);
+		}
+		return BOUNDARIES_BY_CODE[aCode];
+	}
+
+	/**
+	 * @param aLeftBoundary left boundary
+	 * @param aRightBoundary right boundary
+	 * @return flags encoding both boundaries
+	 */
+	public static int of(@Nonnull final AInIntervalBoundary aLeftBoundary, @Nonnull final AInIntervalBoundary aRightBoundary) {
+		return code(aLeftBoundary) | (code(aRightBoundary) << RIGHT_SHIFT);
+	}
+
+	/**
+	 * @param aLeftCode left boundary code
+	 * @param aRightCode right boundary code
+	 * @return flags encoding both boundaries
+	 */
+	public static int of(final int aLeftCode, final int aRightCode) {
+		return aLeftCode | (aRightCode << RIGHT_SHIFT);
+	}
+
+	/**
+	 * @param aFlags flags
+	 * @return left boundary code
+	 */
+	public static int leftCode(final int aFlags) {
+		return aFlags & BOUNDARY_MASK;
+	}
+
+	/**
+	 * @param aFlags flags
+	 * @return right boundary code
+	 */
+	public static int rightCode(final int aFlags) {
+		return (aFlags >>> RIGHT_SHIFT) & BOUNDARY_MASK;
+	}
+
+	/**
+	 * @param aFlags flags
+	 * @return left boundary
+	 */
+	@Nonnull
+	public static AInIntervalBoundary leftBoundary(final int aFlags) {
+		return boundary(leftCode(aFlags));
+	}
+
+	/**
+	 * @param aFlags flags
+	 * @return right boundary
+	 */
+	@Nonnull
+	public static AInIntervalBoundary rightBoundary(final int aFlags) {
+		return boundary(rightCode(aFlags));
+	}
+
+	/**
+	 * @param aFlags flags
+	 * @return {@code true} if the left side is unbounded
+	 */
+	public static boolean isLeftUnbounded(final int aFlags) {
+		return leftCode(aFlags) == UNBOUNDED;
+	}
+
+	/**
+	 * @param aFlags flags
+	 * @return {@code true} if the right side is unbounded
+	 */
+	public static boolean isRightUnbounded(final int aFlags) {
+		return rightCode(aFlags) == UNBOUNDED;
+	}
+
+	/**
+	 * @param aFlags flags
+	 * @return {@code true} if the left boundary is open (open or unbounded)
+	 */
+	public static boolean isLeftOpen(final int aFlags) {
+		return leftCode(aFlags) != CLOSED;
+	}
+
+	/**
+	 * @param aFlags flags
+	 * @return {@code true} if the right boundary is open (open or unbounded)
+	 */
+	public static boolean isRightOpen(final int aFlags) {
+		return rightCode(aFlags) != CLOSED;
+	}
+
+	/**
+	 * @param aFlags flags
+	 * @return {@code true} if the flags hold two valid boundary codes and nothing else
+	 */
+	public static boolean isValid(final int aFlags) {
+		return (aFlags & ~0b1111) == 0 && leftCode(aFlags) <= UNBOUNDED && rightCode(aFlags) <= UNBOUNDED;
+	}
+}
@@ -0,0 +1,573 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * <p>
+ * Title: {@link AIsIntervalCoverageUtils}
+ * </p>
+ * <p>
+ * Description: Coverage analysis of an interval collection: coverage depth, maximal concurrency and gaps.
+ * </p>
+ * <p>
+ * Every interval is turned into a start and an end event placed just before or just after its endpoint
+ * according to the boundary, so closed and open endpoints meeting at one value are handled exactly as by
+ * {@link AIsIntervalUtils#contains(AIiInterval, Comparable, Comparator)}. The events are sorted and swept once,
+ * so all operations run in {@code O(n log n)} without materializing any buckets of values.
+ * </p>
+ * <p>
+ * The parallel variants sort the events in parallel and split them into partitions of equal size. The depth
+ * entering a partition is the sum of the depth changes of the partitions before it; the partitions are swept
+ * in the pool and their results merged.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public final class AIsIntervalCoverageUtils {
+
+	/* event positions within one value, in their order */
+	private static final int NEGATIVE_INFINITY = 0;
+
+	private static final int AT = 1;
+
+	private static final int AFTER = 2;
+
+	private static final int POSITIVE_INFINITY = 3;
+
+	private AIsIntervalCoverageUtils() {
+		/* utility class */
+	}
+
+	/**
+	 * Computes the coverage depth of the intervals, comparing values by their natural order.
+	 *
+	 * @param aIntervals intervals; they must not be empty
+	 * @param <T> value type
+	 * @return sorted, disjoint intervals of a constant positive depth; values outside of them are not covered
+	 */
+	@Nonnull
+	public static <T extends Comparable> List<AIrIntervalDepth<T>> coverage(@Nonnull final Collection<? extends AIiInterval<T>> aIntervals) {
+		return coverage(aIntervals, AIsIntervalUtils.naturalOrder());
+	}
+
+	/**
+	 * Computes the coverage depth of the intervals.
+	 *
+	 * @param aIntervals intervals; they must not be empty
+	 * @param aComparator comparator of the values
+	 * @param <T> value type
+	 * @return sorted, disjoint intervals of a constant positive depth; values outside of them are not covered
+	 */
+	@Nonnull
+	public static <T extends Comparable> List<AIrIntervalDepth<T>> coverage(
+			@Nonnull final Collection<? extends AIiInterval<T>> aIntervals,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		AIcEvent<T>[] locEvents = sortedEvents(aIntervals, aComparator, false);
+		List<AIcSegment<T>> locSegments = new ArrayList<>();
+		sweepCoverage(locEvents, 0, locEvents.length, 0, aComparator, locSegments);
+		return toDepths(locSegments, aComparator);
+	}
+
+	/**
+	 * Computes the coverage depth of the intervals, processing the partitions in the pool.
+	 *
+	 * @param aIntervals intervals; they must not be empty
+	 * @param aComparator comparator of the values
+	 * @param aPool pool processing the partitions
+	 * @param aPartitions number of partitions, e.g. a small multiple of the parallelism of the pool
+	 * @param <T> value type
+	 * @return sorted, disjoint intervals of a constant positive depth; values outside of them are not covered
+	 */
+	@Nonnull
+	public static <T extends Comparable> List<AIrIntervalDepth<T>> parallelCoverage(
+			@Nonnull final Collection<? extends AIiInterval<T>> aIntervals,
+			@Nonnull final Comparator<? super T> aComparator,
+			@Nonnull final ForkJoinPool aPool,
+			final int aPartitions
+	) {
+		checkParallel(aPool, aPartitions);
+		AIcEvent<T>[] locEvents = sortedEvents(aIntervals, aComparator, true);
+		int[] locBounds = partitionBounds(locEvents, aPartitions, aComparator);
+		int[] locDepths = entryDepths(locEvents, locBounds, aPool);
+
+		List<ForkJoinTask<List<AIcSegment<T>>>> locTasks = new ArrayList<>(locBounds.length - 1);
+		for (int locPartition = 0; locPartition < locBounds.length - 1; locPartition++) {
+			int locFrom = locBounds[locPartition];
+			int locTo = locBounds[locPartition + 1];
+			int locDepth = locDepths[locPartition];
+			locTasks.add(ForkJoinTask.adapt(() -> {
+				List<AIcSegment<T>> locSegments = new ArrayList<>();
+				sweepCoverage(locEvents, locFrom, locTo, locDepth, aComparator, locSegments);
+				return locSegments;
+			}));
+		}
+		aPool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(locTasks)));
+
+		List<AIcSegment<T>> locSegments = new ArrayList<>();
+		for (ForkJoinTask<List<AIcSegment<T>>> locTask : locTasks) {
+			for (AIcSegment<T> locSegment : locTask.join()) {
+				/* a segment open at the end of a partition continues in the next one */
+				AIcSegment<T> locLast = locSegments.isEmpty() ? null : locSegments.get(locSegments.size() - 1);
+				if (locLast != null && locLast.end == locSegment.start && locLast.depth == locSegment.depth) {
+					locLast.end = locSegment.end;
+				} else {
+					locSegments.add(locSegment);
+				}
+			}
+		}
+		return toDepths(locSegments, aComparator);
+	}
+
+	/**
+	 * Finds the maximal number of overlapping intervals, comparing values by their natural order.
+	 *
+	 * @param aIntervals intervals; they must not be empty
+	 * @param <T> value type
+	 * @return first interval of the maximal depth, or {@code null} if there are no intervals
+	 */
+	@Nullable
+	public static <T extends Comparable> AIrIntervalDepth<T> maxDepth(@Nonnull final Collection<? extends AIiInterval<T>> aIntervals) {
+		return maxDepth(aIntervals, AIsIntervalUtils.naturalOrder());
+	}
+
+	/**
+	 * Finds the maximal number of overlapping intervals.
+	 *
+	 * @param aIntervals intervals; they must not be empty
+	 * @param aComparator comparator of the values
+	 * @param <T> value type
+	 * @return first interval of the maximal depth, or {@code null} if there are no intervals
+	 */
+	@Nullable
+	public static <T extends Comparable> AIrIntervalDepth<T> maxDepth(
+			@Nonnull final Collection<? extends AIiInterval<T>> aIntervals,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		AIcEvent<T>[] locEvents = sortedEvents(aIntervals, aComparator, false);
+		AIrPartitionMax locMax = partitionMax(locEvents, 0, locEvents.length, aComparator);
+		return locMax.index < 0 ? null : maxDepthAt(locEvents, locMax.index, locMax.depth, aComparator);
+	}
+
+	/**
+	 * Finds the maximal number of overlapping intervals, processing the partitions in the pool.
+	 *
+	 * @param aIntervals intervals; they must not be empty
+	 * @param aComparator comparator of the values
+	 * @param aPool pool processing the partitions
+	 * @param aPartitions number of partitions, e.g. a small multiple of the parallelism of the pool
+	 * @param <T> value type
+	 * @return first interval of the maximal depth, or {@code null} if there are no intervals
+	 */
+	@Nullable
+	public static <T extends Comparable> AIrIntervalDepth<T> parallelMaxDepth(
+			@Nonnull final Collection<? extends AIiInterval<T>> aIntervals,
+			@Nonnull final Comparator<? super T> aComparator,
+			@Nonnull final ForkJoinPool aPool,
+			final int aPartitions
+	) {
+		checkParallel(aPool, aPartitions);
+		AIcEvent<T>[] locEvents = sortedEvents(aIntervals, aComparator, true);
+		int[] locBounds = partitionBounds(locEvents, aPartitions, aComparator);
+
+		List<ForkJoinTask<AIrPartitionMax>> locTasks = new ArrayList<>(locBounds.length - 1);
+		for (int locPartition = 0; locPartition < locBounds.length - 1; locPartition++) {
+			int locFrom = locBounds[locPartition];
+			int locTo = locBounds[locPartition + 1];
+			locTasks.add(ForkJoinTask.adapt(() -> partitionMax(locEvents, locFrom, locTo, aComparator)));
+		}
+		aPool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(locTasks)));
+
+		/* the depth entering a partition is the sum of the changes of the partitions before it */
+		int locDepth = 0;
+		int locMaxDepth = 0;
+		int locMaxIndex = -1;
+		for (ForkJoinTask<AIrPartitionMax> locTask : locTasks) {
+			AIrPartitionMax locMax = locTask.join();
+			if (locMax.index >= 0 && locDepth + locMax.depth > locMaxDepth) {
+				locMaxDepth = locDepth + locMax.depth;
+				locMaxIndex = locMax.index;
+			}
+			locDepth += locMax.change;
+		}
+		return locMaxIndex < 0 ? null : maxDepthAt(locEvents, locMaxIndex, locMaxDepth, aComparator);
+	}
+
+	/**
+	 * Finds the parts of the bounds not covered by any interval, comparing values by their natural order.
+	 *
+	 * @param aIntervals intervals; they must not be empty
+	 * @param aBounds bounding interval; it must not be empty
+	 * @param <T> value type
+	 * @return sorted, disjoint uncovered intervals within the bounds
+	 */
+	@Nonnull
+	public static <T extends Comparable> List<AIcOrderedInterval<T>> gaps(
+			@Nonnull final Collection<? extends AIiInterval<T>> aIntervals,
+			@Nonnull final AIiInterval<T> aBounds
+	) {
+		return gaps(aIntervals, aBounds, AIsIntervalUtils.naturalOrder());
+	}
+
+	/**
+	 * Finds the parts of the bounds not covered by any interval.
+	 *
+	 * @param aIntervals intervals; they must not be empty
+	 * @param aBounds bounding interval; it must not be empty
+	 * @param aComparator comparator of the values
+	 * @param <T> value type
+	 * @return sorted, disjoint uncovered intervals within the bounds
+	 */
+	@Nonnull
+	public static <T extends Comparable> List<AIcOrderedInterval<T>> gaps(
+			@Nonnull final Collection<? extends AIiInterval<T>> aIntervals,
+			@Nonnull final AIiInterval<T> aBounds,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		checkInterval(aBounds, aComparator);
+		AIcEvent<T>[] locEvents = sortedEvents(aIntervals, aComparator, false);
+		AIcEvent<T> locCursor = startEvent(aBounds);
+		AIcEvent<T> locEnd = endEvent(aBounds);
+
+		List<AIcOrderedInterval<T>> locResult = new ArrayList<>();
+		int locDepth = 0;
+		int locIndex = 0;
+		while (locIndex < locEvents.length) {
+			AIcEvent<T> locPosition = locEvents[locIndex];
+			if (compare(locPosition, locEnd, aComparator) >= 0) {
+				break;
+			}
+			int locChange = 0;
+			while (locIndex < locEvents.length && compare(locEvents[locIndex], locPosition, aComparator) == 0) {
+				locChange += locEvents[locIndex++].change;
+			}
+			if (locDepth == 0 && locChange > 0 && compare(locCursor, locPosition, aComparator) < 0) {
+				locResult.add(toInterval(locCursor, locPosition, aComparator));
+			}
+			locDepth += locChange;
+			if (locDepth == 0 && compare(locCursor, locPosition, aComparator) < 0) {
+				locCursor = locPosition;
+			}
+		}
+		if (locDepth == 0 && compare(locCursor, locEnd, aComparator) < 0) {
+			locResult.add(toInterval(locCursor, locEnd, aComparator));
+		}
+		return Collections.unmodifiableList(locResult);
+	}
+
+	/**
+	 * Sweeps the events of the given range, starting with the given depth, and appends the segments
+	 * of a constant positive depth; a segment open at the end of the range ends at the next event.
+	 */
+	private static <T extends Comparable> void sweepCoverage(
+			@Nonnull final AIcEvent<T>[] aEvents,
+			final int aFrom,
+			final int aTo,
+			final int aDepth,
+			@Nonnull final Comparator<? super T> aComparator,
+			@Nonnull final List<AIcSegment<T>> aTarget
+	) {
+		int locDepth = aDepth;
+		AIcEvent<T> locStart = null;
+		int locIndex = aFrom;
+		while (locIndex < aTo) {
+			AIcEvent<T> locPosition = aEvents[locIndex];
+			int locChange = 0;
+			while (locIndex < aTo && compare(aEvents[locIndex], locPosition, aComparator) == 0) {
+				locChange += aEvents[locIndex++].change;
+			}
+			if (locChange == 0 && locStart != null) {
+				continue;
+			}
+			if (locStart != null) {
+				aTarget.add(new AIcSegment<>(locStart, locPosition, locDepth));
+				locStart = null;
+			}
+			locDepth += locChange;
+			if (locDepth > 0) {
+				locStart = locPosition;
+			}
+		}
+		if (locStart != null) {
+			aTarget.add(new AIcSegment<>(locStart, aEvents[aTo], locDepth));
+		}
+	}
+
+	/**
+	 * @return total depth change of the given range and the first event reaching the maximal depth relative to the
+	 * depth entering the range (index {@code -1} if no event changes the depth)
+	 */
+	@Nonnull
+	private static <T extends Comparable> AIrPartitionMax partitionMax(
+			@Nonnull final AIcEvent<T>[] aEvents,
+			final int aFrom,
+			final int aTo,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		int locDepth = 0;
+		int locMaxDepth = Integer.MIN_VALUE;
+		int locMaxIndex = -1;
+		int locIndex = aFrom;
+		while (locIndex < aTo) {
+			int locGroup = locIndex;
+			int locChange = 0;
+			while (locIndex < aTo && compare(aEvents[locIndex], aEvents[locGroup], aComparator) == 0) {
+				locChange += aEvents[locIndex++].change;
+			}
+			locDepth += locChange;
+			if (locChange != 0 && locDepth > locMaxDepth) {
+				locMaxDepth = locDepth;
+				locMaxIndex = locGroup;
+			}
+		}
+		return new AIrPartitionMax(locDepth, locMaxDepth, locMaxIndex);
+	}
+
+	/**
+	 * @return interval of the given depth starting at the event and ending at the next event changing the depth
+	 */
+	@Nonnull
+	private static <T extends Comparable> AIrIntervalDepth<T> maxDepthAt(
+			@Nonnull final AIcEvent<T>[] aEvents,
+			final int aIndex,
+			final int aDepth,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		AIcEvent<T> locStart = aEvents[aIndex];
+		int locIndex = aIndex;
+		while (locIndex < aEvents.length && compare(aEvents[locIndex], locStart, aComparator) == 0) {
+			locIndex++;
+		}
+		while (locIndex < aEvents.length) {
+			AIcEvent<T> locPosition = aEvents[locIndex];
+			int locChange = 0;
+			while (locIndex < aEvents.length && compare(aEvents[locIndex], locPosition, aComparator) == 0) {
+				locChange += aEvents[locIndex++].change;
+			}
+			if (locChange != 0) {
+				return new AIrIntervalDepth<>(toInterval(locStart, locPosition, aComparator), aDepth);
+			}
+		}
+		throw new IllegalStateException("Interval of the maximal depth does not end");
+	}
+
+	/**
+	 * @return depth entering each partition
+	 */
+	@Nonnull
+	private static <T extends Comparable> int[] entryDepths(
+			@Nonnull final AIcEvent<T>[] aEvents,
+			@Nonnull final int[] aBounds,
+			@Nonnull final ForkJoinPool aPool
+	) {
+		List<ForkJoinTask<Integer>> locTasks = new ArrayList<>(aBounds.length - 1);
+		for (int locPartition = 0; locPartition < aBounds.length - 1; locPartition++) {
+			int locFrom = aBounds[locPartition];
+			int locTo = aBounds[locPartition + 1];
+			locTasks.add(ForkJoinTask.adapt(() -> {
+				int locChange = 0;
+				for (int locIndex = locFrom; locIndex < locTo; locIndex++) {
+					locChange += aEvents[locIndex].change;
+				}
+				return locChange;
+			}));
+		}
+		aPool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(locTasks)));
+
+		int[] locResult = new int[locTasks.size()];
+		for (int locPartition = 1; locPartition < locResult.length; locPartition++) {
+			locResult[locPartition] = locResult[locPartition - 1] + locTasks.get(locPartition - 1).join();
+		}
+		return locResult;
+	}
+
+	/**
+	 * @return indexes splitting the events into partitions of about equal size; events at one position are never split
+	 */
+	@Nonnull
+	private static <T extends Comparable> int[] partitionBounds(
+			@Nonnull final AIcEvent<T>[] aEvents,
+			final int aPartitions,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		int locPartitions = Math.max(1, Math.min(aPartitions, aEvents.length));
+		int[] locResult = new int[locPartitions + 1];
+		for (int locPartition = 1; locPartition < locPartitions; locPartition++) {
+			int locIndex = Math.max(locResult[locPartition - 1], (int) ((long) aEvents.length * locPartition / locPartitions));
+			while (locIndex > 0 && locIndex < aEvents.length && compare(aEvents[locIndex], aEvents[locIndex - 1], aComparator) == 0) {
+				locIndex++;
+			}
+			locResult[locPartition] = locIndex;
+		}
+		locResult[locPartitions] = aEvents.length;
+		return locResult;
+	}
+
+	@Nonnull
+	private static <T extends Comparable> List<AIrIntervalDepth<T>> toDepths(
+			@Nonnull final List<AIcSegment<T>> aSegments,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		List<AIrIntervalDepth<T>> locResult = new ArrayList<>(aSegments.size());
+		for (AIcSegment<T> locSegment : aSegments) {
+			locResult.add(new AIrIntervalDepth<>(toInterval(locSegment.start, locSegment.end, aComparator), locSegment.depth));
+		}
+		return Collections.unmodifiableList(locResult);
+	}
+
+	/**
+	 * @return interval from the start position (inclusive) to the end position (exclusive)
+	 */
+	@Nonnull
+	private static <T extends Comparable> AIcOrderedInterval<T> toInterval(
+			@Nonnull final AIcEvent<T> aStart,
+			@Nonnull final AIcEvent<T> aEnd,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		AInIntervalBoundary locLeftBoundary = switch (aStart.position) {
+			case AT -> AInIntervalBoundary.CLOSED;
+			case AFTER -> AInIntervalBoundary.OPEN;
+			default -> AInIntervalBoundary.UNBOUNDED;
+		};
+		AInIntervalBoundary locRightBoundary = switch (aEnd.position) {
+			case AT -> AInIntervalBoundary.OPEN;
+			case AFTER -> AInIntervalBoundary.CLOSED;
+			default -> AInIntervalBoundary.UNBOUNDED;
+		};
+		return new AIcOrderedInterval<>(locLeftBoundary, aStart.value, locRightBoundary, aEnd.value, aComparator, true);
+	}
+
+	@Nonnull
+	private static <T extends Comparable> AIcEvent<T> startEvent(@Nonnull final AIiInterval<T> aInterval) {
+		return switch (aInterval.getLeftBoundary()) {
+			case CLOSED -> new AIcEvent<>(aInterval.getLeftValue(), AT, 1);
+			case OPEN -> new AIcEvent<>(aInterval.getLeftValue(), AFTER, 1);
+			case UNBOUNDED -> new AIcEvent<>(null, NEGATIVE_INFINITY, 1);
+		};
+	}
+
+	@Nonnull
+	private static <T extends Comparable> AIcEvent<T> endEvent(@Nonnull final AIiInterval<T> aInterval) {
+		return switch (aInterval.getRightBoundary()) {
+			case CLOSED -> new AIcEvent<>(aInterval.getRightValue(), AFTER, -1);
+			case OPEN -> new AIcEvent<>(aInterval.getRightValue(), AT, -1);
+			case UNBOUNDED -> new AIcEvent<>(null, POSITIVE_INFINITY, -1);
+		};
+	}
+
+	private static <T extends Comparable> int compare(
+			@Nonnull final AIcEvent<T> aFirst,
+			@Nonnull final AIcEvent<T> aSecond,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		if (aFirst.value == null || aSecond.value == null) {
+			/* at least one of the positions is infinite */
+			return Integer.compare(aFirst.position, aSecond.position);
+		}
+		int locResult = aComparator.compare(aFirst.value, aSecond.value);
+		return locResult != 0 ? locResult : Integer.compare(aFirst.position, aSecond.position);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Nonnull
+	private static <T extends Comparable> AIcEvent<T>[] sortedEvents(
+			@Nonnull final Collection<? extends AIiInterval<T>> aIntervals,
+			@Nonnull final Comparator<? super T> aComparator,
+			final boolean aParallel
+	) {
+		Objects.requireNonNull(aIntervals, "Intervals must not be null");
+		Objects.requireNonNull(aComparator, "Comparator must not be null");
+		AIcEvent<T>[] locEvents = new AIcEvent[aIntervals.size() * 2];
+		int locIndex = 0;
+		for (AIiInterval<T> locInterval : aIntervals) {
+			checkInterval(locInterval, aComparator);
+			locEvents[locIndex++] = startEvent(locInterval);
+			locEvents[locIndex++] = endEvent(locInterval);
+		}
+		Comparator<AIcEvent<T>> locOrder = (aFirst, aSecond) -> compare(aFirst, aSecond, aComparator);
+		if (aParallel) {
+			Arrays.parallelSort(locEvents, locOrder);
+		} else {
+			Arrays.sort(locEvents, locOrder);
+		}
+		return locEvents;
+	}
+
+	private static <T extends Comparable> void checkInterval(
+			@Nonnull final AIiInterval<T> aInterval,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		Objects.requireNonNull(aInterval, "Interval must not be null");
+		if (!AIsIntervalUtils.isSatisfiable(aInterval, aComparator)) {
+			throw new IllegalArgumentException("Interval must not be empty: " + aInterval);
+		}
+	}
+
+	private static void checkParallel(@Nonnull final ForkJoinPool aPool, final int aPartitions) {
+		Objects.requireNonNull(aPool, "Pool must not be null");
+		if (aPartitions <= 0) {
+			throw new IllegalArgumentException("Partitions must be positive: " + aPartitions);
+		}
+	}
+
+	/**
+	 * Start or end of an interval: a value with a position relative to it and the change of the depth.
+	 */
+	private static final class AIcEvent<T> {
+
+		@Nullable
+		private final T value;
+
+		private final int position;
+
+		private final int change;
+
+		private AIcEvent(@Nullable final T aValue, final int aPosition, final int aChange) {
+			value = aValue;
+			position = aPosition;
+			change = aChange;
+		}
+	}
+
+	/**
+	 * Range of a constant depth between two event positions.
+	 */
+	private static final class AIcSegment<T> {
+
+		@Nonnull
+		private final AIcEvent<T> start;
+
+		@Nonnull
+		private AIcEvent<T> end;
+
+		private final int depth;
+
+		private AIcSegment(@Nonnull final AIcEvent<T> aStart, @Nonnull final AIcEvent<T> aEnd, final int aDepth) {
+			start = aStart;
+			end = aEnd;
+			depth = aDepth;
+		}
+	}
+
+	/**
+	 * Sweep result of one partition.
+	 *
+	 * @param change total depth change of the partition
+	 * @param depth maximal depth relative to the depth entering the partition
+	 * @param index index of the first event reaching the maximal depth, {@code -1} if none
+	 */
+	private record AIrPartitionMax(int change, int depth, int index) {
+	}
+}
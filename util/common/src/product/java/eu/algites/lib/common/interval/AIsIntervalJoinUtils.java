@@ -0,0 +1,308 @@
+package eu.algites.lib.common.interval;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>
+ * Title: {@link AIsIntervalJoinUtils}
+ * </p>
+ * <p>
+ * Description: Overlap join of two interval collections.
+ * </p>
+ * <p>
+ * Both collections are sorted by left endpoint and swept in one pass keeping the intervals which have started
+ * and not yet ended (the active sets), so the join runs in {@code O(n log n + m log m + k)} for {@code k}
+ * reported pairs instead of {@code O(n * m)} of a nested loop. Results are passed to a callback as they are found
+ * and are not collected. Every overlapping pair is reported exactly once, in no particular order.
+ * </p>
+ * <p>
+ * The parallel variants split the sorted left collection into partitions of equal size. A pair belongs to the
+ * partition in which the later starting of its intervals starts; the intervals started in earlier partitions
+ * which reach into a partition are carried into it, so the partitions are swept independently in the pool.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public final class AIsIntervalJoinUtils {
+
+	private AIsIntervalJoinUtils() {
+		/* utility class */
+	}
+
+	/**
+	 * Reports all overlapping pairs of the intervals, comparing values by their natural order.
+	 *
+	 * @param aLeft left intervals; they must not be empty
+	 * @param aRight right intervals; they must not be empty
+	 * @param aConsumer consumer of the overlapping pairs
+	 * @param <T> value type
+	 * @param <A> type of the left intervals
+	 * @param <B> type of the right intervals
+	 */
+	public static <T extends Comparable, A extends AIiInterval<T>, B extends AIiInterval<T>> void join(
+			@Nonnull final Collection<? extends A> aLeft,
+			@Nonnull final Collection<? extends B> aRight,
+			@Nonnull final BiConsumer<? super A, ? super B> aConsumer
+	) {
+		join(aLeft, aRight, AIsIntervalUtils.naturalOrder(), aConsumer);
+	}
+
+	/**
+	 * Reports all overlapping pairs of the intervals.
+	 *
+	 * @param aLeft left intervals; they must not be empty
+	 * @param aRight right intervals; they must not be empty
+	 * @param aComparator comparator of the values
+	 * @param aConsumer consumer of the overlapping pairs
+	 * @param <T> value type
+	 * @param <A> type of the left intervals
+	 * @param <B> type of the right intervals
+	 */
+	public static <T extends Comparable, A extends AIiInterval<T>, B extends AIiInterval<T>> void join(
+			@Nonnull final Collection<? extends A> aLeft,
+			@Nonnull final Collection<? extends B> aRight,
+			@Nonnull final Comparator<? super T> aComparator,
+			@Nonnull final BiConsumer<? super A, ? super B> aConsumer
+	) {
+		Objects.requireNonNull(aComparator, "Comparator must not be null");
+		Objects.requireNonNull(aConsumer, "Consumer must not be null");
+		List<A> locLeft = sortedCopy(aLeft, aComparator, false);
+		List<B> locRight = sortedCopy(aRight, aComparator, false);
+		sweep(locLeft, 0, locLeft.size(), List.of(), locRight, 0, locRight.size(), List.of(), aComparator, aConsumer);
+	}
+
+	/**
+	 * Reports all overlapping pairs of the intervals together with their intersection.
+	 *
+	 * @param aLeft left intervals; they must not be empty
+	 * @param aRight right intervals; they must not be empty
+	 * @param aComparator comparator of the values
+	 * @param aConsumer consumer of the overlapping pairs
+	 * @param <T> value type
+	 * @param <A> type of the left intervals
+	 * @param <B> type of the right intervals
+	 */
+	public static <T extends Comparable, A extends AIiInterval<T>, B extends AIiInterval<T>> void joinIntersections(
+			@Nonnull final Collection<? extends A> aLeft,
+			@Nonnull final Collection<? extends B> aRight,
+			@Nonnull final Comparator<? super T> aComparator,
+			@Nonnull final AIiIntervalJoinConsumer<T, ? super A, ? super B> aConsumer
+	) {
+		join(aLeft, aRight, aComparator, intersecting(aComparator, aConsumer));
+	}
+
+	/**
+	 * Reports all overlapping pairs of the intervals, processing the partitions in the pool.
+	 * <p>
+	 * The consumer is called concurrently from the threads of the pool.
+	 * </p>
+	 *
+	 * @param aLeft left intervals; they must not be empty
+	 * @param aRight right intervals; they must not be empty
+	 * @param aComparator comparator of the values
+	 * @param aPool pool processing the partitions
+	 * @param aPartitions number of partitions, e.g. a small multiple of the parallelism of the pool
+	 * @param aConsumer thread safe consumer of the overlapping pairs
+	 * @param <T> value type
+	 * @param <A> type of the left intervals
+	 * @param <B> type of the right intervals
+	 */
+	public static <T extends Comparable, A extends AIiInterval<T>, B extends AIiInterval<T>> void parallelJoin(
+			@Nonnull final Collection<? extends A> aLeft,
+			@Nonnull final Collection<? extends B> aRight,
+			@Nonnull final Comparator<? super T> aComparator,
+			@Nonnull final ForkJoinPool aPool,
+			final int aPartitions,
+			@Nonnull final BiConsumer<? super A, ? super B> aConsumer
+	) {
+		Objects.requireNonNull(aComparator, "Comparator must not be null");
+		Objects.requireNonNull(aPool, "Pool must not be null");
+		Objects.requireNonNull(aConsumer, "Consumer must not be null");
+		if (aPartitions <= 0) {
+			throw new IllegalArgumentException("Partitions must be positive: " + aPartitions);
+		}
+		List<A> locLeft = sortedCopy(aLeft, aComparator, true);
+		List<B> locRight = sortedCopy(aRight, aComparator, true);
+		if (locLeft.isEmpty() || locRight.isEmpty()) {
+			return;
+		}
+		int locPartitions = Math.min(aPartitions, locLeft.size());
+
+		List<ForkJoinTask<?>> locTasks = new ArrayList<>(locPartitions);
+		List<A> locCarriedLeft = new ArrayList<>();
+		List<B> locCarriedRight = new ArrayList<>();
+		int locLeftFrom = 0;
+		int locRightFrom = 0;
+		for (int locPartition = 0; locPartition < locPartitions; locPartition++) {
+			int locLeftTo = (int) ((long) locLeft.size() * (locPartition + 1) / locPartitions);
+			int locRightTo = locRight.size();
+			if (locLeftTo < locLeft.size()) {
+				A locNextStart = locLeft.get(locLeftTo);
+				locRightTo = AIcIntervalSet.firstIndex(locRight.size(),
+						aIndex -> AIsIntervalUtils.compareLeftEndpoints(locRight.get(aIndex), locNextStart, aComparator) >= 0);
+			}
+
+			AIiInterval<T> locStart = locLeft.get(locLeftFrom);
+			if (locRightFrom < locRightTo && AIsIntervalUtils.compareLeftEndpoints(locRight.get(locRightFrom), locStart, aComparator) < 0) {
+				locStart = locRight.get(locRightFrom);
+			}
+			removeEndedBefore(locCarriedLeft, locStart, aComparator);
+			removeEndedBefore(locCarriedRight, locStart, aComparator);
+
+			int locTaskLeftFrom = locLeftFrom;
+			int locTaskLeftTo = locLeftTo;
+			int locTaskRightFrom = locRightFrom;
+			int locTaskRightTo = locRightTo;
+			List<A> locTaskCarriedLeft = List.copyOf(locCarriedLeft);
+			List<B> locTaskCarriedRight = List.copyOf(locCarriedRight);
+			locTasks.add(ForkJoinTask.adapt(() -> sweep(
+					locLeft, locTaskLeftFrom, locTaskLeftTo, locTaskCarriedLeft,
+					locRight, locTaskRightFrom, locTaskRightTo, locTaskCarriedRight,
+					aComparator, aConsumer
+			)));
+
+			locCarriedLeft.addAll(locLeft.subList(locLeftFrom, locLeftTo));
+			locCarriedRight.addAll(locRight.subList(locRightFrom, locRightTo));
+			locLeftFrom = locLeftTo;
+			locRightFrom = locRightTo;
+		}
+		aPool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(locTasks)));
+	}
+
+	/**
+	 * Reports all overlapping pairs of the intervals together with their intersection,
+	 * processing the partitions in the pool.
+	 * <p>
+	 * The consumer is called concurrently from the threads of the pool.
+	 * </p>
+	 *
+	 * @param aLeft left intervals; they must not be empty
+	 * @param aRight right intervals; they must not be empty
+	 * @param aComparator comparator of the values
+	 * @param aPool pool processing the partitions
+	 * @param aPartitions number of partitions, e.g. a small multiple of the parallelism of the pool
+	 * @param aConsumer thread safe consumer of the overlapping pairs
+	 * @param <T> value type
+	 * @param <A> type of the left intervals
+	 * @param <B> type of the right intervals
+	 */
+	public static <T extends Comparable, A extends AIiInterval<T>, B extends AIiInterval<T>> void parallelJoinIntersections(
+			@Nonnull final Collection<? extends A> aLeft,
+			@Nonnull final Collection<? extends B> aRight,
+			@Nonnull final Comparator<? super T> aComparator,
+			@Nonnull final ForkJoinPool aPool,
+			final int aPartitions,
+			@Nonnull final AIiIntervalJoinConsumer<T, ? super A, ? super B> aConsumer
+	) {
+		parallelJoin(aLeft, aRight, aComparator, aPool, aPartitions, intersecting(aComparator, aConsumer));
+	}
+
+	@Nonnull
+	private static <T extends Comparable, A extends AIiInterval<T>, B extends AIiInterval<T>> BiConsumer<A, B> intersecting(
+			@Nonnull final Comparator<? super T> aComparator,
+			@Nonnull final AIiIntervalJoinConsumer<T, ? super A, ? super B> aConsumer
+	) {
+		Objects.requireNonNull(aComparator, "Comparator must not be null");
+		Objects.requireNonNull(aConsumer, "Consumer must not be null");
+		return (aLeftInterval, aRightInterval) ->
+				aConsumer.accept(aLeftInterval, aRightInterval, AIsIntervalUtils.intersect(aLeftInterval, aRightInterval, aComparator));
+	}
+
+	/**
+	 * Sweeps the intervals starting in the given index ranges; the carried intervals started before
+	 * and are only matched against them.
+	 */
+	private static <T extends Comparable, A extends AIiInterval<T>, B extends AIiInterval<T>> void sweep(
+			@Nonnull final List<A> aLeft,
+			final int aLeftFrom,
+			final int aLeftTo,
+			@Nonnull final List<A> aCarriedLeft,
+			@Nonnull final List<B> aRight,
+			final int aRightFrom,
+			final int aRightTo,
+			@Nonnull final List<B> aCarriedRight,
+			@Nonnull final Comparator<? super T> aComparator,
+			@Nonnull final BiConsumer<? super A, ? super B> aConsumer
+	) {
+		List<A> locActiveLeft = new ArrayList<>(aCarriedLeft);
+		List<B> locActiveRight = new ArrayList<>(aCarriedRight);
+		int locLeftIndex = aLeftFrom;
+		int locRightIndex = aRightFrom;
+		while (locLeftIndex < aLeftTo || locRightIndex < aRightTo) {
+			boolean locTakeLeft = locRightIndex >= aRightTo
+					|| (locLeftIndex < aLeftTo
+							&& AIsIntervalUtils.compareLeftEndpoints(aLeft.get(locLeftIndex), aRight.get(locRightIndex), aComparator) <= 0);
+			if (locTakeLeft) {
+				A locInterval = aLeft.get(locLeftIndex++);
+				removeEndedBefore(locActiveRight, locInterval, aComparator);
+				for (int locIndex = 0; locIndex < locActiveRight.size(); locIndex++) {
+					aConsumer.accept(locInterval, locActiveRight.get(locIndex));
+				}
+				locActiveLeft.add(locInterval);
+			} else {
+				B locInterval = aRight.get(locRightIndex++);
+				removeEndedBefore(locActiveLeft, locInterval, aComparator);
+				for (int locIndex = 0; locIndex < locActiveLeft.size(); locIndex++) {
+					aConsumer.accept(locActiveLeft.get(locIndex), locInterval);
+				}
+				locActiveRight.add(locInterval);
+			}
+		}
+	}
+
+	/**
+	 * Removes the active intervals ending before the given one starts; as the intervals are processed
+	 * by their left endpoints, they cannot overlap any later interval either.
+	 */
+	private static <T extends Comparable, I extends AIiInterval<T>> void removeEndedBefore(
+			@Nonnull final List<I> aActive,
+			@Nonnull final AIiInterval<T> aInterval,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		int locSize = aActive.size();
+		int locIndex = 0;
+		while (locIndex < locSize) {
+			if (AIsIntervalUtils.isStrictlyBefore(aActive.get(locIndex), aInterval, aComparator)) {
+				aActive.set(locIndex, aActive.get(--locSize));
+			} else {
+				locIndex++;
+			}
+		}
+		aActive.subList(locSize, aActive.size()).clear();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Nonnull
+	private static <T extends Comparable, I extends AIiInterval<T>> List<I> sortedCopy(
+			@Nonnull final Collection<? extends I> aIntervals,
+			@Nonnull final Comparator<? super T> aComparator,
+			final boolean aParallel
+	) {
+		Objects.requireNonNull(aIntervals, "Intervals must not be null");
+		Object[] locArray = aIntervals.toArray();
+		for (Object locInterval : locArray) {
+			Objects.requireNonNull(locInterval, "Interval must not be null");
+			if (!AIsIntervalUtils.isSatisfiable((I) locInterval, aComparator)) {
+				throw new IllegalArgumentException("Interval must not be empty: " + locInterval);
+			}
+		}
+		Comparator<Object> locOrder = (aFirst, aSecond) -> AIsIntervalUtils.compareLeftEndpoints((I) aFirst, (I) aSecond, aComparator);
+		if (aParallel) {
+			Arrays.parallelSort(locArray, locOrder);
+		} else {
+			Arrays.sort(locArray, locOrder);
+		}
+		return (List<I>) (List<?>) Arrays.asList(locArray);
+	}
+}
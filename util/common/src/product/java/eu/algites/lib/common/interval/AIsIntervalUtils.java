@@ -3,6 +3,7 @@ package eu.algites.lib.common.interval;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
+import java.util.Comparator;
 import java.util.Objects;
 
 /**
@@ -14,7 +15,9 @@ import java.util.Objects;
  * </p>
  * <p>
  * The utilities are designed for generic comparable values, including version objects
- * that implement {@link Comparable}.
+ * that implement {@link Comparable}. Overloads for {@link AIiLongInterval}, {@link AIiIntInterval}
+ * and {@link AIiDoubleInterval} work on primitive values and boundary flags and do not allocate
+ * (except for the intersection result).
  * </p>
  *
  * @author linhart1
@@ -22,6 +25,24 @@ import java.util.Objects;
  */
 public final class AIsIntervalUtils {
 
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private static final Comparator NATURAL_ORDER = (aLeft, aRight) -> ((Comparable) aLeft).compareTo(aRight);
+
+	private static final AIiLongIntervalFactory<AIcLongInterval> LONG_INTERVAL_FACTORY =
+			(aFlags, aLeftValue, aRightValue) -> new AIcLongInterval(aFlags, aLeftValue, aRightValue, true);
+
+	/* int intervals share the long implementation; results are within the int range of the inputs */
+	private static final AIiLongIntervalFactory<AIcIntInterval> INT_INTERVAL_FACTORY =
+			(aFlags, aLeftValue, aRightValue) -> new AIcIntInterval(aFlags, (int) aLeftValue, (int) aRightValue, true);
+
+	private static final AIiDoubleIntervalFactory<AIcDoubleInterval> DOUBLE_INTERVAL_FACTORY =
+			(aFlags, aLeftValue, aRightValue) -> new AIcDoubleInterval(aFlags, aLeftValue, aRightValue, true);
+
+	/* overlap tests only need to know whether an intersection exists, so they do not create it */
+	private static final AIiLongIntervalFactory<Boolean> OVERLAP_PROBE_LONG = (aFlags, aLeftValue, aRightValue) -> Boolean.TRUE;
+
+	private static final AIiDoubleIntervalFactory<Boolean> OVERLAP_PROBE_DOUBLE = (aFlags, aLeftValue, aRightValue) -> Boolean.TRUE;
+
 	private AIsIntervalUtils() {
 		/* utility class */
 	}
@@ -31,14 +52,30 @@ public final class AIsIntervalUtils {
 	 *
 	 * @param aInterval interval to validate
 	 */
+	@SuppressWarnings("unchecked")
 	public static void validateInterval(@Nonnull final AIiInterval<?> aInterval) {
+		validateInterval((AIiInterval<Comparable>) aInterval, naturalOrder());
+	}
+
+	/**
+	 * Validates the interval against the contract of {@link AIiInterval} and the ordering of the comparator.
+	 *
+	 * @param aInterval interval to validate
+	 * @param aComparator comparator of the values
+	 * @param <T> value type
+	 */
+	public static <T extends Comparable> void validateInterval(
+			@Nonnull final AIiInterval<T> aInterval,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
 		Objects.requireNonNull(aInterval, "Interval must not be null");
+		Objects.requireNonNull(aComparator, "Comparator must not be null");
 
 		AInIntervalBoundary locLeftBoundary = Objects.requireNonNull(aInterval.getLeftBoundary(), "Left boundary must not be null");
 		AInIntervalBoundary locRightBoundary = Objects.requireNonNull(aInterval.getRightBoundary(), "Right boundary must not be null");
 
-		Object locLeftValue = aInterval.getLeftValue();
-		Object locRightValue = aInterval.getRightValue();
+		T locLeftValue = aInterval.getLeftValue();
+		T locRightValue = aInterval.getRightValue();
 
 		if (!locLeftBoundary.isBoundaryValueIgnored() && locLeftValue == null) {
 			throw new IllegalArgumentException("Left value must not be null when left boundary does not ignore the boundary value");
@@ -52,9 +89,7 @@ public final class AIsIntervalUtils {
 			return;
 		}
 
-		@SuppressWarnings("unchecked")
-		Comparable<Object> locLeftComparable = (Comparable<Object>) locLeftValue;
-		int locCmp = locLeftComparable.compareTo(locRightValue);
+		int locCmp = aComparator.compare(locLeftValue, locRightValue);
 
 		if (locCmp > 0) {
 			throw new IllegalArgumentException("Invalid interval: left value is greater than right value");
@@ -95,32 +130,28 @@ public final class AIsIntervalUtils {
 	 * @return {@code true} if contained
 	 */
 	public static <T extends Comparable> boolean contains(@Nonnull final AIiInterval<T> aInterval, @Nonnull final T aValue) {
+		return contains(aInterval, aValue, naturalOrder());
+	}
+
+	/**
+	 * Returns {@code true} if {@code aValue} is contained in {@code aInterval} using the comparator.
+	 *
+	 * @param aInterval interval
+	 * @param aValue value
+	 * @param aComparator comparator of the values
+	 * @param <T> value type
+	 * @return {@code true} if contained
+	 */
+	public static <T extends Comparable> boolean contains(
+			@Nonnull final AIiInterval<T> aInterval,
+			@Nonnull final T aValue,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
 		Objects.requireNonNull(aInterval, "Interval must not be null");
 		Objects.requireNonNull(aValue, "Value must not be null");
+		Objects.requireNonNull(aComparator, "Comparator must not be null");
 
-		if (!isLeftUnbounded(aInterval)) {
-			T locLeft = aInterval.getLeftValue();
-			int locCmp = aValue.compareTo(locLeft);
-			if (locCmp < 0) {
-				return false;
-			}
-			if (locCmp == 0 && aInterval.getLeftBoundary().isOpen()) {
-				return false;
-			}
-		}
-
-		if (!isRightUnbounded(aInterval)) {
-			T locRight = aInterval.getRightValue();
-			int locCmp = aValue.compareTo(locRight);
-			if (locCmp > 0) {
-				return false;
-			}
-			if (locCmp == 0 && aInterval.getRightBoundary().isOpen()) {
-				return false;
-			}
-		}
-
-		return true;
+		return !isBeforeLeftEndpoint(aValue, aInterval, aComparator) && !isAfterRightEndpoint(aValue, aInterval, aComparator);
 	}
 
 	/**
@@ -132,10 +163,31 @@ public final class AIsIntervalUtils {
 	 * @return {@code true} if overlap exists
 	 */
 	public static <T extends Comparable> boolean overlaps(@Nonnull final AIiInterval<T> aLeft, @Nonnull final AIiInterval<T> aRight) {
+		return overlaps(aLeft, aRight, naturalOrder());
+	}
+
+	/**
+	 * Returns {@code true} if two intervals overlap (have a non-empty intersection) using the comparator.
+	 *
+	 * @param aLeft first interval
+	 * @param aRight second interval
+	 * @param aComparator comparator of the values
+	 * @param <T> value type
+	 * @return {@code true} if overlap exists
+	 */
+	public static <T extends Comparable> boolean overlaps(
+			@Nonnull final AIiInterval<T> aLeft,
+			@Nonnull final AIiInterval<T> aRight,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
 		Objects.requireNonNull(aLeft, "Left interval must not be null");
 		Objects.requireNonNull(aRight, "Right interval must not be null");
+		Objects.requireNonNull(aComparator, "Comparator must not be null");
 
-		return tryIntersect(aLeft, aRight) != null;
+		return isSatisfiable(aLeft, aComparator)
+				&& isSatisfiable(aRight, aComparator)
+				&& !isStrictlyBefore(aLeft, aRight, aComparator)
+				&& !isStrictlyBefore(aRight, aLeft, aComparator);
 	}
 
 	/**
@@ -156,6 +208,29 @@ public final class AIsIntervalUtils {
 		return locResult;
 	}
 
+	/**
+	 * Computes intersection of two intervals using the comparator.
+	 *
+	 * @param aLeft first interval
+	 * @param aRight second interval
+	 * @param aComparator comparator of the values
+	 * @param <T> value type
+	 * @return intersection bound to the comparator
+	 * @throws IllegalArgumentException when intervals do not overlap
+	 */
+	@Nonnull
+	public static <T extends Comparable> AIcOrderedInterval<T> intersect(
+			@Nonnull final AIiInterval<T> aLeft,
+			@Nonnull final AIiInterval<T> aRight,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		AIcOrderedInterval<T> locResult = tryIntersect(aLeft, aRight, aComparator);
+		if (locResult == null) {
+			throw new IllegalArgumentException("Intervals do not overlap");
+		}
+		return locResult;
+	}
+
 	/**
 	 * Attempts to compute intersection of two intervals.
 	 *
@@ -166,22 +241,62 @@ public final class AIsIntervalUtils {
 	 */
 	@Nullable
 	public static <T extends Comparable> AIcInterval<T> tryIntersect(@Nonnull final AIiInterval<T> aLeft, @Nonnull final AIiInterval<T> aRight) {
+		return AIsIntervalUtils.<T, AIcInterval<T>>tryIntersect(aLeft, aRight, naturalOrder(), AIcInterval::new);
+	}
+
+	/**
+	 * Attempts to compute intersection of two intervals using the comparator.
+	 *
+	 * @param aLeft first interval
+	 * @param aRight second interval
+	 * @param aComparator comparator of the values
+	 * @param <T> value type
+	 * @return intersection bound to the comparator or {@code null} if no overlap
+	 */
+	@Nullable
+	public static <T extends Comparable> AIcOrderedInterval<T> tryIntersect(
+			@Nonnull final AIiInterval<T> aLeft,
+			@Nonnull final AIiInterval<T> aRight,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		Objects.requireNonNull(aComparator, "Comparator must not be null");
+		return AIsIntervalUtils.<T, AIcOrderedInterval<T>>tryIntersect(aLeft, aRight, aComparator,
+				(aLeftBoundary, aLeftValue, aRightBoundary, aRightValue) ->
+						new AIcOrderedInterval<>(aLeftBoundary, aLeftValue, aRightBoundary, aRightValue, aComparator, true));
+	}
+
+	/**
+	 * Attempts to compute intersection of two intervals using the comparator, creating the result by the factory.
+	 * <p>
+	 * The factory receives endpoints of a valid, non-empty interval, so it does not need to validate them again.
+	 * </p>
+	 *
+	 * @param aLeft first interval
+	 * @param aRight second interval
+	 * @param aComparator comparator of the values
+	 * @param aFactory factory of the result
+	 * @param <T> value type
+	 * @param <I> result type
+	 * @return intersection or {@code null} if no overlap
+	 */
+	@Nullable
+	public static <T extends Comparable, I extends AIiInterval<T>> I tryIntersect(
+			@Nonnull final AIiInterval<T> aLeft,
+			@Nonnull final AIiInterval<T> aRight,
+			@Nonnull final Comparator<? super T> aComparator,
+			@Nonnull final AIiIntervalFactory<T, I> aFactory
+	) {
 		Objects.requireNonNull(aLeft, "Left interval must not be null");
 		Objects.requireNonNull(aRight, "Right interval must not be null");
+		Objects.requireNonNull(aComparator, "Comparator must not be null");
+		Objects.requireNonNull(aFactory, "Factory must not be null");
 
-		Endpoint<T> locNewLeft = maxLeftEndpoint(aLeft, aRight);
-		Endpoint<T> locNewRight = minRightEndpoint(aLeft, aRight);
-
-		if (!isSatisfiable(locNewLeft, locNewRight)) {
+		AIiInterval<T> locLeft = compareLeftEndpoints(aLeft, aRight, aComparator) >= 0 ? aLeft : aRight;
+		AIiInterval<T> locRight = compareRightEndpoints(aLeft, aRight, aComparator) <= 0 ? aLeft : aRight;
+		if (!isSatisfiable(locLeft.getLeftBoundary(), locLeft.getLeftValue(), locRight.getRightBoundary(), locRight.getRightValue(), aComparator)) {
 			return null;
 		}
-
-		return new AIcInterval<>(
-				locNewLeft.boundary,
-				locNewLeft.value,
-				locNewRight.boundary,
-				locNewRight.value
-		);
+		return aFactory.create(locLeft.getLeftBoundary(), locLeft.getLeftValue(), locRight.getRightBoundary(), locRight.getRightValue());
 	}
 
 	/**
@@ -192,14 +307,27 @@ public final class AIsIntervalUtils {
 	 * @return {@code true} if satisfiable
 	 */
 	public static <T extends Comparable> boolean isSatisfiable(@Nonnull final AIiInterval<T> aInterval) {
+		return isSatisfiable(aInterval, naturalOrder());
+	}
+
+	/**
+	 * Returns {@code true} if an interval is satisfiable (not empty) based on its endpoints compared by the comparator.
+	 *
+	 * @param aInterval interval
+	 * @param aComparator comparator of the values
+	 * @param <T> value type
+	 * @return {@code true} if satisfiable
+	 */
+	public static <T extends Comparable> boolean isSatisfiable(@Nonnull final AIiInterval<T> aInterval, @Nonnull final Comparator<? super T> aComparator) {
 		Objects.requireNonNull(aInterval, "Interval must not be null");
-		Endpoint<T> locLeft = Endpoint.left(aInterval.getLeftBoundary(), aInterval.getLeftValue());
-		Endpoint<T> locRight = Endpoint.right(aInterval.getRightBoundary(), aInterval.getRightValue());
-		return isSatisfiable(locLeft, locRight);
+		Objects.requireNonNull(aComparator, "Comparator must not be null");
+		return isSatisfiable(aInterval.getLeftBoundary(), aInterval.getLeftValue(), aInterval.getRightBoundary(), aInterval.getRightValue(),
+				aComparator);
 	}
 
 	/**
 	 * Produces a concise string representation using boundary symbols.
+	 * The representation is parsed back by {@link AIcIntervalParser}.
 	 *
 	 * @param aInterval interval
 	 * @return string representation
@@ -235,14 +363,114 @@ public final class AIsIntervalUtils {
 	 * @return comparator result
 	 */
 	public static <T extends Comparable> int compare(@Nonnull final AIiInterval<T> aLeft, @Nonnull final AIiInterval<T> aRight) {
-		Objects.requireNonNull(aLeft, "Left interval must not be null");
-		Objects.requireNonNull(aRight, "Right interval must not be null");
+		return compare(aLeft, aRight, naturalOrder());
+	}
 
-		int locLeftCmp = compareLeftEndpoints(aLeft, aRight);
+	/**
+	 * Compares two intervals by their left endpoints, then by right endpoints, using the comparator.
+	 *
+	 * @param aLeft first interval
+	 * @param aRight second interval
+	 * @param aComparator comparator of the values
+	 * @param <T> value type
+	 * @return comparator result
+	 */
+	public static <T extends Comparable> int compare(
+			@Nonnull final AIiInterval<T> aLeft,
+			@Nonnull final AIiInterval<T> aRight,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		int locLeftCmp = compareLeftEndpoints(aLeft, aRight, aComparator);
 		if (locLeftCmp != 0) {
 			return locLeftCmp;
 		}
-		return compareRightEndpoints(aLeft, aRight);
+		return compareRightEndpoints(aLeft, aRight, aComparator);
+	}
+
+	/**
+	 * Compares the left endpoints of two intervals using the comparator; unbounded endpoints are
+	 * before all values and at the same value a closed endpoint is before an open one.
+	 *
+	 * @param aLeft first interval
+	 * @param aRight second interval
+	 * @param aComparator comparator of the values
+	 * @param <T> value type
+	 * @return comparator result
+	 */
+	public static <T extends Comparable> int compareLeftEndpoints(
+			@Nonnull final AIiInterval<T> aLeft,
+			@Nonnull final AIiInterval<T> aRight,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		boolean locLeftUnbounded = isLeftUnbounded(aLeft);
+		boolean locRightUnbounded = isLeftUnbounded(aRight);
+
+		if (locLeftUnbounded && locRightUnbounded) {
+			return 0;
+		}
+		if (locLeftUnbounded) {
+			return -1;
+		}
+		if (locRightUnbounded) {
+			return 1;
+		}
+
+		int locCmp = aComparator.compare(aLeft.getLeftValue(), aRight.getLeftValue());
+		if (locCmp != 0) {
+			return locCmp;
+		}
+
+		boolean locLeftClosed = !aLeft.getLeftBoundary().isOpen();
+		boolean locRightClosed = !aRight.getLeftBoundary().isOpen();
+
+		if (locLeftClosed == locRightClosed) {
+			return 0;
+		}
+
+		return locLeftClosed ? -1 : 1;
+	}
+
+	/**
+	 * Compares the right endpoints of two intervals using the comparator; unbounded endpoints are
+	 * after all values and at the same value a closed endpoint is after an open one.
+	 *
+	 * @param aLeft first interval
+	 * @param aRight second interval
+	 * @param aComparator comparator of the values
+	 * @param <T> value type
+	 * @return comparator result
+	 */
+	public static <T extends Comparable> int compareRightEndpoints(
+			@Nonnull final AIiInterval<T> aLeft,
+			@Nonnull final AIiInterval<T> aRight,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		boolean locLeftUnbounded = isRightUnbounded(aLeft);
+		boolean locRightUnbounded = isRightUnbounded(aRight);
+
+		if (locLeftUnbounded && locRightUnbounded) {
+			return 0;
+		}
+		if (locLeftUnbounded) {
+			return 1;
+		}
+		if (locRightUnbounded) {
+			return -1;
+		}
+
+		int locCmp = aComparator.compare(aLeft.getRightValue(), aRight.getRightValue());
+		if (locCmp != 0) {
+			return locCmp;
+		}
+
+		boolean locLeftClosed = !aLeft.getRightBoundary().isOpen();
+		boolean locRightClosed = !aRight.getRightBoundary().isOpen();
+
+		if (locLeftClosed == locRightClosed) {
+			return 0;
+		}
+
+		return locLeftClosed ? 1 : -1;
 	}
 
 	/**
@@ -254,17 +482,28 @@ public final class AIsIntervalUtils {
 	 * @return {@code true} if strictly before
 	 */
 	public static <T extends Comparable> boolean isStrictlyBefore(@Nonnull final AIiInterval<T> aLeft, @Nonnull final AIiInterval<T> aRight) {
-		Objects.requireNonNull(aLeft, "Left interval must not be null");
-		Objects.requireNonNull(aRight, "Right interval must not be null");
+		return isStrictlyBefore(aLeft, aRight, naturalOrder());
+	}
 
+	/**
+	 * Returns {@code true} if {@code aLeft} is strictly before {@code aRight} using the comparator.
+	 *
+	 * @param aLeft left interval
+	 * @param aRight right interval
+	 * @param aComparator comparator of the values
+	 * @param <T> value type
+	 * @return {@code true} if strictly before
+	 */
+	public static <T extends Comparable> boolean isStrictlyBefore(
+			@Nonnull final AIiInterval<T> aLeft,
+			@Nonnull final AIiInterval<T> aRight,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
 		if (isRightUnbounded(aLeft) || isLeftUnbounded(aRight)) {
 			return false;
 		}
 
-		T locLeftRight = aLeft.getRightValue();
-		T locRightLeft = aRight.getLeftValue();
-
-		int locCmp = locLeftRight.compareTo(locRightLeft);
+		int locCmp = aComparator.compare(aLeft.getRightValue(), aRight.getLeftValue());
 		if (locCmp < 0) {
 			return true;
 		}
@@ -276,155 +515,658 @@ public final class AIsIntervalUtils {
 		return locTouchingIsGap;
 	}
 
-	private static <T extends Comparable> boolean isSatisfiable(@Nonnull final Endpoint<T> aLeft, @Nonnull final Endpoint<T> aRight) {
-		if (aLeft.boundary.isBoundaryValueIgnored() || aRight.boundary.isBoundaryValueIgnored()) {
-			return true;
-		}
+	/**
+	 * Returns {@code true} if {@code aValue} is contained in {@code aInterval}, without boxing.
+	 *
+	 * @param aInterval interval
+	 * @param aValue value
+	 * @return {@code true} if contained
+	 */
+	public static boolean contains(@Nonnull final AIiLongInterval aInterval, final long aValue) {
+		Objects.requireNonNull(aInterval, "Interval must not be null");
+		return containsLong(aInterval.getBoundaryFlags(), aInterval.getLeftLongValue(), aInterval.getRightLongValue(), aValue);
+	}
 
-		T locLeftValue = aLeft.value;
-		T locRightValue = aRight.value;
+	/**
+	 * Returns {@code true} if two intervals overlap (have a non-empty intersection), without boxing.
+	 *
+	 * @param aLeft first interval
+	 * @param aRight second interval
+	 * @return {@code true} if overlap exists
+	 */
+	public static boolean overlaps(@Nonnull final AIiLongInterval aLeft, @Nonnull final AIiLongInterval aRight) {
+		Objects.requireNonNull(aLeft, "Left interval must not be null");
+		Objects.requireNonNull(aRight, "Right interval must not be null");
+		return tryIntersectLong(aLeft.getBoundaryFlags(), aLeft.getLeftLongValue(), aLeft.getRightLongValue(),
+				aRight.getBoundaryFlags(), aRight.getLeftLongValue(), aRight.getRightLongValue(), OVERLAP_PROBE_LONG) != null;
+	}
 
-		int locCmp = locLeftValue.compareTo(locRightValue);
-		if (locCmp < 0) {
-			return true;
-		}
-		if (locCmp > 0) {
-			return false;
+	/**
+	 * Computes intersection of two intervals.
+	 *
+	 * @param aLeft first interval
+	 * @param aRight second interval
+	 * @return intersection
+	 * @throws IllegalArgumentException when intervals do not overlap
+	 */
+	@Nonnull
+	public static AIcLongInterval intersect(@Nonnull final AIiLongInterval aLeft, @Nonnull final AIiLongInterval aRight) {
+		AIcLongInterval locResult = tryIntersect(aLeft, aRight);
+		if (locResult == null) {
+			throw new IllegalArgumentException("Intervals do not overlap");
 		}
+		return locResult;
+	}
+
+	/**
+	 * Attempts to compute intersection of two intervals.
+	 *
+	 * @param aLeft first interval
+	 * @param aRight second interval
+	 * @return intersection or {@code null} if no overlap
+	 */
+	@Nullable
+	public static AIcLongInterval tryIntersect(@Nonnull final AIiLongInterval aLeft, @Nonnull final AIiLongInterval aRight) {
+		Objects.requireNonNull(aLeft, "Left interval must not be null");
+		Objects.requireNonNull(aRight, "Right interval must not be null");
+		return tryIntersectLong(aLeft.getBoundaryFlags(), aLeft.getLeftLongValue(), aLeft.getRightLongValue(),
+				aRight.getBoundaryFlags(), aRight.getLeftLongValue(), aRight.getRightLongValue(), LONG_INTERVAL_FACTORY);
+	}
 
-		return !aLeft.boundary.isOpen() && !aRight.boundary.isOpen();
+	/**
+	 * Compares two intervals by their left endpoints, then by right endpoints, without boxing.
+	 *
+	 * @param aLeft first interval
+	 * @param aRight second interval
+	 * @return comparator result
+	 */
+	public static int compare(@Nonnull final AIiLongInterval aLeft, @Nonnull final AIiLongInterval aRight) {
+		Objects.requireNonNull(aLeft, "Left interval must not be null");
+		Objects.requireNonNull(aRight, "Right interval must not be null");
+		return compareLong(aLeft.getBoundaryFlags(), aLeft.getLeftLongValue(), aLeft.getRightLongValue(),
+				aRight.getBoundaryFlags(), aRight.getLeftLongValue(), aRight.getRightLongValue());
+	}
+
+	/**
+	 * Returns {@code true} if {@code aLeft} is strictly before {@code aRight}, without boxing.
+	 *
+	 * @param aLeft left interval
+	 * @param aRight right interval
+	 * @return {@code true} if strictly before
+	 */
+	public static boolean isStrictlyBefore(@Nonnull final AIiLongInterval aLeft, @Nonnull final AIiLongInterval aRight) {
+		Objects.requireNonNull(aLeft, "Left interval must not be null");
+		Objects.requireNonNull(aRight, "Right interval must not be null");
+		return isStrictlyBeforeLong(aLeft.getBoundaryFlags(), aLeft.getRightLongValue(), aRight.getBoundaryFlags(), aRight.getLeftLongValue());
+	}
+
+	/**
+	 * Returns {@code true} if {@code aValue} is contained in {@code aInterval}, without boxing.
+	 *
+	 * @param aInterval interval
+	 * @param aValue value
+	 * @return {@code true} if contained
+	 */
+	public static boolean contains(@Nonnull final AIiIntInterval aInterval, final int aValue) {
+		Objects.requireNonNull(aInterval, "Interval must not be null");
+		return containsLong(aInterval.getBoundaryFlags(), aInterval.getLeftIntValue(), aInterval.getRightIntValue(), aValue);
 	}
 
-	private static <T extends Comparable> Endpoint<T> maxLeftEndpoint(@Nonnull final AIiInterval<T> aLeft, @Nonnull final AIiInterval<T> aRight) {
-		Endpoint<T> locLeftEndpoint = Endpoint.left(aLeft.getLeftBoundary(), aLeft.getLeftValue());
-		Endpoint<T> locRightEndpoint = Endpoint.left(aRight.getLeftBoundary(), aRight.getLeftValue());
+	/**
+	 * Returns {@code true} if two intervals overlap (have a non-empty intersection), without boxing.
+	 *
+	 * @param aLeft first interval
+	 * @param aRight second interval
+	 * @return {@code true} if overlap exists
+	 */
+	public static boolean overlaps(@Nonnull final AIiIntInterval aLeft, @Nonnull final AIiIntInterval aRight) {
+		Objects.requireNonNull(aLeft, "Left interval must not be null");
+		Objects.requireNonNull(aRight, "Right interval must not be null");
+		return tryIntersectLong(aLeft.getBoundaryFlags(), aLeft.getLeftIntValue(), aLeft.getRightIntValue(),
+				aRight.getBoundaryFlags(), aRight.getLeftIntValue(), aRight.getRightIntValue(), OVERLAP_PROBE_LONG) != null;
+	}
 
-		if (locLeftEndpoint.boundary.isBoundaryValueIgnored()) {
-			return locRightEndpoint;
+	/**
+	 * Computes intersection of two intervals.
+	 *
+	 * @param aLeft first interval
+	 * @param aRight second interval
+	 * @return intersection
+	 * @throws IllegalArgumentException when intervals do not overlap
+	 */
+	@Nonnull
+	public static AIcIntInterval intersect(@Nonnull final AIiIntInterval aLeft, @Nonnull final AIiIntInterval aRight) {
+		AIcIntInterval locResult = tryIntersect(aLeft, aRight);
+		if (locResult == null) {
+			throw new IllegalArgumentException("Intervals do not overlap");
 		}
-		if (locRightEndpoint.boundary.isBoundaryValueIgnored()) {
-			return locLeftEndpoint;
+		return locResult;
+	}
+
+	/**
+	 * Attempts to compute intersection of two intervals.
+	 *
+	 * @param aLeft first interval
+	 * @param aRight second interval
+	 * @return intersection or {@code null} if no overlap
+	 */
+	@Nullable
+	public static AIcIntInterval tryIntersect(@Nonnull final AIiIntInterval aLeft, @Nonnull final AIiIntInterval aRight) {
+		Objects.requireNonNull(aLeft, "Left interval must not be null");
+		Objects.requireNonNull(aRight, "Right interval must not be null");
+		return tryIntersectLong(aLeft.getBoundaryFlags(), aLeft.getLeftIntValue(), aLeft.getRightIntValue(),
+				aRight.getBoundaryFlags(), aRight.getLeftIntValue(), aRight.getRightIntValue(), INT_INTERVAL_FACTORY);
+	}
+
+	/**
+	 * Compares two intervals by their left endpoints, then by right endpoints, without boxing.
+	 *
+	 * @param aLeft first interval
+	 * @param aRight second interval
+	 * @return comparator result
+	 */
+	public static int compare(@Nonnull final AIiIntInterval aLeft, @Nonnull final AIiIntInterval aRight) {
+		Objects.requireNonNull(aLeft, "Left interval must not be null");
+		Objects.requireNonNull(aRight, "Right interval must not be null");
+		return compareLong(aLeft.getBoundaryFlags(), aLeft.getLeftIntValue(), aLeft.getRightIntValue(),
+				aRight.getBoundaryFlags(), aRight.getLeftIntValue(), aRight.getRightIntValue());
+	}
+
+	/**
+	 * Returns {@code true} if {@code aLeft} is strictly before {@code aRight}, without boxing.
+	 *
+	 * @param aLeft left interval
+	 * @param aRight right interval
+	 * @return {@code true} if strictly before
+	 */
+	public static boolean isStrictlyBefore(@Nonnull final AIiIntInterval aLeft, @Nonnull final AIiIntInterval aRight) {
+		Objects.requireNonNull(aLeft, "Left interval must not be null");
+		Objects.requireNonNull(aRight, "Right interval must not be null");
+		return isStrictlyBeforeLong(aLeft.getBoundaryFlags(), aLeft.getRightIntValue(), aRight.getBoundaryFlags(), aRight.getLeftIntValue());
+	}
+
+	/**
+	 * Returns {@code true} if {@code aValue} is contained in {@code aInterval}, without boxing.
+	 *
+	 * @param aInterval interval
+	 * @param aValue value
+	 * @return {@code true} if contained
+	 */
+	public static boolean contains(@Nonnull final AIiDoubleInterval aInterval, final double aValue) {
+		Objects.requireNonNull(aInterval, "Interval must not be null");
+		return containsDouble(aInterval.getBoundaryFlags(), aInterval.getLeftDoubleValue(), aInterval.getRightDoubleValue(), aValue);
+	}
+
+	/**
+	 * Returns {@code true} if two intervals overlap (have a non-empty intersection), without boxing.
+	 *
+	 * @param aLeft first interval
+	 * @param aRight second interval
+	 * @return {@code true} if overlap exists
+	 */
+	public static boolean overlaps(@Nonnull final AIiDoubleInterval aLeft, @Nonnull final AIiDoubleInterval aRight) {
+		Objects.requireNonNull(aLeft, "Left interval must not be null");
+		Objects.requireNonNull(aRight, "Right interval must not be null");
+		return tryIntersectDouble(aLeft.getBoundaryFlags(), aLeft.getLeftDoubleValue(), aLeft.getRightDoubleValue(),
+				aRight.getBoundaryFlags(), aRight.getLeftDoubleValue(), aRight.getRightDoubleValue(), OVERLAP_PROBE_DOUBLE) != null;
+	}
+
+	/**
+	 * Computes intersection of two intervals.
+	 *
+	 * @param aLeft first interval
+	 * @param aRight second interval
+	 * @return intersection
+	 * @throws IllegalArgumentException when intervals do not overlap
+	 */
+	@Nonnull
+	public static AIcDoubleInterval intersect(@Nonnull final AIiDoubleInterval aLeft, @Nonnull final AIiDoubleInterval aRight) {
+		AIcDoubleInterval locResult = tryIntersect(aLeft, aRight);
+		if (locResult == null) {
+			throw new IllegalArgumentException("Intervals do not overlap");
 		}
+		return locResult;
+	}
 
-		int locCmp = locLeftEndpoint.value.compareTo(locRightEndpoint.value);
-		if (locCmp > 0) {
-			return locLeftEndpoint;
+	/**
+	 * Attempts to compute intersection of two intervals.
+	 *
+	 * @param aLeft first interval
+	 * @param aRight second interval
+	 * @return intersection or {@code null} if no overlap
+	 */
+	@Nullable
+	public static AIcDoubleInterval tryIntersect(@Nonnull final AIiDoubleInterval aLeft, @Nonnull final AIiDoubleInterval aRight) {
+		Objects.requireNonNull(aLeft, "Left interval must not be null");
+		Objects.requireNonNull(aRight, "Right interval must not be null");
+		return tryIntersectDouble(aLeft.getBoundaryFlags(), aLeft.getLeftDoubleValue(), aLeft.getRightDoubleValue(),
+				aRight.getBoundaryFlags(), aRight.getLeftDoubleValue(), aRight.getRightDoubleValue(), DOUBLE_INTERVAL_FACTORY);
+	}
+
+	/**
+	 * Compares two intervals by their left endpoints, then by right endpoints, without boxing.
+	 *
+	 * @param aLeft first interval
+	 * @param aRight second interval
+	 * @return comparator result
+	 */
+	public static int compare(@Nonnull final AIiDoubleInterval aLeft, @Nonnull final AIiDoubleInterval aRight) {
+		Objects.requireNonNull(aLeft, "Left interval must not be null");
+		Objects.requireNonNull(aRight, "Right interval must not be null");
+		return compareDouble(aLeft.getBoundaryFlags(), aLeft.getLeftDoubleValue(), aLeft.getRightDoubleValue(),
+				aRight.getBoundaryFlags(), aRight.getLeftDoubleValue(), aRight.getRightDoubleValue());
+	}
+
+	/**
+	 * Returns {@code true} if {@code aLeft} is strictly before {@code aRight}, without boxing.
+	 *
+	 * @param aLeft left interval
+	 * @param aRight right interval
+	 * @return {@code true} if strictly before
+	 */
+	public static boolean isStrictlyBefore(@Nonnull final AIiDoubleInterval aLeft, @Nonnull final AIiDoubleInterval aRight) {
+		Objects.requireNonNull(aLeft, "Left interval must not be null");
+		Objects.requireNonNull(aRight, "Right interval must not be null");
+		return isStrictlyBeforeDouble(aLeft.getBoundaryFlags(), aLeft.getRightDoubleValue(), aRight.getBoundaryFlags(), aRight.getLeftDoubleValue());
+	}
+
+	/**
+	 * @return comparator delegating to {@link Comparable#compareTo(Object)}
+	 */
+	@SuppressWarnings("unchecked")
+	@Nonnull
+	static <T extends Comparable> Comparator<T> naturalOrder() {
+		return (Comparator<T>) NATURAL_ORDER;
+	}
+
+	/**
+	 * @return {@code true} if the value lies before the left endpoint of the interval
+	 */
+	static <T extends Comparable> boolean isBeforeLeftEndpoint(
+			@Nonnull final T aValue,
+			@Nonnull final AIiInterval<T> aInterval,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		if (aInterval.getLeftBoundary().isBoundaryValueIgnored()) {
+			return false;
 		}
-		if (locCmp < 0) {
-			return locRightEndpoint;
+		int locCmp = aComparator.compare(aValue, aInterval.getLeftValue());
+		return locCmp < 0 || (locCmp == 0 && aInterval.getLeftBoundary().isOpen());
+	}
+
+	/**
+	 * @return {@code true} if the value lies after the right endpoint of the interval
+	 */
+	static <T extends Comparable> boolean isAfterRightEndpoint(
+			@Nonnull final T aValue,
+			@Nonnull final AIiInterval<T> aInterval,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		if (aInterval.getRightBoundary().isBoundaryValueIgnored()) {
+			return false;
 		}
+		int locCmp = aComparator.compare(aValue, aInterval.getRightValue());
+		return locCmp > 0 || (locCmp == 0 && aInterval.getRightBoundary().isOpen());
+	}
 
-		boolean locInclusive = !locLeftEndpoint.boundary.isOpen() && !locRightEndpoint.boundary.isOpen();
-		AInIntervalBoundary locBoundary = locInclusive ? AInIntervalBoundary.CLOSED : AInIntervalBoundary.OPEN;
+	/**
+	 * @return {@code true} if the first interval ends before the second one starts and there is a gap between them,
+	 * i.e. their union is not a single interval
+	 */
+	static <T extends Comparable> boolean isSeparated(
+			@Nonnull final AIiInterval<T> aLeft,
+			@Nonnull final AIiInterval<T> aRight,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		if (isRightUnbounded(aLeft) || isLeftUnbounded(aRight)) {
+			return false;
+		}
+		int locCmp = aComparator.compare(aLeft.getRightValue(), aRight.getLeftValue());
+		return locCmp < 0 || (locCmp == 0 && aLeft.getRightBoundary().isOpen() && aRight.getLeftBoundary().isOpen());
+	}
 
-		return Endpoint.left(locBoundary, locLeftEndpoint.value);
+	/**
+	 * @return the smallest interval covering both intervals
+	 */
+	@Nonnull
+	static <T extends Comparable> AIcInterval<T> span(
+			@Nonnull final AIiInterval<T> aLeft,
+			@Nonnull final AIiInterval<T> aRight,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		AIiInterval<T> locLeft = compareLeftEndpoints(aLeft, aRight, aComparator) <= 0 ? aLeft : aRight;
+		AIiInterval<T> locRight = compareRightEndpoints(aLeft, aRight, aComparator) >= 0 ? aLeft : aRight;
+		if (locLeft == locRight && locLeft instanceof AIcInterval<T> locInterval) {
+			return locInterval;
+		}
+		return new AIcInterval<>(locLeft.getLeftBoundary(), locLeft.getLeftValue(), locRight.getRightBoundary(), locRight.getRightValue());
 	}
 
-	private static <T extends Comparable> Endpoint<T> minRightEndpoint(@Nonnull final AIiInterval<T> aLeft, @Nonnull final AIiInterval<T> aRight) {
-		Endpoint<T> locLeftEndpoint = Endpoint.right(aLeft.getRightBoundary(), aLeft.getRightValue());
-		Endpoint<T> locRightEndpoint = Endpoint.right(aRight.getRightBoundary(), aRight.getRightValue());
+	/**
+	 * @return part of the interval lying before the left endpoint of the cut, or {@code null} if there is none
+	 */
+	@Nullable
+	static <T extends Comparable> AIcInterval<T> partBefore(
+			@Nonnull final AIiInterval<T> aInterval,
+			@Nonnull final AIiInterval<T> aCut,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		if (compareLeftEndpoints(aInterval, aCut, aComparator) >= 0) {
+			return null;
+		}
+		if (isStrictlyBefore(aInterval, aCut, aComparator)) {
+			return new AIcInterval<>(aInterval.getLeftBoundary(), aInterval.getLeftValue(), aInterval.getRightBoundary(), aInterval.getRightValue());
+		}
+		AInIntervalBoundary locRightBoundary = aCut.getLeftBoundary().isOpen() ? AInIntervalBoundary.CLOSED : AInIntervalBoundary.OPEN;
+		return new AIcInterval<>(aInterval.getLeftBoundary(), aInterval.getLeftValue(), locRightBoundary, aCut.getLeftValue());
+	}
 
-		if (locLeftEndpoint.boundary.isBoundaryValueIgnored()) {
-			return locRightEndpoint;
+	/**
+	 * @return part of the interval lying after the right endpoint of the cut, or {@code null} if there is none
+	 */
+	@Nullable
+	static <T extends Comparable> AIcInterval<T> partAfter(
+			@Nonnull final AIiInterval<T> aInterval,
+			@Nonnull final AIiInterval<T> aCut,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		if (compareRightEndpoints(aInterval, aCut, aComparator) <= 0) {
+			return null;
+		}
+		if (isStrictlyBefore(aCut, aInterval, aComparator)) {
+			return new AIcInterval<>(aInterval.getLeftBoundary(), aInterval.getLeftValue(), aInterval.getRightBoundary(), aInterval.getRightValue());
 		}
-		if (locRightEndpoint.boundary.isBoundaryValueIgnored()) {
-			return locLeftEndpoint;
+		AInIntervalBoundary locLeftBoundary = aCut.getRightBoundary().isOpen() ? AInIntervalBoundary.CLOSED : AInIntervalBoundary.OPEN;
+		return new AIcInterval<>(locLeftBoundary, aCut.getRightValue(), aInterval.getRightBoundary(), aInterval.getRightValue());
+	}
+
+	private static <T extends Comparable> boolean isSatisfiable(
+			@Nonnull final AInIntervalBoundary aLeftBoundary,
+			@Nullable final T aLeftValue,
+			@Nonnull final AInIntervalBoundary aRightBoundary,
+			@Nullable final T aRightValue,
+			@Nonnull final Comparator<? super T> aComparator
+	) {
+		if (aLeftBoundary.isBoundaryValueIgnored() || aRightBoundary.isBoundaryValueIgnored()) {
+			return true;
 		}
 
-		int locCmp = locLeftEndpoint.value.compareTo(locRightEndpoint.value);
+		int locCmp = aComparator.compare(aLeftValue, aRightValue);
 		if (locCmp < 0) {
-			return locLeftEndpoint;
+			return true;
 		}
 		if (locCmp > 0) {
-			return locRightEndpoint;
+			return false;
 		}
 
-		boolean locInclusive = !locLeftEndpoint.boundary.isOpen() && !locRightEndpoint.boundary.isOpen();
-		AInIntervalBoundary locBoundary = locInclusive ? AInIntervalBoundary.CLOSED : AInIntervalBoundary.OPEN;
-
-		return Endpoint.right(locBoundary, locLeftEndpoint.value);
+		return !aLeftBoundary.isOpen() && !aRightBoundary.isOpen();
 	}
 
-	private static <T extends Comparable> int compareLeftEndpoints(@Nonnull final AIiInterval<T> aLeft, @Nonnull final AIiInterval<T> aRight) {
-		boolean locLeftUnbounded = isLeftUnbounded(aLeft);
-		boolean locRightUnbounded = isLeftUnbounded(aRight);
+	static boolean overlapsLong(
+			final int aLeftFlags, final long aLeftLeftValue, final long aLeftRightValue,
+			final int aRightFlags, final long aRightLeftValue, final long aRightRightValue
+	) {
+		return tryIntersectLong(aLeftFlags, aLeftLeftValue, aLeftRightValue, aRightFlags, aRightLeftValue, aRightRightValue,
+				OVERLAP_PROBE_LONG) != null;
+	}
 
-		if (locLeftUnbounded && locRightUnbounded) {
-			return 0;
-		}
-		if (locLeftUnbounded) {
-			return -1;
+	static boolean containsLong(final int aFlags, final long aLeftValue, final long aRightValue, final long aValue) {
+		int locLeftCode = AIsIntervalBoundaryFlags.leftCode(aFlags);
+		if (locLeftCode != AIsIntervalBoundaryFlags.UNBOUNDED) {
+			int locCmp = Long.compare(aValue, aLeftValue);
+			if (locCmp < 0 || (locCmp == 0 && locLeftCode == AIsIntervalBoundaryFlags.OPEN)) {
+				return false;
+			}
 		}
-		if (locRightUnbounded) {
-			return 1;
+		int locRightCode = AIsIntervalBoundaryFlags.rightCode(aFlags);
+		if (locRightCode != AIsIntervalBoundaryFlags.UNBOUNDED) {
+			int locCmp = Long.compare(aValue, aRightValue);
+			return locCmp < 0 || (locCmp == 0 && locRightCode == AIsIntervalBoundaryFlags.CLOSED);
 		}
+		return true;
+	}
 
-		T locLeftValue = aLeft.getLeftValue();
-		T locRightValue = aRight.getLeftValue();
-
-		int locCmp = locLeftValue.compareTo(locRightValue);
-		if (locCmp != 0) {
-			return locCmp;
+	/**
+	 * Intersects two intervals given by flags and values; for equal endpoints the boundary codes are combined
+	 * by {@code |}, which yields {@link AIsIntervalBoundaryFlags#OPEN} when either of them is open.
+	 */
+	@Nullable
+	private static <R> R tryIntersectLong(
+			final int aLeftFlags, final long aLeftLeftValue, final long aLeftRightValue,
+			final int aRightFlags, final long aRightLeftValue, final long aRightRightValue,
+			@Nonnull final AIiLongIntervalFactory<R> aFactory
+	) {
+		int locLeftCodeOfLeft = AIsIntervalBoundaryFlags.leftCode(aLeftFlags);
+		int locLeftCodeOfRight = AIsIntervalBoundaryFlags.leftCode(aRightFlags);
+		int locLeftCode;
+		long locLeftValue;
+		int locLeftCmp = Long.compare(aLeftLeftValue, aRightLeftValue);
+		if (locLeftCodeOfLeft == AIsIntervalBoundaryFlags.UNBOUNDED) {
+			locLeftCode = locLeftCodeOfRight;
+			locLeftValue = aRightLeftValue;
+		} else if (locLeftCodeOfRight == AIsIntervalBoundaryFlags.UNBOUNDED || locLeftCmp > 0) {
+			locLeftCode = locLeftCodeOfLeft;
+			locLeftValue = aLeftLeftValue;
+		} else if (locLeftCmp < 0) {
+			locLeftCode = locLeftCodeOfRight;
+			locLeftValue = aRightLeftValue;
+		} else {
+			locLeftCode = locLeftCodeOfLeft | locLeftCodeOfRight;
+			locLeftValue = aLeftLeftValue;
 		}
 
-		boolean locLeftClosed = !aLeft.getLeftBoundary().isOpen();
-		boolean locRightClosed = !aRight.getLeftBoundary().isOpen();
-
-		if (locLeftClosed == locRightClosed) {
-			return 0;
+		int locRightCodeOfLeft = AIsIntervalBoundaryFlags.rightCode(aLeftFlags);
+		int locRightCodeOfRight = AIsIntervalBoundaryFlags.rightCode(aRightFlags);
+		int locRightCode;
+		long locRightValue;
+		int locRightCmp = Long.compare(aLeftRightValue, aRightRightValue);
+		if (locRightCodeOfLeft == AIsIntervalBoundaryFlags.UNBOUNDED) {
+			locRightCode = locRightCodeOfRight;
+			locRightValue = aRightRightValue;
+		} else if (locRightCodeOfRight == AIsIntervalBoundaryFlags.UNBOUNDED || locRightCmp < 0) {
+			locRightCode = locRightCodeOfLeft;
+			locRightValue = aLeftRightValue;
+		} else if (locRightCmp > 0) {
+			locRightCode = locRightCodeOfRight;
+			locRightValue = aRightRightValue;
+		} else {
+			locRightCode = locRightCodeOfLeft | locRightCodeOfRight;
+			locRightValue = aLeftRightValue;
 		}
 
-		return locLeftClosed ? -1 : 1;
+		if (locLeftCode != AIsIntervalBoundaryFlags.UNBOUNDED && locRightCode != AIsIntervalBoundaryFlags.UNBOUNDED) {
+			int locCmp = Long.compare(locLeftValue, locRightValue);
+			if (locCmp > 0 || (locCmp == 0 && (locLeftCode | locRightCode) != AIsIntervalBoundaryFlags.CLOSED)) {
+				return null;
+			}
+		}
+		return aFactory.create(AIsIntervalBoundaryFlags.of(locLeftCode, locRightCode), locLeftValue, locRightValue);
 	}
 
-	private static <T extends Comparable> int compareRightEndpoints(@Nonnull final AIiInterval<T> aLeft, @Nonnull final AIiInterval<T> aRight) {
-		boolean locLeftUnbounded = isRightUnbounded(aLeft);
-		boolean locRightUnbounded = isRightUnbounded(aRight);
+	private static int compareLong(
+			final int aLeftFlags, final long aLeftLeftValue, final long aLeftRightValue,
+			final int aRightFlags, final long aRightLeftValue, final long aRightRightValue
+	) {
+		int locLeftCodeOfLeft = AIsIntervalBoundaryFlags.leftCode(aLeftFlags);
+		int locLeftCodeOfRight = AIsIntervalBoundaryFlags.leftCode(aRightFlags);
+		if (locLeftCodeOfLeft != locLeftCodeOfRight
+				&& (locLeftCodeOfLeft == AIsIntervalBoundaryFlags.UNBOUNDED || locLeftCodeOfRight == AIsIntervalBoundaryFlags.UNBOUNDED)) {
+			return locLeftCodeOfLeft == AIsIntervalBoundaryFlags.UNBOUNDED ? -1 : 1;
+		}
+		if (locLeftCodeOfLeft != AIsIntervalBoundaryFlags.UNBOUNDED) {
+			int locCmp = Long.compare(aLeftLeftValue, aRightLeftValue);
+			if (locCmp != 0) {
+				return locCmp;
+			}
+			if (locLeftCodeOfLeft != locLeftCodeOfRight) {
+				return locLeftCodeOfLeft == AIsIntervalBoundaryFlags.CLOSED ? -1 : 1;
+			}
+		}
 
-		if (locLeftUnbounded && locRightUnbounded) {
-			return 0;
+		int locRightCodeOfLeft = AIsIntervalBoundaryFlags.rightCode(aLeftFlags);
+		int locRightCodeOfRight = AIsIntervalBoundaryFlags.rightCode(aRightFlags);
+		if (locRightCodeOfLeft != locRightCodeOfRight
+				&& (locRightCodeOfLeft == AIsIntervalBoundaryFlags.UNBOUNDED || locRightCodeOfRight == AIsIntervalBoundaryFlags.UNBOUNDED)) {
+			return locRightCodeOfLeft == AIsIntervalBoundaryFlags.UNBOUNDED ? 1 : -1;
 		}
-		if (locLeftUnbounded) {
-			return 1;
+		if (locRightCodeOfLeft != AIsIntervalBoundaryFlags.UNBOUNDED) {
+			int locCmp = Long.compare(aLeftRightValue, aRightRightValue);
+			if (locCmp != 0) {
+				return locCmp;
+			}
+			if (locRightCodeOfLeft != locRightCodeOfRight) {
+				return locRightCodeOfLeft == AIsIntervalBoundaryFlags.CLOSED ? 1 : -1;
+			}
 		}
-		if (locRightUnbounded) {
-			return -1;
+		return 0;
+	}
+
+	private static boolean isStrictlyBeforeLong(final int aLeftFlags, final long aLeftRightValue, final int aRightFlags, final long aRightLeftValue) {
+		int locRightCodeOfLeft = AIsIntervalBoundaryFlags.rightCode(aLeftFlags);
+		int locLeftCodeOfRight = AIsIntervalBoundaryFlags.leftCode(aRightFlags);
+		if (locRightCodeOfLeft == AIsIntervalBoundaryFlags.UNBOUNDED || locLeftCodeOfRight == AIsIntervalBoundaryFlags.UNBOUNDED) {
+			return false;
 		}
+		int locCmp = Long.compare(aLeftRightValue, aRightLeftValue);
+		return locCmp < 0 || (locCmp == 0 && (locRightCodeOfLeft | locLeftCodeOfRight) != AIsIntervalBoundaryFlags.CLOSED);
+	}
 
-		T locLeftValue = aLeft.getRightValue();
-		T locRightValue = aRight.getRightValue();
+	/**
+	 * Creates the result of a primitive interval operation from flags and values.
+	 */
+	@FunctionalInterface
+	private interface AIiLongIntervalFactory<R> {
 
-		int locCmp = locLeftValue.compareTo(locRightValue);
-		if (locCmp != 0) {
-			return locCmp;
+		R create(int aFlags, long aLeftValue, long aRightValue);
+	}
+
+	private static boolean containsDouble(final int aFlags, final double aLeftValue, final double aRightValue, final double aValue) {
+		int locLeftCode = AIsIntervalBoundaryFlags.leftCode(aFlags);
+		if (locLeftCode != AIsIntervalBoundaryFlags.UNBOUNDED) {
+			int locCmp = Double.compare(aValue, aLeftValue);
+			if (locCmp < 0 || (locCmp == 0 && locLeftCode == AIsIntervalBoundaryFlags.OPEN)) {
+				return false;
+			}
 		}
+		int locRightCode = AIsIntervalBoundaryFlags.rightCode(aFlags);
+		if (locRightCode != AIsIntervalBoundaryFlags.UNBOUNDED) {
+			int locCmp = Double.compare(aValue, aRightValue);
+			return locCmp < 0 || (locCmp == 0 && locRightCode == AIsIntervalBoundaryFlags.CLOSED);
+		}
+		return true;
+	}
 
-		boolean locLeftClosed = !aLeft.getRightBoundary().isOpen();
-		boolean locRightClosed = !aRight.getRightBoundary().isOpen();
+	/**
+	 * Intersects two intervals given by flags and values; for equal endpoints the boundary codes are combined
+	 * by {@code |}, which yields {@link AIsIntervalBoundaryFlags#OPEN} when either of them is open.
+	 */
+	@Nullable
+	private static <R> R tryIntersectDouble(
+			final int aLeftFlags, final double aLeftLeftValue, final double aLeftRightValue,
+			final int aRightFlags, final double aRightLeftValue, final double aRightRightValue,
+			@Nonnull final AIiDoubleIntervalFactory<R> aFactory
+	) {
+		int locLeftCodeOfLeft = AIsIntervalBoundaryFlags.leftCode(aLeftFlags);
+		int locLeftCodeOfRight = AIsIntervalBoundaryFlags.leftCode(aRightFlags);
+		int locLeftCode;
+		double locLeftValue;
+		int locLeftCmp = Double.compare(aLeftLeftValue, aRightLeftValue);
+		if (locLeftCodeOfLeft == AIsIntervalBoundaryFlags.UNBOUNDED) {
+			locLeftCode = locLeftCodeOfRight;
+			locLeftValue = aRightLeftValue;
+		} else if (locLeftCodeOfRight == AIsIntervalBoundaryFlags.UNBOUNDED || locLeftCmp > 0) {
+			locLeftCode = locLeftCodeOfLeft;
+			locLeftValue = aLeftLeftValue;
+		} else if (locLeftCmp < 0) {
+			locLeftCode = locLeftCodeOfRight;
+			locLeftValue = aRightLeftValue;
+		} else {
+			locLeftCode = locLeftCodeOfLeft | locLeftCodeOfRight;
+			locLeftValue = aLeftLeftValue;
+		}
 
-		if (locLeftClosed == locRightClosed) {
-			return 0;
+		int locRightCodeOfLeft = AIsIntervalBoundaryFlags.rightCode(aLeftFlags);
+		int locRightCodeOfRight = AIsIntervalBoundaryFlags.rightCode(aRightFlags);
+		int locRightCode;
+		double locRightValue;
+		int locRightCmp = Double.compare(aLeftRightValue, aRightRightValue);
+		if (locRightCodeOfLeft == AIsIntervalBoundaryFlags.UNBOUNDED) {
+			locRightCode = locRightCodeOfRight;
+			locRightValue = aRightRightValue;
+		} else if (locRightCodeOfRight == AIsIntervalBoundaryFlags.UNBOUNDED || locRightCmp < 0) {
+			locRightCode = locRightCodeOfLeft;
+			locRightValue = aLeftRightValue;
+		} else if (locRightCmp > 0) {
+			locRightCode = locRightCodeOfRight;
+			locRightValue = aRightRightValue;
+		} else {
+			locRightCode = locRightCodeOfLeft | locRightCodeOfRight;
+			locRightValue = aLeftRightValue;
 		}
 
-		return locLeftClosed ? 1 : -1;
+		if (locLeftCode != AIsIntervalBoundaryFlags.UNBOUNDED && locRightCode != AIsIntervalBoundaryFlags.UNBOUNDED) {
+			int locCmp = Double.compare(locLeftValue, locRightValue);
+			if (locCmp > 0 || (locCmp == 0 && (locLeftCode | locRightCode) != AIsIntervalBoundaryFlags.CLOSED)) {
+				return null;
+			}
+		}
+		return aFactory.create(AIsIntervalBoundaryFlags.of(locLeftCode, locRightCode), locLeftValue, locRightValue);
 	}
 
-	private static final class Endpoint<T extends Comparable> {
-
-		private final AInIntervalBoundary boundary;
-		private final T value;
-
-		private Endpoint(@Nonnull final AInIntervalBoundary aBoundary, @Nullable final T aValue) {
-			boundary = Objects.requireNonNull(aBoundary, "Boundary must not be null");
-			value = aValue;
+	private static int compareDouble(
+			final int aLeftFlags, final double aLeftLeftValue, final double aLeftRightValue,
+			final int aRightFlags, final double aRightLeftValue, final double aRightRightValue
+	) {
+		int locLeftCodeOfLeft = AIsIntervalBoundaryFlags.leftCode(aLeftFlags);
+		int locLeftCodeOfRight = AIsIntervalBoundaryFlags.leftCode(aRightFlags);
+		if (locLeftCodeOfLeft != locLeftCodeOfRight
+				&& (locLeftCodeOfLeft == AIsIntervalBoundaryFlags.UNBOUNDED || locLeftCodeOfRight == AIsIntervalBoundaryFlags.UNBOUNDED)) {
+			return locLeftCodeOfLeft == AIsIntervalBoundaryFlags.UNBOUNDED ? -1 : 1;
+		}
+		if (locLeftCodeOfLeft != AIsIntervalBoundaryFlags.UNBOUNDED) {
+			int locCmp = Double.compare(aLeftLeftValue, aRightLeftValue);
+			if (locCmp != 0) {
+				return locCmp;
+			}
+			if (locLeftCodeOfLeft != locLeftCodeOfRight) {
+				return locLeftCodeOfLeft == AIsIntervalBoundaryFlags.CLOSED ? -1 : 1;
+			}
 		}
 
-		private static <T extends Comparable> Endpoint<T> left(@Nonnull final AInIntervalBoundary aBoundary, @Nullable final T aValue) {
-			return new Endpoint<>(aBoundary, aValue);
+		int locRightCodeOfLeft = AIsIntervalBoundaryFlags.rightCode(aLeftFlags);
+		int locRightCodeOfRight = AIsIntervalBoundaryFlags.rightCode(aRightFlags);
+		if (locRightCodeOfLeft != locRightCodeOfRight
+				&& (locRightCodeOfLeft == AIsIntervalBoundaryFlags.UNBOUNDED || locRightCodeOfRight == AIsIntervalBoundaryFlags.UNBOUNDED)) {
+			return locRightCodeOfLeft == AIsIntervalBoundaryFlags.UNBOUNDED ? 1 : -1;
+		}
+		if (locRightCodeOfLeft != AIsIntervalBoundaryFlags.UNBOUNDED) {
+			int locCmp = Double.compare(aLeftRightValue, aRightRightValue);
+			if (locCmp != 0) {
+				return locCmp;
+			}
+			if (locRightCodeOfLeft != locRightCodeOfRight) {
+				return locRightCodeOfLeft == AIsIntervalBoundaryFlags.CLOSED ? 1 : -1;
+			}
 		}
+		return 0;
+	}
 
-		private static <T extends Comparable> Endpoint<T> right(@Nonnull final AInIntervalBoundary aBoundary, @Nullable final T aValue) {
-			return new Endpoint<>(aBoundary, aValue);
+	private static boolean isStrictlyBeforeDouble(final int aLeftFlags, final double aLeftRightValue, final int aRightFlags, final double aRightLeftValue) {
+		int locRightCodeOfLeft = AIsIntervalBoundaryFlags.rightCode(aLeftFlags);
+		int locLeftCodeOfRight = AIsIntervalBoundaryFlags.leftCode(aRightFlags);
+		if (locRightCodeOfLeft == AIsIntervalBoundaryFlags.UNBOUNDED || locLeftCodeOfRight == AIsIntervalBoundaryFlags.UNBOUNDED) {
+			return false;
 		}
+		int locCmp = Double.compare(aLeftRightValue, aRightLeftValue);
+		return locCmp < 0 || (locCmp == 0 && (locRightCodeOfLeft | locLeftCodeOfRight) != AIsIntervalBoundaryFlags.CLOSED);
+	}
+
+	/**
+	 * Creates the result of a primitive interval operation from flags and values.
+	 */
+	@FunctionalInterface
+	private interface AIiDoubleIntervalFactory<R> {
+
+		R create(int aFlags, double aLeftValue, double aRightValue);
 	}
 }
@@ -2,6 +2,7 @@ plugins {
     `maven-publish`
     `kotlin-dsl`
     `java-gradle-plugin`
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 
@@ -15,11 +16,16 @@ java {
             java.setSrcDirs(listOf("src/develop/java", "src/develop/kotlin"))
             resources.setSrcDirs(listOf("src/develop/resources","src/develop/loader"))
         }
+        val jmh by getting {
+            java.setSrcDirs(listOf("src/benchmark/java"))
+            resources.setSrcDirs(listOf("src/benchmark/resources"))
+        }
     }
 }
 
 val TESTNG_VERSION = "7.11.0"
 val JAKARTA_ANNOTATION_VERSION = "3.0.0"
+val JMH_VERSION = "1.37"
 val ALGITES_PUB_LIB_JAVA_VERSION = project.version.toString()
 
 dependencies {
@@ -29,3 +35,10 @@ dependencies {
     testImplementation(project(":util:common"))
 }
 
+/* ./gradlew :util:version:jmh - results are written to build/results/jmh/results.json */
+jmh {
+    jmhVersion.set(JMH_VERSION)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+}
@@ -0,0 +1,62 @@
+package eu.algites.lib.common.version;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Title: {@link AIcBuildAwareComparatorBenchmark}
+ * </p>
+ * <p>
+ * Description: Benchmarks of {@link AIcBuildAwareVersionComparator} on top of the natural comparator of the corpus.
+ * </p>
+ * <p>
+ * Each operation compares one pair of pre-parsed versions taken from two differently shuffled copies of the corpus.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AIcBuildAwareComparatorBenchmark {
+
+	@Param
+	public AInVersionBenchmarkCorpus corpus;
+
+	@Param
+	public AInVersionBuildComparisonPolicy buildPolicy;
+
+	private AIcVersion[] left;
+	private AIcVersion[] right;
+	private AIcBuildAwareVersionComparator comparator;
+	private int index;
+
+	@Setup
+	public void setUp() {
+		left = corpus.shuffledVersions(1L);
+		right = corpus.shuffledVersions(2L);
+		comparator = new AIcBuildAwareVersionComparator(corpus.getNaturalScheme().versionComparator(), "+", true, buildPolicy);
+	}
+
+	@Benchmark
+	public int compare() {
+		int locIndex = index++ & AInVersionBenchmarkCorpus.MASK;
+		return comparator.compare(left[locIndex], right[locIndex]);
+	}
+}
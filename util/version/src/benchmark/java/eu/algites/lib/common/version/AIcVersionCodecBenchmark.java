@@ -0,0 +1,64 @@
+package eu.algites.lib.common.version;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Title: {@link AIcVersionCodecBenchmark}
+ * </p>
+ * <p>
+ * Description: Benchmarks of {@link AIcDefaultVersionCodec} normalization, returning strings
+ * and appending into a reused builder.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AIcVersionCodecBenchmark {
+
+	@Param
+	public AInVersionBenchmarkCorpus corpus;
+
+	@Param({"SEMVER_DEFAULT", "MAVEN_BUILD_METADATA_IGNORED"})
+	public AInBuiltinVersionScheme scheme;
+
+	private String[] texts;
+	private StringBuilder builder;
+	private int index;
+
+	@Setup
+	public void setUp() {
+		texts = corpus.texts();
+		builder = new StringBuilder(64);
+	}
+
+	@Benchmark
+	public String normalizeVersionText() {
+		return AIcDefaultVersionCodec.INSTANCE.normalizeVersionText(texts[index++ & AInVersionBenchmarkCorpus.MASK], scheme);
+	}
+
+	@Benchmark
+	public int normalizeTo() {
+		builder.setLength(0);
+		AIcDefaultVersionCodec.INSTANCE.normalizeTo(texts[index++ & AInVersionBenchmarkCorpus.MASK], scheme, builder);
+		return builder.length();
+	}
+}
@@ -0,0 +1,61 @@
+package eu.algites.lib.common.version;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Title: {@link AIcVersionComparisonBenchmark}
+ * </p>
+ * <p>
+ * Description: Benchmarks of {@link AIcVersion#compareTo(AIcVersion, AIiVersionScheme)} for every
+ * {@link AInBuiltinVersionScheme}.
+ * </p>
+ * <p>
+ * Each operation compares one pair of pre-parsed versions taken from two differently shuffled copies of the corpus.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AIcVersionComparisonBenchmark {
+
+	@Param
+	public AInVersionBenchmarkCorpus corpus;
+
+	@Param
+	public AInBuiltinVersionScheme scheme;
+
+	private AIcVersion[] left;
+	private AIcVersion[] right;
+	private int index;
+
+	@Setup
+	public void setUp() {
+		left = corpus.shuffledVersions(1L);
+		right = corpus.shuffledVersions(2L);
+	}
+
+	@Benchmark
+	public int compareWithScheme() {
+		int locIndex = index++ & AInVersionBenchmarkCorpus.MASK;
+		return left[locIndex].compareTo(right[locIndex], scheme);
+	}
+}
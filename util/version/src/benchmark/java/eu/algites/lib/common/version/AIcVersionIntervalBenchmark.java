@@ -0,0 +1,81 @@
+package eu.algites.lib.common.version;
+
+import eu.algites.lib.common.interval.AInIntervalBoundary;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Title: {@link AIcVersionIntervalBenchmark}
+ * </p>
+ * <p>
+ * Description: Benchmarks of {@link AIcVersionInterval#contains(AIcVersion, AIiVersionScheme)}
+ * and {@link AIcVersionInterval#tryIntersect(AIcVersionInterval, AIiVersionScheme)}.
+ * </p>
+ * <p>
+ * Intervals {@code [v, w)} (or {@code [v, v]} for equal versions) are built from pairs of corpus versions ordered by the natural scheme of the corpus,
+ * so a sizable share of the probes hits.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AIcVersionIntervalBenchmark {
+
+	@Param
+	public AInVersionBenchmarkCorpus corpus;
+
+	private AIiVersionScheme scheme;
+	private AIcVersion[] probes;
+	private AIcVersionInterval[] intervals;
+	private int index;
+
+	@Setup
+	public void setUp() {
+		scheme = corpus.getNaturalScheme();
+		probes = corpus.shuffledVersions(1L);
+		AIcVersion[] locLeft = corpus.shuffledVersions(2L);
+		AIcVersion[] locRight = corpus.shuffledVersions(3L);
+		intervals = new AIcVersionInterval[AInVersionBenchmarkCorpus.SIZE];
+		for (int locIndex = 0; locIndex < intervals.length; locIndex++) {
+			AIcVersion[] locBounds = {locLeft[locIndex], locRight[locIndex]};
+			Arrays.sort(locBounds, scheme.versionComparator());
+			AInIntervalBoundary locRightBoundary = scheme.versionComparator().compare(locBounds[0], locBounds[1]) == 0
+					? AInIntervalBoundary.CLOSED
+					: AInIntervalBoundary.OPEN;
+			intervals[locIndex] = new AIcVersionInterval(AInIntervalBoundary.CLOSED, locBounds[0],
+					locRightBoundary, locBounds[1], scheme);
+		}
+	}
+
+	@Benchmark
+	public boolean contains() {
+		int locIndex = index++ & AInVersionBenchmarkCorpus.MASK;
+		return intervals[locIndex].contains(probes[locIndex], scheme);
+	}
+
+	@Benchmark
+	public AIcVersionInterval tryIntersect() {
+		int locIndex = index++ & AInVersionBenchmarkCorpus.MASK;
+		return intervals[locIndex].tryIntersect(intervals[(locIndex + 1) & AInVersionBenchmarkCorpus.MASK], scheme);
+	}
+}
@@ -0,0 +1,57 @@
+package eu.algites.lib.common.version;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Title: {@link AIcVersionParsingBenchmark}
+ * </p>
+ * <p>
+ * Description: Benchmarks of {@link AIsVersionTokenizer#tokenize(String)} and {@link AIcVersion} construction.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AIcVersionParsingBenchmark {
+
+	@Param
+	public AInVersionBenchmarkCorpus corpus;
+
+	private String[] texts;
+	private int index;
+
+	@Setup
+	public void setUp() {
+		texts = corpus.texts();
+	}
+
+	@Benchmark
+	public List<AIcVersionToken> tokenize() {
+		return AIsVersionTokenizer.tokenize(texts[index++ & AInVersionBenchmarkCorpus.MASK]);
+	}
+
+	@Benchmark
+	public AIcVersion construct() {
+		return new AIcVersion(texts[index++ & AInVersionBenchmarkCorpus.MASK]);
+	}
+}
@@ -0,0 +1,103 @@
+package eu.algites.lib.common.version;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * <p>
+ * Title: {@link AInVersionBenchmarkCorpus}
+ * </p>
+ * <p>
+ * Description: Version corpora bundled with the benchmarks, each with the scheme natural for its ecosystem.
+ * </p>
+ * <p>
+ * The texts are cycled by the benchmarks; {@link #SIZE} is a power of two so that the index can be masked.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public enum AInVersionBenchmarkCorpus {
+
+	MAVEN_CENTRAL("maven-central.txt", AInBuiltinVersionScheme.MAVEN_DEFAULT),
+
+	NPM("npm.txt", AInBuiltinVersionScheme.SEMVER_DEFAULT),
+
+	CALVER("calver.txt", AInBuiltinVersionScheme.CALVER_DEFAULT);
+
+	/**
+	 * Number of texts returned by {@link #texts()}.
+	 */
+	public static final int SIZE = 1024;
+
+	/**
+	 * Mask of an index cycling over {@link #texts()}.
+	 */
+	public static final int MASK = SIZE - 1;
+
+	private final String resourceName;
+	private final AIiVersionScheme naturalScheme;
+
+	AInVersionBenchmarkCorpus(final String aResourceName, final AIiVersionScheme aNaturalScheme) {
+		resourceName = aResourceName;
+		naturalScheme = aNaturalScheme;
+	}
+
+	/**
+	 * @return scheme used by the ecosystem of the corpus
+	 */
+	public AIiVersionScheme getNaturalScheme() {
+		return naturalScheme;
+	}
+
+	/**
+	 * @return {@link #SIZE} texts of the corpus (repeated if the corpus is smaller), in file order
+	 */
+	public String[] texts() {
+		List<String> locLines = load();
+		String[] locTexts = new String[SIZE];
+		for (int locIndex = 0; locIndex < SIZE; locIndex++) {
+			locTexts[locIndex] = locLines.get(locIndex % locLines.size());
+		}
+		return locTexts;
+	}
+
+	/**
+	 * @param aSeed seed of the shuffle
+	 * @return {@link #SIZE} parsed versions of the corpus in a shuffled order
+	 */
+	public AIcVersion[] shuffledVersions(final long aSeed) {
+		List<String> locTexts = new ArrayList<>(List.of(texts()));
+		Collections.shuffle(locTexts, new Random(aSeed));
+		return locTexts.stream().map(AIcVersion::new).toArray(AIcVersion[]::new);
+	}
+
+	private List<String> load() {
+		try (InputStream locStream = Objects.requireNonNull(AInVersionBenchmarkCorpus.class.getResourceAsStream(resourceName),
+				"Missing resource " + resourceName);
+				BufferedReader locReader = new BufferedReader(new InputStreamReader(locStream, StandardCharsets.UTF_8))) {
+			List<String> locLines = new ArrayList<>();
+			String locLine;
+			while ((locLine = locReader.readLine()) != null) {
+				if (!locLine.isBlank() && !locLine.startsWith("#")) {
+					locLines.add(locLine.trim());
+				}
+			}
+			if (locLines.isEmpty()) {
+				throw new IllegalStateException("Empty corpus " + resourceName);
+			}
+			return locLines;
+		} catch (IOException locException) {
+			throw new UncheckedIOException(locException);
+		}
+	}
+}
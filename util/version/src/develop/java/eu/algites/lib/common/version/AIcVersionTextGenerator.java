@@ -0,0 +1,221 @@
+package eu.algites.lib.common.version;
+
+import jakarta.annotation.Nonnull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Predicate;
+
+/**
+ * <p>
+ * Title: {@link AIcVersionTextGenerator}
+ * </p>
+ * <p>
+ * Description: Seeded generator of version texts for property and differential tests of version comparators.
+ * </p>
+ * <p>
+ * Texts are either generated from a small grammar (numbers, well-known and random qualifiers, separators)
+ * or derived from the corpus ({@code version-corpus.txt}) by mutating single components, so that
+ * the generated pairs frequently share prefixes and hit the interesting comparison branches.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public class AIcVersionTextGenerator {
+
+	public static final String CORPUS_RESOURCE = "version-corpus.txt";
+
+	private static final String[] QUALIFIERS = {
+			"SNAPSHOT", "snapshot", "alpha", "a", "beta", "b", "milestone", "M", "m", "rc", "RC", "cr", "CR",
+			"ga", "GA", "final", "Final", "release", "sp", "SP", "dev", "post", "jre", "android", "x", "z"
+	};
+
+	private static final String[] SEPARATORS = {".", ".", ".", "-", "-", "_", "+", "~", "--", ".-"};
+
+	@Nonnull
+	private final Random random;
+
+	@Nonnull
+	private final List<String> corpus;
+
+	/**
+	 * @param aSeed seed of the generator; the same seed always yields the same sequence
+	 */
+	public AIcVersionTextGenerator(final long aSeed) {
+		random = new Random(aSeed);
+		corpus = loadCorpus();
+	}
+
+	/**
+	 * @return the corpus texts (read-only)
+	 */
+	@Nonnull
+	public List<String> getCorpus() {
+		return corpus;
+	}
+
+	/**
+	 * @return next generated version text
+	 */
+	@Nonnull
+	public String nextText() {
+		int locKind = random.nextInt(10);
+		if (locKind < 3) {
+			return corpus.get(random.nextInt(corpus.size()));
+		}
+		if (locKind < 6) {
+			return mutate(corpus.get(random.nextInt(corpus.size())));
+		}
+		return generate();
+	}
+
+	/**
+	 * @return next generated version
+	 */
+	@Nonnull
+	public AIcVersion nextVersion() {
+		return new AIcVersion(nextText());
+	}
+
+	/**
+	 * @param aCount number of versions
+	 * @return list of generated versions
+	 */
+	@Nonnull
+	public List<AIcVersion> nextVersions(final int aCount) {
+		return nextVersions(aCount, aK -> true);
+	}
+
+	/**
+	 * @param aCount number of versions
+	 * @param aDomain filter restricting the generated texts to the domain of the tested comparator
+	 * @return list of generated versions
+	 */
+	@Nonnull
+	public List<AIcVersion> nextVersions(final int aCount, @Nonnull final Predicate<? super String> aDomain) {
+		Objects.requireNonNull(aDomain, "Domain must not be null");
+		List<AIcVersion> locVersions = new ArrayList<>(aCount);
+		while (locVersions.size() < aCount) {
+			String locText = nextText();
+			if (aDomain.test(locText)) {
+				locVersions.add(new AIcVersion(locText));
+			}
+		}
+		return locVersions;
+	}
+
+	@Nonnull
+	private String generate() {
+		StringBuilder locBuilder = new StringBuilder();
+		int locComponents = 1 + random.nextInt(6);
+		for (int locIndex = 0; locIndex < locComponents; locIndex++) {
+			if (locIndex > 0) {
+				locBuilder.append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+			}
+			appendComponent(locBuilder);
+		}
+		return locBuilder.toString();
+	}
+
+	private void appendComponent(@Nonnull final StringBuilder aBuilder) {
+		int locKind = random.nextInt(12);
+		if (locKind < 6) {
+			aBuilder.append(nextNumber());
+		} else if (locKind < 9) {
+			aBuilder.append(QUALIFIERS[random.nextInt(QUALIFIERS.length)]);
+		} else if (locKind < 10) {
+			aBuilder.append(QUALIFIERS[random.nextInt(QUALIFIERS.length)]).append(nextNumber());
+		} else if (locKind < 11) {
+			aBuilder.append(nextNumber()).append(QUALIFIERS[random.nextInt(QUALIFIERS.length)]);
+		} else {
+			int locLength = 1 + random.nextInt(4);
+			for (int locIndex = 0; locIndex < locLength; locIndex++) {
+				aBuilder.append((char) ('a' + random.nextInt(26)));
+			}
+		}
+	}
+
+	@Nonnull
+	private String nextNumber() {
+		int locKind = random.nextInt(20);
+		if (locKind < 12) {
+			return Integer.toString(random.nextInt(4));
+		}
+		if (locKind < 16) {
+			return Integer.toString(random.nextInt(100));
+		}
+		if (locKind < 17) {
+			return "0" + random.nextInt(10);
+		}
+		if (locKind < 18) {
+			return Long.toString(random.nextLong() & Long.MAX_VALUE);
+		}
+		if (locKind < 19) {
+			return "20" + (10 + random.nextInt(20)) + String.format("%02d", 1 + random.nextInt(12));
+		}
+		/* overflows long */
+		return "9" + Long.toString(random.nextLong() & Long.MAX_VALUE);
+	}
+
+	@Nonnull
+	private String mutate(@Nonnull final String aText) {
+		StringBuilder locBuilder = new StringBuilder(aText);
+		int locMutations = 1 + random.nextInt(2);
+		for (int locIndex = 0; locIndex < locMutations; locIndex++) {
+			int locKind = random.nextInt(5);
+			int locPosition = locBuilder.isEmpty() ? 0 : random.nextInt(locBuilder.length() + 1);
+			switch (locKind) {
+				case 0 -> {
+					/* append a component */
+					locBuilder.append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+					appendComponent(locBuilder);
+				}
+				case 1 -> {
+					/* drop the tail */
+					locBuilder.setLength(Math.max(1, locPosition));
+				}
+				case 2 -> {
+					/* change a digit */
+					for (int locScan = 0; locScan < locBuilder.length(); locScan++) {
+						int locAt = (locPosition + locScan) % locBuilder.length();
+						if (Character.isDigit(locBuilder.charAt(locAt))) {
+							locBuilder.setCharAt(locAt, (char) ('0' + random.nextInt(10)));
+							break;
+						}
+					}
+				}
+				case 3 -> locBuilder.insert(locPosition, SEPARATORS[random.nextInt(SEPARATORS.length)]);
+				default -> locBuilder.insert(locPosition, QUALIFIERS[random.nextInt(QUALIFIERS.length)]);
+			}
+		}
+		return locBuilder.toString();
+	}
+
+	@Nonnull
+	private static List<String> loadCorpus() {
+		try (InputStream locStream = Objects.requireNonNull(AIcVersionTextGenerator.class.getResourceAsStream(CORPUS_RESOURCE),
+				"Missing resource " + CORPUS_RESOURCE);
+				BufferedReader locReader = new BufferedReader(new InputStreamReader(locStream, StandardCharsets.UTF_8))) {
+			List<String> locCorpus = new ArrayList<>();
+			String locLine;
+			while ((locLine = locReader.readLine()) != null) {
+				String locText = locLine.trim();
+				if (!locText.isEmpty() && !locText.startsWith("#")) {
+					locCorpus.add(locText);
+				}
+			}
+			return List.copyOf(locCorpus);
+		} catch (IOException locException) {
+			throw new UncheckedIOException(locException);
+		}
+	}
+}
@@ -0,0 +1,151 @@
+package eu.algites.lib.common.version;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import org.testng.Assert;
+
+/**
+ * <p>
+ * Title: {@link AIsVersionComparatorChecks}
+ * </p>
+ * <p>
+ * Description: Property and differential checks for version comparators.
+ * </p>
+ * <p>
+ * {@link #checkTotalPreorder(String, Comparator, List)} verifies reflexivity, antisymmetry and transitivity
+ * on all pairs and triples of a sample. {@link #checkAgreement(String, Comparator, Comparator, AIcVersionTextGenerator, long)}
+ * verifies that a candidate (typically an optimized fast path) returns the same sign as the reference
+ * comparator for every generated pair.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public final class AIsVersionComparatorChecks {
+
+	private AIsVersionComparatorChecks() {
+		/* utility class */
+	}
+
+	/**
+	 * Checks that the comparator is a total preorder on the sample.
+	 *
+	 * @param aName name used in failure messages (should contain the seed)
+	 * @param aComparator comparator to check
+	 * @param aSample sample of versions
+	 */
+	public static void checkTotalPreorder(
+			@Nonnull final String aName,
+			@Nonnull final Comparator<? super AIcVersion> aComparator,
+			@Nonnull final List<AIcVersion> aSample
+	) {
+		Objects.requireNonNull(aComparator, "Comparator must not be null");
+		int locSize = aSample.size();
+		int[][] locSigns = new int[locSize][locSize];
+		for (int locLeft = 0; locLeft < locSize; locLeft++) {
+			for (int locRight = 0; locRight < locSize; locRight++) {
+				locSigns[locLeft][locRight] = Integer.signum(aComparator.compare(aSample.get(locLeft), aSample.get(locRight)));
+			}
+		}
+
+		for (int locLeft = 0; locLeft < locSize; locLeft++) {
+			if (locSigns[locLeft][locLeft] != 0) {
+				Assert.fail(aName + ": not reflexive for '" + aSample.get(locLeft) + "'");
+			}
+			for (int locRight = locLeft + 1; locRight < locSize; locRight++) {
+				if (locSigns[locLeft][locRight] != -locSigns[locRight][locLeft]) {
+					Assert.fail(aName + ": not antisymmetric for '" + aSample.get(locLeft) + "' and '" + aSample.get(locRight) + "'");
+				}
+			}
+		}
+
+		for (int locFirst = 0; locFirst < locSize; locFirst++) {
+			int[] locFirstSigns = locSigns[locFirst];
+			for (int locSecond = 0; locSecond < locSize; locSecond++) {
+				int locFirstToSecond = locFirstSigns[locSecond];
+				if (locFirstToSecond > 0) {
+					continue;
+				}
+				int[] locSecondSigns = locSigns[locSecond];
+				for (int locThird = 0; locThird < locSize; locThird++) {
+					int locSecondToThird = locSecondSigns[locThird];
+					if (locSecondToThird > 0) {
+						continue;
+					}
+					/* a <= b and b <= c: a < c unless both relations are equalities */
+					int locExpected = locFirstToSecond == 0 && locSecondToThird == 0 ? 0 : -1;
+					if (locFirstSigns[locThird] != locExpected) {
+						Assert.fail(aName + ": not transitive for '" + aSample.get(locFirst) + "' " + relation(locFirstToSecond)
+								+ " '" + aSample.get(locSecond) + "' " + relation(locSecondToThird) + " '" + aSample.get(locThird)
+								+ "', but first " + relation(locFirstSigns[locThird]) + " third");
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks that the candidate agrees with the reference on generated pairs.
+	 * If the reference throws, the candidate must throw an exception of the same class.
+	 *
+	 * @param aName name used in failure messages (should contain the seed)
+	 * @param aReference reference comparator
+	 * @param aCandidate candidate comparator
+	 * @param aGenerator generator of the compared versions
+	 * @param aPairCount number of pairs to compare
+	 */
+	public static void checkAgreement(
+			@Nonnull final String aName,
+			@Nonnull final Comparator<? super AIcVersion> aReference,
+			@Nonnull final Comparator<? super AIcVersion> aCandidate,
+			@Nonnull final AIcVersionTextGenerator aGenerator,
+			final long aPairCount
+	) {
+		Objects.requireNonNull(aReference, "Reference must not be null");
+		Objects.requireNonNull(aCandidate, "Candidate must not be null");
+		for (long locPair = 0; locPair < aPairCount; locPair++) {
+			AIcVersion locLeft = aGenerator.nextVersion();
+			AIcVersion locRight = aGenerator.nextVersion();
+			checkAgreement(aName, aReference, aCandidate, locLeft, locRight);
+			checkAgreement(aName, aReference, aCandidate, locRight, locLeft);
+		}
+	}
+
+	private static void checkAgreement(
+			@Nonnull final String aName,
+			@Nonnull final Comparator<? super AIcVersion> aReference,
+			@Nonnull final Comparator<? super AIcVersion> aCandidate,
+			@Nonnull final AIcVersion aLeft,
+			@Nonnull final AIcVersion aRight
+	) {
+		int locExpected;
+		try {
+			locExpected = Integer.signum(aReference.compare(aLeft, aRight));
+		} catch (RuntimeException locReferenceException) {
+			try {
+				aCandidate.compare(aLeft, aRight);
+			} catch (RuntimeException locCandidateException) {
+				if (locCandidateException.getClass() == locReferenceException.getClass()) {
+					return;
+				}
+			}
+			Assert.fail(aName + ": reference throws " + locReferenceException + " for '" + aLeft + "' and '" + aRight
+					+ "', candidate does not throw the same exception");
+			return;
+		}
+		int locActual = Integer.signum(aCandidate.compare(aLeft, aRight));
+		if (locActual != locExpected) {
+			Assert.fail(aName + ": '" + aLeft + "' " + relation(locExpected) + " '" + aRight
+					+ "' by the reference, but " + relation(locActual) + " by the candidate");
+		}
+	}
+
+	@Nonnull
+	private static String relation(final int aSign) {
+		return aSign < 0 ? "<" : aSign > 0 ? ">" : "==";
+	}
+}
@@ -1,5 +1,8 @@
 package eu.algites.lib.common.version;
 
+import java.nio.CharBuffer;
+import java.util.List;
+
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -60,4 +63,69 @@ public class AItcVersionCodecTest {
 		String locNormalizedWithQualifier = locScheme.versionCodec().normalizeVersionText("1.2.3-rc1+7", locScheme);
 		Assert.assertEquals(locNormalizedWithQualifier, "1.2.3-rc1.build.7", "Build part must be appended as additional qualifier token");
 	}
+
+	@Test
+	public void testNormalizeToMatchesNormalizeVersionText() {
+		AIiVersionScheme locScheme = new AIcCustomVersionScheme(
+				"custom-map-build-append",
+				new AIcSemverLikeVersionComparator(),
+				new AIcCustomVersionStructure("custom-map-build-append-structure", true,
+						"+",
+						AInVersionBuildComparisonPolicy.IGNORE),
+				AInBuiltinVersionFormat.MAP_BUILD_TO_QUALIFIER,
+				AIcDefaultVersionCodec.INSTANCE
+		);
+
+		for (String locText : List.of("1.2.3", " 1.2.3+7 ", "1.2.3-rc1+7", "1.2.3+", "\t2.0\n")) {
+			StringBuilder locBuilder = new StringBuilder("> ");
+			locScheme.versionCodec().normalizeTo(locText, locScheme, locBuilder);
+			Assert.assertEquals(locBuilder.toString(), "> " + locScheme.versionCodec().normalizeVersionText(locText, locScheme),
+					"Appended output must match the string result for '" + locText + "'");
+		}
+
+		StringBuilder locBuilder = new StringBuilder();
+		locScheme.versionCodec().normalizeTo(CharBuffer.wrap("x 1.2.3+7 x"), locScheme, locBuilder);
+		Assert.assertEquals(locBuilder.toString(), "x 1.2.3-build.7 x", "Non-string char sequences must be formatted in place");
+	}
+
+	@Test
+	public void testFormattingUsesSplitOfStructure() {
+		/* the build is the part after the last delimiter */
+		AIiVersionStructure locStructure = new AIiVersionStructure() {
+			@Override
+			public String code() {
+				return "last-plus-structure";
+			}
+
+			@Override
+			public String buildDelimiter() {
+				return "+";
+			}
+
+			@Override
+			public AIiVersionSchemeTextParts splitVersionAndBuildText(final String aVersionText) {
+				int locIndex = aVersionText.lastIndexOf('+');
+				return locIndex < 0 ? new AIrVersionSchemeTextParts(aVersionText, "")
+						: new AIrVersionSchemeTextParts(aVersionText.substring(0, locIndex), aVersionText.substring(locIndex + 1));
+			}
+		};
+		AIiVersionScheme locScheme = new AIcCustomVersionScheme("last-plus", new AIcSemverLikeVersionComparator(), locStructure,
+				AInBuiltinVersionFormat.MAP_BUILD_TO_QUALIFIER, AIcDefaultVersionCodec.INSTANCE);
+
+		Assert.assertEquals(locScheme.versionCodec().normalizeVersionText("1.2.3+a+7", locScheme), "1.2.3+a-build.7",
+				"Overridden split must be used by the string formatting");
+		StringBuilder locBuilder = new StringBuilder();
+		locScheme.versionCodec().normalizeTo(" 1.2.3+a+7 ", locScheme, locBuilder);
+		Assert.assertEquals(locBuilder.toString(), "1.2.3+a-build.7", "Overridden split must be used by the appending formatting");
+	}
+
+	@Test
+	public void testNormalizeAllKeepsInputOrder() {
+		AIiVersionScheme locScheme = AInBuiltinVersionScheme.SEMVER_DEFAULT;
+
+		StringBuilder locBuilder = new StringBuilder();
+		locScheme.versionCodec().normalizeAll(List.of("2.0.0", " 1.0.0+b1", "1.5.0 "), locScheme, locBuilder);
+
+		Assert.assertEquals(locBuilder.toString(), "2.0.0\n1.0.0+b1\n1.5.0\n", "Each version must be written on its own line in input order");
+	}
 }
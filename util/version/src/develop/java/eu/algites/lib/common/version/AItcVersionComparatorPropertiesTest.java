@@ -0,0 +1,177 @@
+package eu.algites.lib.common.version;
+
+import java.math.BigInteger;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <p>
+ * Title: {@link AItcVersionComparatorPropertiesTest}
+ * </p>
+ * <p>
+ * Description: Generator driven property and differential tests of the version comparators.
+ * </p>
+ * <p>
+ * The amount of work is controlled by the system properties {@value #PAIRS_PROPERTY} (default {@value #DEFAULT_PAIRS}
+ * compared pairs per check) and {@value #SEED_PROPERTY}; failures report the seed so that they can be replayed.
+ * Optimized comparators should be added to {@link #testCandidatesAgreeWithReferences()} against their reference.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public class AItcVersionComparatorPropertiesTest {
+
+	public static final String PAIRS_PROPERTY = "algites.version.comparator.pairs";
+	public static final String SEED_PROPERTY = "algites.version.comparator.seed";
+
+	private static final long DEFAULT_PAIRS = 200_000L;
+	private static final long DEFAULT_SEED = 20261019L;
+	private static final int SAMPLE_SIZE = 150;
+
+	private static final Pattern NUMERIC_RUN = Pattern.compile("[0-9]+");
+
+	private static final long PAIRS = Long.getLong(PAIRS_PROPERTY, DEFAULT_PAIRS);
+	private static final long SEED = Long.getLong(SEED_PROPERTY, DEFAULT_SEED);
+
+	private static final AIcBuildAwareVersionComparator BUILD_AFTER_PLUS = new AIcBuildAwareVersionComparator(
+			new AIcMavenLikeVersionComparator(), "+", true, AInVersionBuildComparisonPolicy.TOKEN_COMPARE);
+
+	/** Builds appended to the equal versions, including the missing one and one without tokens */
+	private static final String[] BUILDS = {"", "+", "+-", "+1", "+2", "+10", "+01", "+b7", "+B7", "+b10", "+1.rc", "+1-rc-2", "+rc"};
+
+	private static final Pattern BUILD_TOKEN_SEPARATOR = Pattern.compile("[^A-Za-z0-9]+");
+
+	/**
+	 * Texts for which the CalVer-like comparator extracts numeric parts. Across this boundary it falls back
+	 * to the Maven-like order, which is not transitive together with the numeric order
+	 * (e.g. {@code 1.0.0 < rc-3 < final}, but {@code 1.0.0 > final}), so the property is checked within it only.
+	 */
+	private static boolean isCalverDomain(final String aText) {
+		Matcher locMatcher = NUMERIC_RUN.matcher(aText);
+		int locRuns = 0;
+		while (locRuns < 3 && locMatcher.find()) {
+			if (locMatcher.end() - locMatcher.start() > 18) {
+				return false;
+			}
+			locRuns++;
+		}
+		return locRuns > 0;
+	}
+
+	private static void checkTotalPreorder(final String aName, final Comparator<? super AIcVersion> aComparator) {
+		checkTotalPreorder(aName, aComparator, aK -> true);
+	}
+
+	private static void checkTotalPreorder(final String aName, final Comparator<? super AIcVersion> aComparator,
+			final Predicate<? super String> aDomain) {
+		AIcVersionTextGenerator locGenerator = new AIcVersionTextGenerator(SEED);
+		String locName = aName + " [seed " + SEED + "]";
+
+		AIsVersionComparatorChecks.checkTotalPreorder(locName, aComparator,
+				locGenerator.getCorpus().stream().filter(aDomain).map(AIcVersion::new).toList());
+
+		long locRounds = Math.max(1L, PAIRS / ((long) SAMPLE_SIZE * SAMPLE_SIZE));
+		for (long locRound = 0; locRound < locRounds; locRound++) {
+			AIsVersionComparatorChecks.checkTotalPreorder(locName, aComparator, locGenerator.nextVersions(SAMPLE_SIZE, aDomain));
+		}
+	}
+
+	/**
+	 * Reference of {@link #BUILD_AFTER_PLUS}: the texts before the first {@code +} are compared Maven-like, then
+	 * a missing build precedes any build and the builds are compared by their alphanumeric tokens, numbers before texts.
+	 */
+	private static int compareBuildAfterPlus(final AIcVersion aLeft, final AIcVersion aRight) {
+		String[] locLeft = aLeft.getOriginalText().split("\\+", 2);
+		String[] locRight = aRight.getOriginalText().split("\\+", 2);
+		int locCmp = AIsVersionComparator.compareMavenLike(new AIcVersion(locLeft[0]), new AIcVersion(locRight[0]));
+		if (locCmp != 0) {
+			return locCmp;
+		}
+		String locLeftBuild = locLeft.length > 1 ? locLeft[1] : "";
+		String locRightBuild = locRight.length > 1 ? locRight[1] : "";
+		if (locLeftBuild.isEmpty() || locRightBuild.isEmpty()) {
+			return Boolean.compare(!locLeftBuild.isEmpty(), !locRightBuild.isEmpty());
+		}
+		List<String> locLeftTokens = BUILD_TOKEN_SEPARATOR.splitAsStream(locLeftBuild).filter(aK -> !aK.isEmpty()).toList();
+		List<String> locRightTokens = BUILD_TOKEN_SEPARATOR.splitAsStream(locRightBuild).filter(aK -> !aK.isEmpty()).toList();
+		for (int locIndex = 0; locIndex < Math.min(locLeftTokens.size(), locRightTokens.size()); locIndex++) {
+			String locLeftToken = locLeftTokens.get(locIndex);
+			String locRightToken = locRightTokens.get(locIndex);
+			boolean locLeftNumeric = locLeftToken.chars().allMatch(Character::isDigit);
+			boolean locRightNumeric = locRightToken.chars().allMatch(Character::isDigit);
+			if (locLeftNumeric != locRightNumeric) {
+				return locLeftNumeric ? -1 : 1;
+			}
+			locCmp = locLeftNumeric ? new BigInteger(locLeftToken).compareTo(new BigInteger(locRightToken))
+					: locLeftToken.compareToIgnoreCase(locRightToken);
+			if (locCmp != 0) {
+				return locCmp;
+			}
+		}
+		return Integer.compare(locLeftTokens.size(), locRightTokens.size());
+	}
+
+	private static void checkAgreement(final String aName, final Comparator<? super AIcVersion> aReference,
+			final Comparator<? super AIcVersion> aCandidate) {
+		AIsVersionComparatorChecks.checkAgreement(aName + " [seed " + SEED + "]", aReference, aCandidate,
+				new AIcVersionTextGenerator(SEED), PAIRS);
+	}
+
+	@Test
+	public void testMavenLikeIsTotalPreorder() {
+		checkTotalPreorder("compareMavenLike", AIsVersionComparator::compareMavenLike);
+	}
+
+	@Test
+	public void testSemverLikeIsTotalPreorder() {
+		checkTotalPreorder("compareSemverLike", AIsVersionComparator::compareSemverLike);
+	}
+
+	@Test
+	public void testCalverLikeIsTotalPreorder() {
+		checkTotalPreorder("calver-like", new AIcCalverLikeVersionComparator(), AItcVersionComparatorPropertiesTest::isCalverDomain);
+	}
+
+	@Test
+	public void testBuiltinSchemeComparatorsAreTotalPreorders() {
+		for (AInBuiltinVersionScheme locScheme : AInBuiltinVersionScheme.values()) {
+			if (locScheme == AInBuiltinVersionScheme.CALVER_DEFAULT) {
+				checkTotalPreorder(locScheme.name(), locScheme.versionComparator(), AItcVersionComparatorPropertiesTest::isCalverDomain);
+			} else {
+				checkTotalPreorder(locScheme.name(), locScheme.versionComparator());
+			}
+		}
+	}
+
+	@Test
+	public void testCandidatesAgreeWithReferences() {
+		checkAgreement("maven-like comparator", AIsVersionComparator::compareMavenLike, new AIcMavenLikeVersionComparator());
+		checkAgreement("semver-like comparator", AIsVersionComparator::compareSemverLike, new AIcSemverLikeVersionComparator());
+		checkAgreement("AIcVersion natural order", AInBuiltinVersionScheme.MAVEN_DEFAULT.versionComparator(), Comparator.naturalOrder());
+		checkAgreement("build-aware comparator ordering build", AItcVersionComparatorPropertiesTest::compareBuildAfterPlus, BUILD_AFTER_PLUS);
+	}
+
+	@Test
+	public void testBuildAwareComparatorOrdersBuildsOfEqualVersions() {
+		AIcVersionTextGenerator locGenerator = new AIcVersionTextGenerator(SEED);
+		for (int locIndex = 0; locIndex < SAMPLE_SIZE; locIndex++) {
+			String locVersionText = locGenerator.nextVersion().getOriginalText().replace("+", ".");
+			for (String locLeftBuild : BUILDS) {
+				for (String locRightBuild : BUILDS) {
+					AIcVersion locLeft = new AIcVersion(locVersionText + locLeftBuild);
+					AIcVersion locRight = new AIcVersion(locVersionText + locRightBuild);
+					Assert.assertEquals(Integer.signum(BUILD_AFTER_PLUS.compare(locLeft, locRight)),
+							Integer.signum(compareBuildAfterPlus(locLeft, locRight)),
+							"'" + locLeft + "' and '" + locRight + "' must be ordered by the build [seed " + SEED + "]");
+				}
+			}
+		}
+	}
+}
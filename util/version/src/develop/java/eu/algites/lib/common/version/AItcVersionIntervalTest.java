@@ -1,6 +1,7 @@
 package eu.algites.lib.common.version;
 
 import eu.algites.lib.common.interval.AInIntervalBoundary;
+import eu.algites.lib.common.interval.AIsIntervalUtils;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -141,4 +142,30 @@ public class AItcVersionIntervalTest {
 				locScheme
 		);
 	}
+
+	@Test
+	public void testParseUsingSemverScheme() {
+		AIiVersionScheme locScheme = AInBuiltinVersionScheme.SEMVER_DEFAULT;
+
+		AIcVersionInterval locInterval = AIcVersionInterval.parse("[1.0.0, 2.0.0)", locScheme);
+
+		Assert.assertEquals(
+				AIsIntervalUtils.toStringRepresentation(locInterval),
+				"[1.0.0, 2.0.0)",
+				"Parsed interval must be written back unchanged"
+		);
+		Assert.assertTrue(
+				locInterval.contains(new AIcVersion("1.10.0"), locScheme),
+				"Parsed interval must compare versions by the scheme"
+		);
+		Assert.assertEquals(
+				AIcVersionInterval.parse("(*, 1.2.0]", locScheme).getLeftBoundary(),
+				AInIntervalBoundary.UNBOUNDED,
+				"Unbounded left endpoint must be parsed"
+		);
+		Assert.expectThrows(
+				IllegalArgumentException.class,
+				() -> AIcVersionInterval.parse("[2.0.0, 1.10.0]", locScheme)
+		);
+	}
 }
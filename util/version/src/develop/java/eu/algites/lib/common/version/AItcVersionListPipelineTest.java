@@ -0,0 +1,124 @@
+package eu.algites.lib.common.version;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <p>
+ * Title: {@link AItcVersionListPipelineTest}
+ * </p>
+ * <p>
+ * Description: TestNG tests for {@link AIcVersionListPipeline}.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public class AItcVersionListPipelineTest {
+
+	private static final AIiVersionScheme SCHEME = new AIcCustomVersionScheme(
+			"pipeline-omit-build",
+			new AIcMavenLikeVersionComparator(),
+			new AIcCustomVersionStructure("pipeline-omit-build-structure", true,
+					"+",
+					AInVersionBuildComparisonPolicy.IGNORE),
+			AInBuiltinVersionFormat.OMIT_BUILD,
+			AIcDefaultVersionCodec.INSTANCE
+	);
+
+	@Test
+	public void testNormalizeKeepsLineOrderAcrossChunks() throws IOException {
+		List<String> locLines = new ArrayList<>();
+		StringBuilder locExpected = new StringBuilder();
+		for (int locIndex = 0; locIndex < 5_000; locIndex++) {
+			locLines.add(" 1." + locIndex + ".0+b" + locIndex + (locIndex % 3 == 0 ? "\r" : ""));
+			locExpected.append("1.").append(locIndex).append(".0\n");
+		}
+		Path locInput = Files.createTempFile("versions", ".txt");
+		Path locOutput = Files.createTempFile("versions", ".out");
+		try {
+			Files.write(locInput, locLines, StandardCharsets.UTF_8);
+
+			/* tiny chunks force many chunks and several lines longer than a chunk */
+			AIcVersionListPipeline locPipeline = new AIcVersionListPipeline(SCHEME, AIcVersionListPipeline.WHOLE_LINE, ',', false, 4, 7);
+			AIrVersionListResult locResult = locPipeline.normalize(locInput, locOutput);
+
+			Assert.assertEquals(locResult.lineCount(), 5_000L, "All lines must be processed");
+			Assert.assertEquals(Files.readString(locOutput), locExpected.toString(), "Output must be normalized and in input order");
+		} finally {
+			Files.deleteIfExists(locInput);
+			Files.deleteIfExists(locOutput);
+		}
+	}
+
+	@Test
+	public void testNormalizeSkipsUnparsableLines() throws IOException {
+		AIiVersionCodec locStrictCodec = new AIiVersionCodec() {
+			@Override
+			public AIcVersion parseVersion(final String aVersionText, final AIiVersionScheme aScheme) {
+				if (aVersionText.contains("!")) {
+					throw new IllegalArgumentException("Invalid version text: " + aVersionText);
+				}
+				return AIcDefaultVersionCodec.INSTANCE.parseVersion(aVersionText, aScheme);
+			}
+
+			@Override
+			public String formatVersionText(final AIcVersion aVersion, final AIiVersionScheme aScheme) {
+				return AIcDefaultVersionCodec.INSTANCE.formatVersionText(aVersion, aScheme);
+			}
+		};
+		AIiVersionScheme locScheme = new AIcCustomVersionScheme("pipeline-strict", new AIcMavenLikeVersionComparator(),
+				SCHEME.versionStructure(), AInBuiltinVersionFormat.OMIT_BUILD, locStrictCodec);
+		Path locInput = Files.createTempFile("versions", ".txt");
+		Path locOutput = Files.createTempFile("versions", ".out");
+		try {
+			Files.writeString(locInput, "1.0+b1\n2.!\n3.0\n", StandardCharsets.UTF_8);
+
+			AIrVersionListResult locResult = new AIcVersionListPipeline(locScheme, AIcVersionListPipeline.WHOLE_LINE, ',', false, 2, 4)
+					.normalize(locInput, locOutput);
+
+			Assert.assertEquals(locResult, new AIrVersionListResult(3, 1), "Unparsable line must be counted as rejected");
+			Assert.assertEquals(Files.readString(locOutput), "1.0\n\n3.0\n", "Unparsable line must produce an empty line");
+		} finally {
+			Files.deleteIfExists(locInput);
+			Files.deleteIfExists(locOutput);
+		}
+	}
+
+	@Test
+	public void testValidateCsvColumnReportsFileLineNumbers() throws IOException {
+		String locCsv = """
+				name,version,date
+				a,1.0.0,2024-01-01
+				b,"2.0.0+7",2024-01-02
+				c,,2024-01-03
+				d
+				e,"x""y",2024-01-05
+				""";
+		Path locInput = Files.createTempFile("versions", ".csv");
+		Path locOutput = Files.createTempFile("versions", ".out");
+		try {
+			Files.writeString(locInput, locCsv, StandardCharsets.UTF_8);
+
+			AIcVersionListPipeline locPipeline = new AIcVersionListPipeline(SCHEME, 1, ',', true, 2, 16);
+			AIrVersionListResult locResult = locPipeline.validate(locInput, locOutput,
+					aK -> !aK.getOriginalText().isEmpty() && Character.isDigit(aK.getOriginalText().charAt(0)));
+
+			Assert.assertEquals(locResult, new AIrVersionListResult(5, 3), "Header must be skipped and three lines rejected");
+			Assert.assertEquals(Files.readString(locOutput), "4\t\n5\t\n6\tx\"y\n", "Rejected lines must be reported with file line numbers");
+
+			locPipeline.normalize(locInput, locOutput);
+			Assert.assertEquals(Files.readString(locOutput), "1.0.0\n2.0.0\n\n\nx\"y\n", "Quoted columns must be unquoted before normalization");
+		} finally {
+			Files.deleteIfExists(locInput);
+			Files.deleteIfExists(locOutput);
+		}
+	}
+}
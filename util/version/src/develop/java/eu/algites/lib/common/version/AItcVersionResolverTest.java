@@ -0,0 +1,117 @@
+package eu.algites.lib.common.version;
+
+import eu.algites.lib.common.interval.AInIntervalBoundary;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <p>
+ * Title: {@link AItcVersionResolverTest}
+ * </p>
+ * <p>
+ * Description: TestNG tests for {@link AIcVersionResolver}.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public class AItcVersionResolverTest {
+
+	private static final AIiVersionScheme SCHEME = AInBuiltinVersionScheme.SEMVER_DEFAULT;
+
+	private static AIcVersionInterval range(final String aFrom, final String aTo) {
+		return new AIcVersionInterval(AInIntervalBoundary.CLOSED, new AIcVersion(aFrom), AInIntervalBoundary.OPEN, new AIcVersion(aTo), SCHEME);
+	}
+
+	private static AIcVersionInterval any() {
+		return new AIcVersionInterval(AInIntervalBoundary.UNBOUNDED, null, AInIntervalBoundary.UNBOUNDED, null, SCHEME);
+	}
+
+	private static List<AIcVersion> versions(final String... aTexts) {
+		return Arrays.stream(aTexts).map(AIcVersion::new).toList();
+	}
+
+	@Test
+	public void testSelectsHighestSatisfyingVersions() {
+		AIcVersionResolver locResolver = new AIcVersionResolver(SCHEME)
+				.registerVersions("app", versions("1.0.0", "1.1.0", "2.0.0"))
+				.registerVersions("lib", versions("1.0.0", "1.5.0", "1.10.0", "2.0.0"))
+				.registerDependency("app", new AIcVersion("1.1.0"), "lib", range("1.0.0", "2.0.0"));
+
+		Map<String, AIcVersion> locResult = locResolver.resolve(Map.of("app", range("1.0.0", "2.0.0")));
+
+		Assert.assertEquals(locResult.get("app"), new AIcVersion("1.1.0"), "Highest app version within the root range must be selected");
+		Assert.assertEquals(locResult.get("lib"), new AIcVersion("1.10.0"), "Highest lib version must be selected using the scheme ordering");
+	}
+
+	@Test
+	public void testDependenciesMatchEquivalentVersions() {
+		AIcVersionResolver locResolver = new AIcVersionResolver(SCHEME)
+				.registerVersions("app", versions("1.0.0"))
+				.registerVersions("lib", versions("1.0.0", "2.0.0"))
+				.registerDependency("app", new AIcVersion("1.0"), "lib", range("1.0.0", "2.0.0"));
+
+		Map<String, AIcVersion> locResult = locResolver.resolve(Map.of("app", any()));
+
+		Assert.assertEquals(locResult.get("lib"), new AIcVersion("1.0.0"), "Dependency registered for 1.0 must apply to the equal version 1.0.0");
+		Assert.expectThrows(NullPointerException.class, () -> locResolver.registerDependency("app", new AIcVersion("1.0.0"), null, any()));
+		Assert.expectThrows(NullPointerException.class, () -> locResolver.registerDependency("app", new AIcVersion("1.0.0"), "lib", null));
+	}
+
+	@Test
+	public void testBacktracksToLowerVersionOnConflict() {
+		AIcVersionResolver locResolver = new AIcVersionResolver(SCHEME)
+				.registerVersions("app", versions("1.0.0"))
+				.registerVersions("a", versions("1.0.0", "2.0.0"))
+				.registerVersions("b", versions("1.0.0"))
+				.registerVersions("c", versions("1.0.0", "2.0.0"))
+				.registerDependency("app", new AIcVersion("1.0.0"), "a", any())
+				.registerDependency("app", new AIcVersion("1.0.0"), "b", any())
+				.registerDependency("a", new AIcVersion("2.0.0"), "c", range("2.0.0", "3.0.0"))
+				.registerDependency("a", new AIcVersion("1.0.0"), "c", range("1.0.0", "3.0.0"))
+				.registerDependency("b", new AIcVersion("1.0.0"), "c", range("1.0.0", "2.0.0"));
+
+		Map<String, AIcVersion> locResult = locResolver.resolve(Map.of("app", any()));
+
+		Assert.assertEquals(locResult.get("a"), new AIcVersion("1.0.0"), "a must be downgraded because a:2.0.0 conflicts with b");
+		Assert.assertEquals(locResult.get("c"), new AIcVersion("1.0.0"), "c must satisfy both a and b");
+	}
+
+	@Test
+	public void testReportsConflictExplanation() {
+		AIcVersionResolver locResolver = new AIcVersionResolver(SCHEME)
+				.registerVersions("app", versions("1.0.0"))
+				.registerVersions("lib", versions("1.0.0", "2.0.0"))
+				.registerDependency("app", new AIcVersion("1.0.0"), "lib", range("2.0.0", "3.0.0"));
+
+		AIxVersionResolutionException locException = Assert.expectThrows(AIxVersionResolutionException.class,
+				() -> locResolver.resolve(Map.of("app", any(), "lib", range("1.0.0", "2.0.0"))));
+
+		Assert.assertEquals(locException.getConflict().packageName(), "lib", "Conflict must name the package without solution");
+		Assert.assertEquals(locException.getConflict().constraints().size(), 2, "Both constraints on lib must be explained");
+	}
+
+	@Test
+	public void testResolvesIndependentSubgraphs() {
+		AIcVersionResolver locResolver = new AIcVersionResolver(SCHEME);
+		Map<String, AIcVersionInterval> locRoots = new LinkedHashMap<>();
+		for (int locIndex = 0; locIndex < 50; locIndex++) {
+			locResolver.registerVersions("root" + locIndex, versions("1.0.0", "1.1.0"));
+			locResolver.registerVersions("dep" + locIndex, versions("0.9.0", "1.0.0", "1.2.0"));
+			locResolver.registerDependency("root" + locIndex, new AIcVersion("1.1.0"), "dep" + locIndex, range("1.0.0", "1.1.0"));
+			locRoots.put("root" + locIndex, any());
+		}
+
+		Map<String, AIcVersion> locParallel = locResolver.resolve(locRoots, true);
+		Map<String, AIcVersion> locSequential = locResolver.resolve(locRoots, false);
+
+		Assert.assertEquals(locParallel, locSequential, "Parallel and sequential resolution must agree");
+		Assert.assertEquals(locParallel.get("dep7"), new AIcVersion("1.0.0"), "Constraint of root7:1.1.0 must be honored");
+	}
+}
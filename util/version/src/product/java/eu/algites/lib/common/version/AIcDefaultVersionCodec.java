@@ -2,6 +2,7 @@ package eu.algites.lib.common.version;
 
 import jakarta.annotation.Nonnull;
 
+import java.io.IOException;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.Objects;
@@ -15,6 +16,8 @@ import java.util.Objects;
  * </p>
  * <p>
  * The codec is intentionally lightweight: it mainly trims input and delegates formatting to the formatter.
+ * When used with {@link AIcDefaultVersionFormatter}, {@link #normalizeTo(CharSequence, AIiVersionScheme, Appendable)}
+ * formats the trimmed region of the input directly, without creating an intermediate version.
  * </p>
  *
  * @author linhart1
@@ -52,4 +55,35 @@ public final class AIcDefaultVersionCodec implements AIiVersionCodec, Serializab
 		Objects.requireNonNull(aScheme, "Scheme must not be null");
 		return versionFormatter.formatVersionText(aVersion, aScheme);
 	}
+
+	@Override
+	public void formatTo(@Nonnull final AIcVersion aVersion, @Nonnull final AIiVersionScheme aScheme, @Nonnull final Appendable aTarget)
+			throws IOException {
+		Objects.requireNonNull(aVersion, "Version must not be null");
+		Objects.requireNonNull(aScheme, "Scheme must not be null");
+		versionFormatter.formatTo(aVersion, aScheme, aTarget);
+	}
+
+	@Override
+	public void normalizeTo(@Nonnull final CharSequence aVersionText, @Nonnull final AIiVersionScheme aScheme, @Nonnull final Appendable aTarget)
+			throws IOException {
+		Objects.requireNonNull(aVersionText, "Version text must not be null");
+		Objects.requireNonNull(aScheme, "Scheme must not be null");
+
+		if (!(versionFormatter instanceof AIcDefaultVersionFormatter locDefaultFormatter)) {
+			formatTo(parseVersion(aVersionText.toString(), aScheme), aScheme, aTarget);
+			return;
+		}
+
+		/* same region as String.trim() */
+		int locStart = 0;
+		int locEnd = aVersionText.length();
+		while (locStart < locEnd && aVersionText.charAt(locStart) <= ' ') {
+			locStart++;
+		}
+		while (locEnd > locStart && aVersionText.charAt(locEnd - 1) <= ' ') {
+			locEnd--;
+		}
+		locDefaultFormatter.formatTextTo(aVersionText, locStart, locEnd, aScheme, aTarget);
+	}
 }
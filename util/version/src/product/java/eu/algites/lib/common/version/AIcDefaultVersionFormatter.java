@@ -2,8 +2,10 @@ package eu.algites.lib.common.version;
 
 import jakarta.annotation.Nonnull;
 
+import java.io.IOException;
 import java.io.Serial;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.util.Objects;
 
 /**
@@ -13,6 +15,10 @@ import java.util.Objects;
  * <p>
  * Description: Default formatter using {@link AIiVersionStructure} and {@link AIiVersionFormat}.
  * </p>
+ * <p>
+ * {@link #formatTo(AIcVersion, AIiVersionScheme, Appendable)} appends the parts split by
+ * {@link AIiVersionStructure#splitVersionAndBuildText(String)} directly to the target, without building the formatted string.
+ * </p>
  *
  * @author linhart1
  * @date 28.01.26
@@ -34,17 +40,96 @@ public final class AIcDefaultVersionFormatter implements AIiVersionFormatter, Se
 		Objects.requireNonNull(aVersion, "Version must not be null");
 		Objects.requireNonNull(aScheme, "Scheme must not be null");
 
+		AIiVersionSchemeTextParts locParts = aScheme.versionStructure().splitVersionAndBuildText(aVersion.getOriginalText());
+		if (locParts.buildText().isEmpty() || aScheme.versionFormat().buildFormatPolicy() == AInVersionBuildFormatPolicy.OMIT) {
+			return locParts.versionText();
+		}
+
+		StringBuilder locBuilder = new StringBuilder(aVersion.getOriginalText().length() + 16);
+		try {
+			formatPartsTo(locParts, aScheme, locBuilder);
+		} catch (IOException locException) {
+			throw new UncheckedIOException(locException);
+		}
+		return locBuilder.toString();
+	}
+
+	@Override
+	public void formatTo(@Nonnull final AIcVersion aVersion, @Nonnull final AIiVersionScheme aScheme, @Nonnull final Appendable aTarget)
+			throws IOException {
+		Objects.requireNonNull(aVersion, "Version must not be null");
+		String locText = aVersion.getOriginalText();
+		formatTextTo(locText, 0, locText.length(), aScheme, aTarget);
+	}
+
+	/**
+	 * Formats the version text range for the given scheme and appends the result to the target.
+	 * <p>
+	 * The result is the same as {@link #formatVersionText(AIcVersion, AIiVersionScheme)} for a version
+	 * created from the given range.
+	 * </p>
+	 *
+	 * @param aVersionText text containing the version
+	 * @param aStart start index of the version (inclusive)
+	 * @param aEnd end index of the version (exclusive)
+	 * @param aScheme scheme providing structure and format rules
+	 * @param aTarget target the formatted text is appended to
+	 * @throws IOException if the target fails to append
+	 */
+	public void formatTextTo(
+			@Nonnull final CharSequence aVersionText,
+			final int aStart,
+			final int aEnd,
+			@Nonnull final AIiVersionScheme aScheme,
+			@Nonnull final Appendable aTarget
+	) throws IOException {
+		Objects.requireNonNull(aVersionText, "Version text must not be null");
+		Objects.requireNonNull(aScheme, "Scheme must not be null");
+		Objects.requireNonNull(aTarget, "Target must not be null");
+		Objects.checkFromToIndex(aStart, aEnd, aVersionText.length());
+
+		/* the split is left to the structure, which may override it */
+		formatPartsTo(aScheme.versionStructure().splitVersionAndBuildText(aVersionText.subSequence(aStart, aEnd).toString()), aScheme, aTarget);
+	}
+
+	/**
+	 * Formats the version text range for the given scheme and appends the result to the builder.
+	 *
+	 * @param aVersionText text containing the version
+	 * @param aStart start index of the version (inclusive)
+	 * @param aEnd end index of the version (exclusive)
+	 * @param aScheme scheme providing structure and format rules
+	 * @param aTarget builder the formatted text is appended to
+	 */
+	public void formatTextTo(
+			@Nonnull final CharSequence aVersionText,
+			final int aStart,
+			final int aEnd,
+			@Nonnull final AIiVersionScheme aScheme,
+			@Nonnull final StringBuilder aTarget
+	) {
+		try {
+			formatTextTo(aVersionText, aStart, aEnd, aScheme, (Appendable) aTarget);
+		} catch (IOException locException) {
+			throw new UncheckedIOException(locException);
+		}
+	}
+
+	private static void formatPartsTo(
+			@Nonnull final AIiVersionSchemeTextParts aParts,
+			@Nonnull final AIiVersionScheme aScheme,
+			@Nonnull final Appendable aTarget
+	) throws IOException {
 		AIiVersionStructure locStructure = aScheme.versionStructure();
 		AIiVersionFormat locFormat = aScheme.versionFormat();
 
-		AIiVersionSchemeTextParts locParts = aScheme.versionStructure().splitVersionAndBuildText(aVersion.getOriginalText());
-
-		String locVersionPart = locParts.versionText();
-		String locBuildPart = locParts.buildText();
+		String locVersionPart = aParts.versionText();
+		String locBuildPart = aParts.buildText();
 
 		AInVersionBuildFormatPolicy locBuildPolicy = locFormat.buildFormatPolicy();
 		if (locBuildPart.isEmpty() || locBuildPolicy == AInVersionBuildFormatPolicy.OMIT) {
-			return locVersionPart;
+			aTarget.append(locVersionPart);
+			return;
 		}
 
 		if (locBuildPolicy == AInVersionBuildFormatPolicy.EMIT) {
@@ -53,34 +138,24 @@ public final class AIcDefaultVersionFormatter implements AIiVersionFormatter, Se
 				throw new IllegalStateException("Build format policy EMIT requires a non-empty build delimiter");
 			}
 			if (locStructure.versionBeforeBuild()) {
-				return locVersionPart + locDelimiter + locBuildPart;
+				aTarget.append(locVersionPart).append(locDelimiter).append(locBuildPart);
+			} else {
+				aTarget.append(locBuildPart).append(locDelimiter).append(locVersionPart);
 			}
-			return locBuildPart + locDelimiter + locVersionPart;
+			return;
 		}
 
 		if (locBuildPolicy == AInVersionBuildFormatPolicy.MAP_TO_QUALIFIER) {
-			return mapBuildToQualifier(locVersionPart, locBuildPart, locFormat);
+			String locQualifierDelimiter = locFormat.qualifierDelimiter();
+			String locTokenDelimiter = locFormat.qualifierTokenDelimiter();
+			aTarget.append(locVersionPart)
+					.append(locVersionPart.contains(locQualifierDelimiter) ? locTokenDelimiter : locQualifierDelimiter)
+					.append(locFormat.mappedBuildPrefix())
+					.append(locTokenDelimiter)
+					.append(locBuildPart);
+			return;
 		}
 
 		throw new IllegalStateException("Unsupported build format policy: " + locBuildPolicy);
 	}
-
-	@Nonnull
-	private static String mapBuildToQualifier(
-			@Nonnull final String aVersionPart,
-			@Nonnull final String aBuildPart,
-			@Nonnull final AIiVersionFormat aFormat
-	) {
-		String locQualifierDelimiter = aFormat.qualifierDelimiter();
-		String locTokenDelimiter = aFormat.qualifierTokenDelimiter();
-		String locPrefix = aFormat.mappedBuildPrefix();
-
-		String locMapped = locPrefix + locTokenDelimiter + aBuildPart;
-
-		int locQualifierIndex = aVersionPart.indexOf(locQualifierDelimiter);
-		if (locQualifierIndex < 0) {
-			return aVersionPart + locQualifierDelimiter + locMapped;
-		}
-		return aVersionPart + locTokenDelimiter + locMapped;
-	}
 }
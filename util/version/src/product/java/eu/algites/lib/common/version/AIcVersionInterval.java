@@ -1,7 +1,11 @@
 package eu.algites.lib.common.version;
 
 import eu.algites.lib.common.interval.AIcInterval;
+import eu.algites.lib.common.interval.AIcIntervalParser;
+import eu.algites.lib.common.interval.AIiIntervalFactory;
+import eu.algites.lib.common.interval.AIiIntervalValueParser;
 import eu.algites.lib.common.interval.AInIntervalBoundary;
+import eu.algites.lib.common.interval.AIsIntervalUtils;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
@@ -29,6 +33,11 @@ import java.util.Objects;
  */
 public class AIcVersionInterval extends AIcInterval<AIcVersion> {
 
+	/* endpoints of an intersection are already ordered by the scheme comparator */
+	private static final AIiIntervalFactory<AIcVersion, AIcVersionInterval> VALIDATED_FACTORY =
+			(aLeftBoundary, aLeftValue, aRightBoundary, aRightValue) ->
+					new AIcVersionInterval(aLeftBoundary, aLeftValue, aRightBoundary, aRightValue, true);
+
 	/**
 	 * Creates a new version interval validated using {@link AIcVersion#compareTo(AIcVersion)} (default scheme).
 	 *
@@ -63,7 +72,50 @@ public class AIcVersionInterval extends AIcInterval<AIcVersion> {
 			@Nonnull final AIiVersionScheme aVersionScheme
 	) {
 		super(aLeftBoundary, aLeftValue, aRightBoundary, aRightValue, true);
-		validateIntervalUsingScheme(this, aVersionScheme);
+		AIsIntervalUtils.validateInterval(this, comparatorOf(aVersionScheme));
+	}
+
+	/**
+	 * Creates a new version interval from endpoints already validated by the caller.
+	 */
+	private AIcVersionInterval(
+			@Nonnull final AInIntervalBoundary aLeftBoundary,
+			@Nullable final AIcVersion aLeftValue,
+			@Nonnull final AInIntervalBoundary aRightBoundary,
+			@Nullable final AIcVersion aRightValue,
+			final boolean aSkipValidation
+	) {
+		super(aLeftBoundary, aLeftValue, aRightBoundary, aRightValue, aSkipValidation);
+	}
+
+	/**
+	 * Parses a version interval written by {@link AIsIntervalUtils#toStringRepresentation(eu.algites.lib.common.interval.AIiInterval)},
+	 * e.g. {@code [1.0, 2.0)}.
+	 *
+	 * @param aText interval text
+	 * @param aVersionScheme scheme parsing the versions and validating their order
+	 * @return parsed interval
+	 * @throws IllegalArgumentException if the text is not a valid interval
+	 */
+	@Nonnull
+	public static AIcVersionInterval parse(@Nonnull final CharSequence aText, @Nonnull final AIiVersionScheme aVersionScheme) {
+		return parser(aVersionScheme).parse(aText);
+	}
+
+	/**
+	 * Creates a reusable parser of version intervals, e.g. for parsing many intervals in bulk.
+	 *
+	 * @param aVersionScheme scheme parsing the versions and validating their order
+	 * @return parser of version intervals
+	 */
+	@Nonnull
+	public static AIcIntervalParser<AIcVersion, AIcVersionInterval> parser(@Nonnull final AIiVersionScheme aVersionScheme) {
+		Objects.requireNonNull(aVersionScheme, "Version scheme must not be null");
+		AIiVersionCodec locCodec = aVersionScheme.versionCodec();
+		AIiIntervalValueParser<AIcVersion> locValueParser = AIiIntervalValueParser.of(aVersionText -> locCodec.parseVersion(aVersionText, aVersionScheme));
+		AIiIntervalFactory<AIcVersion, AIcVersionInterval> locFactory = (aLeftBoundary, aLeftValue, aRightBoundary, aRightValue) ->
+				new AIcVersionInterval(aLeftBoundary, aLeftValue, aRightBoundary, aRightValue, aVersionScheme);
+		return AIcIntervalParser.of(locValueParser, locFactory);
 	}
 
 	/**
@@ -74,32 +126,7 @@ public class AIcVersionInterval extends AIcInterval<AIcVersion> {
 	 * @return {@code true} if contained
 	 */
 	public boolean contains(@Nonnull final AIcVersion aValue, @Nonnull final AIiVersionScheme aVersionScheme) {
-		Objects.requireNonNull(aValue, "Value must not be null");
-		AIiVersionComparator locComparator = Objects.requireNonNull(aVersionScheme, "Version scheme must not be null").versionComparator();
-
-		if (!isLeftUnbounded()) {
-			AIcVersion locLeft = getLeftValue();
-			int locCmp = locComparator.compare(aValue, locLeft);
-			if (locCmp < 0) {
-				return false;
-			}
-			if (locCmp == 0 && getLeftBoundary().isOpen()) {
-				return false;
-			}
-		}
-
-		if (!isRightUnbounded()) {
-			AIcVersion locRight = getRightValue();
-			int locCmp = locComparator.compare(aValue, locRight);
-			if (locCmp > 0) {
-				return false;
-			}
-			if (locCmp == 0 && getRightBoundary().isOpen()) {
-				return false;
-			}
-		}
-
-		return true;
+		return AIsIntervalUtils.contains(this, aValue, comparatorOf(aVersionScheme));
 	}
 
 	/**
@@ -111,7 +138,7 @@ public class AIcVersionInterval extends AIcInterval<AIcVersion> {
 	 */
 	public boolean overlaps(@Nonnull final AIcVersionInterval aOther, @Nonnull final AIiVersionScheme aVersionScheme) {
 		Objects.requireNonNull(aOther, "Other interval must not be null");
-		return tryIntersect(aOther, aVersionScheme) != null;
+		return AIsIntervalUtils.overlaps(this, aOther, comparatorOf(aVersionScheme));
 	}
 
 	/**
@@ -141,167 +168,11 @@ public class AIcVersionInterval extends AIcInterval<AIcVersion> {
 	@Nullable
 	public AIcVersionInterval tryIntersect(@Nonnull final AIcVersionInterval aOther, @Nonnull final AIiVersionScheme aVersionScheme) {
 		Objects.requireNonNull(aOther, "Other interval must not be null");
-		AIiVersionComparator locComparator = Objects.requireNonNull(aVersionScheme, "Version scheme must not be null").versionComparator();
-
-		Endpoint locNewLeft = maxLeftEndpoint(this, aOther, locComparator);
-		Endpoint locNewRight = minRightEndpoint(this, aOther, locComparator);
-
-		if (!isSatisfiable(locNewLeft, locNewRight, locComparator)) {
-			return null;
-		}
-
-		return new AIcVersionInterval(
-				locNewLeft.boundary,
-				locNewLeft.value,
-				locNewRight.boundary,
-				locNewRight.value,
-				aVersionScheme
-		);
-	}
-
-	private boolean isLeftUnbounded() {
-		return getLeftBoundary().isBoundaryValueIgnored();
-	}
-
-	private boolean isRightUnbounded() {
-		return getRightBoundary().isBoundaryValueIgnored();
+		return AIsIntervalUtils.tryIntersect(this, aOther, comparatorOf(aVersionScheme), VALIDATED_FACTORY);
 	}
 
-	private static void validateIntervalUsingScheme(@Nonnull final AIcVersionInterval aInterval, @Nonnull final AIiVersionScheme aVersionScheme) {
-		Objects.requireNonNull(aInterval, "Interval must not be null");
-		AIiVersionComparator locComparator = Objects.requireNonNull(aVersionScheme, "Version scheme must not be null").versionComparator();
-
-		AInIntervalBoundary locLeftBoundary = Objects.requireNonNull(aInterval.getLeftBoundary(), "Left boundary must not be null");
-		AInIntervalBoundary locRightBoundary = Objects.requireNonNull(aInterval.getRightBoundary(), "Right boundary must not be null");
-
-		AIcVersion locLeftValue = aInterval.getLeftValue();
-		AIcVersion locRightValue = aInterval.getRightValue();
-
-		if (!locLeftBoundary.isBoundaryValueIgnored() && locLeftValue == null) {
-			throw new IllegalArgumentException("Left value must not be null when left boundary does not ignore the boundary value");
-		}
-
-		if (!locRightBoundary.isBoundaryValueIgnored() && locRightValue == null) {
-			throw new IllegalArgumentException("Right value must not be null when right boundary does not ignore the boundary value");
-		}
-
-		if (locLeftBoundary.isBoundaryValueIgnored() || locRightBoundary.isBoundaryValueIgnored()) {
-			return;
-		}
-
-		int locCmp = locComparator.compare(locLeftValue, locRightValue);
-
-		if (locCmp > 0) {
-			throw new IllegalArgumentException("Invalid interval: left value is greater than right value");
-		}
-
-		if (locCmp == 0) {
-			boolean locValidPoint = !locLeftBoundary.isOpen() && !locRightBoundary.isOpen();
-			if (!locValidPoint) {
-				throw new IllegalArgumentException("Invalid interval: point interval requires both boundaries to be closed");
-			}
-		}
-	}
-
-	private static Endpoint maxLeftEndpoint(
-			@Nonnull final AIcVersionInterval aLeft,
-			@Nonnull final AIcVersionInterval aRight,
-			@Nonnull final AIiVersionComparator aComparator
-	) {
-		Endpoint locLeftEndpoint = Endpoint.left(aLeft.getLeftBoundary(), aLeft.getLeftValue());
-		Endpoint locRightEndpoint = Endpoint.left(aRight.getLeftBoundary(), aRight.getLeftValue());
-
-		if (locLeftEndpoint.boundary.isBoundaryValueIgnored()) {
-			return locRightEndpoint;
-		}
-		if (locRightEndpoint.boundary.isBoundaryValueIgnored()) {
-			return locLeftEndpoint;
-		}
-
-		int locCmp = aComparator.compare(locLeftEndpoint.value, locRightEndpoint.value);
-		if (locCmp > 0) {
-			return locLeftEndpoint;
-		}
-		if (locCmp < 0) {
-			return locRightEndpoint;
-		}
-
-		boolean locInclusive = !locLeftEndpoint.boundary.isOpen() && !locRightEndpoint.boundary.isOpen();
-		AInIntervalBoundary locBoundary = locInclusive ? AInIntervalBoundary.CLOSED : AInIntervalBoundary.OPEN;
-
-		return Endpoint.left(locBoundary, locLeftEndpoint.value);
-	}
-
-	private static Endpoint minRightEndpoint(
-			@Nonnull final AIcVersionInterval aLeft,
-			@Nonnull final AIcVersionInterval aRight,
-			@Nonnull final AIiVersionComparator aComparator
-	) {
-		Endpoint locLeftEndpoint = Endpoint.right(aLeft.getRightBoundary(), aLeft.getRightValue());
-		Endpoint locRightEndpoint = Endpoint.right(aRight.getRightBoundary(), aRight.getRightValue());
-
-		if (locLeftEndpoint.boundary.isBoundaryValueIgnored()) {
-			return locRightEndpoint;
-		}
-		if (locRightEndpoint.boundary.isBoundaryValueIgnored()) {
-			return locLeftEndpoint;
-		}
-
-		int locCmp = aComparator.compare(locLeftEndpoint.value, locRightEndpoint.value);
-		if (locCmp < 0) {
-			return locLeftEndpoint;
-		}
-		if (locCmp > 0) {
-			return locRightEndpoint;
-		}
-
-		boolean locInclusive = !locLeftEndpoint.boundary.isOpen() && !locRightEndpoint.boundary.isOpen();
-		AInIntervalBoundary locBoundary = locInclusive ? AInIntervalBoundary.CLOSED : AInIntervalBoundary.OPEN;
-
-		return Endpoint.right(locBoundary, locLeftEndpoint.value);
-	}
-
-	private static boolean isSatisfiable(
-			@Nonnull final Endpoint aLeft,
-			@Nonnull final Endpoint aRight,
-			@Nonnull final AIiVersionComparator aComparator
-	) {
-		if (aLeft.boundary.isBoundaryValueIgnored() || aRight.boundary.isBoundaryValueIgnored()) {
-			return true;
-		}
-
-		int locCmp = aComparator.compare(aLeft.value, aRight.value);
-		if (locCmp < 0) {
-			return true;
-		}
-		if (locCmp > 0) {
-			return false;
-		}
-
-		return !aLeft.boundary.isOpen() && !aRight.boundary.isOpen();
-	}
-
-	private static final class Endpoint {
-
-		@Nonnull
-		private final AInIntervalBoundary boundary;
-
-		@Nullable
-		private final AIcVersion value;
-
-		private Endpoint(@Nonnull final AInIntervalBoundary aBoundary, @Nullable final AIcVersion aValue) {
-			boundary = Objects.requireNonNull(aBoundary, "Boundary must not be null");
-			value = aValue;
-		}
-
-		@Nonnull
-		public static Endpoint left(@Nonnull final AInIntervalBoundary aBoundary, @Nullable final AIcVersion aValue) {
-			return new Endpoint(aBoundary, aValue);
-		}
-
-		@Nonnull
-		public static Endpoint right(@Nonnull final AInIntervalBoundary aBoundary, @Nullable final AIcVersion aValue) {
-			return new Endpoint(aBoundary, aValue);
-		}
+	@Nonnull
+	private static AIiVersionComparator comparatorOf(@Nonnull final AIiVersionScheme aVersionScheme) {
+		return Objects.requireNonNull(aVersionScheme, "Version scheme must not be null").versionComparator();
 	}
 }
@@ -0,0 +1,456 @@
+package eu.algites.lib.common.version;
+
+import jakarta.annotation.Nonnull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+
+/**
+ * <p>
+ * Title: {@link AIcVersionListPipeline}
+ * </p>
+ * <p>
+ * Description: Normalizes or validates large newline- or CSV-delimited version lists stored in files.
+ * </p>
+ * <p>
+ * The input is memory-mapped and split into chunks ending at line boundaries. Chunks are decoded (UTF-8)
+ * and processed in parallel, and their results are written to the output in the original order.
+ * At most {@code 2 * parallelism} chunks are in flight at any time, so the memory usage is bounded
+ * by the chunk size and not by the file size.
+ * </p>
+ * <p>
+ * The version is either the whole line or a single column of a CSV line. Quoted CSV fields
+ * (with {@code ""} escapes) are supported; line breaks inside quoted fields are not.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public class AIcVersionListPipeline {
+
+	/**
+	 * Column index meaning that the whole line is the version text.
+	 */
+	public static final int WHOLE_LINE = -1;
+
+	public static final int DEFAULT_CHUNK_SIZE = 4 << 20;
+
+	private static final byte LINE_FEED = '\n';
+
+	@Nonnull
+	private final AIiVersionScheme scheme;
+	private final int columnIndex;
+	private final char columnSeparator;
+	private final boolean skipHeader;
+	private final int parallelism;
+	private final int chunkSize;
+
+	/**
+	 * Creates a pipeline treating each line as one version, using all available processors.
+	 *
+	 * @param aScheme scheme whose codec is used for parsing and normalization
+	 */
+	public AIcVersionListPipeline(@Nonnull final AIiVersionScheme aScheme) {
+		this(aScheme, WHOLE_LINE, ',', false, Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * @param aScheme scheme whose codec is used for parsing and normalization
+	 * @param aColumnIndex zero based index of the CSV column holding the version, or {@link #WHOLE_LINE}
+	 * @param aColumnSeparator CSV column separator (ignored for {@link #WHOLE_LINE})
+	 * @param aSkipHeader whether the first line of the input is a header to be skipped
+	 * @param aParallelism number of worker threads
+	 * @param aChunkSize target size of one chunk in bytes (chunks are extended to the next line end)
+	 */
+	public AIcVersionListPipeline(
+			@Nonnull final AIiVersionScheme aScheme,
+			final int aColumnIndex,
+			final char aColumnSeparator,
+			final boolean aSkipHeader,
+			final int aParallelism,
+			final int aChunkSize
+	) {
+		scheme = Objects.requireNonNull(aScheme, "Scheme must not be null");
+		if (aColumnIndex < WHOLE_LINE) {
+			throw new IllegalArgumentException("Column index must be non-negative or WHOLE_LINE: " + aColumnIndex);
+		}
+		if (aColumnIndex != WHOLE_LINE && (aColumnSeparator == '"' || aColumnSeparator == '\n' || aColumnSeparator == '\r')) {
+			throw new IllegalArgumentException("Unsupported column separator: " + (int) aColumnSeparator);
+		}
+		if (aParallelism <= 0) {
+			throw new IllegalArgumentException("Parallelism must be positive: " + aParallelism);
+		}
+		if (aChunkSize <= 0) {
+			throw new IllegalArgumentException("Chunk size must be positive: " + aChunkSize);
+		}
+		columnIndex = aColumnIndex;
+		columnSeparator = aColumnSeparator;
+		skipHeader = aSkipHeader;
+		parallelism = aParallelism;
+		chunkSize = aChunkSize;
+	}
+
+	/**
+	 * Normalizes every version of the input with {@link AIiVersionCodec#normalizeTo(CharSequence, AIiVersionScheme, Appendable)}
+	 * and writes one normalized version per line to the output, in input order.
+	 * Lines without the requested column produce empty output lines, so output line {@code n}
+	 * always corresponds to data line {@code n} of the input. Lines the codec fails to parse produce empty
+	 * output lines as well and they are counted in {@link AIrVersionListResult#rejectedCount()}.
+	 *
+	 * @param aInput input file
+	 * @param aOutput output file (created or truncated)
+	 * @return summary of the run
+	 * @throws IOException if reading or writing fails
+	 */
+	@Nonnull
+	public AIrVersionListResult normalize(@Nonnull final Path aInput, @Nonnull final Path aOutput) throws IOException {
+		AIiVersionCodec locCodec = scheme.versionCodec();
+		return process(aInput, aOutput, false, (aText, aFieldStart, aFieldEnd, aLineNumber, aResult) -> {
+			if (aFieldStart >= 0) {
+				int locLineStart = aResult.output.length();
+				try {
+					locCodec.normalizeTo(aText.subSequence(aFieldStart, aFieldEnd), scheme, aResult.output);
+				} catch (IllegalArgumentException locException) {
+					/* the part appended before the failure is dropped */
+					aResult.output.setLength(locLineStart);
+					aResult.rejectedCount++;
+				}
+			}
+			aResult.output.append('\n');
+		});
+	}
+
+	/**
+	 * Parses every version of the input with the scheme codec and tests it with the validator.
+	 * Rejected lines are written to the output as {@code <line number>TAB<version text>}, in input order;
+	 * line numbers are 1-based line numbers of the input file. Lines without the requested column are rejected.
+	 *
+	 * @param aInput input file
+	 * @param aOutput output file receiving the rejected lines (created or truncated)
+	 * @param aValidator validator accepting the valid versions; it must be thread safe
+	 * @return summary of the run
+	 * @throws IOException if reading or writing fails
+	 */
+	@Nonnull
+	public AIrVersionListResult validate(
+			@Nonnull final Path aInput,
+			@Nonnull final Path aOutput,
+			@Nonnull final Predicate<? super AIcVersion> aValidator
+	) throws IOException {
+		Objects.requireNonNull(aValidator, "Validator must not be null");
+		AIiVersionCodec locCodec = scheme.versionCodec();
+		return process(aInput, aOutput, true, (aText, aFieldStart, aFieldEnd, aLineNumber, aResult) -> {
+			String locVersionText = aFieldStart >= 0 ? aText.subSequence(aFieldStart, aFieldEnd).toString() : "";
+			boolean locValid;
+			try {
+				locValid = aFieldStart >= 0 && aValidator.test(locCodec.parseVersion(locVersionText, scheme));
+			} catch (IllegalArgumentException locException) {
+				locValid = false;
+			}
+			if (!locValid) {
+				aResult.rejectedCount++;
+				aResult.output.append(aLineNumber).append('\t').append(locVersionText).append('\n');
+			}
+		});
+	}
+
+	@Nonnull
+	private AIrVersionListResult process(
+			@Nonnull final Path aInput,
+			@Nonnull final Path aOutput,
+			final boolean aNumberedOutput,
+			@Nonnull final AIiLineHandler aHandler
+	) throws IOException {
+		Objects.requireNonNull(aInput, "Input must not be null");
+		Objects.requireNonNull(aOutput, "Output must not be null");
+
+		long locLineCount = 0;
+		long locRejectedCount = 0;
+		ExecutorService locExecutor = Executors.newFixedThreadPool(parallelism);
+		ArrayDeque<Future<AIcChunkResult>> locInFlight = new ArrayDeque<>();
+		try (FileChannel locChannel = FileChannel.open(aInput, StandardOpenOption.READ);
+				OutputStream locOutput = new BufferedOutputStream(Files.newOutputStream(aOutput), 1 << 16)) {
+			long locSize = locChannel.size();
+			long locPosition = 0;
+			boolean locFirstChunk = true;
+			while (locPosition < locSize) {
+				ByteBuffer locChunk = mapChunk(locChannel, locPosition, locSize);
+				locPosition += locChunk.remaining();
+				boolean locSkipFirstLine = locFirstChunk && skipHeader;
+				locFirstChunk = false;
+				locInFlight.add(locExecutor.submit(() -> processChunk(locChunk, locSkipFirstLine, aHandler)));
+				if (locInFlight.size() >= 2 * parallelism) {
+					AIcChunkResult locResult = await(locInFlight.poll());
+					locRejectedCount += locResult.rejectedCount;
+					locLineCount = write(locResult, locLineCount, aNumberedOutput, locOutput);
+				}
+			}
+			while (!locInFlight.isEmpty()) {
+				AIcChunkResult locResult = await(locInFlight.poll());
+				locRejectedCount += locResult.rejectedCount;
+				locLineCount = write(locResult, locLineCount, aNumberedOutput, locOutput);
+			}
+		} finally {
+			for (Future<AIcChunkResult> locFuture : locInFlight) {
+				locFuture.cancel(true);
+			}
+			locExecutor.shutdownNow();
+		}
+		return new AIrVersionListResult(locLineCount, locRejectedCount);
+	}
+
+	/**
+	 * Maps the next chunk starting at the given position. The chunk ends right after a line feed,
+	 * or at the end of the file; a line longer than the chunk size enlarges the chunk.
+	 */
+	@Nonnull
+	private ByteBuffer mapChunk(@Nonnull final FileChannel aChannel, final long aPosition, final long aSize) throws IOException {
+		long locWindow = chunkSize;
+		while (true) {
+			long locLength = Math.min(Math.min(locWindow, aSize - aPosition), Integer.MAX_VALUE);
+			MappedByteBuffer locBuffer = aChannel.map(FileChannel.MapMode.READ_ONLY, aPosition, locLength);
+			if (aPosition + locLength == aSize) {
+				return locBuffer;
+			}
+			for (int locIndex = (int) locLength - 1; locIndex >= 0; locIndex--) {
+				if (locBuffer.get(locIndex) == LINE_FEED) {
+					return locBuffer.slice(0, locIndex + 1);
+				}
+			}
+			if (locLength == Integer.MAX_VALUE) {
+				throw new IOException("Line starting at byte " + aPosition + " is too long");
+			}
+			locWindow *= 2;
+		}
+	}
+
+	@Nonnull
+	private AIcChunkResult processChunk(
+			@Nonnull final ByteBuffer aChunk,
+			final boolean aSkipFirstLine,
+			@Nonnull final AIiLineHandler aHandler
+	) throws IOException {
+		CharsetDecoder locDecoder = StandardCharsets.UTF_8.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		CharBuffer locText;
+		try {
+			locText = locDecoder.decode(aChunk);
+		} catch (CharacterCodingException locException) {
+			throw new IOException("Unable to decode the input", locException);
+		}
+
+		AIcChunkResult locResult = new AIcChunkResult(locText.length());
+		int locLength = locText.length();
+		int locLineStart = 0;
+		boolean locSkip = aSkipFirstLine;
+		while (locLineStart < locLength) {
+			int locLineEnd = locLineStart;
+			while (locLineEnd < locLength && locText.charAt(locLineEnd) != '\n') {
+				locLineEnd++;
+			}
+			int locNextLineStart = locLineEnd + 1;
+			if (locLineEnd > locLineStart && locText.charAt(locLineEnd - 1) == '\r') {
+				locLineEnd--;
+			}
+			if (locSkip) {
+				locSkip = false;
+			} else {
+				locResult.lineCount++;
+				CharSequence locFieldText = locText;
+				int locFieldStart = locLineStart;
+				int locFieldEnd = locLineEnd;
+				if (columnIndex != WHOLE_LINE) {
+					locFieldStart = findFieldStart(locText, locLineStart, locLineEnd);
+					if (locFieldStart >= 0) {
+						locFieldEnd = findFieldEnd(locText, locFieldStart, locLineEnd);
+						if (locFieldStart < locFieldEnd && locText.charAt(locFieldStart) == '"') {
+							locFieldText = unquote(locText, locFieldStart, locFieldEnd);
+							locFieldStart = 0;
+							locFieldEnd = locFieldText.length();
+						}
+					}
+				}
+				aHandler.handleLine(locFieldText, locFieldStart, locFieldEnd, locResult.lineCount, locResult);
+			}
+			locLineStart = locNextLineStart;
+		}
+		return locResult;
+	}
+
+	/**
+	 * @return start of the configured column within the line, or -1 when the line has fewer columns
+	 */
+	private int findFieldStart(@Nonnull final CharSequence aText, final int aLineStart, final int aLineEnd) {
+		int locStart = aLineStart;
+		for (int locColumn = 0; locColumn < columnIndex; locColumn++) {
+			int locEnd = findFieldEnd(aText, locStart, aLineEnd);
+			if (locEnd >= aLineEnd) {
+				return -1;
+			}
+			locStart = locEnd + 1;
+		}
+		return locStart;
+	}
+
+	/**
+	 * @return end of the field starting at the given index (position of the separator or the line end)
+	 */
+	private int findFieldEnd(@Nonnull final CharSequence aText, final int aFieldStart, final int aLineEnd) {
+		int locIndex = aFieldStart;
+		if (locIndex < aLineEnd && aText.charAt(locIndex) == '"') {
+			locIndex++;
+			while (locIndex < aLineEnd) {
+				if (aText.charAt(locIndex) == '"') {
+					if (locIndex + 1 < aLineEnd && aText.charAt(locIndex + 1) == '"') {
+						locIndex += 2;
+						continue;
+					}
+					locIndex++;
+					break;
+				}
+				locIndex++;
+			}
+		}
+		while (locIndex < aLineEnd && aText.charAt(locIndex) != columnSeparator) {
+			locIndex++;
+		}
+		return locIndex;
+	}
+
+	@Nonnull
+	private static String unquote(@Nonnull final CharSequence aText, final int aFieldStart, final int aFieldEnd) {
+		StringBuilder locBuilder = new StringBuilder(aFieldEnd - aFieldStart);
+		int locIndex = aFieldStart + 1;
+		while (locIndex < aFieldEnd) {
+			char locChar = aText.charAt(locIndex);
+			if (locChar == '"') {
+				if (locIndex + 1 < aFieldEnd && aText.charAt(locIndex + 1) == '"') {
+					locBuilder.append('"');
+					locIndex += 2;
+					continue;
+				}
+				/* closing quote - text between the quote and the separator is kept as is */
+				locIndex++;
+				continue;
+			}
+			locBuilder.append(locChar);
+			locIndex++;
+		}
+		return locBuilder.toString();
+	}
+
+	private long write(
+			@Nonnull final AIcChunkResult aResult,
+			final long aLinesBefore,
+			final boolean aNumberedOutput,
+			@Nonnull final OutputStream aOutput
+	) throws IOException {
+		CharSequence locOutput = aResult.output;
+		if (aNumberedOutput && aResult.rejectedCount > 0) {
+			locOutput = renumber(aResult.output, aLinesBefore + (skipHeader ? 1 : 0));
+		}
+		if (locOutput.length() > 0) {
+			aOutput.write(locOutput.toString().getBytes(StandardCharsets.UTF_8));
+		}
+		return aLinesBefore + aResult.lineCount;
+	}
+
+	/**
+	 * Chunk workers report chunk-relative line numbers; they are shifted here once the preceding chunks are known.
+	 */
+	@Nonnull
+	private static CharSequence renumber(@Nonnull final StringBuilder aOutput, final long aOffset) {
+		if (aOffset == 0) {
+			return aOutput;
+		}
+		StringBuilder locBuilder = new StringBuilder(aOutput.length() + 16);
+		int locLineStart = 0;
+		while (locLineStart < aOutput.length()) {
+			int locTab = aOutput.indexOf("\t", locLineStart);
+			int locLineEnd = aOutput.indexOf("\n", locTab);
+			locBuilder.append(Long.parseLong(aOutput, locLineStart, locTab, 10) + aOffset)
+					.append(aOutput, locTab, locLineEnd + 1);
+			locLineStart = locLineEnd + 1;
+		}
+		return locBuilder;
+	}
+
+	@Nonnull
+	private static AIcChunkResult await(@Nonnull final Future<AIcChunkResult> aFuture) throws IOException {
+		try {
+			return aFuture.get();
+		} catch (InterruptedException locException) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while processing the version list", locException);
+		} catch (ExecutionException locException) {
+			Throwable locCause = locException.getCause();
+			if (locCause instanceof IOException locIoException) {
+				throw locIoException;
+			}
+			if (locCause instanceof RuntimeException locRuntimeException) {
+				throw locRuntimeException;
+			}
+			if (locCause instanceof Error locError) {
+				throw locError;
+			}
+			throw new IOException(locCause);
+		}
+	}
+
+	/**
+	 * Handles one data line of a chunk.
+	 */
+	@FunctionalInterface
+	private interface AIiLineHandler {
+
+		/**
+		 * @param aText text containing the field
+		 * @param aFieldStart start of the version field, or -1 when the line has no such column
+		 * @param aFieldEnd end of the version field
+		 * @param aLineNumber 1-based data line number within the chunk
+		 * @param aResult chunk result to append to
+		 */
+		void handleLine(
+				@Nonnull CharSequence aText,
+				int aFieldStart,
+				int aFieldEnd,
+				long aLineNumber,
+				@Nonnull AIcChunkResult aResult
+		) throws IOException;
+	}
+
+	/**
+	 * Output of a single chunk, produced by a worker and consumed by the writing thread.
+	 */
+	private static final class AIcChunkResult {
+
+		@Nonnull
+		private final StringBuilder output;
+		private long lineCount;
+		private long rejectedCount;
+
+		private AIcChunkResult(final int aExpectedLength) {
+			output = new StringBuilder(aExpectedLength + (aExpectedLength >> 3));
+		}
+	}
+}
@@ -0,0 +1,542 @@
+package eu.algites.lib.common.version;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ * Title: {@link AIcVersionResolver}
+ * </p>
+ * <p>
+ * Description: Constraint-based version resolution engine over {@link AIcVersionInterval}.
+ * </p>
+ * <p>
+ * For every package a set of available versions is registered, and for every package version
+ * the constraints on its dependencies. {@link #resolve(Map)} then selects the highest version satisfying
+ * all constraints for every package reachable from the root requirements, backtracking to lower versions
+ * when a selection leads to a conflict.
+ * </p>
+ * <p>
+ * Notes:
+ * </p>
+ * <ul>
+ *   <li>All orderings use {@link AIiVersionScheme#versionComparator()} of the scheme passed to the constructor,
+ *       i.e. the same ordering as {@link AIcVersionInterval#contains(AIcVersion, AIiVersionScheme)}.</li>
+ *   <li>The constraints on a package are intersected incrementally, so each additional constraint costs
+ *       a single interval intersection and is undone in O(1) on backtracking.</li>
+ *   <li>The available versions of each package are kept in a sorted index, so the candidates for the current
+ *       constraint interval are located by binary search.</li>
+ *   <li>Root requirements whose dependency graphs do not share any package are resolved independently and,
+ *       if requested, in parallel.</li>
+ *   <li>Registration is not thread-safe; once configured, {@link #resolve(Map)} can be called concurrently.</li>
+ * </ul>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public final class AIcVersionResolver {
+
+	/**
+	 * Default limit of the candidate selections tried within a single independent subgraph.
+	 */
+	public static final long DEFAULT_MAX_SELECTION_ATTEMPTS = 1_000_000L;
+
+	/** Versions of the packages missing in the index, shared by the lookups */
+	private static final AIcVersion[] EMPTY = new AIcVersion[0];
+
+	@Nonnull
+	private final AIiVersionScheme versionScheme;
+
+	@Nonnull
+	private final AIiVersionComparator versionComparator;
+
+	private final long maxSelectionAttempts;
+
+	@Nonnull
+	private final Map<String, List<AIcVersion>> versionsByPackage = new HashMap<>();
+
+	/** Dependencies by the package and its version, the versions are keyed by {@link #versionComparator} */
+	@Nonnull
+	private final Map<String, Map<AIcVersion, List<AIrVersionConstraint>>> dependenciesByPackage = new HashMap<>();
+
+	@Nonnull
+	private volatile Map<String, AIcVersion[]> sortedVersionIndex = Map.of();
+
+	private volatile boolean sortedVersionIndexValid = true;
+
+	/**
+	 * Creates a resolver with {@link #DEFAULT_MAX_SELECTION_ATTEMPTS}.
+	 *
+	 * @param aVersionScheme scheme defining ordering semantics
+	 */
+	public AIcVersionResolver(@Nonnull final AIiVersionScheme aVersionScheme) {
+		this(aVersionScheme, DEFAULT_MAX_SELECTION_ATTEMPTS);
+	}
+
+	/**
+	 * Creates a resolver.
+	 *
+	 * @param aVersionScheme scheme defining ordering semantics
+	 * @param aMaxSelectionAttempts limit of the candidate selections tried within a single independent subgraph
+	 *    before the resolution is given up
+	 */
+	public AIcVersionResolver(@Nonnull final AIiVersionScheme aVersionScheme, final long aMaxSelectionAttempts) {
+		versionScheme = Objects.requireNonNull(aVersionScheme, "Version scheme must not be null");
+		versionComparator = Objects.requireNonNull(aVersionScheme.versionComparator(), "Version comparator must not be null");
+		if (aMaxSelectionAttempts <= 0) {
+			throw new IllegalArgumentException("Max selection attempts must be positive");
+		}
+		maxSelectionAttempts = aMaxSelectionAttempts;
+	}
+
+	/**
+	 * @return scheme defining ordering semantics
+	 */
+	@Nonnull
+	public AIiVersionScheme getVersionScheme() {
+		return versionScheme;
+	}
+
+	/**
+	 * Registers available versions of the package.
+	 *
+	 * @param aPackageName package name
+	 * @param aVersions available versions (duplicates are ignored)
+	 * @return this resolver
+	 */
+	@Nonnull
+	public AIcVersionResolver registerVersions(@Nonnull final String aPackageName, @Nonnull final Collection<? extends AIcVersion> aVersions) {
+		Objects.requireNonNull(aPackageName, "Package name must not be null");
+		Objects.requireNonNull(aVersions, "Versions must not be null");
+
+		List<AIcVersion> locVersions = versionsByPackage.computeIfAbsent(aPackageName, aK -> new ArrayList<>());
+		for (AIcVersion locVersion : aVersions) {
+			locVersions.add(Objects.requireNonNull(locVersion, "Version must not be null"));
+		}
+		sortedVersionIndexValid = false;
+		return this;
+	}
+
+	/**
+	 * Registers a dependency constraint of a package version.
+	 *
+	 * @param aPackageName requiring package
+	 * @param aVersion requiring package version
+	 * @param aDependencyPackageName required package
+	 * @param aConstraint allowed versions of the required package
+	 * @return this resolver
+	 */
+	@Nonnull
+	public AIcVersionResolver registerDependency(
+			@Nonnull final String aPackageName,
+			@Nonnull final AIcVersion aVersion,
+			@Nonnull final String aDependencyPackageName,
+			@Nonnull final AIcVersionInterval aConstraint
+	) {
+		Objects.requireNonNull(aPackageName, "Package name must not be null");
+		Objects.requireNonNull(aVersion, "Version must not be null");
+		Objects.requireNonNull(aDependencyPackageName, "Dependency package name must not be null");
+		Objects.requireNonNull(aConstraint, "Constraint must not be null");
+
+		dependenciesByPackage
+				.computeIfAbsent(aPackageName, aK -> new TreeMap<>(versionComparator))
+				.computeIfAbsent(aVersion, aK -> new ArrayList<>())
+				.add(new AIrVersionConstraint(aPackageName, aVersion, aDependencyPackageName, aConstraint));
+		return this;
+	}
+
+	/**
+	 * Resolves the root requirements, processing independent subgraphs in parallel.
+	 *
+	 * @param aRootRequirements required packages with the allowed versions
+	 * @return selected version for every package reachable from the root requirements
+	 * @throws AIxVersionResolutionException if the constraints cannot be satisfied
+	 */
+	@Nonnull
+	public Map<String, AIcVersion> resolve(@Nonnull final Map<String, AIcVersionInterval> aRootRequirements)
+			throws AIxVersionResolutionException {
+		return resolve(aRootRequirements, true);
+	}
+
+	/**
+	 * Resolves the root requirements.
+	 *
+	 * @param aRootRequirements required packages with the allowed versions
+	 * @param aParallel if the independent subgraphs have to be resolved in parallel
+	 * @return selected version for every package reachable from the root requirements
+	 * @throws AIxVersionResolutionException if the constraints cannot be satisfied
+	 */
+	@Nonnull
+	public Map<String, AIcVersion> resolve(
+			@Nonnull final Map<String, AIcVersionInterval> aRootRequirements,
+			final boolean aParallel
+	) throws AIxVersionResolutionException {
+		Objects.requireNonNull(aRootRequirements, "Root requirements must not be null");
+
+		Map<String, AIcVersion[]> locIndex = getSortedVersionIndex();
+		List<List<AIrVersionConstraint>> locComponents = splitIntoIndependentComponents(aRootRequirements);
+
+		List<Map<String, AIcVersion>> locResults;
+		if (aParallel && locComponents.size() > 1) {
+			locResults = locComponents.parallelStream()
+					.map(locRoots -> new AIcResolutionState(locIndex).resolve(locRoots))
+					.collect(Collectors.toList());
+		} else {
+			locResults = new ArrayList<>(locComponents.size());
+			for (List<AIrVersionConstraint> locRoots : locComponents) {
+				locResults.add(new AIcResolutionState(locIndex).resolve(locRoots));
+			}
+		}
+
+		Map<String, AIcVersion> locSelected = new LinkedHashMap<>();
+		for (Map<String, AIcVersion> locResult : locResults) {
+			locSelected.putAll(locResult);
+		}
+		return Collections.unmodifiableMap(locSelected);
+	}
+
+	@Nonnull
+	private Map<String, AIcVersion[]> getSortedVersionIndex() {
+		if (sortedVersionIndexValid) {
+			return sortedVersionIndex;
+		}
+		synchronized (versionsByPackage) {
+			if (!sortedVersionIndexValid) {
+				Map<String, AIcVersion[]> locIndex = new HashMap<>();
+				for (Map.Entry<String, List<AIcVersion>> locEntry : versionsByPackage.entrySet()) {
+					locIndex.put(locEntry.getKey(), sortDistinct(locEntry.getValue()));
+				}
+				sortedVersionIndex = locIndex;
+				sortedVersionIndexValid = true;
+			}
+			return sortedVersionIndex;
+		}
+	}
+
+	@Nonnull
+	private AIcVersion[] sortDistinct(@Nonnull final List<AIcVersion> aVersions) {
+		AIcVersion[] locSorted = aVersions.toArray(new AIcVersion[0]);
+		Arrays.sort(locSorted, versionComparator);
+		int locSize = 0;
+		for (AIcVersion locVersion : locSorted) {
+			if (locSize == 0 || versionComparator.compare(locSorted[locSize - 1], locVersion) != 0) {
+				locSorted[locSize++] = locVersion;
+			}
+		}
+		return Arrays.copyOf(locSorted, locSize);
+	}
+
+	/**
+	 * Groups the root requirements by the connected components of the dependency graph
+	 * (over all registered versions) reachable from them.
+	 */
+	@Nonnull
+	private List<List<AIrVersionConstraint>> splitIntoIndependentComponents(@Nonnull final Map<String, AIcVersionInterval> aRootRequirements) {
+		Map<String, String> locParents = new HashMap<>();
+		Deque<String> locToVisit = new ArrayDeque<>();
+		for (String locPackageName : aRootRequirements.keySet()) {
+			if (locParents.putIfAbsent(locPackageName, locPackageName) == null) {
+				locToVisit.add(locPackageName);
+			}
+		}
+
+		while (!locToVisit.isEmpty()) {
+			String locPackageName = locToVisit.poll();
+			Map<AIcVersion, List<AIrVersionConstraint>> locDependencies = dependenciesByPackage.get(locPackageName);
+			if (locDependencies == null) {
+				continue;
+			}
+			for (List<AIrVersionConstraint> locConstraints : locDependencies.values()) {
+				for (AIrVersionConstraint locConstraint : locConstraints) {
+					String locDependencyName = locConstraint.packageName();
+					if (locParents.putIfAbsent(locDependencyName, locDependencyName) == null) {
+						locToVisit.add(locDependencyName);
+					}
+					union(locParents, locPackageName, locDependencyName);
+				}
+			}
+		}
+
+		Map<String, List<AIrVersionConstraint>> locComponents = new LinkedHashMap<>();
+		for (Map.Entry<String, AIcVersionInterval> locRequirement : aRootRequirements.entrySet()) {
+			String locRoot = find(locParents, locRequirement.getKey());
+			locComponents.computeIfAbsent(locRoot, aK -> new ArrayList<>())
+					.add(new AIrVersionConstraint(null, null, locRequirement.getKey(), locRequirement.getValue()));
+		}
+		return new ArrayList<>(locComponents.values());
+	}
+
+	@Nonnull
+	private static String find(@Nonnull final Map<String, String> aParents, @Nonnull final String aName) {
+		String locRoot = aName;
+		String locParent;
+		while (!(locParent = aParents.get(locRoot)).equals(locRoot)) {
+			locRoot = locParent;
+		}
+		String locCurrent = aName;
+		while (!locCurrent.equals(locRoot)) {
+			String locNext = aParents.get(locCurrent);
+			aParents.put(locCurrent, locRoot);
+			locCurrent = locNext;
+		}
+		return locRoot;
+	}
+
+	private static void union(@Nonnull final Map<String, String> aParents, @Nonnull final String aLeft, @Nonnull final String aRight) {
+		String locLeftRoot = find(aParents, aLeft);
+		String locRightRoot = find(aParents, aRight);
+		if (!locLeftRoot.equals(locRightRoot)) {
+			aParents.put(locRightRoot, locLeftRoot);
+		}
+	}
+
+	/**
+	 * Mutable backtracking state of the resolution of a single independent subgraph.
+	 */
+	private final class AIcResolutionState {
+
+		@Nonnull
+		private final Map<String, AIcVersion[]> versionIndex;
+
+		@Nonnull
+		private final Map<String, AIcVersion> selected = new HashMap<>();
+
+		/** Applied constraints per package together with the effective (intersected) interval after each of them. */
+		@Nonnull
+		private final Map<String, Deque<AIrAppliedConstraint>> appliedConstraints = new HashMap<>();
+
+		/** Packages in the order in which they have to be decided. */
+		@Nonnull
+		private final List<String> decisionQueue = new ArrayList<>();
+
+		@Nullable
+		private AIrVersionConflict deepestConflict;
+
+		private int deepestConflictPosition = -1;
+
+		private long selectionAttempts;
+
+		private AIcResolutionState(@Nonnull final Map<String, AIcVersion[]> aVersionIndex) {
+			versionIndex = aVersionIndex;
+		}
+
+		@Nonnull
+		private Map<String, AIcVersion> resolve(@Nonnull final List<AIrVersionConstraint> aRootConstraints) {
+			for (AIrVersionConstraint locConstraint : aRootConstraints) {
+				if (!applyConstraint(locConstraint, 0)) {
+					throw new AIxVersionResolutionException(Objects.requireNonNull(deepestConflict));
+				}
+			}
+			if (!decide(0)) {
+				throw new AIxVersionResolutionException(Objects.requireNonNull(deepestConflict));
+			}
+			Map<String, AIcVersion> locResult = new LinkedHashMap<>();
+			for (String locPackageName : decisionQueue) {
+				locResult.put(locPackageName, selected.get(locPackageName));
+			}
+			return locResult;
+		}
+
+		private boolean decide(final int aPosition) {
+			if (aPosition >= decisionQueue.size()) {
+				return true;
+			}
+
+			String locPackageName = decisionQueue.get(aPosition);
+			AIcVersionInterval locEffective = effectiveInterval(locPackageName);
+			AIcVersion[] locVersions = versionIndex.getOrDefault(locPackageName, EMPTY);
+			int locLow = lowerCandidateIndex(locVersions, locEffective);
+			int locHigh = upperCandidateIndex(locVersions, locEffective);
+
+			for (int locIndex = locHigh; locIndex >= locLow; locIndex--) {
+				if (++selectionAttempts > maxSelectionAttempts) {
+					throw new AIxVersionResolutionException(new AIrVersionConflict(
+							locPackageName,
+							constraintsOf(locPackageName),
+							"resolution gave up after " + maxSelectionAttempts + " selection attempts"));
+				}
+
+				AIcVersion locCandidate = locVersions[locIndex];
+				int locQueueSize = decisionQueue.size();
+				selected.put(locPackageName, locCandidate);
+
+				List<AIrVersionConstraint> locApplied = new ArrayList<>();
+				boolean locConsistent = true;
+				for (AIrVersionConstraint locConstraint : dependenciesOf(locPackageName, locCandidate)) {
+					locApplied.add(locConstraint);
+					if (!applyConstraint(locConstraint, aPosition + 1)) {
+						locConsistent = false;
+						break;
+					}
+				}
+
+				if (locConsistent && decide(aPosition + 1)) {
+					return true;
+				}
+
+				for (int locAppliedIndex = locApplied.size() - 1; locAppliedIndex >= 0; locAppliedIndex--) {
+					undoConstraint(locApplied.get(locAppliedIndex));
+				}
+				while (decisionQueue.size() > locQueueSize) {
+					decisionQueue.remove(decisionQueue.size() - 1);
+				}
+				selected.remove(locPackageName);
+			}
+
+			if (locLow > locHigh) {
+				recordConflict(aPosition, locPackageName, locVersions.length == 0
+						? "no versions available"
+						: "no available version satisfies all constraints");
+			}
+			return false;
+		}
+
+		/**
+		 * Applies the constraint - the constraint is always pushed, so it has to be undone even when
+		 * {@code false} is returned.
+		 */
+		private boolean applyConstraint(@Nonnull final AIrVersionConstraint aConstraint, final int aConflictPosition) {
+			String locPackageName = aConstraint.packageName();
+			Deque<AIrAppliedConstraint> locStack = appliedConstraints.computeIfAbsent(locPackageName, aK -> new ArrayDeque<>());
+
+			AIcVersionInterval locEffective;
+			if (locStack.isEmpty()) {
+				locEffective = aConstraint.interval();
+				if (!selected.containsKey(locPackageName)) {
+					decisionQueue.add(locPackageName);
+				}
+			} else {
+				AIcVersionInterval locPrevious = locStack.peek().effectiveInterval();
+				locEffective = locPrevious == null ? null : locPrevious.tryIntersect(aConstraint.interval(), versionScheme);
+			}
+			locStack.push(new AIrAppliedConstraint(aConstraint, locEffective));
+
+			if (locEffective == null) {
+				recordConflict(aConflictPosition, locPackageName, "constraints do not intersect");
+				return false;
+			}
+
+			AIcVersion locSelected = selected.get(locPackageName);
+			if (locSelected != null) {
+				if (!locEffective.contains(locSelected, versionScheme)) {
+					recordConflict(aConflictPosition, locPackageName, "already selected version " + locSelected + " violates the constraints");
+					return false;
+				}
+				return true;
+			}
+
+			AIcVersion[] locVersions = versionIndex.getOrDefault(locPackageName, EMPTY);
+			if (lowerCandidateIndex(locVersions, locEffective) > upperCandidateIndex(locVersions, locEffective)) {
+				recordConflict(aConflictPosition, locPackageName, locVersions.length == 0
+						? "no versions available"
+						: "no available version satisfies all constraints");
+				return false;
+			}
+			return true;
+		}
+
+		private void undoConstraint(@Nonnull final AIrVersionConstraint aConstraint) {
+			Deque<AIrAppliedConstraint> locStack = appliedConstraints.get(aConstraint.packageName());
+			locStack.pop();
+			/* the package was queued by this constraint - the queue itself is truncated by the caller */
+		}
+
+		@Nullable
+		private AIcVersionInterval effectiveInterval(@Nonnull final String aPackageName) {
+			Deque<AIrAppliedConstraint> locStack = appliedConstraints.get(aPackageName);
+			return locStack == null || locStack.isEmpty() ? null : locStack.peek().effectiveInterval();
+		}
+
+		@Nonnull
+		private List<AIrVersionConstraint> dependenciesOf(@Nonnull final String aPackageName, @Nonnull final AIcVersion aVersion) {
+			Map<AIcVersion, List<AIrVersionConstraint>> locDependencies = dependenciesByPackage.get(aPackageName);
+			if (locDependencies == null) {
+				return List.of();
+			}
+			return locDependencies.getOrDefault(aVersion, List.of());
+		}
+
+		@Nonnull
+		private List<AIrVersionConstraint> constraintsOf(@Nonnull final String aPackageName) {
+			Deque<AIrAppliedConstraint> locStack = appliedConstraints.get(aPackageName);
+			if (locStack == null) {
+				return List.of();
+			}
+			List<AIrVersionConstraint> locConstraints = new ArrayList<>(locStack.size());
+			locStack.descendingIterator().forEachRemaining(locApplied -> locConstraints.add(locApplied.constraint()));
+			return locConstraints;
+		}
+
+		private void recordConflict(final int aPosition, @Nonnull final String aPackageName, @Nonnull final String aReason) {
+			if (aPosition >= deepestConflictPosition) {
+				deepestConflictPosition = aPosition;
+				deepestConflict = new AIrVersionConflict(aPackageName, constraintsOf(aPackageName), aReason);
+			}
+		}
+
+		/**
+		 * @return index of the lowest version not below the left endpoint of the interval
+		 */
+		private int lowerCandidateIndex(@Nonnull final AIcVersion[] aVersions, @Nullable final AIcVersionInterval aInterval) {
+			if (aInterval == null || aInterval.getLeftBoundary().isBoundaryValueIgnored()) {
+				return 0;
+			}
+			AIcVersion locLeft = aInterval.getLeftValue();
+			boolean locOpen = aInterval.getLeftBoundary().isOpen();
+			int locLow = 0;
+			int locHigh = aVersions.length;
+			while (locLow < locHigh) {
+				int locMid = (locLow + locHigh) >>> 1;
+				int locCmp = versionComparator.compare(aVersions[locMid], locLeft);
+				if (locCmp < 0 || (locCmp == 0 && locOpen)) {
+					locLow = locMid + 1;
+				} else {
+					locHigh = locMid;
+				}
+			}
+			return locLow;
+		}
+
+		/**
+		 * @return index of the highest version not above the right endpoint of the interval
+		 */
+		private int upperCandidateIndex(@Nonnull final AIcVersion[] aVersions, @Nullable final AIcVersionInterval aInterval) {
+			if (aInterval == null || aInterval.getRightBoundary().isBoundaryValueIgnored()) {
+				return aVersions.length - 1;
+			}
+			AIcVersion locRight = aInterval.getRightValue();
+			boolean locOpen = aInterval.getRightBoundary().isOpen();
+			int locLow = 0;
+			int locHigh = aVersions.length;
+			while (locLow < locHigh) {
+				int locMid = (locLow + locHigh) >>> 1;
+				int locCmp = versionComparator.compare(aVersions[locMid], locRight);
+				if (locCmp < 0 || (locCmp == 0 && !locOpen)) {
+					locLow = locMid + 1;
+				} else {
+					locHigh = locMid;
+				}
+			}
+			return locLow - 1;
+		}
+	}
+
+	private record AIrAppliedConstraint(
+			@Nonnull AIrVersionConstraint constraint,
+			@Nullable AIcVersionInterval effectiveInterval
+	) { }
+}
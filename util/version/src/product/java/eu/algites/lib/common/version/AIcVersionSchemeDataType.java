@@ -2,6 +2,7 @@ package eu.algites.lib.common.version;
 
 import static eu.algites.lib.common.enums.uiddata.AIsUidEnumDataUtils.ORIGIN_UID_POSITION;
 
+import eu.algites.lib.common.enums.uiddata.AIcUidParser;
 import eu.algites.lib.common.enums.uiddata.AIiUidPartMetadata;
 import eu.algites.lib.common.enums.uiddata.AInUidEnumDataOrigin;
 
@@ -28,6 +29,9 @@ import java.util.function.BiFunction;
  */
 public class AIcVersionSchemeDataType implements AIiVersionSchemeDataType {
 
+	/** Compiled lazily, as the compilation calls the methods possibly overridden by the subclasses */
+	private volatile AIcUidParser<AInUidEnumDataOrigin> uidParser;
+
 	@Override
 	public BiFunction<String, List<String>, ? extends AIiVersionSchemeDataUidRecord> getUidRecordFactory() {
 		return (aUid, aParts) -> {
@@ -44,4 +48,19 @@ public class AIcVersionSchemeDataType implements AIiVersionSchemeDataType {
 		return AIiVersionSchemeDataUidRecord.RECORD_SPECIFIC_PARTS_METADATA;
 	}
 
+	@Override
+	public AIcUidParser<AInUidEnumDataOrigin> getUidParser() {
+		AIcUidParser<AInUidEnumDataOrigin> locUidParser = uidParser;
+		if (locUidParser == null) {
+			synchronized (this) {
+				locUidParser = uidParser;
+				if (locUidParser == null) {
+					locUidParser = AIcUidParser.of(this);
+					uidParser = locUidParser;
+				}
+			}
+		}
+		return locUidParser;
+	}
+
 }
@@ -2,6 +2,10 @@ package eu.algites.lib.common.version;
 
 import jakarta.annotation.Nonnull;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
 /**
  * <p>
  * Title: {@link AIiVersionCodec}
@@ -49,4 +53,104 @@ public interface AIiVersionCodec {
 	default String normalizeVersionText(@Nonnull final String aVersionText, @Nonnull final AIiVersionScheme aScheme) {
 		return formatVersionText(parseVersion(aVersionText, aScheme), aScheme);
 	}
+
+	/**
+	 * Formats a version according to the given scheme and appends the result to the target.
+	 *
+	 * @param aVersion version
+	 * @param aScheme scheme
+	 * @param aTarget target the formatted text is appended to
+	 * @throws IOException if the target fails to append
+	 */
+	default void formatTo(@Nonnull final AIcVersion aVersion, @Nonnull final AIiVersionScheme aScheme, @Nonnull final Appendable aTarget)
+			throws IOException {
+		aTarget.append(formatVersionText(aVersion, aScheme));
+	}
+
+	/**
+	 * Convenience: parses and re-formats the given text according to the scheme and appends the result to the target.
+	 *
+	 * @param aVersionText version text
+	 * @param aScheme scheme
+	 * @param aTarget target the normalized text is appended to
+	 * @throws IOException if the target fails to append
+	 */
+	default void normalizeTo(@Nonnull final CharSequence aVersionText, @Nonnull final AIiVersionScheme aScheme, @Nonnull final Appendable aTarget)
+			throws IOException {
+		Objects.requireNonNull(aVersionText, "Version text must not be null");
+		formatTo(parseVersion(aVersionText.toString(), aScheme), aScheme, aTarget);
+	}
+
+	/**
+	 * Convenience: parses and re-formats the given text according to the scheme and appends the result to the builder.
+	 *
+	 * @param aVersionText version text
+	 * @param aScheme scheme
+	 * @param aTarget builder the normalized text is appended to
+	 */
+	default void normalizeTo(@Nonnull final CharSequence aVersionText, @Nonnull final AIiVersionScheme aScheme, @Nonnull final StringBuilder aTarget) {
+		try {
+			normalizeTo(aVersionText, aScheme, (Appendable) aTarget);
+		} catch (IOException locException) {
+			throw new UncheckedIOException(locException);
+		}
+	}
+
+	/**
+	 * Normalizes all given version texts in their iteration order, appending each result followed by the delimiter.
+	 *
+	 * @param aVersionTexts version texts
+	 * @param aScheme scheme
+	 * @param aDelimiter delimiter appended after each normalized text
+	 * @param aTarget target the normalized texts are appended to
+	 * @throws IOException if the target fails to append
+	 */
+	default void normalizeAll(
+			@Nonnull final Iterable<? extends CharSequence> aVersionTexts,
+			@Nonnull final AIiVersionScheme aScheme,
+			@Nonnull final CharSequence aDelimiter,
+			@Nonnull final Appendable aTarget
+	) throws IOException {
+		Objects.requireNonNull(aVersionTexts, "Version texts must not be null");
+		Objects.requireNonNull(aDelimiter, "Delimiter must not be null");
+		for (CharSequence locText : aVersionTexts) {
+			normalizeTo(locText, aScheme, aTarget);
+			aTarget.append(aDelimiter);
+		}
+	}
+
+	/**
+	 * Normalizes all given version texts in their iteration order, appending each result on its own line.
+	 *
+	 * @param aVersionTexts version texts
+	 * @param aScheme scheme
+	 * @param aTarget target the normalized texts are appended to
+	 * @throws IOException if the target fails to append
+	 */
+	default void normalizeAll(
+			@Nonnull final Iterable<? extends CharSequence> aVersionTexts,
+			@Nonnull final AIiVersionScheme aScheme,
+			@Nonnull final Appendable aTarget
+	) throws IOException {
+		normalizeAll(aVersionTexts, aScheme, "\n", aTarget);
+	}
+
+	/**
+	 * Normalizes all given version texts in their iteration order, appending each result on its own line of the builder.
+	 *
+	 * @param aVersionTexts version texts
+	 * @param aScheme scheme
+	 * @param aTarget builder the normalized texts are appended to
+	 */
+	default void normalizeAll(
+			@Nonnull final Iterable<? extends CharSequence> aVersionTexts,
+			@Nonnull final AIiVersionScheme aScheme,
+			@Nonnull final StringBuilder aTarget
+	) {
+		try {
+			normalizeAll(aVersionTexts, aScheme, (Appendable) aTarget);
+		} catch (IOException locException) {
+			throw new UncheckedIOException(locException);
+		}
+	}
 }
@@ -2,6 +2,9 @@ package eu.algites.lib.common.version;
 
 import jakarta.annotation.Nonnull;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 /**
  * <p>
  * Title: {@link AIiVersionFormatter}
@@ -25,4 +28,36 @@ public interface AIiVersionFormatter {
 	 */
 	@Nonnull
 	String formatVersionText(@Nonnull AIcVersion aVersion, @Nonnull AIiVersionScheme aScheme);
+
+	/**
+	 * Formats a version for the given scheme and appends the result to the target.
+	 * <p>
+	 * The default implementation appends the result of {@link #formatVersionText(AIcVersion, AIiVersionScheme)};
+	 * implementations should override it to write directly into the target without intermediate strings.
+	 * </p>
+	 *
+	 * @param aVersion version to format
+	 * @param aScheme scheme providing structure and format rules
+	 * @param aTarget target the formatted text is appended to
+	 * @throws IOException if the target fails to append
+	 */
+	default void formatTo(@Nonnull final AIcVersion aVersion, @Nonnull final AIiVersionScheme aScheme, @Nonnull final Appendable aTarget)
+			throws IOException {
+		aTarget.append(formatVersionText(aVersion, aScheme));
+	}
+
+	/**
+	 * Formats a version for the given scheme and appends the result to the builder.
+	 *
+	 * @param aVersion version to format
+	 * @param aScheme scheme providing structure and format rules
+	 * @param aTarget builder the formatted text is appended to
+	 */
+	default void formatTo(@Nonnull final AIcVersion aVersion, @Nonnull final AIiVersionScheme aScheme, @Nonnull final StringBuilder aTarget) {
+		try {
+			formatTo(aVersion, aScheme, (Appendable) aTarget);
+		} catch (IOException locException) {
+			throw new UncheckedIOException(locException);
+		}
+	}
 }
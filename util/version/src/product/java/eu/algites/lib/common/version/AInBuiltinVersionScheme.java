@@ -1,9 +1,10 @@
 package eu.algites.lib.common.version;
 
 import static eu.algites.lib.common.enums.uiddata.AInUidEnumDataOrigin.BUILTIN;
+import static eu.algites.lib.common.enums.uiddata.AIsUidEnumDataUtils.FIRST_UID_SPECIFIC_PART_POSITION;
 import static eu.algites.lib.common.enums.uiddata.AIsUidEnumDataUtils.createBuiltinUid;
-import static eu.algites.lib.common.enums.uiddata.AIsUidEnumDataUtils.parseUid;
 
+import eu.algites.lib.common.enums.uiddata.AIcParsedUid;
 import eu.algites.lib.common.enums.uiddata.AInUidEnumDataOrigin;
 import eu.algites.lib.common.enums.uiddata.AIsUidEnumDataUtils;
 
@@ -244,13 +245,13 @@ public enum AInBuiltinVersionScheme implements AIiVersionSchemeData {
 		if (aUid == null || aUid.isBlank()) {
 			return Optional.empty();
 		}
-		AIiVersionSchemeDataUidRecord locParsedRecord = parseUid(
-				DATA_TYPE, aUid);
-		if (locParsedRecord.origin() != BUILTIN) {
+		/* the parsed view is used, as the record factory of the data type resolves the builtin items by this method */
+		AIcParsedUid<AInUidEnumDataOrigin> locParsedUid = DATA_TYPE.getUidParser().parse(aUid);
+		if (locParsedUid.origin() != BUILTIN) {
 			return Optional.empty();
 		}
 		return Stream.of(values())
-				.filter(locItem -> locItem.code().equals(locParsedRecord.code()))
+				.filter(locItem -> locParsedUid.partEquals(FIRST_UID_SPECIFIC_PART_POSITION, locItem.code()))
 				.findAny();
 	}
 
@@ -0,0 +1,47 @@
+package eu.algites.lib.common.version;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Title: {@link AIrVersionConflict}
+ * </p>
+ * <p>
+ * Description: Explanation of a version resolution failure for a single package.
+ * </p>
+ *
+ * @param packageName package for which no acceptable version could be selected
+ * @param constraints constraints applied to the package at the moment of the failure
+ * @param reason human readable reason of the failure
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public record AIrVersionConflict(
+		@Nonnull String packageName,
+		@Nonnull List<AIrVersionConstraint> constraints,
+		@Nonnull String reason
+) {
+
+	public AIrVersionConflict {
+		Objects.requireNonNull(packageName, "packageName must not be null");
+		constraints = List.copyOf(Objects.requireNonNull(constraints, "constraints must not be null"));
+		Objects.requireNonNull(reason, "reason must not be null");
+	}
+
+	/**
+	 * @return multi-line explanation of the conflict
+	 */
+	@Nonnull
+	public String explain() {
+		StringBuilder locBuilder = new StringBuilder();
+		locBuilder.append("Package '").append(packageName).append("': ").append(reason);
+		for (AIrVersionConstraint locConstraint : constraints) {
+			locBuilder.append(System.lineSeparator()).append("  - ").append(locConstraint);
+		}
+		return locBuilder.toString();
+	}
+}
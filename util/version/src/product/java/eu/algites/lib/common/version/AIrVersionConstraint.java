@@ -0,0 +1,51 @@
+package eu.algites.lib.common.version;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Title: {@link AIrVersionConstraint}
+ * </p>
+ * <p>
+ * Description: Single constraint of the version resolution, i.e. the requirement that the version selected
+ * for {@link #packageName()} lies in {@link #interval()}.
+ * </p>
+ *
+ * @param requiringPackageName package declaring the constraint ({@code null} for root requirements)
+ * @param requiringVersion version of the requiring package declaring the constraint ({@code null} for root requirements)
+ * @param packageName constrained package
+ * @param interval allowed versions of the constrained package
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public record AIrVersionConstraint(
+		@Nullable String requiringPackageName,
+		@Nullable AIcVersion requiringVersion,
+		@Nonnull String packageName,
+		@Nonnull AIcVersionInterval interval
+) {
+
+	public AIrVersionConstraint {
+		Objects.requireNonNull(packageName, "packageName must not be null");
+		Objects.requireNonNull(interval, "interval must not be null");
+	}
+
+	/**
+	 * @return true if the constraint is a root requirement, i.e. it is not declared by any package version
+	 */
+	public boolean isRootRequirement() {
+		return requiringPackageName == null;
+	}
+
+	@Override
+	public String toString() {
+		if (isRootRequirement()) {
+			return "root requires " + packageName + " " + interval;
+		}
+		return requiringPackageName + ":" + requiringVersion + " requires " + packageName + " " + interval;
+	}
+}
@@ -0,0 +1,24 @@
+package eu.algites.lib.common.version;
+
+/**
+ * <p>
+ * Title: {@link AIrVersionListResult}
+ * </p>
+ * <p>
+ * Description: Summary of a {@link AIcVersionListPipeline} run.
+ * </p>
+ *
+ * @param lineCount number of processed data lines (header line excluded)
+ * @param rejectedCount number of lines rejected by the validation pass, or not parsed by the normalization pass
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public record AIrVersionListResult(long lineCount, long rejectedCount) {
+
+	public AIrVersionListResult {
+		if (lineCount < 0 || rejectedCount < 0 || rejectedCount > lineCount) {
+			throw new IllegalArgumentException("Invalid counts: lines=" + lineCount + ", rejected=" + rejectedCount);
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package eu.algites.lib.common.version;
+
+import eu.algites.lib.common.exception.AIxRuntimeException;
+import jakarta.annotation.Nonnull;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Title: {@link AIxVersionResolutionException}
+ * </p>
+ * <p>
+ * Description: Thrown by {@link AIcVersionResolver} when the constraints cannot be satisfied.
+ * </p>
+ *
+ * @author linhart1
+ * @date 19.10.26
+ */
+public class AIxVersionResolutionException extends AIxRuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	@Nonnull
+	private final AIrVersionConflict conflict;
+
+	public AIxVersionResolutionException(@Nonnull final AIrVersionConflict aConflict) {
+		super(Objects.requireNonNull(aConflict, "Conflict must not be null")::explain, null, null, null);
+		conflict = aConflict;
+	}
+
+	/**
+	 * @return the conflict explaining why the resolution failed
+	 */
+	@Nonnull
+	public AIrVersionConflict getConflict() {
+		return conflict;
+	}
+}